@@ -0,0 +1,130 @@
+package com.swcamp9th.bangflixbackend.benchmark;
+
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewDTO;
+import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import com.swcamp9th.bangflixbackend.domain.review.enums.Activity;
+import com.swcamp9th.bangflixbackend.domain.review.enums.Composition;
+import com.swcamp9th.bangflixbackend.domain.review.enums.HorrorLevel;
+import com.swcamp9th.bangflixbackend.domain.review.enums.Interior;
+import com.swcamp9th.bangflixbackend.domain.review.enums.Level;
+import com.swcamp9th.bangflixbackend.domain.review.enums.Probability;
+import com.swcamp9th.bangflixbackend.domain.review.mapper.ReviewMapper;
+import com.swcamp9th.bangflixbackend.domain.store.entity.Store;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import com.swcamp9th.bangflixbackend.domain.theme.mapper.ThemeMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 목록 API 한 페이지 분량의 엔티티 -> DTO 변환 비용 비교.
+ * 기존 ModelMapper(STRICT) 경로와 직접 작성한 매퍼를 같은 입력으로 측정한다.
+ * <p>
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int size;
+
+    private ModelMapper modelMapper;
+    private List<Theme> themes;
+    private List<Review> reviews;
+
+    @Setup
+    public void setUp() {
+        // 기존 ModelMapperConfig 와 같은 설정
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+
+        Store store = new Store();
+        store.setStoreCode(1);
+        store.setName("키이스케이프 강남점");
+
+        themes = new ArrayList<>(size);
+        reviews = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Theme theme = new Theme();
+            theme.setThemeCode(i);
+            theme.setActive(true);
+            theme.setCreatedAt(LocalDateTime.of(2024, 10, 1, 12, 0).plusMinutes(i));
+            theme.setName("테마 " + i);
+            theme.setLevel(3);
+            theme.setTimeLimit(70);
+            theme.setStory("스토리 " + i);
+            theme.setPrice(25000);
+            theme.setPosterImage("/images/theme/" + i + ".jpg");
+            theme.setHeadcount("2~4");
+            theme.setStore(store);
+            themes.add(theme);
+
+            Review review = new Review();
+            review.setReviewCode(i);
+            review.setActive(true);
+            review.setCreatedAt(theme.getCreatedAt());
+            review.setHeadcount(3);
+            review.setTakenTime(65);
+            review.setComposition(Composition.FOUR);
+            review.setLevel(Level.THREE);
+            review.setHorrorLevel(HorrorLevel.TWO);
+            review.setActivity(Activity.THREE);
+            review.setTotalScore(4);
+            review.setInterior(Interior.FIVE);
+            review.setProbability(Probability.FOUR);
+            review.setContent("리뷰 " + i);
+            review.setTheme(theme);
+            reviews.add(review);
+        }
+    }
+
+    @Benchmark
+    public List<ThemeDTO> themeModelMapper() {
+        List<ThemeDTO> result = new ArrayList<>(themes.size());
+        for (Theme theme : themes) {
+            result.add(modelMapper.map(theme, ThemeDTO.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ThemeDTO> themeMapper() {
+        List<ThemeDTO> result = new ArrayList<>(themes.size());
+        for (Theme theme : themes) {
+            result.add(ThemeMapper.toThemeDTO(theme));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ReviewDTO> reviewModelMapper() {
+        List<ReviewDTO> result = new ArrayList<>(reviews.size());
+        for (Review review : reviews) {
+            result.add(modelMapper.map(review, ReviewDTO.class));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<ReviewDTO> reviewMapper() {
+        List<ReviewDTO> result = new ArrayList<>(reviews.size());
+        for (Review review : reviews) {
+            result.add(ReviewMapper.toReviewDTO(review));
+        }
+        return result;
+    }
+}
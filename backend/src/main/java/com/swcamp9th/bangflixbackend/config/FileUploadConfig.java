@@ -0,0 +1,31 @@
+package com.swcamp9th.bangflixbackend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 이미지 파생본 생성용 스레드 풀 설정
+@Configuration
+public class FileUploadConfig {
+
+    @Value("${file.derivative.worker-threads:2}")
+    private int derivativeWorkerThreads;
+
+    @Value("${file.derivative.queue-capacity:100}")
+    private int derivativeQueueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor imageDerivativeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(derivativeWorkerThreads);
+        executor.setMaxPoolSize(derivativeWorkerThreads);
+        executor.setQueueCapacity(derivativeQueueCapacity);
+        executor.setThreadNamePrefix("image-derivative-");
+        // 큐가 가득 차면 거절 (파생본은 요청 시점에 다시 만들 수 있음)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -1,20 +1,127 @@
 package com.swcamp9th.bangflixbackend.config;
 
+import com.swcamp9th.bangflixbackend.shared.upload.SendfileResourceHttpMessageConverter;
+import com.swcamp9th.bangflixbackend.shared.upload.SendfileResourceRegionHttpMessageConverter;
+import com.swcamp9th.bangflixbackend.shared.upload.UploadFileAccessMetrics;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
 
-// 파일 접근 설정
+/**
+ * 파일 접근 설정.
+ * <p>
+ * 업로드 파일(/uploadFiles/**)만 디스크에서 제공하며, 그 밖의 경로는 디스크를 확인하지 않는다.
+ * 내용 해시로 이름이 정해지는 BlobStore 파일은 1년 immutable 캐시와 해시 ETag 를,
+ * 이전 방식으로 저장된 파일은 하루 캐시와 (수정 시각, 크기) ETag 를 사용한다.
+ * Range 요청과 304 응답은 ResourceHttpRequestHandler 가 처리하고, 본문은 가능하면 sendfile 로 보낸다.
+ */
 @Configuration
 public class WebMvcConfig implements WebMvcConfigurer {
 
+    private static final String UPLOAD_PATH_PATTERN = "/uploadFiles/**";
+
+    private final UploadFileAccessMetrics uploadFileAccessMetrics;
+
     @Value("${file.path}")
     private String filepath;
 
+    @Value("${file.blob.root:src/main/resources/static/uploadFiles/blobs}")
+    private String blobRoot;
+
+    @Value("${file.blob.url-prefix:/uploadFiles/blobs/}")
+    private String blobUrlPrefix;
+
+    @Value("${file.derivative.url-prefix:/uploadFiles/derivatives/}")
+    private String derivativeUrlPrefix;
+
+    @Autowired
+    public WebMvcConfig(UploadFileAccessMetrics uploadFileAccessMetrics) {
+        this.uploadFileAccessMetrics = uploadFileAccessMetrics;
+    }
+
+    // 파생본은 컨트롤러에서 제공하므로 지표 수집만 추가
     @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        registry.addResourceHandler("/**")
-            .addResourceLocations("file:" + filepath);
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(uploadFileAccessMetrics)
+                .addPathPatterns(prefixPattern(derivativeUrlPrefix));
+    }
+
+    @Bean
+    public ResourceHttpRequestHandler blobResourceHandler() {
+        ResourceHttpRequestHandler handler = createUploadFileHandler(blobRoot);
+        handler.setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
+        handler.setEtagGenerator(contentHashEtag());
+        return handler;
+    }
+
+    @Bean
+    public ResourceHttpRequestHandler uploadFileResourceHandler() {
+        ResourceHttpRequestHandler handler = createUploadFileHandler(Paths.get(filepath, "uploadFiles").toString());
+        handler.setCacheControl(CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic());
+        handler.setEtagGenerator(lastModifiedEtag());
+        return handler;
+    }
+
+    /**
+     * 업로드 파일 핸들러 매핑. 컨트롤러 매핑보다 뒤, 기본 정적 리소스 매핑보다 앞에서 처리한다.
+     */
+    @Bean
+    public SimpleUrlHandlerMapping uploadFileHandlerMapping() {
+        SimpleUrlHandlerMapping mapping = new SimpleUrlHandlerMapping(Map.of(
+                prefixPattern(blobUrlPrefix), blobResourceHandler(),
+                UPLOAD_PATH_PATTERN, uploadFileResourceHandler()
+        ));
+        mapping.setOrder(Ordered.LOWEST_PRECEDENCE - 2);
+        mapping.setInterceptors(uploadFileAccessMetrics);
+        return mapping;
+    }
+
+    private ResourceHttpRequestHandler createUploadFileHandler(String directory) {
+        ResourceHttpRequestHandler handler = new ResourceHttpRequestHandler();
+        handler.setLocationValues(List.of("file:" + Paths.get(directory).toAbsolutePath().normalize() + "/"));
+        handler.setResourceHttpMessageConverter(new SendfileResourceHttpMessageConverter(uploadFileAccessMetrics));
+        handler.setResourceRegionHttpMessageConverter(new SendfileResourceRegionHttpMessageConverter(uploadFileAccessMetrics));
+        return handler;
+    }
+
+    // 파일 이름 "{해시}.{확장자}" 의 해시가 곧 내용
+    private static Function<Resource, String> contentHashEtag() {
+        return resource -> {
+            String fileName = resource.getFilename();
+            if (fileName == null)
+                return null;
+
+            int dot = fileName.indexOf('.');
+            return dot < 0 ? fileName : fileName.substring(0, dot);
+        };
+    }
+
+    // 업로드 파일은 덮어쓰지 않으므로 (수정 시각, 크기) 로 내용을 구분할 수 있음
+    private static Function<Resource, String> lastModifiedEtag() {
+        return resource -> {
+            try {
+                return Long.toHexString(resource.lastModified()) + "-" + Long.toHexString(resource.contentLength());
+            } catch (IOException e) {
+                return null;
+            }
+        };
+    }
+
+    private static String prefixPattern(String urlPrefix) {
+        return (urlPrefix.endsWith("/") ? urlPrefix : urlPrefix + "/") + "**";
     }
 }
@@ -0,0 +1,24 @@
+package com.swcamp9th.bangflixbackend.domain.comment.mapper;
+
+import com.swcamp9th.bangflixbackend.domain.comment.dto.CommentDTO;
+import com.swcamp9th.bangflixbackend.domain.comment.entity.Comment;
+import java.util.Objects;
+
+/**
+ * 댓글 엔티티 -> DTO 변환.
+ * 작성자 정보와 게시글 코드는 호출하는 쪽에서 채운다.
+ */
+public final class CommentMapper {
+
+    private CommentMapper() {
+    }
+
+    public static CommentDTO toCommentDTO(Comment comment) {
+        CommentDTO commentDTO = new CommentDTO();
+        commentDTO.setCommentCode(comment.getCommentCode());
+        commentDTO.setActive(comment.getActive());
+        commentDTO.setCreatedAt(Objects.toString(comment.getCreatedAt(), null));
+        commentDTO.setContent(comment.getContent());
+        return commentDTO;
+    }
+}
@@ -7,6 +7,7 @@ import com.swcamp9th.bangflixbackend.domain.comment.entity.Comment;
 import com.swcamp9th.bangflixbackend.domain.comment.repository.CommentRepository;
 import com.swcamp9th.bangflixbackend.domain.comment.dto.CommentCreateDTO;
 import com.swcamp9th.bangflixbackend.domain.comment.dto.CommentUpdateDTO;
+import com.swcamp9th.bangflixbackend.domain.comment.mapper.CommentMapper;
 import com.swcamp9th.bangflixbackend.domain.communitypost.entity.CommunityPost;
 import com.swcamp9th.bangflixbackend.domain.communitypost.exception.CommunityPostNotFoundException;
 import com.swcamp9th.bangflixbackend.domain.communitypost.repository.CommunityPostRepository;
@@ -14,7 +15,6 @@ import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
 import com.swcamp9th.bangflixbackend.domain.user.exception.MemberNotFoundException;
 import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
 import com.swcamp9th.bangflixbackend.shared.error.exception.InvalidUserException;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,7 +25,6 @@ import java.util.List;
 @Service
 public class CommentServiceImpl implements CommentService {
 
-    private final ModelMapper modelMapper;
 
     private final CommentRepository commentRepository;
     private final CommunityPostRepository communityPostRepository;
@@ -34,12 +33,10 @@ public class CommentServiceImpl implements CommentService {
 
     @Autowired
     public CommentServiceImpl(
-            ModelMapper modelMapper,
             CommunityPostRepository communityPostRepository,
             CommentRepository commentRepository,
             UserRepository userRepository
     ) {
-        this.modelMapper = modelMapper;
         this.communityPostRepository = communityPostRepository;
         this.commentRepository = commentRepository;
         this.userRepository = userRepository;
@@ -135,7 +132,7 @@ public class CommentServiceImpl implements CommentService {
 
         List<CommentDTO> allComments = commentList.stream()
                 .map(comment -> {
-                    CommentDTO commentDTO = modelMapper.map(comment, CommentDTO.class);
+                    CommentDTO commentDTO = CommentMapper.toCommentDTO(comment);
                     commentDTO.setNickname(comment.getMember().getNickname());
                     commentDTO.setCommunityPostCode(comment.getCommunityPost().getCommunityPostCode());
                     commentDTO.setProfile(comment.getMember().getImage());
@@ -173,9 +170,8 @@ public class CommentServiceImpl implements CommentService {
                 .orElseThrow(InvalidUserException::new);
 
         return commentRepository.findByMemberAndActiveTrue(member).stream()
-                .map(comment ->
-                        modelMapper.map(comment, CommentDTO.class)
-                ).toList();
+                .map(CommentMapper::toCommentDTO)
+                .toList();
     }
 
 
@@ -6,6 +6,7 @@ import com.swcamp9th.bangflixbackend.domain.communitypost.service.CommunityPostS
 import com.swcamp9th.bangflixbackend.domain.communitypost.dto.CommunityPostCreateDTO;
 import com.swcamp9th.bangflixbackend.domain.communitypost.dto.CommunityPostDTO;
 import com.swcamp9th.bangflixbackend.domain.communitypost.dto.CommunityPostUpdateDTO;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
@@ -27,10 +28,12 @@ import static com.swcamp9th.bangflixbackend.shared.filter.RequestFilter.SERVLET_
 public class CommunityController {
 
     private final CommunityPostService communityPostService;
+    private final FileUploadPipeline fileUploadPipeline;
 
     @Autowired
-    public CommunityController(CommunityPostService communityPostService) {
+    public CommunityController(CommunityPostService communityPostService, FileUploadPipeline fileUploadPipeline) {
         this.communityPostService = communityPostService;
+        this.fileUploadPipeline = fileUploadPipeline;
     }
 
     /* 게시글 등록 */
@@ -45,7 +48,8 @@ public class CommunityController {
             @RequestPart CommunityPostCreateDTO newPost,
             @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) {
-        communityPostService.createPost(loginId, newPost, images);
+        // 파일은 트랜잭션 밖에서 먼저 저장하고 서비스에서는 참조만 기록
+        communityPostService.createPost(loginId, newPost, fileUploadPipeline.storeAll(images));
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -65,7 +69,7 @@ public class CommunityController {
             @Valid @RequestPart CommunityPostUpdateDTO modifiedPost,
             @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) {
-        communityPostService.updatePost(loginId, communityPostCode, modifiedPost, images);
+        communityPostService.updatePost(loginId, communityPostCode, modifiedPost, fileUploadPipeline.storeAll(images));
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -17,8 +17,10 @@ public class CommunityPostDTO {
     private Boolean active;                 // 활성화 여부
     private String nickname;                // 회원 닉네임(작성자)
     private String profile;                 // 회원 프로필 사진
+    private String profileThumbnail;        // 회원 프로필 사진 96px 파생본
     private Boolean isLike;                 // 좋아요 여부
 
     // 첨부파일 URL 리스트
     private List<String> imageUrls;         // 첨부파일들
+    private List<String> thumbnailUrls;     // 첨부파일 320px 파생본들
 }
@@ -0,0 +1,25 @@
+package com.swcamp9th.bangflixbackend.domain.communitypost.mapper;
+
+import com.swcamp9th.bangflixbackend.domain.communitypost.dto.CommunityPostDTO;
+import com.swcamp9th.bangflixbackend.domain.communitypost.entity.CommunityPost;
+import java.util.Objects;
+
+/**
+ * 커뮤니티 게시글 엔티티 -> DTO 변환.
+ * 작성자 정보, 첨부파일, 좋아요 여부는 호출하는 쪽에서 채운다.
+ */
+public final class CommunityPostMapper {
+
+    private CommunityPostMapper() {
+    }
+
+    public static CommunityPostDTO toCommunityPostDTO(CommunityPost communityPost) {
+        CommunityPostDTO postDTO = new CommunityPostDTO();
+        postDTO.setCommunityPostCode(communityPost.getCommunityPostCode());
+        postDTO.setTitle(communityPost.getTitle());
+        postDTO.setContent(communityPost.getContent());
+        postDTO.setCreatedAt(Objects.toString(communityPost.getCreatedAt(), null));
+        postDTO.setActive(communityPost.getActive());
+        return postDTO;
+    }
+}
@@ -11,7 +11,6 @@ import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
 import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
 import com.swcamp9th.bangflixbackend.shared.error.exception.InvalidUserException;
 import jakarta.persistence.EntityNotFoundException;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,7 +20,6 @@ import java.util.List;
 
 @Service
 public class CommunityLikeServiceImpl implements CommunityLikeService {
-    private final ModelMapper modelMapper;
     private final UserRepository userRepository;
     private final CommunityPostRepository communityPostRepository;
 
@@ -29,12 +27,10 @@ public class CommunityLikeServiceImpl implements CommunityLikeService {
 
     @Autowired
     public CommunityLikeServiceImpl(
-            ModelMapper modelMapper,
             UserRepository userRepository,
             CommunityPostRepository communityPostRepository,
             CommunityLikeRepository communityLikeRepository
     ) {
-        this.modelMapper = modelMapper;
         this.userRepository = userRepository;
         this.communityPostRepository = communityPostRepository;
         this.communityLikeRepository = communityLikeRepository;
@@ -43,7 +39,7 @@ public class CommunityLikeServiceImpl implements CommunityLikeService {
     @Transactional
     @Override
     public void addLike(String loginId, CommunityLikeCreateDTO newLike) {
-        CommunityLike addedLike = modelMapper.map(newLike, CommunityLike.class);
+        CommunityLike addedLike = new CommunityLike();
 
         // 회원이 아니라면 예외 발생
         Member likeMember = userRepository.findById(loginId)
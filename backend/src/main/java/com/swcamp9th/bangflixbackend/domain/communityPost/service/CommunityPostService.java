@@ -3,16 +3,16 @@ package com.swcamp9th.bangflixbackend.domain.communitypost.service;
 import com.swcamp9th.bangflixbackend.domain.communitypost.dto.CommunityPostCreateDTO;
 import com.swcamp9th.bangflixbackend.domain.communitypost.dto.CommunityPostDTO;
 import com.swcamp9th.bangflixbackend.domain.communitypost.dto.CommunityPostUpdateDTO;
-import org.springframework.web.multipart.MultipartFile;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
 
 import java.util.List;
 
 public interface CommunityPostService {
 
-    void createPost(String loginId, CommunityPostCreateDTO newPost, List<MultipartFile> images);
+    void createPost(String loginId, CommunityPostCreateDTO newPost, List<StoredBlob> images);
 
     void updatePost(String loginId, int communityPostCode,
-                    CommunityPostUpdateDTO modifiedPost, List<MultipartFile> images);
+                    CommunityPostUpdateDTO modifiedPost, List<StoredBlob> images);
 
     void deletePost(String loginId, int communityPostCode);
 
@@ -9,33 +9,28 @@ import com.swcamp9th.bangflixbackend.domain.communitypost.repository.CommunityFi
 import com.swcamp9th.bangflixbackend.domain.communitypost.repository.CommunityLikeRepository;
 import com.swcamp9th.bangflixbackend.domain.communitypost.repository.CommunityPostRepository;
 import com.swcamp9th.bangflixbackend.domain.communitypost.entity.CommunityPost;
+import com.swcamp9th.bangflixbackend.domain.communitypost.mapper.CommunityPostMapper;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
 import com.swcamp9th.bangflixbackend.domain.user.exception.MemberNotFoundException;
 import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
 import com.swcamp9th.bangflixbackend.shared.error.exception.InvalidUserException;
-import com.swcamp9th.bangflixbackend.shared.error.exception.FileUploadException;
 import com.swcamp9th.bangflixbackend.shared.error.exception.LoginRequiredException;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
+import com.swcamp9th.bangflixbackend.shared.upload.ImageDerivativeService;
 import jakarta.persistence.EntityNotFoundException;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 public class CommunityPostServiceImpl implements CommunityPostService {
 
-    private final ModelMapper modelMapper;
     private final UserRepository userRepository;
 
     private final CommunityFileRepository communityFileRepository;
@@ -43,19 +38,24 @@ public class CommunityPostServiceImpl implements CommunityPostService {
 
     private final CommunityPostRepository communityPostRepository;
 
+    private final FileUploadPipeline fileUploadPipeline;
+    private final ImageDerivativeService imageDerivativeService;
+
     @Autowired
     public CommunityPostServiceImpl(
-            ModelMapper modelMapper,
             UserRepository userRepository,
             CommunityFileRepository communityFileRepository,
             CommunityLikeRepository communityLikeRepository,
-            CommunityPostRepository communityPostRepository
+            CommunityPostRepository communityPostRepository,
+            FileUploadPipeline fileUploadPipeline,
+            ImageDerivativeService imageDerivativeService
     ) {
-        this.modelMapper = modelMapper;
         this.userRepository = userRepository;
         this.communityFileRepository = communityFileRepository;
         this.communityLikeRepository = communityLikeRepository;
         this.communityPostRepository = communityPostRepository;
+        this.fileUploadPipeline = fileUploadPipeline;
+        this.imageDerivativeService = imageDerivativeService;
     }
 
     @Transactional
@@ -63,9 +63,9 @@ public class CommunityPostServiceImpl implements CommunityPostService {
     public void createPost(
             String loginId,
             CommunityPostCreateDTO newPost,
-            List<MultipartFile> images
+            List<StoredBlob> images
     ) {
-        CommunityPost createdPost = modelMapper.map(newPost, CommunityPost.class);
+        CommunityPost createdPost = new CommunityPost();
 
         // 회원이 아니라면 예외 발생
         Member member = userRepository.findById(loginId)
@@ -89,31 +89,13 @@ public class CommunityPostServiceImpl implements CommunityPostService {
     }
 
     private List<CommunityFile> saveFiles(
-            List<MultipartFile> images,
+            List<StoredBlob> images,
             CommunityPost savedPost
     ) {
         List<CommunityFile> communityFiles = new ArrayList<>();
 
-        for (MultipartFile file : images) {
-            String fileName = file.getOriginalFilename();
-
-            // 파일이름만 남김
-            fileName = fileName.substring(0, fileName.lastIndexOf("."));
-            // UUID 생성
-            String uuid = UUID.randomUUID().toString();
-            // 저장 경로
-            String filePath = "src/main/resources/static/uploadFiles/communityFiles/" + uuid + fileName;
-            Path path = Paths.get(filePath);
-            // DB 저장명
-            String dbUrl = "/uploadFiles/communityFiles/" + uuid + fileName;
-
-            //저장
-            try {
-                Files.createDirectories(path.getParent());
-                Files.write(path, file.getBytes());
-            } catch (IOException e) {
-                throw new FileUploadException();
-            }
+        for (StoredBlob file : images) {
+            String dbUrl = fileUploadPipeline.attach(file);
 
             CommunityFile addedImages = communityFileRepository.save(
                     CommunityFile.builder()
@@ -136,7 +118,7 @@ public class CommunityPostServiceImpl implements CommunityPostService {
             String loginId,
             int communityPostCode,
             CommunityPostUpdateDTO modifiedPost,
-            List<MultipartFile> images
+            List<StoredBlob> images
     ) {
         CommunityPost foundPost = communityPostRepository.findById(communityPostCode)
                                     .orElseThrow(CommunityPostNotFoundException::new);
@@ -175,6 +157,14 @@ public class CommunityPostServiceImpl implements CommunityPostService {
         foundPost.setActive(false);
 
         communityPostRepository.save(foundPost);
+
+        // 첨부파일 비활성화 및 저장된 내용의 참조 해제
+        for (CommunityFile file : communityFileRepository.findByCommunityPost(foundPost)) {
+            if (!file.getActive())
+                continue;
+            file.setActive(false);
+            fileUploadPipeline.release(file.getUrl());
+        }
     }
 
     @Transactional(readOnly = true)
@@ -188,7 +178,7 @@ public class CommunityPostServiceImpl implements CommunityPostService {
 
         List<CommunityPostDTO> postList = allPosts.stream()
                 .map(communityPost -> {
-                    CommunityPostDTO postDTO = modelMapper.map(communityPost, CommunityPostDTO.class);
+                    CommunityPostDTO postDTO = CommunityPostMapper.toCommunityPostDTO(communityPost);
 
                     List<CommunityFile> images = communityFileRepository.findByCommunityPost(communityPost);
                     List<String> urls = images.stream().map(CommunityFile::getUrl).toList();
@@ -199,7 +189,10 @@ public class CommunityPostServiceImpl implements CommunityPostService {
 
                     postDTO.setNickname(communityPost.getMember().getNickname());
                     postDTO.setProfile(communityPost.getMember().getImage());
+                    postDTO.setProfileThumbnail(
+                            imageDerivativeService.derivativeUrlOf(communityPost.getMember().getImage(), ImageDerivativeService.SMALL));
                     postDTO.setImageUrls(urls);
+                    postDTO.setThumbnailUrls(imageDerivativeService.derivativeUrlsOf(urls, ImageDerivativeService.MEDIUM));
                     postDTO.setIsLike(isLike);
                     return postDTO;
                 }).toList();
@@ -216,9 +209,11 @@ public class CommunityPostServiceImpl implements CommunityPostService {
         Member loginMember = userRepository.findById(loginId)
                 .orElseThrow(MemberNotFoundException::new);
 
-        CommunityPostDTO selectedPost = modelMapper.map(post, CommunityPostDTO.class);
+        CommunityPostDTO selectedPost = CommunityPostMapper.toCommunityPostDTO(post);
         selectedPost.setNickname(post.getMember().getNickname());
         selectedPost.setProfile(post.getMember().getImage());
+        selectedPost.setProfileThumbnail(
+                imageDerivativeService.derivativeUrlOf(post.getMember().getImage(), ImageDerivativeService.SMALL));
 
         List<CommunityFile> images = communityFileRepository.findByCommunityPost(post);
         List<String> urls = images.stream()
@@ -231,6 +226,7 @@ public class CommunityPostServiceImpl implements CommunityPostService {
                 );
 
         selectedPost.setImageUrls(urls);
+        selectedPost.setThumbnailUrls(imageDerivativeService.derivativeUrlsOf(urls, ImageDerivativeService.MEDIUM));
         selectedPost.setIsLike(isLike);
 
         return selectedPost;
@@ -246,7 +242,7 @@ public class CommunityPostServiceImpl implements CommunityPostService {
 
         List<CommunityPostDTO> myPostList = myPosts.stream()
                 .map(communityPost -> {
-                    CommunityPostDTO postDTO = modelMapper.map(communityPost, CommunityPostDTO.class);
+                    CommunityPostDTO postDTO = CommunityPostMapper.toCommunityPostDTO(communityPost);
 
                     List<CommunityFile> images = communityFileRepository.findByCommunityPost(communityPost);
                     List<String> urls = images.stream().map(CommunityFile::getUrl).toList();
@@ -257,7 +253,10 @@ public class CommunityPostServiceImpl implements CommunityPostService {
 
                     postDTO.setNickname(communityPost.getMember().getNickname());
                     postDTO.setProfile(communityPost.getMember().getImage());
+                    postDTO.setProfileThumbnail(
+                            imageDerivativeService.derivativeUrlOf(communityPost.getMember().getImage(), ImageDerivativeService.SMALL));
                     postDTO.setImageUrls(urls);
+                    postDTO.setThumbnailUrls(imageDerivativeService.derivativeUrlsOf(urls, ImageDerivativeService.MEDIUM));
                     postDTO.setIsLike(isLike);
                     return postDTO;
                 }).toList();
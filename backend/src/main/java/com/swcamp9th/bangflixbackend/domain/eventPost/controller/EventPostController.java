@@ -7,6 +7,7 @@ import com.swcamp9th.bangflixbackend.domain.eventPost.dto.EventPostCreateDTO;
 import com.swcamp9th.bangflixbackend.domain.eventPost.dto.EventPostDTO;
 import com.swcamp9th.bangflixbackend.domain.eventPost.dto.EventPostUpdateDTO;
 import com.swcamp9th.bangflixbackend.domain.eventPost.service.EventPostService;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
@@ -29,10 +30,12 @@ import static com.swcamp9th.bangflixbackend.shared.filter.RequestFilter.SERVLET_
 public class EventPostController {
 
     private final EventPostService eventPostService;
+    private final FileUploadPipeline fileUploadPipeline;
 
     @Autowired
-    public EventPostController(EventPostService eventPostService) {
+    public EventPostController(EventPostService eventPostService, FileUploadPipeline fileUploadPipeline) {
         this.eventPostService = eventPostService;
+        this.fileUploadPipeline = fileUploadPipeline;
     }
 
     /* 이벤트 게시글 등록 */
@@ -44,7 +47,8 @@ public class EventPostController {
             @Valid @RequestPart EventPostCreateDTO newEvent,
             @RequestPart(value = "images", required = false) List<MultipartFile> images) throws IOException {
 
-        eventPostService.createEventPost(loginId, newEvent, images);
+        // 파일은 트랜잭션 밖에서 먼저 저장하고 서비스에서는 참조만 기록
+        eventPostService.createEventPost(loginId, newEvent, fileUploadPipeline.storeAll(images));
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -62,7 +66,7 @@ public class EventPostController {
             @Valid @RequestPart EventPostUpdateDTO modifiedEvent,
             @RequestPart(value = "images", required = false) List<MultipartFile> images) {
 
-        eventPostService.updateEventPost(loginId, eventPostCode, modifiedEvent, images);
+        eventPostService.updateEventPost(loginId, eventPostCode, modifiedEvent, fileUploadPipeline.storeAll(images));
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(SuccessResponse.empty(ResponseCode.UPDATED));
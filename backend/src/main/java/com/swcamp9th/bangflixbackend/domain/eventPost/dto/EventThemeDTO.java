@@ -13,4 +13,5 @@ public class EventThemeDTO {
     private String name;
     private String posterImage;
     private Integer storeCode;
+    private String storeName;
 }
@@ -0,0 +1,36 @@
+package com.swcamp9th.bangflixbackend.domain.eventPost.mapper;
+
+import com.swcamp9th.bangflixbackend.domain.eventPost.dto.EventPostDTO;
+import com.swcamp9th.bangflixbackend.domain.eventPost.dto.EventThemeDTO;
+import com.swcamp9th.bangflixbackend.domain.eventPost.entity.EventPost;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import java.util.Objects;
+
+/**
+ * 이벤트 게시글 엔티티 -> DTO 변환.
+ * 작성자 정보, 첨부파일, 테마 정보는 호출하는 쪽에서 채운다.
+ */
+public final class EventPostMapper {
+
+    private EventPostMapper() {
+    }
+
+    public static EventPostDTO toEventPostDTO(EventPost eventPost) {
+        EventPostDTO eventPostDTO = new EventPostDTO();
+        eventPostDTO.setEventPostCode(eventPost.getEventPostCode());
+        eventPostDTO.setActive(eventPost.getActive());
+        eventPostDTO.setCreatedAt(Objects.toString(eventPost.getCreatedAt(), null));
+        eventPostDTO.setTitle(eventPost.getTitle());
+        eventPostDTO.setContent(eventPost.getContent());
+        eventPostDTO.setCategory(eventPost.getCategory());
+        return eventPostDTO;
+    }
+
+    public static EventThemeDTO toEventThemeDTO(Theme theme) {
+        EventThemeDTO eventThemeDTO = new EventThemeDTO();
+        eventThemeDTO.setThemeCode(theme.getThemeCode());
+        eventThemeDTO.setName(theme.getName());
+        eventThemeDTO.setPosterImage(theme.getPosterImage());
+        return eventThemeDTO;
+    }
+}
@@ -4,17 +4,17 @@ import com.swcamp9th.bangflixbackend.domain.eventPost.dto.EventListDTO;
 import com.swcamp9th.bangflixbackend.domain.eventPost.dto.EventPostCreateDTO;
 import com.swcamp9th.bangflixbackend.domain.eventPost.dto.EventPostDTO;
 import com.swcamp9th.bangflixbackend.domain.eventPost.dto.EventPostUpdateDTO;
-import org.springframework.web.multipart.MultipartFile;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
 
 import java.io.IOException;
 import java.util.List;
 
 public interface EventPostService {
 
-    void createEventPost(String loginId, EventPostCreateDTO newEvent, List<MultipartFile> images) throws IOException;
+    void createEventPost(String loginId, EventPostCreateDTO newEvent, List<StoredBlob> images) throws IOException;
 
     void updateEventPost(String loginId, int eventPostCode,
-                         EventPostUpdateDTO modifiedEvent, List<MultipartFile> images);
+                         EventPostUpdateDTO modifiedEvent, List<StoredBlob> images);
 
     void deleteEventPost(String loginId, int eventPostCode);
 
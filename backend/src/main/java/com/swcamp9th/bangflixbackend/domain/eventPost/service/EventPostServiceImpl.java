@@ -4,54 +4,55 @@ import com.swcamp9th.bangflixbackend.domain.eventPost.dto.*;
 import com.swcamp9th.bangflixbackend.domain.eventPost.entity.EventFile;
 import com.swcamp9th.bangflixbackend.domain.eventPost.entity.EventPost;
 import com.swcamp9th.bangflixbackend.domain.eventPost.exception.EventPostNotFoundException;
+import com.swcamp9th.bangflixbackend.domain.eventPost.mapper.EventPostMapper;
 import com.swcamp9th.bangflixbackend.domain.eventPost.repository.EventFileRepository;
 import com.swcamp9th.bangflixbackend.domain.eventPost.repository.EventPostRepository;
+import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
+import com.swcamp9th.bangflixbackend.domain.store.service.StoreService;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
 import com.swcamp9th.bangflixbackend.domain.theme.exception.ThemeNotFoundException;
 import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeRepository;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
 import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
-import com.swcamp9th.bangflixbackend.shared.error.exception.FileUploadException;
 import com.swcamp9th.bangflixbackend.shared.error.exception.InvalidUserException;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
 import jakarta.persistence.EntityNotFoundException;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.*;
 
 @Service("eventPostService")
 public class EventPostServiceImpl implements EventPostService {
 
-    private final ModelMapper modelMapper;
     private final EventPostRepository eventPostRepository;
     private final EventFileRepository eventFileRepository;
     private final UserRepository userRepository;
     private final ThemeRepository themeRepository;
+    private final StoreService storeService;
+    private final FileUploadPipeline fileUploadPipeline;
 
     @Autowired
-    public EventPostServiceImpl(ModelMapper modelMapper,
-                                EventPostRepository eventPostRepository,
+    public EventPostServiceImpl(EventPostRepository eventPostRepository,
                                 EventFileRepository eventFileRepository,
                                 UserRepository userRepository,
-                                ThemeRepository themeRepository) {
-        this.modelMapper = modelMapper;
+                                ThemeRepository themeRepository,
+                                StoreService storeService,
+                                FileUploadPipeline fileUploadPipeline) {
         this.eventPostRepository = eventPostRepository;
         this.eventFileRepository = eventFileRepository;
         this.userRepository = userRepository;
         this.themeRepository = themeRepository;
+        this.storeService = storeService;
+        this.fileUploadPipeline = fileUploadPipeline;
     }
 
     @Transactional
     @Override
-    public void createEventPost(String loginId, EventPostCreateDTO newEvent, List<MultipartFile> images) {
+    public void createEventPost(String loginId, EventPostCreateDTO newEvent, List<StoredBlob> images) {
 
         // 관리자 회원이 아니라면 예외 발생
         Member admin = userRepository.findByIdAndIsAdminTrue(loginId)
@@ -78,29 +79,11 @@ public class EventPostServiceImpl implements EventPostService {
         }
     }
 
-    private List<EventFile> saveFiles(List<MultipartFile> images, EventPost createdEventPost) {
+    private List<EventFile> saveFiles(List<StoredBlob> images, EventPost createdEventPost) {
         List<EventFile> eventFiles = new ArrayList<>();
 
-        for (MultipartFile file : images) {
-            String fileName = file.getOriginalFilename();
-
-            // 파일이름만 남김
-            fileName = fileName.substring(0, fileName.lastIndexOf("."));
-            // UUID 생성
-            String uuid = UUID.randomUUID().toString();
-            // 저장 경로
-            String filePath = "src/main/resources/static/uploadFiles/eventFiles/" + uuid + fileName;
-            Path path = Paths.get(filePath);
-            // DB 저장명
-            String dbUrl = "/uploadFiles/eventFiles/" + uuid + fileName;
-
-            //저장
-            try {
-                Files.createDirectories(path.getParent());
-                Files.write(path, file.getBytes());
-            } catch (IOException e) {
-                throw new FileUploadException();
-            }
+        for (StoredBlob file : images) {
+            String dbUrl = fileUploadPipeline.attach(file);
 
             EventFile addedImage = eventFileRepository.save(EventFile.builder()
                     .url(dbUrl)
@@ -119,7 +102,7 @@ public class EventPostServiceImpl implements EventPostService {
     @Transactional
     @Override
     public void updateEventPost(String loginId, int eventPostCode,
-                                EventPostUpdateDTO modifiedEvent, List<MultipartFile> images) {
+                                EventPostUpdateDTO modifiedEvent, List<StoredBlob> images) {
 
         EventPost foundPost = eventPostRepository.findById(eventPostCode)
                 .orElseThrow(EventPostNotFoundException::new);
@@ -161,6 +144,14 @@ public class EventPostServiceImpl implements EventPostService {
 
         foundPost.setActive(false);
         eventPostRepository.save(foundPost);
+
+        // 첨부파일 비활성화 및 저장된 내용의 참조 해제
+        for (EventFile file : eventFileRepository.findByEventPost(foundPost)) {
+            if (!file.getActive())
+                continue;
+            file.setActive(false);
+            fileUploadPipeline.release(file.getUrl());
+        }
     }
 
     @Transactional(readOnly = true)
@@ -171,33 +162,20 @@ public class EventPostServiceImpl implements EventPostService {
         List<EventPost> newThemeEvents = eventPostRepository
                 .findTop5ByActiveTrueAndCategoryEqualsOrderByCreatedAtDesc("newTheme").stream().toList();
 
-        // 할인 테마 이벤트 게시글 목록
-        List<EventPostDTO> discountPosts = discountEvents.stream().map(
-                eventPost -> {
-                    EventPostDTO discountPost = modelMapper.map(eventPost, EventPostDTO.class);
+        // 두 목록의 테마와 업체를 한 번에 조회
+        List<EventPost> allEvents = new ArrayList<>(discountEvents);
+        allEvents.addAll(newThemeEvents);
+        Map<Integer, EventThemeDTO> eventThemes = findEventThemes(allEvents);
 
-                    Theme theme = themeRepository.findById(eventPost.getTheme().getThemeCode())
-                            .orElseThrow(ThemeNotFoundException::new);
-                    EventThemeDTO eventTheme = modelMapper.map(theme, EventThemeDTO.class);
-                    eventTheme.setStoreCode(theme.getStore().getStoreCode());
-
-                    discountPost.setEventTheme(eventTheme);
-                    return discountPost;
-                }).toList();
+        // 할인 테마 이벤트 게시글 목록
+        List<EventPostDTO> discountPosts = discountEvents.stream()
+                .map(eventPost -> toEventPostDTO(eventPost, eventThemes))
+                .toList();
 
         // 신규 테마 이벤트 게시글 목록
-        List<EventPostDTO> newThemePosts = newThemeEvents.stream().map(
-                eventPost -> {
-                    EventPostDTO newThemePost = modelMapper.map(eventPost, EventPostDTO.class);
-
-                    Theme theme = themeRepository.findById(eventPost.getTheme().getThemeCode())
-                            .orElseThrow(ThemeNotFoundException::new);
-                    EventThemeDTO eventTheme = modelMapper.map(theme, EventThemeDTO.class);
-                    eventTheme.setStoreCode(theme.getStore().getStoreCode());
-
-                    newThemePost.setEventTheme(eventTheme);
-                    return newThemePost;
-                }).toList();
+        List<EventPostDTO> newThemePosts = newThemeEvents.stream()
+                .map(eventPost -> toEventPostDTO(eventPost, eventThemes))
+                .toList();
 
         EventListDTO discountListDTO = new EventListDTO("discount", discountPosts);
         EventListDTO newThemeListDTO = new EventListDTO("newTheme", newThemePosts);
@@ -214,7 +192,7 @@ public class EventPostServiceImpl implements EventPostService {
         EventPost foundEvent = eventPostRepository.findById(eventPostCode)
                 .orElseThrow(EventPostNotFoundException::new);
 
-        EventPostDTO selectedEvent = modelMapper.map(foundEvent, EventPostDTO.class);
+        EventPostDTO selectedEvent = EventPostMapper.toEventPostDTO(foundEvent);
         selectedEvent.setNickname(foundEvent.getMember().getNickname());
 
         // 게시글의 첨부파일
@@ -223,12 +201,48 @@ public class EventPostServiceImpl implements EventPostService {
         selectedEvent.setImageUrls(urls);
 
         // 해당 테마
-        Theme theme = themeRepository.findById(foundEvent.getTheme().getThemeCode())
-                .orElseThrow(ThemeNotFoundException::new);
-        EventThemeDTO selectedTheme = modelMapper.map(theme, EventThemeDTO.class);
-        selectedTheme.setStoreCode(theme.getStore().getStoreCode());
-        selectedEvent.setEventTheme(selectedTheme);
+        Map<Integer, EventThemeDTO> eventThemes = findEventThemes(List.of(foundEvent));
+        selectedEvent.setEventTheme(findEventTheme(foundEvent, eventThemes));
 
         return selectedEvent;
     }
+
+    private EventPostDTO toEventPostDTO(EventPost eventPost, Map<Integer, EventThemeDTO> eventThemes) {
+        EventPostDTO eventPostDTO = EventPostMapper.toEventPostDTO(eventPost);
+        eventPostDTO.setEventTheme(findEventTheme(eventPost, eventThemes));
+        return eventPostDTO;
+    }
+
+    private EventThemeDTO findEventTheme(EventPost eventPost, Map<Integer, EventThemeDTO> eventThemes) {
+        if (eventPost.getTheme() == null)
+            return null;
+        return eventThemes.get(eventPost.getTheme().getThemeCode());
+    }
+
+    // 게시글들의 테마를 한 번에 조회하고, 업체 정보는 업체 캐시에서 채움 (테마 코드 -> 테마 정보)
+    private Map<Integer, EventThemeDTO> findEventThemes(List<EventPost> eventPosts) {
+        Set<Integer> themeCodes = new LinkedHashSet<>();
+        for (EventPost eventPost : eventPosts) {
+            // 테마 없이 등록된 이벤트 게시글도 있음
+            if (eventPost.getTheme() != null)
+                themeCodes.add(eventPost.getTheme().getThemeCode());
+        }
+
+        List<Theme> themes = themeRepository.findAllById(themeCodes);
+        if (themes.size() != themeCodes.size())
+            throw new ThemeNotFoundException();
+
+        Map<Integer, StoreDTO> stores = storeService.findStores(
+                themes.stream().map(theme -> theme.getStore().getStoreCode()).distinct().toList());
+
+        Map<Integer, EventThemeDTO> eventThemes = new HashMap<>();
+        for (Theme theme : themes) {
+            EventThemeDTO eventTheme = EventPostMapper.toEventThemeDTO(theme);
+            StoreDTO store = stores.get(theme.getStore().getStoreCode());
+            eventTheme.setStoreCode(theme.getStore().getStoreCode());
+            eventTheme.setStoreName(store != null ? store.getName() : null);
+            eventThemes.put(theme.getThemeCode(), eventTheme);
+        }
+        return eventThemes;
+    }
 }
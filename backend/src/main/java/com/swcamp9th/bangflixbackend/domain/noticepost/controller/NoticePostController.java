@@ -7,6 +7,7 @@ import com.swcamp9th.bangflixbackend.domain.noticepost.dto.NoticePostCreateDTO;
 import com.swcamp9th.bangflixbackend.domain.noticepost.dto.NoticePostDTO;
 import com.swcamp9th.bangflixbackend.domain.noticepost.dto.NoticePostUpdateDTO;
 import com.swcamp9th.bangflixbackend.domain.noticepost.service.NoticePostService;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
@@ -30,10 +31,12 @@ import static com.swcamp9th.bangflixbackend.shared.filter.RequestFilter.SERVLET_
 public class NoticePostController {
 
     private final NoticePostService noticePostService;
+    private final FileUploadPipeline fileUploadPipeline;
 
     @Autowired
-    public NoticePostController(NoticePostService noticePostService) {
+    public NoticePostController(NoticePostService noticePostService, FileUploadPipeline fileUploadPipeline) {
         this.noticePostService = noticePostService;
+        this.fileUploadPipeline = fileUploadPipeline;
     }
 
     /* 공지사항 게시글 등록 */
@@ -45,7 +48,8 @@ public class NoticePostController {
             @Valid @RequestPart NoticePostCreateDTO newNotice,
             @RequestPart(value = "images", required = false) List<MultipartFile> images) {
 
-        noticePostService.createNoticePost(newNotice, images, loginId);
+        // 파일은 트랜잭션 밖에서 먼저 저장하고 서비스에서는 참조만 기록
+        noticePostService.createNoticePost(newNotice, fileUploadPipeline.storeAll(images), loginId);
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(SuccessResponse.empty(ResponseCode.CREATED));
@@ -61,7 +65,7 @@ public class NoticePostController {
             @Valid @RequestPart NoticePostUpdateDTO updatedNotice,
             @RequestPart(value = "images", required = false) List<MultipartFile> images) {
 
-        noticePostService.updateNoticePost(noticePostCode, updatedNotice, images, loginId);
+        noticePostService.updateNoticePost(noticePostCode, updatedNotice, fileUploadPipeline.storeAll(images), loginId);
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(SuccessResponse.empty(ResponseCode.UPDATED));
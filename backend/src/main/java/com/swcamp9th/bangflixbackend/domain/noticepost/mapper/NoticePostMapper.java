@@ -0,0 +1,25 @@
+package com.swcamp9th.bangflixbackend.domain.noticepost.mapper;
+
+import com.swcamp9th.bangflixbackend.domain.noticepost.dto.NoticePostDTO;
+import com.swcamp9th.bangflixbackend.domain.noticepost.entity.NoticePost;
+import java.util.Objects;
+
+/**
+ * 공지사항 게시글 엔티티 -> DTO 변환.
+ * 작성자 정보와 첨부파일은 호출하는 쪽에서 채운다.
+ */
+public final class NoticePostMapper {
+
+    private NoticePostMapper() {
+    }
+
+    public static NoticePostDTO toNoticePostDTO(NoticePost noticePost) {
+        NoticePostDTO noticePostDTO = new NoticePostDTO();
+        noticePostDTO.setNoticePostCode(noticePost.getNoticePostCode());
+        noticePostDTO.setActive(noticePost.getActive());
+        noticePostDTO.setCreatedAt(Objects.toString(noticePost.getCreatedAt(), null));
+        noticePostDTO.setTitle(noticePost.getTitle());
+        noticePostDTO.setContent(noticePost.getContent());
+        return noticePostDTO;
+    }
+}
@@ -1,19 +1,20 @@
 package com.swcamp9th.bangflixbackend.domain.noticepost.service;
 
 import com.swcamp9th.bangflixbackend.domain.noticepost.exception.NoticePostNotFoundException;
-import com.swcamp9th.bangflixbackend.shared.error.exception.FileUploadException;
 import com.swcamp9th.bangflixbackend.shared.response.NoticePageResponse;
 import com.swcamp9th.bangflixbackend.domain.noticepost.dto.NoticePostCreateDTO;
 import com.swcamp9th.bangflixbackend.domain.noticepost.dto.NoticePostDTO;
 import com.swcamp9th.bangflixbackend.domain.noticepost.dto.NoticePostUpdateDTO;
 import com.swcamp9th.bangflixbackend.domain.noticepost.entity.NoticeFile;
 import com.swcamp9th.bangflixbackend.domain.noticepost.entity.NoticePost;
+import com.swcamp9th.bangflixbackend.domain.noticepost.mapper.NoticePostMapper;
 import com.swcamp9th.bangflixbackend.domain.noticepost.repository.NoticeFileRepository;
 import com.swcamp9th.bangflixbackend.domain.noticepost.repository.NoticePostRepository;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
 import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
 import com.swcamp9th.bangflixbackend.shared.error.exception.InvalidUserException;
-import org.modelmapper.ModelMapper;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -21,39 +22,33 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Service("noticePostService")
 public class NoticePostServiceImpl implements NoticePostService {
 
-    private final ModelMapper modelMapper;
     private final NoticePostRepository noticePostRepository;
     private final NoticeFileRepository noticeFileRepository;
     private final UserRepository userRepository;
+    private final FileUploadPipeline fileUploadPipeline;
 
     @Autowired
-    public NoticePostServiceImpl(ModelMapper modelMapper,
-                                 NoticePostRepository noticePostRepository,
+    public NoticePostServiceImpl(NoticePostRepository noticePostRepository,
                                  NoticeFileRepository noticeFileRepository,
-                                 UserRepository userRepository) {
-        this.modelMapper = modelMapper;
+                                 UserRepository userRepository,
+                                 FileUploadPipeline fileUploadPipeline) {
         this.noticePostRepository = noticePostRepository;
         this.noticeFileRepository = noticeFileRepository;
         this.userRepository = userRepository;
+        this.fileUploadPipeline = fileUploadPipeline;
     }
 
     @Transactional
     @Override
-    public void createNoticePost(NoticePostCreateDTO newNotice, List<MultipartFile> images, String userId) {
+    public void createNoticePost(NoticePostCreateDTO newNotice, List<StoredBlob> images, String userId) {
 
         // 관리자 회원이 아니라면 예외 발생
         Member admin = userRepository.findByIdAndIsAdminTrue(userId)
@@ -77,29 +72,11 @@ public class NoticePostServiceImpl implements NoticePostService {
         }
     }
 
-    private List<NoticeFile> saveFiles(List<MultipartFile> images, NoticePost createdNotice) {
+    private List<NoticeFile> saveFiles(List<StoredBlob> images, NoticePost createdNotice) {
         List<NoticeFile> noticeFiles = new ArrayList<>();
 
-        for (MultipartFile file : images) {
-            String fileName = file.getOriginalFilename();
-
-            // 파일이름만 남김
-            fileName = fileName.substring(0, fileName.lastIndexOf("."));
-            // UUID 생성
-            String uuid = UUID.randomUUID().toString();
-            // 저장 경로
-            String filePath = "src/main/resources/static/uploadFiles/noticeFiles/" + uuid + fileName;
-            Path path = Paths.get(filePath);
-            // DB 저장명
-            String dbUrl = "/uploadFiles/noticeFiles/" + uuid + fileName;
-
-            //저장
-            try {
-                Files.createDirectories(path.getParent());
-                Files.write(path, file.getBytes());
-            } catch (IOException e) {
-                throw new FileUploadException();
-            }
+        for (StoredBlob file : images) {
+            String dbUrl = fileUploadPipeline.attach(file);
 
             NoticeFile addedImage = noticeFileRepository.save(NoticeFile.builder()
                     .url(dbUrl)
@@ -120,7 +97,7 @@ public class NoticePostServiceImpl implements NoticePostService {
     public void updateNoticePost(
             int noticePostCode,
             NoticePostUpdateDTO updatedNotice,
-            List<MultipartFile> images, String userId
+            List<StoredBlob> images, String userId
     ) {
 
         NoticePost foundNotice = noticePostRepository.findById(noticePostCode)
@@ -160,6 +137,14 @@ public class NoticePostServiceImpl implements NoticePostService {
         foundNotice.setActive(false);
 
         noticePostRepository.save(foundNotice);
+
+        // 첨부파일 비활성화 및 저장된 내용의 참조 해제
+        for (NoticeFile file : noticeFileRepository.findByNoticePost(foundNotice)) {
+            if (!file.getActive())
+                continue;
+            file.setActive(false);
+            fileUploadPipeline.release(file.getUrl());
+        }
     }
 
     @Transactional(readOnly = true)
@@ -173,7 +158,7 @@ public class NoticePostServiceImpl implements NoticePostService {
 
         List<NoticePostDTO> noticePosts = noticeList.getContent().stream()
                 .map(noticePost -> {
-                    NoticePostDTO noticeDTO = modelMapper.map(noticePost, NoticePostDTO.class);
+                    NoticePostDTO noticeDTO = NoticePostMapper.toNoticePostDTO(noticePost);
 
                     List<NoticeFile> images = noticeFileRepository.findByNoticePost(noticePost).stream().toList();
                     List<String> urls = images.stream().map(NoticeFile::getUrl).toList();
@@ -198,7 +183,7 @@ public class NoticePostServiceImpl implements NoticePostService {
         NoticePost foundNotice = noticePostRepository.findById(noticePostCode)
                 .orElseThrow(NoticePostNotFoundException::new);
 
-        NoticePostDTO selectedNotice = modelMapper.map(foundNotice, NoticePostDTO.class);
+        NoticePostDTO selectedNotice = NoticePostMapper.toNoticePostDTO(foundNotice);
         selectedNotice.setNickname(foundNotice.getMember().getNickname());
 
         List<NoticeFile> images = noticeFileRepository.findByNoticePost(foundNotice).stream().toList();
@@ -9,10 +9,14 @@ import com.swcamp9th.bangflixbackend.domain.ranking.service.RankingService;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -56,8 +60,13 @@ public class RankingController {
 
         ReviewRankingDateDTO reviewRankingDateDTO = rankingService.findReviewRankingDate(year);
 
+        // ETag 와 304 응답은 ShallowEtagHeaderFilter 가 처리
+        CacheControl cacheControl = rankingService.isClosedRankingYear(year)
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable()
+                : CacheControl.noCache().cachePrivate();
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .cacheControl(cacheControl)
                 .body(SuccessResponse.of(ResponseCode.OK, reviewRankingDateDTO));
     }
 
@@ -70,20 +79,23 @@ public class RankingController {
 
         List<ReviewRankingDTO> reviewRankingDTOList = rankingService.findReviewRanking(date, loginId);
 
+        // 선정 결과는 바뀌지 않지만 좋아요 여부가 회원마다 다르므로 ETag 로 재검증
         return ResponseEntity
                 .status(HttpStatus.OK)
+                .cacheControl(CacheControl.noCache().cachePrivate())
                 .body(SuccessResponse.of(ResponseCode.OK, reviewRankingDTOList));
     }
 
     @GetMapping("/reviews")
     @SecurityRequirement(name = "Authorization")
-    @Operation(summary = "좋아요가 많은 순으로 리뷰를 정렬해 반환하는 API.")
+    @Operation(summary = "좋아요가 많은 순으로 리뷰를 정렬해 반환하는 API. period 는 all(전체, 기본값) 또는 week(이번 주 월요일부터 받은 좋아요).")
     public ResponseEntity<SuccessResponse<List<ReviewDTO>>> findReviewRanking(
         @PageableDefault(size = 10, page = 0) Pageable pageable,
+        @RequestParam(defaultValue = "all") String period,
         @RequestAttribute(SERVLET_REQUEST_ATTRIBUTE_KEY) String loginId
     ) {
 
-        List<ReviewDTO> reviewDTOList = rankingService.findAllReviewRanking(pageable, loginId);
+        List<ReviewDTO> reviewDTOList = rankingService.findAllReviewRanking(pageable, period, loginId);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -92,12 +104,44 @@ public class RankingController {
 
     @GetMapping("/members")
     @SecurityRequirement(name = "Authorization")
-    @Operation(summary = "포인트가 높은 순으로 유저를 정렬해 반환하는 API.")
+    @Operation(summary = "포인트가 높은 순으로 유저를 정렬해 반환하는 API. period 는 all(전체 포인트, 기본값), week(이번 주 획득 포인트), month(이번 달 획득 포인트).")
     public ResponseEntity<SuccessResponse<List<MemberRankingDTO>>> findMemberRanking(
-        @PageableDefault(size = 100, page = 0) Pageable pageable
+        @PageableDefault(size = 100, page = 0) Pageable pageable,
+        @RequestParam(defaultValue = "all") String period
     ) {
 
-        List<MemberRankingDTO> memberRankingDTOList = rankingService.findAllMemberRanking(pageable);
+        List<MemberRankingDTO> memberRankingDTOList = rankingService.findAllMemberRanking(pageable, period);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(SuccessResponse.of(ResponseCode.OK, memberRankingDTOList));
+    }
+
+    @GetMapping("/members/me")
+    @SecurityRequirement(name = "Authorization")
+    @Operation(summary = "내 포인트 순위와 앞뒤 neighbours 명(최대 50)을 순위 순으로 반환하는 API. 해당 기간에 포인트가 없으면 빈 목록.")
+    public ResponseEntity<SuccessResponse<List<MemberRankingDTO>>> findMyMemberRanking(
+        @RequestParam(defaultValue = "all") String period,
+        @RequestParam(defaultValue = "5") int neighbours,
+        @RequestAttribute(SERVLET_REQUEST_ATTRIBUTE_KEY) String loginId
+    ) {
+
+        List<MemberRankingDTO> memberRankingDTOList = rankingService.findMyMemberRanking(loginId, period, neighbours);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(SuccessResponse.of(ResponseCode.OK, memberRankingDTOList));
+    }
+
+    @GetMapping("/members/history")
+    @SecurityRequirement(name = "Authorization")
+    @Operation(summary = "지난 주/월의 포인트 순위(상위 100명)를 반환하는 API. period 는 week 또는 month, date 는 기간 시작일(주는 월요일, 월은 1일, yyyy-MM-dd).")
+    public ResponseEntity<SuccessResponse<List<MemberRankingDTO>>> findMemberRankingHistory(
+        @RequestParam(defaultValue = "week") String period,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+
+        List<MemberRankingDTO> memberRankingDTOList = rankingService.findMemberRankingHistory(period, date);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
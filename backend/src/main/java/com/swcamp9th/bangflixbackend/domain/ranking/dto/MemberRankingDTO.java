@@ -23,4 +23,11 @@ public class MemberRankingDTO {
     private Integer point;
     private Date createdAt;
     private Boolean active;
+    // 순위 (1 부터). 기간별 리더보드의 point 는 해당 기간에 획득한 포인트
+    private Integer rank;
+
+    public MemberRankingDTO(Integer memberCode, String id, String nickname, String email, Boolean isAdmin,
+                            String image, Integer point, Date createdAt, Boolean active) {
+        this(memberCode, id, nickname, email, isAdmin, image, point, createdAt, active, null);
+    }
 }
@@ -0,0 +1,55 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.entity;
+
+import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 지난 주/월의 회원 포인트 순위 기록.
+ * 기간이 끝나면 그 기간의 포인트 리더보드 상위 회원을 (기간, 시작일, 회원) 당 한 행으로 남긴다.
+ */
+@Entity
+@Table(name = "member_ranking")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class MemberRanking {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ranking_code")
+    private Integer rankingCode;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "active", nullable = false)
+    private Boolean active;
+
+    @Column(name = "member_code", nullable = false)
+    private Integer memberCode;
+
+    // week, month
+    @Column(name = "period", nullable = false)
+    private String period;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "ranking", nullable = false)
+    private Integer ranking;
+
+    // 기간 동안 획득한 포인트
+    @Column(name = "point", nullable = false)
+    private Integer point;
+
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_code", insertable = false, updatable = false)
+    private Member member;
+}
@@ -0,0 +1,52 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 주간 랭킹 선정 작업의 실행 기록 (작업 + 주 단위로 한 행).
+ * 선정 대상은 처음 실행할 때 고정해 두고, 처리한 대상 수(processed)를 묶음 단위로 늘려 가며
+ * 중단된 실행은 남은 대상부터 이어서 처리한다. completed_at 이 있으면 그 주의 작업은 끝난 것이다.
+ */
+@Entity
+@Table(name = "ranking_job_run")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class RankingJobRun {
+
+    @Id
+    @Column(name = "job_key")
+    private String jobKey;
+
+    // 선정 기준 시각. 이어서 처리해도 같은 시각으로 기록된다
+    @Column(name = "ranked_at", nullable = false)
+    private LocalDateTime rankedAt;
+
+    // 선정된 리뷰 코드 (쉼표로 구분, 순위 순)
+    @Column(name = "review_codes", nullable = false)
+    private String reviewCodes;
+
+    // 선정 시점의 전체 좋아요 수 (reviewCodes 와 같은 순서). 선정일 스냅샷에 그대로 남긴다
+    @Column(name = "like_counts", nullable = false)
+    private String likeCounts;
+
+    @Column(name = "processed", nullable = false)
+    private Integer processed;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,45 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 선정일별 베스트 리뷰 스냅샷 (선정일당 한 행).
+ * 주간 선정이 끝날 때 순위 순 리뷰 코드와 선정 시점의 좋아요 수를 남기며, 한 번 기록되면 바뀌지 않는다.
+ */
+@Entity
+@Table(name = "review_ranking_snapshot")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ReviewRankingSnapshot {
+
+    @Id
+    @Column(name = "ranking_date")
+    private LocalDate rankingDate;
+
+    @Column(name = "ranked_at", nullable = false)
+    private LocalDateTime rankedAt;
+
+    // 쉼표로 구분, 순위 순
+    @Column(name = "review_codes", nullable = false)
+    private String reviewCodes;
+
+    // 선정 시점의 전체 좋아요 수, reviewCodes 와 같은 순서
+    @Column(name = "like_counts", nullable = false)
+    private String likeCounts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
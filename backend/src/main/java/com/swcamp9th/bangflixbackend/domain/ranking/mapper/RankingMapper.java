@@ -0,0 +1,42 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.mapper;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewRankingDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewDTO;
+
+/**
+ * 랭킹 DTO 변환.
+ */
+public final class RankingMapper {
+
+    private RankingMapper() {
+    }
+
+    public static ReviewRankingDTO toReviewRankingDTO(ReviewDTO review, String rankingDate) {
+        return new ReviewRankingDTO(
+                review.getReviewCode(),
+                review.getActive(),
+                review.getCreatedAt(),
+                review.getHeadcount(),
+                review.getTakenTime(),
+                review.getComposition(),
+                review.getLevel(),
+                review.getHorrorLevel(),
+                review.getActivity(),
+                review.getTotalScore(),
+                review.getInterior(),
+                review.getProbability(),
+                review.getContent(),
+                review.getMemberCode(),
+                review.getThemeCode(),
+                review.getImagePaths(),
+                review.getLikes(),
+                review.getMemberNickname(),
+                review.getMemberImage(),
+                review.getGenres(),
+                review.getIsLike(),
+                review.getThemeImage(),
+                review.getThemeName(),
+                rankingDate
+        );
+    }
+}
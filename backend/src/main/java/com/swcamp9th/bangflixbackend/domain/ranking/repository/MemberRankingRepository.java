@@ -0,0 +1,42 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.repository;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.dto.MemberRankingDTO;
+import com.swcamp9th.bangflixbackend.domain.ranking.entity.MemberRanking;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MemberRankingRepository extends JpaRepository<MemberRanking, Integer> {
+
+    // 같은 기간의 같은 회원 기록이 이미 있으면 그대로 둔다 (여러 번 기록해도 한 행)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO member_ranking " +
+                       "(created_at, active, member_code, period, period_start, ranking, point) " +
+                   "VALUES (NOW(), true, :memberCode, :period, :periodStart, :ranking, :point)",
+           nativeQuery = true)
+    int insertIfAbsent(
+            @Param("memberCode") int memberCode,
+            @Param("period") String period,
+            @Param("periodStart") LocalDate periodStart,
+            @Param("ranking") int ranking,
+            @Param("point") int point
+    );
+
+    @Query("SELECT new com.swcamp9th.bangflixbackend.domain.ranking.dto.MemberRankingDTO(" +
+                  "m.memberCode, m.id, m.nickname, m.email, m.isAdmin, m.image, mr.point, m.createdAt, m.active, mr.ranking) " +
+             "FROM MemberRanking mr " +
+             "JOIN mr.member m " +
+            "WHERE mr.period = :period " +
+              "AND mr.periodStart = :periodStart " +
+              "AND mr.active = true " +
+            "ORDER BY mr.ranking")
+    List<MemberRankingDTO> findRankings(
+            @Param("period") String period,
+            @Param("periodStart") LocalDate periodStart
+    );
+}
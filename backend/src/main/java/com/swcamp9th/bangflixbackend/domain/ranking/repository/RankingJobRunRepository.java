@@ -0,0 +1,48 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.repository;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.entity.RankingJobRun;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface RankingJobRunRepository extends JpaRepository<RankingJobRun, String> {
+
+    // 같은 주의 실행 기록이 이미 있으면 그대로 둔다 (먼저 고정된 선정 대상을 사용)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO ranking_job_run (job_key, ranked_at, review_codes, like_counts, processed, created_at) " +
+                   "VALUES (:jobKey, :rankedAt, :reviewCodes, :likeCounts, 0, NOW())",
+           nativeQuery = true)
+    int insertIfAbsent(
+            @Param("jobKey") String jobKey,
+            @Param("rankedAt") LocalDateTime rankedAt,
+            @Param("reviewCodes") String reviewCodes,
+            @Param("likeCounts") String likeCounts
+    );
+
+    // 처리한 대상 수가 from 일 때만 to 로 늘린다. 0 이면 다른 실행이 이미 처리한 묶음
+    @Modifying
+    @Query("UPDATE RankingJobRun r " +
+              "SET r.processed = :to " +
+            "WHERE r.jobKey = :jobKey " +
+              "AND r.processed = :from " +
+              "AND r.completedAt IS NULL")
+    int advance(
+            @Param("jobKey") String jobKey,
+            @Param("from") int from,
+            @Param("to") int to
+    );
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RankingJobRun r " +
+              "SET r.completedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.jobKey = :jobKey " +
+              "AND r.completedAt IS NULL")
+    int complete(@Param("jobKey") String jobKey);
+}
@@ -0,0 +1,67 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.repository;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.entity.ReviewRankingSnapshot;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ReviewRankingSnapshotRepository extends JpaRepository<ReviewRankingSnapshot, LocalDate> {
+
+    // 같은 선정일의 스냅샷이 이미 있으면 그대로 둔다 (한 번 기록된 스냅샷은 바뀌지 않음)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO review_ranking_snapshot " +
+                       "(ranking_date, ranked_at, review_codes, like_counts, created_at) " +
+                   "VALUES (:rankingDate, :rankedAt, :reviewCodes, :likeCounts, NOW())",
+           nativeQuery = true)
+    int insertIfAbsent(
+            @Param("rankingDate") LocalDate rankingDate,
+            @Param("rankedAt") LocalDateTime rankedAt,
+            @Param("reviewCodes") String reviewCodes,
+            @Param("likeCounts") String likeCounts
+    );
+
+    // [from, to) 범위의 선정일. 기본 키 범위 조회
+    @Query("SELECT s.rankingDate " +
+             "FROM ReviewRankingSnapshot s " +
+            "WHERE s.rankingDate >= :from " +
+              "AND s.rankingDate < :to " +
+            "ORDER BY s.rankingDate DESC")
+    List<LocalDate> findRankingDates(
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    // 스냅샷이 없으면 null
+    @Query("SELECT MAX(s.rankingDate) FROM ReviewRankingSnapshot s")
+    LocalDate findLatestRankingDate();
+
+    // 스냅샷이 없으면 null
+    @Query("SELECT MIN(s.rankingDate) FROM ReviewRankingSnapshot s")
+    LocalDate findEarliestRankingDate();
+
+    /*
+     * 스냅샷을 남기기 전에 선정된 review_ranking 을 선정일별 스냅샷으로 옮긴다.
+     * 선정 시점의 좋아요 수는 남아 있지 않으므로 지금의 좋아요 수로 고정한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO review_ranking_snapshot " +
+                       "(ranking_date, ranked_at, review_codes, like_counts, created_at) " +
+                   "SELECT DATE(rr.created_at), MIN(rr.created_at), " +
+                          "GROUP_CONCAT(r.review_code ORDER BY r.like_count DESC, r.review_code DESC), " +
+                          "GROUP_CONCAT(r.like_count ORDER BY r.like_count DESC, r.review_code DESC), " +
+                          "NOW() " +
+                     "FROM review_ranking rr " +
+                     "JOIN review r ON r.review_code = rr.review_code " +
+                    "WHERE rr.active = true " +
+                    "GROUP BY DATE(rr.created_at)",
+           nativeQuery = true)
+    int backfillFromReviewRanking();
+}
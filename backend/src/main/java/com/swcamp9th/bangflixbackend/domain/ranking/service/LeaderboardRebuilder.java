@@ -0,0 +1,102 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.service;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 리더보드(ZSET)의 증감과 DB 기준 재생성.
+ * <p>
+ * 재생성은 실행마다 다른 임시 키에 DB 값을 채운 뒤 리더보드를 교체한다.
+ * DB 를 읽기 전에 실행별 기록 키를 알려 두고, 그때부터 교체할 때까지의 증감은 리더보드와 기록 키에 함께 더한 뒤
+ * 교체할 때 임시 키와 기록 키를 합치므로 DB 를 읽은 뒤의 변경을 잃지 않는다.
+ * 증감과 교체는 각각 스크립트 하나로 실행되어 서로 끼어들지 않으며, 점수가 0 이하가 된 멤버는 리더보드에서 뺀다.
+ * 여러 인스턴스가 같은 리더보드를 동시에 다시 만들지 않도록 호출하는 쪽에서 리스를 잡아야 한다.
+ */
+@Component
+public class LeaderboardRebuilder {
+
+    // ZADD 한 번에 넣을 최대 멤버 수
+    private static final int CHUNK_SIZE = 1000;
+    // 임시 키와 기록 키의 만료 시간 (재생성이 중단되어도 남지 않도록)
+    private static final Duration KEY_TTL = Duration.ofMinutes(30);
+
+    // KEYS[1]: 리더보드, KEYS[2]: 기록 키 이름을 가진 키 / ARGV[1]: 멤버, ARGV[2]: 증감, ARGV[3]: 기록 키 만료(ms)
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "local score = tonumber(redis.call('zincrby', KEYS[1], ARGV[2], ARGV[1])) " +
+            "if score <= 0 then " +
+                "redis.call('zrem', KEYS[1], ARGV[1]) " +
+            "end " +
+            "local journal = redis.call('get', KEYS[2]) " +
+            "if journal then " +
+                "redis.call('zincrby', journal, ARGV[2], ARGV[1]) " +
+                "redis.call('pexpire', journal, ARGV[3]) " +
+            "end " +
+            "return 1", Long.class);
+
+    // KEYS[1]: 리더보드, KEYS[2]: 임시 키, KEYS[3]: 기록 키, KEYS[4]: 기록 키 이름을 가진 키. 교체한 리더보드의 멤버 수를 반환
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[4]) == KEYS[3] then " +
+                "redis.call('del', KEYS[4]) " +
+            "end " +
+            "redis.call('zunionstore', KEYS[1], 2, KEYS[2], KEYS[3]) " +
+            "redis.call('zremrangebyscore', KEYS[1], '-inf', 0) " +
+            "redis.call('del', KEYS[2], KEYS[3]) " +
+            "return redis.call('zcard', KEYS[1])", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    public LeaderboardRebuilder(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 멤버의 점수에 delta 를 더한다. 다시 만드는 중이면 실행별 기록 키에도 더한다.
+     */
+    public void increment(String key, String member, long delta) {
+        redisTemplate.execute(INCREMENT_SCRIPT, List.of(key, journalNameKey(key)),
+                member, String.valueOf(delta), String.valueOf(KEY_TTL.toMillis()));
+    }
+
+    /**
+     * loader 가 DB 에서 읽은 점수로 리더보드를 교체하고 멤버 수를 반환한다.
+     * loader 는 기록을 시작한 뒤에 호출된다.
+     */
+    public int replace(String key, Supplier<List<TypedTuple<String>>> loader) {
+        String runKey = key + ":REBUILD:" + UUID.randomUUID();
+        String journalKey = runKey + ":JOURNAL";
+        String journalNameKey = journalNameKey(key);
+
+        // DB 를 읽는 동안 반영된 증감도 남도록 읽기 전에 기록을 시작
+        redisTemplate.opsForValue().set(journalNameKey, journalKey, KEY_TTL);
+        try {
+            List<TypedTuple<String>> tuples = loader.get();
+            for (int from = 0; from < tuples.size(); from += CHUNK_SIZE) {
+                Set<TypedTuple<String>> chunk = new HashSet<>(tuples.subList(from, Math.min(from + CHUNK_SIZE, tuples.size())));
+                redisTemplate.opsForZSet().add(runKey, chunk);
+                redisTemplate.expire(runKey, KEY_TTL);
+            }
+
+            Long size = redisTemplate.execute(REPLACE_SCRIPT, List.of(key, runKey, journalKey, journalNameKey));
+            return (size == null) ? 0 : size.intValue();
+        } catch (RuntimeException e) {
+            redisTemplate.delete(List.of(journalNameKey, runKey, journalKey));
+            throw e;
+        }
+    }
+
+    // 다시 만드는 중인 실행의 기록 키 이름을 가진 키
+    private static String journalNameKey(String key) {
+        return key + ":REBUILD_JOURNAL";
+    }
+}
@@ -0,0 +1,289 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.service;
+
+import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
+import com.swcamp9th.bangflixbackend.shared.lock.RedisLeaseLock;
+import com.swcamp9th.bangflixbackend.shared.transaction.TransactionCallbacks;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 포인트 리더보드 (전체 포인트 / 이번 주, 이번 달 획득 포인트).
+ * <p>
+ * 기간별로 Redis sorted set 하나에 회원 코드와 포인트를 보관한다.
+ * 포인트 지급은 커밋 이후 ZINCRBY 로 세 리더보드에 모두 더하고, 페이지 조회는 ZREVRANGE,
+ * 내 순위는 ZREVRANK 로 O(log n) 에 구한 뒤 앞뒤 회원을 ZREVRANGE 로 읽는다.
+ * 주간(월요일부터)/월간 키는 기간마다 새로 만들고, 지난 기간 키는 member_ranking 에 기록할 때까지 남겨 둔 뒤 만료시킨다.
+ * <p>
+ * 포인트가 같으면 회원 코드 역순이 되도록 멤버를 0 으로 채운 고정 길이 문자열로 저장한다.
+ * 전체 리더보드는 매일 member.point 와 아직 반영하지 않은 원장 증감분의 합으로 다시 만들고,
+ * Redis 를 사용할 수 없으면 DB 에서 같은 값과 순서로 조회한다.
+ * 다시 만들기는 리스를 잡은 인스턴스 한 곳에서만 실행하며, 다시 만드는 동안의 지급은 LeaderboardRebuilder 가 보존한다.
+ * 기간별 획득 포인트는 Redis 에만 있으므로 Redis 를 사용할 수 없는 동안에는 비어 있다.
+ */
+@Component
+@Slf4j
+public class MemberPointLeaderboard {
+
+    private static final String KEY_PREFIX = "MEMBER_LEADERBOARD:";
+    private static final String ALL_KEY = KEY_PREFIX + "ALL";
+    private static final Duration WEEK_KEY_TTL = Duration.ofDays(14);
+    private static final Duration MONTH_KEY_TTL = Duration.ofDays(62);
+    private static final String REBUILD_JOB_NAME = "MEMBER_LEADERBOARD_REBUILD";
+    private static final Duration REBUILD_LEASE_TTL = Duration.ofMinutes(10);
+
+    public enum Period {
+        ALL("all"),
+        WEEK("week"),
+        MONTH("month");
+
+        private final String value;
+
+        Period(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        // 알 수 없는 값이면 전체 기준
+        public static Period from(String value) {
+            for (Period period : values()) {
+                if (period.value.equals(value))
+                    return period;
+            }
+            return ALL;
+        }
+    }
+
+    /**
+     * 리더보드의 한 줄. rank 는 1 부터 시작한다.
+     */
+    public record Entry(int memberCode, int rank, int point) {
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final UserRepository userRepository;
+    private final LeaderboardRebuilder leaderboardRebuilder;
+    private final RedisLeaseLock redisLeaseLock;
+    private final Clock clock;
+
+    @Autowired
+    public MemberPointLeaderboard(
+            RedisTemplate<String, String> redisTemplate,
+            UserRepository userRepository,
+            LeaderboardRebuilder leaderboardRebuilder,
+            RedisLeaseLock redisLeaseLock
+    ) {
+        this(redisTemplate, userRepository, leaderboardRebuilder, redisLeaseLock, Clock.systemDefaultZone());
+    }
+
+    public MemberPointLeaderboard(
+            RedisTemplate<String, String> redisTemplate,
+            UserRepository userRepository,
+            LeaderboardRebuilder leaderboardRebuilder,
+            RedisLeaseLock redisLeaseLock,
+            Clock clock
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+        this.leaderboardRebuilder = leaderboardRebuilder;
+        this.redisLeaseLock = redisLeaseLock;
+        this.clock = clock;
+    }
+
+    /**
+     * 포인트 지급. 커밋 이후 전체/이번 주/이번 달 리더보드에 반영된다.
+     */
+    public void gained(int memberCode, int point) {
+        if (point == 0)
+            return;
+
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                leaderboardRebuilder.increment(ALL_KEY, member(memberCode), point);
+                String weekKey = periodKey(Period.WEEK, periodStart(Period.WEEK));
+                redisTemplate.opsForZSet().incrementScore(weekKey, member(memberCode), point);
+                redisTemplate.expire(weekKey, WEEK_KEY_TTL);
+                String monthKey = periodKey(Period.MONTH, periodStart(Period.MONTH));
+                redisTemplate.opsForZSet().incrementScore(monthKey, member(memberCode), point);
+                redisTemplate.expire(monthKey, MONTH_KEY_TTL);
+            } catch (RuntimeException e) {
+                // 전체 리더보드는 다음 재생성 때 바로잡히므로 요청을 실패시키지 않음
+                log.warn("회원 포인트 리더보드 반영 실패 (memberCode: {}, point: {})", memberCode, point, e);
+            }
+        });
+    }
+
+    /**
+     * 비활성 회원을 모든 리더보드에서 제거한다.
+     */
+    public void remove(int memberCode) {
+        try {
+            for (Period period : Period.values()) {
+                redisTemplate.opsForZSet().remove(currentKey(period), member(memberCode));
+            }
+        } catch (RuntimeException e) {
+            log.warn("회원 포인트 리더보드 제거 실패 (memberCode: {})", memberCode, e);
+        }
+    }
+
+    /**
+     * 포인트가 많은 순으로 한 페이지를 반환한다.
+     * 비활성 회원이 남아 있을 수 있으므로 호출하는 쪽에서 걸러야 한다.
+     */
+    public List<Entry> page(Period period, Pageable pageable) {
+        String key = currentKey(period);
+        long start = pageable.getOffset();
+        try {
+            List<Entry> entries = range(key, start, start + pageable.getPageSize() - 1);
+            // 기간별 키는 해당 기간에 포인트를 얻은 회원이 없으면 없음
+            if (!entries.isEmpty() || period != Period.ALL || Boolean.TRUE.equals(redisTemplate.hasKey(key)))
+                return entries;
+        } catch (RuntimeException e) {
+            log.warn("회원 포인트 리더보드 조회 실패 (period: {})", period.getValue(), e);
+            // 기간별 획득 포인트는 Redis 에만 있음
+            if (period != Period.ALL)
+                return List.of();
+        }
+
+        // 전체 리더보드가 아직 없거나 Redis 를 사용할 수 없음. 전체 포인트는 DB 에서 같은 순서를 만들 수 있음
+        List<Entry> entries = new ArrayList<>();
+        int rank = (int) start;
+        for (Object[] row : userRepository.findMemberPoints(pageable)) {
+            entries.add(new Entry(((Number) row[0]).intValue(), ++rank, ((Number) row[1]).intValue()));
+        }
+        return entries;
+    }
+
+    /**
+     * 회원의 순위와 앞뒤 neighbours 명씩을 순위 순으로 반환한다. 리더보드에 없는 회원(해당 기간 포인트 없음)이면 빈 목록.
+     */
+    public List<Entry> around(Period period, int memberCode, int neighbours) {
+        String key = currentKey(period);
+        try {
+            Long rank = redisTemplate.opsForZSet().reverseRank(key, member(memberCode));
+            if (rank != null)
+                return range(key, Math.max(0, rank - neighbours), rank + neighbours);
+            if (period != Period.ALL || Boolean.TRUE.equals(redisTemplate.hasKey(key)))
+                return List.of();
+        } catch (RuntimeException e) {
+            log.warn("회원 포인트 리더보드 순위 조회 실패 (period: {}, memberCode: {})", period.getValue(), memberCode, e);
+            // 기간별 획득 포인트는 Redis 에만 있음
+            if (period != Period.ALL)
+                return List.of();
+        }
+
+        // 전체 리더보드가 아직 없거나 Redis 를 사용할 수 없음. 앞선 회원 수로 순위를 구해 DB 순서에서 읽음
+        Integer point = userRepository.findActivePoint(memberCode);
+        if (point == null || point <= 0)
+            return List.of();
+
+        long rank = userRepository.countMembersAhead(point, memberCode);
+        long from = Math.max(0, rank - neighbours);
+        List<Entry> entries = new ArrayList<>();
+        int entryRank = (int) from;
+        for (Object[] row : userRepository.findMemberPointsFrom(from, (int) (rank - from) + neighbours + 1)) {
+            entries.add(new Entry(((Number) row[0]).intValue(), ++entryRank, ((Number) row[1]).intValue()));
+        }
+        return entries;
+    }
+
+    /**
+     * 지난 기간(start 로 시작하는 주/월) 리더보드의 상위 limit 명. 기간이 지난 뒤 member_ranking 에 기록할 때 사용한다.
+     */
+    public List<Entry> top(Period period, LocalDate start, int limit) {
+        return range(periodKey(period, start), 0, limit - 1);
+    }
+
+    /**
+     * 기간이 시작되는 날짜 (이번 주 월요일, 이번 달 1일).
+     */
+    public LocalDate periodStart(Period period) {
+        LocalDate today = LocalDate.now(clock);
+        return switch (period) {
+            case WEEK -> today.with(DayOfWeek.MONDAY);
+            case MONTH -> today.with(TemporalAdjusters.firstDayOfMonth());
+            case ALL -> null;
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIfMissing() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(ALL_KEY)))
+                rebuild();
+        } catch (RuntimeException e) {
+            log.warn("회원 포인트 리더보드 초기화 실패", e);
+        }
+    }
+
+    /**
+     * member.point 에 반영 대기 중인 원장 증감분을 더한 값으로 전체 리더보드를 다시 만든다.
+     * 지급은 리더보드에 바로 더해지므로, 반영 대기분을 빼고 만들면 방금 지급받은 회원의 포인트가 줄어든다.
+     * 다른 인스턴스가 만드는 중이면 건너뛴다. 임시 키에 채운 뒤 교체하므로 조회 중에 빈 리더보드가 보이지 않는다.
+     */
+    @Scheduled(cron = "0 40 4 * * *")
+    public void rebuild() {
+        Optional<RedisLeaseLock.Lease> lease = redisLeaseLock.tryAcquire(REBUILD_JOB_NAME, REBUILD_LEASE_TTL);
+        if (lease.isEmpty()) {
+            log.info("다른 인스턴스가 회원 포인트 리더보드를 재생성 중이므로 건너뜀");
+            return;
+        }
+
+        try {
+            int members = leaderboardRebuilder.replace(ALL_KEY, () -> userRepository.findMemberPoints(Pageable.unpaged())
+                    .stream()
+                    .<TypedTuple<String>>map(row -> new DefaultTypedTuple<>(
+                            member(((Number) row[0]).intValue()), ((Number) row[1]).doubleValue()))
+                    .toList());
+            log.info("회원 포인트 리더보드 재생성 완료 ({} members)", members);
+        } finally {
+            lease.get().release();
+        }
+    }
+
+    private List<Entry> range(String key, long start, long end) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key, start, end);
+        List<Entry> entries = new ArrayList<>();
+        if (tuples == null)
+            return entries;
+
+        int rank = (int) start;
+        for (TypedTuple<String> tuple : tuples) {
+            int point = (tuple.getScore() == null) ? 0 : tuple.getScore().intValue();
+            entries.add(new Entry(Integer.parseInt(tuple.getValue()), ++rank, point));
+        }
+        return entries;
+    }
+
+    private String currentKey(Period period) {
+        return (period == Period.ALL) ? ALL_KEY : periodKey(period, periodStart(period));
+    }
+
+    private static String periodKey(Period period, LocalDate start) {
+        return KEY_PREFIX + period.name() + ":" + start;
+    }
+
+    // 사전순 역정렬이 회원 코드 역순이 되도록 고정 길이로 저장
+    private static String member(int memberCode) {
+        return String.format("%010d", memberCode);
+    }
+}
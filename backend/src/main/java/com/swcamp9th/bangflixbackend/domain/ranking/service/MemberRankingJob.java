@@ -0,0 +1,87 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.service;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.repository.MemberRankingRepository;
+import com.swcamp9th.bangflixbackend.shared.lock.RedisLeaseLock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주간/월간 회원 포인트 순위 기록 작업.
+ * <p>
+ * 주(월)가 바뀐 직후 지난 기간의 포인트 리더보드 상위 TOP_N 명을 member_ranking 에 남긴다.
+ * 모든 인스턴스에서 실행되므로 Redis 리스로 한 인스턴스만 진행하고,
+ * (기간, 시작일, 회원) 유일 키와 INSERT IGNORE 로 다시 실행되어도 같은 행을 두 번 만들지 않는다.
+ */
+@Component
+@Slf4j
+public class MemberRankingJob {
+
+    public static final int TOP_N = 100;
+
+    private static final String JOB_NAME = "MEMBER_RANKING";
+    private static final Duration LEASE_TTL = Duration.ofMinutes(5);
+
+    private final RedisLeaseLock redisLeaseLock;
+    private final MemberPointLeaderboard memberPointLeaderboard;
+    private final MemberRankingRepository memberRankingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public MemberRankingJob(
+            RedisLeaseLock redisLeaseLock,
+            MemberPointLeaderboard memberPointLeaderboard,
+            MemberRankingRepository memberRankingRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.redisLeaseLock = redisLeaseLock;
+        this.memberPointLeaderboard = memberPointLeaderboard;
+        this.memberRankingRepository = memberRankingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "0 5 0 * * MON")
+    public void recordLastWeek() {
+        record(MemberPointLeaderboard.Period.WEEK,
+                memberPointLeaderboard.periodStart(MemberPointLeaderboard.Period.WEEK).minusWeeks(1));
+    }
+
+    @Scheduled(cron = "0 10 0 1 * *")
+    public void recordLastMonth() {
+        record(MemberPointLeaderboard.Period.MONTH,
+                memberPointLeaderboard.periodStart(MemberPointLeaderboard.Period.MONTH).minusMonths(1));
+    }
+
+    /**
+     * start 로 시작하는 기간의 순위를 기록한다. 다른 인스턴스가 진행 중이면 아무것도 하지 않는다.
+     */
+    public void record(MemberPointLeaderboard.Period period, LocalDate start) {
+        Optional<RedisLeaseLock.Lease> lease = redisLeaseLock.tryAcquire(JOB_NAME + ":" + period.name(), LEASE_TTL);
+        if (lease.isEmpty()) {
+            log.info("회원 포인트 순위 기록: 다른 인스턴스에서 실행 중 ({} {})", period.getValue(), start);
+            return;
+        }
+
+        try {
+            List<MemberPointLeaderboard.Entry> entries = memberPointLeaderboard.top(period, start, TOP_N);
+            Integer inserted = transactionTemplate.execute(status -> {
+                int count = 0;
+                for (MemberPointLeaderboard.Entry entry : entries) {
+                    count += memberRankingRepository.insertIfAbsent(
+                            entry.memberCode(), period.getValue(), start, entry.rank(), entry.point());
+                }
+                return count;
+            });
+            log.info("회원 포인트 순위 기록 완료 ({} {}, {} members)", period.getValue(), start, inserted);
+        } finally {
+            lease.get().release();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.swcamp9th.bangflixbackend.domain.ranking.dto.MemberRankingDTO;
 import com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewRankingDTO;
 import com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewRankingDateDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewDTO;
+import java.time.LocalDate;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 
@@ -15,7 +16,14 @@ public interface RankingService {
 
     List<ReviewRankingDTO> findReviewRanking(String date, String loginId);
 
-    List<ReviewDTO> findAllReviewRanking(Pageable pageable, String loginId);
+    // 지난 해의 선정일 목록은 더 이상 바뀌지 않음
+    boolean isClosedRankingYear(int year);
 
-    List<MemberRankingDTO> findAllMemberRanking(Pageable pageable);
+    List<ReviewDTO> findAllReviewRanking(Pageable pageable, String period, String loginId);
+
+    List<MemberRankingDTO> findAllMemberRanking(Pageable pageable, String period);
+
+    List<MemberRankingDTO> findMyMemberRanking(String loginId, String period, int neighbours);
+
+    List<MemberRankingDTO> findMemberRankingHistory(String period, LocalDate periodStart);
 }
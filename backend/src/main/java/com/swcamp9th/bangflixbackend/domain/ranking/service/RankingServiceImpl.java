@@ -1,26 +1,26 @@
 package com.swcamp9th.bangflixbackend.domain.ranking.service;
 
 import com.swcamp9th.bangflixbackend.domain.ranking.dto.MemberRankingDTO;
-import com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewLikeCountDTO;
 import com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewRankingDTO;
 import com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewRankingDateDTO;
-import com.swcamp9th.bangflixbackend.domain.ranking.entity.ReviewRanking;
-import com.swcamp9th.bangflixbackend.domain.ranking.repository.ReviewRankingRepository;
+import com.swcamp9th.bangflixbackend.domain.ranking.mapper.RankingMapper;
+import com.swcamp9th.bangflixbackend.domain.ranking.repository.MemberRankingRepository;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewDTO;
 import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
-import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewLike;
-import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewLikeRepository;
 import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewRepository;
 import com.swcamp9th.bangflixbackend.domain.review.service.ReviewService;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
 import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
-import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
@@ -30,120 +30,178 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class RankingServiceImpl implements RankingService {
 
-    private final ModelMapper modelMapper;
+    // 내 순위 앞뒤로 보여 줄 최대 회원 수
+    private static final int MAX_NEIGHBOURS = 50;
+
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
-    private final ReviewLikeRepository reviewLikeRepository;
-    private final ReviewRankingRepository reviewRankingRepository;
     private final ReviewService reviewService;
+    private final ReviewLeaderboard reviewLeaderboard;
+    private final WeeklyReviewRankingJob weeklyReviewRankingJob;
+    private final MemberPointLeaderboard memberPointLeaderboard;
+    private final MemberRankingRepository memberRankingRepository;
+    private final ReviewRankingSnapshotCache reviewRankingSnapshotCache;
 
     @Autowired
     public RankingServiceImpl(
-            ModelMapper modelMapper,
             UserRepository userRepository,
             ReviewRepository reviewRepository,
-            ReviewLikeRepository reviewLikeRepository,
-            ReviewRankingRepository reviewRankingRepository,
-            ReviewService reviewService
+            ReviewService reviewService,
+            ReviewLeaderboard reviewLeaderboard,
+            WeeklyReviewRankingJob weeklyReviewRankingJob,
+            MemberPointLeaderboard memberPointLeaderboard,
+            MemberRankingRepository memberRankingRepository,
+            ReviewRankingSnapshotCache reviewRankingSnapshotCache
     ) {
-        this.modelMapper = modelMapper;
         this.userRepository = userRepository;
         this.reviewRepository = reviewRepository;
-        this.reviewLikeRepository = reviewLikeRepository;
-        this.reviewRankingRepository = reviewRankingRepository;
         this.reviewService = reviewService;
+        this.reviewLeaderboard = reviewLeaderboard;
+        this.weeklyReviewRankingJob = weeklyReviewRankingJob;
+        this.memberPointLeaderboard = memberPointLeaderboard;
+        this.memberRankingRepository = memberRankingRepository;
+        this.reviewRankingSnapshotCache = reviewRankingSnapshotCache;
     }
 
+    // 모든 인스턴스에서 실행되지만 WeeklyReviewRankingJob 이 한 번만 선정한다
     @Scheduled(cron = "0 0 1 * * SUN")
     @Override
-    @Transactional
     public void createReviewRanking() {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime oneWeekAgo = now.minusWeeks(1);  // 현재로부터 1주일 이전
-
-        List<ReviewLikeCountDTO> reviewLikes = reviewLikeRepository.findTop5ReviewCodes(oneWeekAgo);
-        List<ReviewLikeCountDTO> top5ReviewLikes = reviewLikes.size() > 5 ? reviewLikes.subList(0, 5) : reviewLikes;
-
-        for(ReviewLikeCountDTO reviewLike : top5ReviewLikes) {
-            Review review = reviewRepository.findById(reviewLike.getReviewCode()).orElseThrow();
-            Member member = userRepository.findById(review.getMember().getId()).orElseThrow();
-            member.setPoint(member.getPoint() + 50);
-            userRepository.save(member);
-            reviewRankingRepository.save(ReviewRanking.builder()
-                .createdAt(LocalDateTime.now())
-                .active(true)
-                .review(review)
-                .build());
-        }
-        
-        // 매주 일요일 새벽 1시에 실행될 작업
-        log.info("일요일 새벽 1시에 랭킹 생성");
+        weeklyReviewRankingJob.run();
     }
 
     @Override
-    @Transactional
     public ReviewRankingDateDTO findReviewRankingDate(Integer year) {
-        List<String> dates = reviewRankingRepository.findDistinctDatesByYear(year);
+        List<LocalDate> dates = reviewRankingSnapshotCache.datesOf(year);
 
-        if (dates == null || dates.isEmpty()) return null;
-
-        return ReviewRankingDateDTO.builder().ReviewRankingDates(dates).build();
+        if (dates.isEmpty()) return null;
 
+        return ReviewRankingDateDTO.builder()
+                .ReviewRankingDates(dates.stream().map(LocalDate::toString).toList())
+                .build();
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<ReviewRankingDTO> findReviewRanking(String date, String loginId) {
 
-        if(date == null)
-            date = findReviewRankingDate(LocalDateTime.now().getYear()).getReviewRankingDates().get(0);
+        Optional<LocalDate> rankingDate = (date == null) ? reviewRankingSnapshotCache.latestDate() : parseDate(date);
+        Optional<ReviewRankingSnapshotCache.Snapshot> snapshot = rankingDate.flatMap(reviewRankingSnapshotCache::find);
+        if (snapshot.isEmpty())
+            return null;
 
         Member member = userRepository.findById(loginId).orElseThrow();
-        List<ReviewRanking> reviewRankings = reviewRankingRepository.findReviewByCreatedAtDate(date);
+        List<Integer> reviewCodes = snapshot.get().reviewCodes();
+        Map<Integer, Review> reviewsByCode = new HashMap<>();
+        for (Review review : reviewRepository.findReviewsByCodes(reviewCodes)) {
+            reviewsByCode.put(review.getReviewCode(), review);
+        }
+        List<Review> reviews = reviewCodes.stream().map(reviewsByCode::get).filter(Objects::nonNull).toList();
 
-        if(reviewRankings == null || reviewRankings.isEmpty())
-            return null;
+        // 스냅샷 순위 순으로, 좋아요 수는 선정 시점의 전체 좋아요 수로 고정
+        Map<Integer, Integer> likeCounts = new HashMap<>();
+        for (int i = 0; i < reviewCodes.size(); i++) {
+            likeCounts.put(reviewCodes.get(i), snapshot.get().likeCounts().get(i));
+        }
+        String rankingDateValue = snapshot.get().rankingDate().toString();
+        List<ReviewRankingDTO> rankings = new ArrayList<>(reviews.size());
+        for (ReviewDTO reviewDTO : reviewService.toReviewDTOList(reviews, member.getMemberCode())) {
+            ReviewRankingDTO ranking = RankingMapper.toReviewRankingDTO(reviewDTO, rankingDateValue);
+            ranking.setLikes(likeCounts.get(reviewDTO.getReviewCode()));
+            rankings.add(ranking);
+        }
+        return rankings;
+    }
 
-        List<Review> reviews = reviewRankings.stream().map(rankingReview -> {
-            Review review = modelMapper.map(rankingReview.getReview(), Review.class);
-            return review;
-        }).toList();
+    @Override
+    public boolean isClosedRankingYear(int year) {
+        return reviewRankingSnapshotCache.isClosedYear(year);
+    }
 
-        List<ReviewDTO> reviewDTOS = reviewService.toReviewDTOList(reviews, member.getMemberCode());
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewDTO> findAllReviewRanking(Pageable pageable, String period, String loginId) {
 
-        String finalDate = date;
+        Member member = userRepository.findById(loginId).orElseThrow();
+        List<Integer> reviewCodes = reviewLeaderboard.page(ReviewLeaderboard.Period.from(period), pageable);
+        if (reviewCodes.isEmpty())
+            return new ArrayList<>();
+
+        // 리더보드 순서대로 정렬하고, 삭제되어 조회되지 않은 리뷰는 리더보드에서도 제거
+        Map<Integer, Review> reviewsByCode = new HashMap<>();
+        for (Review review : reviewRepository.findActiveReviewsByCodes(reviewCodes)) {
+            reviewsByCode.put(review.getReviewCode(), review);
+        }
+        List<Review> reviews = new ArrayList<>(reviewCodes.size());
+        for (Integer reviewCode : reviewCodes) {
+            Review review = reviewsByCode.get(reviewCode);
+            if (review != null)
+                reviews.add(review);
+            else
+                reviewLeaderboard.remove(reviewCode);
+        }
 
-        return reviewDTOS.stream().map(reviewDTO -> {
-            ReviewRankingDTO reviewRankingDTO = modelMapper.map(reviewDTO, ReviewRankingDTO.class);
-            reviewRankingDTO.setRankingDate(finalDate);
-            return reviewRankingDTO;
-        })
-                .sorted(Comparator.comparingInt(ReviewRankingDTO::getLikes).reversed()).toList();
+        return reviewService.toReviewDTOList(reviews, member.getMemberCode());
     }
 
     @Override
-    @Transactional
-    public List<ReviewDTO> findAllReviewRanking(Pageable pageable, String loginId) {
+    @Transactional(readOnly = true)
+    public List<MemberRankingDTO> findAllMemberRanking(Pageable pageable, String period) {
+        return toMemberRankingDTOList(memberPointLeaderboard.page(MemberPointLeaderboard.Period.from(period), pageable));
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberRankingDTO> findMyMemberRanking(String loginId, String period, int neighbours) {
         Member member = userRepository.findById(loginId).orElseThrow();
-        Page<ReviewLike> reviewLikes = reviewLikeRepository.findReviewByReviewLikes(pageable);
+        return toMemberRankingDTOList(memberPointLeaderboard.around(
+                MemberPointLeaderboard.Period.from(period),
+                member.getMemberCode(),
+                Math.min(Math.max(neighbours, 0), MAX_NEIGHBOURS)
+        ));
+    }
 
-        List<Review> reviews = reviewLikes.stream()
-            .map(reviewLike -> {
-                    Review review = modelMapper.map(reviewLike.getReview(), Review.class);
-                    return review;
-                }
-            ).toList();
+    @Override
+    @Transactional(readOnly = true)
+    public List<MemberRankingDTO> findMemberRankingHistory(String period, LocalDate periodStart) {
+        MemberPointLeaderboard.Period rankingPeriod = MemberPointLeaderboard.Period.from(period);
+        if (rankingPeriod == MemberPointLeaderboard.Period.ALL)
+            return new ArrayList<>();
 
-        return reviewService.toReviewDTOList(reviews, member.getMemberCode());
+        return memberRankingRepository.findRankings(rankingPeriod.getValue(), periodStart);
     }
 
-    @Override
-    @Transactional
-    public List<MemberRankingDTO> findAllMemberRanking(Pageable pageable) {
-        List<Member> members = reviewRankingRepository.findTopRankingMember(pageable);
-        return members.stream().map(member ->
-                modelMapper.map(member, MemberRankingDTO.class)
-        ).toList();
+    // yyyy-MM-dd 가 아니면 선정되지 않은 날과 같이 취급
+    private static Optional<LocalDate> parseDate(String date) {
+        try {
+            return Optional.of(LocalDate.parse(date));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 리더보드 순서대로 회원 정보를 채우고, 비활성 회원은 리더보드에서도 제거
+    private List<MemberRankingDTO> toMemberRankingDTOList(List<MemberPointLeaderboard.Entry> entries) {
+        if (entries.isEmpty())
+            return new ArrayList<>();
+
+        Map<Integer, MemberRankingDTO> profiles = new HashMap<>();
+        List<Integer> memberCodes = entries.stream().map(MemberPointLeaderboard.Entry::memberCode).toList();
+        for (MemberRankingDTO profile : userRepository.findRankingProfiles(memberCodes)) {
+            profiles.put(profile.getMemberCode(), profile);
+        }
+
+        List<MemberRankingDTO> rankings = new ArrayList<>(entries.size());
+        for (MemberPointLeaderboard.Entry entry : entries) {
+            MemberRankingDTO profile = profiles.get(entry.memberCode());
+            if (profile == null) {
+                memberPointLeaderboard.remove(entry.memberCode());
+                continue;
+            }
+            profile.setRank(entry.rank());
+            profile.setPoint(entry.point());
+            rankings.add(profile);
+        }
+        return rankings;
     }
 }
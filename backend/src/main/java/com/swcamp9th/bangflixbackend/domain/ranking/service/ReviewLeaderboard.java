@@ -0,0 +1,239 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.service;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewLikeCountDTO;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewLikeRepository;
+import com.swcamp9th.bangflixbackend.shared.lock.RedisLeaseLock;
+import com.swcamp9th.bangflixbackend.shared.transaction.TransactionCallbacks;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 수 기준 리뷰 리더보드 (전체 / 이번 주).
+ * <p>
+ * 기간별로 Redis sorted set(ZSET) 하나에 리뷰 코드와 좋아요 수를 보관한다.
+ * 좋아요 등록/취소는 커밋 이후 ZINCRBY 로 반영하므로 여러 인스턴스가 함께 갱신해도 값이 맞고,
+ * 페이지 조회는 ZREVRANGE 한 번(O(log n + 페이지 크기))이다.
+ * 이번 주는 월요일 0시부터이며, 주마다 새 키를 쓰고 지난 키는 만료시킨다.
+ * <p>
+ * 좋아요 수가 같으면 리뷰 코드가 큰(최근) 리뷰가 먼저 오도록 멤버를 0 으로 채운 고정 길이 문자열로 저장한다.
+ * Redis 반영에 실패한 변경은 매일 review_like 기준으로 다시 만들 때 바로잡고,
+ * Redis 를 읽을 수 없거나 키가 없으면 DB 에서 같은 순서로 조회한다.
+ * <p>
+ * 다시 만들기는 리스를 잡은 인스턴스 한 곳에서만 실행하며, 다시 만드는 동안의 증감은 LeaderboardRebuilder 가 보존한다.
+ */
+@Component
+@Slf4j
+public class ReviewLeaderboard {
+
+    private static final String KEY_PREFIX = "REVIEW_LEADERBOARD:";
+    private static final String ALL_KEY = KEY_PREFIX + "ALL";
+    private static final String WEEK_KEY_PREFIX = KEY_PREFIX + "WEEK:";
+    // 지난 주 키는 다음 주가 지나면 필요 없음
+    private static final Duration WEEK_KEY_TTL = Duration.ofDays(8);
+    private static final String REBUILD_JOB_NAME = "REVIEW_LEADERBOARD_REBUILD";
+    private static final Duration REBUILD_LEASE_TTL = Duration.ofMinutes(10);
+
+    public enum Period {
+        ALL("all"),
+        WEEK("week");
+
+        private final String value;
+
+        Period(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        // 알 수 없는 값이면 전체 기준
+        public static Period from(String value) {
+            for (Period period : values()) {
+                if (period.value.equals(value))
+                    return period;
+            }
+            return ALL;
+        }
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final LeaderboardRebuilder leaderboardRebuilder;
+    private final RedisLeaseLock redisLeaseLock;
+    private final Clock clock;
+
+    @Autowired
+    public ReviewLeaderboard(
+            RedisTemplate<String, String> redisTemplate,
+            ReviewLikeRepository reviewLikeRepository,
+            LeaderboardRebuilder leaderboardRebuilder,
+            RedisLeaseLock redisLeaseLock
+    ) {
+        this(redisTemplate, reviewLikeRepository, leaderboardRebuilder, redisLeaseLock, Clock.systemDefaultZone());
+    }
+
+    public ReviewLeaderboard(
+            RedisTemplate<String, String> redisTemplate,
+            ReviewLikeRepository reviewLikeRepository,
+            LeaderboardRebuilder leaderboardRebuilder,
+            RedisLeaseLock redisLeaseLock,
+            Clock clock
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.reviewLikeRepository = reviewLikeRepository;
+        this.leaderboardRebuilder = leaderboardRebuilder;
+        this.redisLeaseLock = redisLeaseLock;
+        this.clock = clock;
+    }
+
+    /**
+     * 좋아요 등록. likedAt 이 이번 주면 주간 리더보드에도 더한다. 커밋 이후 반영된다.
+     */
+    public void liked(int reviewCode, LocalDateTime likedAt) {
+        TransactionCallbacks.afterCommit(() -> increment(reviewCode, likedAt, 1));
+    }
+
+    /**
+     * 좋아요 취소. 좋아요가 이번 주에 등록된 것이면 주간 리더보드에서도 뺀다. 커밋 이후 반영된다.
+     */
+    public void unliked(int reviewCode, LocalDateTime likedAt) {
+        TransactionCallbacks.afterCommit(() -> increment(reviewCode, likedAt, -1));
+    }
+
+    /**
+     * 삭제된 리뷰를 모든 리더보드에서 제거한다. 커밋 이후 반영된다.
+     */
+    public void remove(int reviewCode) {
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                redisTemplate.opsForZSet().remove(ALL_KEY, member(reviewCode));
+                redisTemplate.opsForZSet().remove(currentWeekKey(), member(reviewCode));
+            } catch (RuntimeException e) {
+                log.warn("리뷰 리더보드 제거 실패 (reviewCode: {})", reviewCode, e);
+            }
+        });
+    }
+
+    /**
+     * 좋아요가 많은 순(같으면 리뷰 코드 역순)으로 한 페이지의 리뷰 코드를 반환한다.
+     * 삭제된 리뷰가 남아 있을 수 있으므로 호출하는 쪽에서 활성 리뷰만 걸러야 한다.
+     */
+    public List<Integer> page(Period period, Pageable pageable) {
+        String key = (period == Period.WEEK) ? currentWeekKey() : ALL_KEY;
+        long start = pageable.getOffset();
+        long end = start + pageable.getPageSize() - 1;
+
+        try {
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(key, start, end);
+            if (members != null && !members.isEmpty())
+                return members.stream().map(Integer::valueOf).toList();
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(key)))
+                return List.of();
+        } catch (RuntimeException e) {
+            log.warn("리뷰 리더보드 조회 실패, DB 에서 조회 (period: {})", period.getValue(), e);
+        }
+
+        // 키가 아직 없거나 Redis 를 사용할 수 없음
+        LocalDateTime since = (period == Period.WEEK) ? currentWeekStart().atStartOfDay() : null;
+        return reviewLikeRepository.countActiveLikesByReview(since, pageable).stream()
+                .map(ReviewLikeCountDTO::getReviewCode)
+                .toList();
+    }
+
+    /**
+     * 리더보드가 없으면(처음 배포, Redis 초기화 등) 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIfMissing() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(ALL_KEY)))
+                rebuild();
+        } catch (RuntimeException e) {
+            log.warn("리뷰 리더보드 초기화 실패", e);
+        }
+    }
+
+    /**
+     * review_like 기준으로 전체/이번 주 리더보드를 다시 만든다. 다른 인스턴스가 만드는 중이면 건너뛴다.
+     * 임시 키에 채운 뒤 교체하므로 조회 중에 빈 리더보드가 보이지 않는다.
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void rebuild() {
+        Optional<RedisLeaseLock.Lease> lease = redisLeaseLock.tryAcquire(REBUILD_JOB_NAME, REBUILD_LEASE_TTL);
+        if (lease.isEmpty()) {
+            log.info("다른 인스턴스가 리뷰 리더보드를 재생성 중이므로 건너뜀");
+            return;
+        }
+
+        try {
+            int all = rebuild(ALL_KEY, null);
+            if (!lease.get().renew()) {
+                log.warn("리뷰 리더보드 재생성 잠금 만료, 주간 리더보드는 건너뜀");
+                return;
+            }
+            int week = rebuild(currentWeekKey(), currentWeekStart().atStartOfDay());
+            if (week > 0)
+                redisTemplate.expire(currentWeekKey(), WEEK_KEY_TTL);
+            log.info("리뷰 리더보드 재생성 완료 (all: {} reviews, week: {} reviews)", all, week);
+        } finally {
+            lease.get().release();
+        }
+    }
+
+    private int rebuild(String key, LocalDateTime since) {
+        return leaderboardRebuilder.replace(key, () -> reviewLikeRepository.countActiveLikesByReview(since, Pageable.unpaged())
+                .stream()
+                .<TypedTuple<String>>map(count -> new DefaultTypedTuple<>(member(count.getReviewCode()), count.getCount().doubleValue()))
+                .toList());
+    }
+
+    private void increment(int reviewCode, LocalDateTime likedAt, int delta) {
+        List<String> keys = new ArrayList<>(2);
+        keys.add(ALL_KEY);
+        if (likedAt != null && !likedAt.toLocalDate().isBefore(currentWeekStart()))
+            keys.add(currentWeekKey());
+
+        try {
+            for (String key : keys) {
+                // 좋아요가 모두 취소된 리뷰는 리더보드에서 제외됨
+                leaderboardRebuilder.increment(key, member(reviewCode), delta);
+                if (!key.equals(ALL_KEY))
+                    redisTemplate.expire(key, WEEK_KEY_TTL);
+            }
+        } catch (RuntimeException e) {
+            // 다음 재생성 때 바로잡히므로 요청을 실패시키지 않음
+            log.warn("리뷰 리더보드 반영 실패 (reviewCode: {}, delta: {})", reviewCode, delta, e);
+        }
+    }
+
+    private LocalDate currentWeekStart() {
+        return LocalDate.now(clock).with(DayOfWeek.MONDAY);
+    }
+
+    private String currentWeekKey() {
+        return WEEK_KEY_PREFIX + currentWeekStart();
+    }
+
+    // 사전순 역정렬이 리뷰 코드 역순이 되도록 고정 길이로 저장
+    private static String member(int reviewCode) {
+        return String.format("%010d", reviewCode);
+    }
+}
@@ -0,0 +1,142 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.service;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.entity.ReviewRankingSnapshot;
+import com.swcamp9th.bangflixbackend.domain.ranking.repository.ReviewRankingSnapshotRepository;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 선정일별 베스트 리뷰 스냅샷 캐시.
+ * <p>
+ * 스냅샷은 한 번 기록되면 바뀌지 않으므로 처음 조회할 때 읽어 둔 뒤 만료 없이 재사용한다 (1년에 52개 정도).
+ * 지난 해의 선정일 목록도 더 이상 바뀌지 않으므로 함께 보관하고 (선정일이 있는 해만),
+ * 올해 목록과 최근 선정일은 다른 인스턴스가 새로 선정할 수 있으므로 매번 선정일 기본 키 범위로 조회한다.
+ * 첫 선정 연도 이전이나 올해 이후는 조회하지 않고 빈 목록을 반환한다.
+ */
+@Component
+@Slf4j
+public class ReviewRankingSnapshotCache {
+
+    /**
+     * 순위 순 리뷰 코드와 선정 시점의 전체 좋아요 수 (같은 순서).
+     */
+    public record Snapshot(LocalDate rankingDate, List<Integer> reviewCodes, List<Integer> likeCounts) {
+    }
+
+    private final ReviewRankingSnapshotRepository reviewRankingSnapshotRepository;
+    private final Clock clock;
+    private final Map<LocalDate, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Integer, List<LocalDate>> closedYearDates = new ConcurrentHashMap<>();
+    // 첫 선정 연도. 선정된 적이 없으면 null (다시 조회)
+    private volatile Integer firstYear;
+
+    @Autowired
+    public ReviewRankingSnapshotCache(ReviewRankingSnapshotRepository reviewRankingSnapshotRepository) {
+        this(reviewRankingSnapshotRepository, Clock.systemDefaultZone());
+    }
+
+    public ReviewRankingSnapshotCache(ReviewRankingSnapshotRepository reviewRankingSnapshotRepository, Clock clock) {
+        this.reviewRankingSnapshotRepository = reviewRankingSnapshotRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * 선정일의 스냅샷. 선정되지 않은 날이면 빈 값 (이 경우는 보관하지 않음).
+     */
+    public Optional<Snapshot> find(LocalDate rankingDate) {
+        Snapshot snapshot = snapshots.get(rankingDate);
+        if (snapshot != null)
+            return Optional.of(snapshot);
+
+        Optional<Snapshot> loaded = reviewRankingSnapshotRepository.findById(rankingDate).map(ReviewRankingSnapshotCache::toSnapshot);
+        loaded.ifPresent(value -> snapshots.put(rankingDate, value));
+        return loaded;
+    }
+
+    /**
+     * 해당 연도의 선정일 (최근 순).
+     */
+    public List<LocalDate> datesOf(int year) {
+        if (!isRankingYear(year))
+            return List.of();
+
+        List<LocalDate> dates = closedYearDates.get(year);
+        if (dates != null)
+            return dates;
+
+        dates = List.copyOf(reviewRankingSnapshotRepository.findRankingDates(
+                LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1)));
+        if (isClosedYear(year) && !dates.isEmpty())
+            closedYearDates.put(year, dates);
+        return dates;
+    }
+
+    /**
+     * 가장 최근 선정일. 선정된 적이 없으면 빈 값.
+     */
+    public Optional<LocalDate> latestDate() {
+        return Optional.ofNullable(reviewRankingSnapshotRepository.findLatestRankingDate());
+    }
+
+    /**
+     * 지난 해인지. 지난 해의 선정일 목록은 더 이상 바뀌지 않는다.
+     */
+    public boolean isClosedYear(int year) {
+        return year < LocalDate.now(clock).getYear();
+    }
+
+    // 첫 선정 연도부터 올해까지인지
+    private boolean isRankingYear(int year) {
+        if (year > LocalDate.now(clock).getYear())
+            return false;
+
+        Integer first = firstYear;
+        if (first == null) {
+            LocalDate earliest = reviewRankingSnapshotRepository.findEarliestRankingDate();
+            if (earliest == null)
+                return false;
+            first = earliest.getYear();
+            firstYear = first;
+        }
+        return year >= first;
+    }
+
+    // 스냅샷을 남기기 전에 선정된 랭킹을 옮겨 둔다. 한 번 옮긴 뒤에는 스냅샷이 있으므로 건너뜀
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (reviewRankingSnapshotRepository.count() > 0)
+                return;
+
+            int inserted = reviewRankingSnapshotRepository.backfillFromReviewRanking();
+            if (inserted > 0) {
+                // 옮긴 스냅샷이 더 이른 해일 수 있으므로 첫 선정 연도를 다시 조회
+                firstYear = null;
+                log.info("베스트 리뷰 선정일 스냅샷 생성 ({} dates)", inserted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("베스트 리뷰 선정일 스냅샷 생성 실패", e);
+        }
+    }
+
+    private static Snapshot toSnapshot(ReviewRankingSnapshot entity) {
+        return new Snapshot(entity.getRankingDate(), parse(entity.getReviewCodes()), parse(entity.getLikeCounts()));
+    }
+
+    private static List<Integer> parse(String values) {
+        if (values == null || values.isEmpty())
+            return List.of();
+
+        return Arrays.stream(values.split(",")).map(Integer::valueOf).toList();
+    }
+}
@@ -0,0 +1,218 @@
+package com.swcamp9th.bangflixbackend.domain.ranking.service;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewLikeCountDTO;
+import com.swcamp9th.bangflixbackend.domain.ranking.entity.RankingJobRun;
+import com.swcamp9th.bangflixbackend.domain.ranking.repository.RankingJobRunRepository;
+import com.swcamp9th.bangflixbackend.domain.ranking.repository.ReviewRankingRepository;
+import com.swcamp9th.bangflixbackend.domain.ranking.repository.ReviewRankingSnapshotRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewLikeRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewRepository;
+import com.swcamp9th.bangflixbackend.domain.user.entity.PointReasonEnum;
+import com.swcamp9th.bangflixbackend.domain.user.repository.PointLedgerRepository;
+import com.swcamp9th.bangflixbackend.shared.lock.RedisLeaseLock;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주간 베스트 리뷰 선정 작업.
+ * <p>
+ * 최근 1주일 동안 좋아요를 가장 많이 받은 리뷰 TOP_N 개를 베스트 리뷰로 기록하고 작성자에게 포인트를 준다.
+ * 여러 인스턴스가 같은 시각에 실행하므로 Redis 리스로 한 인스턴스만 진행하고,
+ * 주마다 하나인 실행 기록(ranking_job_run)으로 같은 주에 두 번 선정하거나 포인트를 두 번 주지 않는다.
+ * <p>
+ * 선정 대상은 처음 실행할 때 고정하고 CHUNK_SIZE 개씩 나눠 처리한다.
+ * 묶음마다 한 트랜잭션에서 실행 기록의 처리 수를 조건부로 늘리고, 랭킹 행은 쿼리 한 번으로 추가하며 포인트 원장은 리뷰마다 추가한다.
+ * 포인트 리더보드에는 원장에 실제로 추가된 지급만 더하므로, 이전에 지급된 리뷰가 다시 처리되어도 두 번 더해지지 않는다.
+ * 중간에 중단되면 다음 실행(다른 인스턴스 포함)이 남은 묶음부터 이어서 처리하며,
+ * 리스가 만료된 뒤 두 실행이 겹쳐도 처리 수 조건 때문에 같은 묶음은 한 번만 반영된다.
+ * 모든 묶음을 처리하면 완료 표시와 같은 트랜잭션에서 선정일 스냅샷(순위 순 리뷰 코드, 선정 시점의 전체 좋아요 수)을 남긴다.
+ */
+@Component
+@Slf4j
+public class WeeklyReviewRankingJob {
+
+    public static final int TOP_N = 5;
+    public static final int RANKING_POINT = 50;
+
+    private static final String JOB_NAME = "REVIEW_RANKING";
+    private static final Duration LEASE_TTL = Duration.ofMinutes(10);
+    private static final int CHUNK_SIZE = 100;
+
+    private final RedisLeaseLock redisLeaseLock;
+    private final RankingJobRunRepository rankingJobRunRepository;
+    private final ReviewRankingRepository reviewRankingRepository;
+    private final ReviewRankingSnapshotRepository reviewRankingSnapshotRepository;
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final PointLedgerRepository pointLedgerRepository;
+    private final ReviewRepository reviewRepository;
+    private final MemberPointLeaderboard memberPointLeaderboard;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Autowired
+    public WeeklyReviewRankingJob(
+            RedisLeaseLock redisLeaseLock,
+            RankingJobRunRepository rankingJobRunRepository,
+            ReviewRankingRepository reviewRankingRepository,
+            ReviewRankingSnapshotRepository reviewRankingSnapshotRepository,
+            ReviewLikeRepository reviewLikeRepository,
+            PointLedgerRepository pointLedgerRepository,
+            ReviewRepository reviewRepository,
+            MemberPointLeaderboard memberPointLeaderboard,
+            PlatformTransactionManager transactionManager
+    ) {
+        this(redisLeaseLock, rankingJobRunRepository, reviewRankingRepository, reviewRankingSnapshotRepository,
+                reviewLikeRepository, pointLedgerRepository, reviewRepository, memberPointLeaderboard, transactionManager,
+                Clock.systemDefaultZone());
+    }
+
+    public WeeklyReviewRankingJob(
+            RedisLeaseLock redisLeaseLock,
+            RankingJobRunRepository rankingJobRunRepository,
+            ReviewRankingRepository reviewRankingRepository,
+            ReviewRankingSnapshotRepository reviewRankingSnapshotRepository,
+            ReviewLikeRepository reviewLikeRepository,
+            PointLedgerRepository pointLedgerRepository,
+            ReviewRepository reviewRepository,
+            MemberPointLeaderboard memberPointLeaderboard,
+            PlatformTransactionManager transactionManager,
+            Clock clock
+    ) {
+        this.redisLeaseLock = redisLeaseLock;
+        this.rankingJobRunRepository = rankingJobRunRepository;
+        this.reviewRankingRepository = reviewRankingRepository;
+        this.reviewRankingSnapshotRepository = reviewRankingSnapshotRepository;
+        this.reviewLikeRepository = reviewLikeRepository;
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.reviewRepository = reviewRepository;
+        this.memberPointLeaderboard = memberPointLeaderboard;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    /**
+     * 이번 주(일요일 기준) 선정을 실행한다. 이미 끝났거나 다른 인스턴스가 진행 중이면 아무것도 하지 않는다.
+     */
+    public void run() {
+        Optional<RedisLeaseLock.Lease> lease = redisLeaseLock.tryAcquire(JOB_NAME, LEASE_TTL);
+        if (lease.isEmpty()) {
+            log.info("주간 베스트 리뷰 선정: 다른 인스턴스에서 실행 중");
+            return;
+        }
+
+        try {
+            execute(lease.get());
+        } finally {
+            lease.get().release();
+        }
+    }
+
+    private void execute(RedisLeaseLock.Lease lease) {
+        LocalDate week = LocalDate.now(clock).with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+        String jobKey = JOB_NAME + ":" + week;
+
+        RankingJobRun run = rankingJobRunRepository.findById(jobKey).orElseGet(() -> start(jobKey));
+        if (run.getCompletedAt() != null) {
+            log.info("주간 베스트 리뷰 선정: 이미 완료됨 ({})", jobKey);
+            return;
+        }
+
+        List<Integer> reviewCodes = parse(run.getReviewCodes());
+        for (int from = run.getProcessed(); from < reviewCodes.size(); from += CHUNK_SIZE) {
+            if (!lease.renew()) {
+                log.warn("주간 베스트 리뷰 선정: 잠금을 잃어 중단 ({}, {}/{})", jobKey, from, reviewCodes.size());
+                return;
+            }
+
+            int to = Math.min(from + CHUNK_SIZE, reviewCodes.size());
+            if (!processChunk(run, from, to, reviewCodes.subList(from, to))) {
+                log.warn("주간 베스트 리뷰 선정: 다른 실행이 이미 처리한 묶음이라 중단 ({}, {}/{})", jobKey, from, reviewCodes.size());
+                return;
+            }
+        }
+
+        publish(run);
+        log.info("주간 베스트 리뷰 선정 완료 ({}, {} reviews)", jobKey, reviewCodes.size());
+    }
+
+    // 선정 대상을 고정한다. 동시에 시작한 다른 실행이 먼저 고정했다면 그 대상을 사용
+    private RankingJobRun start(String jobKey) {
+        LocalDateTime rankedAt = LocalDateTime.now(clock);
+        List<ReviewLikeCountDTO> counts =
+                reviewLikeRepository.countActiveLikesByReview(rankedAt.minusWeeks(1), PageRequest.of(0, TOP_N));
+        String reviewCodes = counts.stream()
+                .map(count -> String.valueOf(count.getReviewCode()))
+                .collect(Collectors.joining(","));
+        // 순위는 주간 좋아요 수로 정하되, 보여 줄 좋아요 수는 선정 시점의 전체 좋아요 수로 고정 (이전 스냅샷과 같은 의미)
+        Map<Integer, Integer> totalLikeCounts = new HashMap<>();
+        if (!counts.isEmpty()) {
+            List<Integer> codes = counts.stream().map(ReviewLikeCountDTO::getReviewCode).toList();
+            for (Object[] row : reviewRepository.findLikeCountsByCodes(codes)) {
+                totalLikeCounts.put(((Number) row[0]).intValue(), ((Number) row[1]).intValue());
+            }
+        }
+        String likeCounts = counts.stream()
+                .map(count -> String.valueOf(totalLikeCounts.getOrDefault(count.getReviewCode(), 0)))
+                .collect(Collectors.joining(","));
+
+        rankingJobRunRepository.insertIfAbsent(jobKey, rankedAt, reviewCodes, likeCounts);
+        return rankingJobRunRepository.findById(jobKey).orElseThrow();
+    }
+
+    private boolean processChunk(RankingJobRun run, int from, int to, List<Integer> chunk) {
+        Boolean applied = transactionTemplate.execute(status -> {
+            // 실행 기록 행을 먼저 잠가 같은 묶음을 동시에 처리하지 않도록 함
+            if (rankingJobRunRepository.advance(run.getJobKey(), from, to) == 0)
+                return false;
+
+            reviewRankingRepository.insertRankings(chunk, run.getRankedAt());
+            // 포인트는 원장에 추가하고 member.point 에는 PointLedgerApplier 가 반영. 출처 id 는 선정일:리뷰 코드
+            String sourcePrefix = run.getRankedAt().toLocalDate() + ":";
+            for (Object[] row : reviewRepository.findAuthorsByReviewCodes(chunk)) {
+                int reviewCode = ((Number) row[0]).intValue();
+                int memberCode = ((Number) row[1]).intValue();
+                int inserted = pointLedgerRepository.insertIfAbsent(
+                        memberCode, RANKING_POINT, PointReasonEnum.WEEKLY_BEST_REVIEW.name(), sourcePrefix + reviewCode);
+                // 이미 지급된 리뷰는 건너뛰고, 새로 지급된 것만 커밋 이후 포인트 리더보드에 반영
+                if (inserted == 1)
+                    memberPointLeaderboard.gained(memberCode, RANKING_POINT);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(applied);
+    }
+
+    // 선정 대상이 없던 주는 스냅샷 없이 완료 표시만 남김
+    private void publish(RankingJobRun run) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!run.getReviewCodes().isEmpty()) {
+                reviewRankingSnapshotRepository.insertIfAbsent(
+                        run.getRankedAt().toLocalDate(), run.getRankedAt(), run.getReviewCodes(), run.getLikeCounts());
+            }
+            rankingJobRunRepository.complete(run.getJobKey());
+        });
+    }
+
+    private static List<Integer> parse(String reviewCodes) {
+        if (reviewCodes == null || reviewCodes.isEmpty())
+            return List.of();
+
+        return Arrays.stream(reviewCodes.split(",")).map(Integer::valueOf).toList();
+    }
+}
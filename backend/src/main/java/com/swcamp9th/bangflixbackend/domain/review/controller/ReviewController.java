@@ -6,10 +6,12 @@ import com.swcamp9th.bangflixbackend.shared.response.ResponseCode;
 import com.swcamp9th.bangflixbackend.shared.response.SuccessResponse;
 import com.swcamp9th.bangflixbackend.domain.review.dto.CreateReviewDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewCodeDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewCursorPageDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewReportDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.StatisticsReviewDTO;
 import com.swcamp9th.bangflixbackend.domain.review.service.ReviewService;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import java.util.List;
@@ -43,11 +45,13 @@ public class ReviewController {
 
     private final ReviewService reviewService;
     private final UserService userService;
+    private final FileUploadPipeline fileUploadPipeline;
 
     @Autowired
-    public ReviewController(ReviewService reviewService, UserService userService) {
+    public ReviewController(ReviewService reviewService, UserService userService, FileUploadPipeline fileUploadPipeline) {
         this.reviewService = reviewService;
         this.userService = userService;
+        this.fileUploadPipeline = fileUploadPipeline;
     }
 
     /**
@@ -78,7 +82,8 @@ public class ReviewController {
         @RequestAttribute(SERVLET_REQUEST_ATTRIBUTE_KEY) String loginId
     ) {
         Member member = userService.findMemberByLoginId(loginId);
-        reviewService.createReview(newReview, images, member);
+        // 파일은 트랜잭션 밖에서 먼저 저장하고 서비스에서는 참조만 기록
+        reviewService.createReview(newReview, fileUploadPipeline.storeAll(images), member);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -116,12 +121,12 @@ public class ReviewController {
      * 테마별 리뷰 조회 API.
      * <p>
      * 경로 변수로 테마 코드를, 쿼리 파라미터로 정렬 필터와 페이징 정보를 전달받습니다.
-     * 정렬 필터는 "highScore" 또는 "lowScore" 값을 사용하며, 지정하지 않을 경우 최신순(생성일 내림차순)으로 정렬됩니다.
+     * 정렬 필터는 "highScore", "lowScore", "like" 값을 사용하며, 지정하지 않을 경우 최신순(생성일 내림차순)으로 정렬됩니다.
      * 로그인 여부에 따라 회원용과 게스트용 조회 로직이 분기됩니다.
      *
      * @param themeCode 테마 코드 (경로 변수)
      * @param pageable  페이징 정보 (기본적으로 10개씩 반환)
-     * @param filter    정렬 필터 (optional, "highScore" 또는 "lowScore")
+     * @param filter    정렬 필터 (optional, "highScore", "lowScore", "like")
      * @param loginId   인증 토큰에서 추출한 로그인 아이디 (optional, 게스트의 경우 null)
      * @return 해당 테마의 리뷰 목록을 포함한 응답
      */
@@ -129,7 +134,7 @@ public class ReviewController {
     @SecurityRequirement(name = "Authorization")
     @Operation(
             summary = "테마별 리뷰 조회 API",
-            description = "테마 코드를 경로 변수로 전달하며, 정렬 필터로 highScore 또는 lowScore를 지정할 수 있습니다. "
+            description = "테마 코드를 경로 변수로 전달하며, 정렬 필터로 highScore, lowScore, like(좋아요 순)를 지정할 수 있습니다. "
                     + "필터가 없으면 기본적으로 최신순(생성일 내림차순)으로 정렬됩니다. "
                     + "로그인 여부에 따라 회원용과 게스트용 조회 로직이 분기됩니다."
     )
@@ -153,6 +158,47 @@ public class ReviewController {
                 .body(SuccessResponse.of(ResponseCode.OK, reviewDTOList));
     }
 
+    /**
+     * 테마별 리뷰 조회 API (커서 기반).
+     * <p>
+     * 정렬 필터는 기본 테마별 리뷰 조회 API와 동일하며, 페이지 번호 대신 이전 응답의 nextCursor 를 전달받아
+     * 다음 페이지를 조회합니다. nextCursor 가 null 이면 마지막 페이지입니다.
+     *
+     * @param themeCode 테마 코드 (경로 변수)
+     * @param cursor    (선택적) 이전 페이지 응답의 nextCursor. 첫 페이지는 생략.
+     * @param size      페이지 크기 (기본 10, 최대 50)
+     * @param filter    정렬 필터 (optional, "highScore", "lowScore", "like")
+     * @param loginId   인증 토큰에서 추출한 로그인 아이디 (optional, 게스트의 경우 null)
+     * @return 리뷰 목록과 다음 페이지 커서를 담은 ReviewCursorPageDTO를 포함한 응답
+     */
+    @GetMapping("/{themeCode}/cursor")
+    @SecurityRequirement(name = "Authorization")
+    @Operation(
+            summary = "테마별 리뷰 조회 API (커서 기반)",
+            description = "기본 테마별 리뷰 조회 API와 동일한 정렬 필터로 조회하되, 이전 응답의 nextCursor 를 이용해 다음 페이지를 조회합니다. "
+                    + "nextCursor 가 null 이면 마지막 페이지입니다."
+    )
+    public ResponseEntity<SuccessResponse<ReviewCursorPageDTO>> findReviewPageByCursor(
+        @PathVariable("themeCode") Integer themeCode,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String filter,
+        @RequestAttribute(value = SERVLET_REQUEST_ATTRIBUTE_KEY, required = false) String loginId
+    ) {
+        ReviewCursorPageDTO reviewCursorPage;
+
+        if (loginId == null) {  // for guests
+            reviewCursorPage = reviewService.findReviewPageByCursor(themeCode, cursor, size, filter);
+        } else {    // for members
+            int memberCode = userService.findMemberCodeByLoginId(loginId);
+            reviewCursorPage = reviewService.findReviewPageByCursor(themeCode, cursor, size, filter, memberCode);
+        }
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(SuccessResponse.of(ResponseCode.OK, reviewCursorPage));
+    }
+
     /**
      * 테마별 리뷰 통계 조회 API.
      * <p>
@@ -178,6 +224,32 @@ public class ReviewController {
                 .body(SuccessResponse.of(ResponseCode.OK, statisticsReviewDTO));
     }
 
+    /**
+     * 리뷰 통계 재집계 API.
+     * <p>
+     * 관리자만 호출할 수 있으며, review 테이블을 기준으로 전체 테마의 리뷰 통계 히스토그램을 다시 만듭니다.
+     * 히스토그램 도입 전 데이터의 백필이나 누적 오차 보정에 사용합니다.
+     *
+     * @param loginId 인증 토큰에서 추출한 로그인 아이디
+     * @return 히스토그램이 생성된 테마 수를 포함한 응답
+     */
+    @PostMapping("/statistics/rebuild")
+    @SecurityRequirement(name = "Authorization")
+    @Operation(
+            summary = "리뷰 통계 재집계 API",
+            description = "관리자 전용. review 테이블 기준으로 전체 테마의 리뷰 통계를 다시 계산하고, 재집계된 테마 수를 반환합니다."
+    )
+    public ResponseEntity<SuccessResponse<Integer>> rebuildReviewStatistics(
+            @RequestAttribute(SERVLET_REQUEST_ATTRIBUTE_KEY) String loginId
+    ) {
+        Member member = userService.findMemberByLoginId(loginId);
+        int rebuiltThemes = reviewService.rebuildReviewStatistics(member);
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(SuccessResponse.of(ResponseCode.OK, rebuiltThemes));
+    }
+
     /**
      * 리뷰 좋아요 API.
      * <p>
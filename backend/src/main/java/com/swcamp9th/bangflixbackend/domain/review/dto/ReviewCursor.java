@@ -0,0 +1,67 @@
+package com.swcamp9th.bangflixbackend.domain.review.dto;
+
+import com.swcamp9th.bangflixbackend.shared.error.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 테마별 리뷰 keyset 페이지네이션 커서.
+ * 정렬 기준, 마지막 행의 정렬 값(점수/좋아요 수, 최신순이면 빈 값), 작성 시각, 리뷰 코드를
+ * "sort|value|createdAt|reviewCode" 형태로 묶어 URL-safe Base64 로 인코딩한 값을 클라이언트에 그대로 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ReviewCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String sort;
+    private final String value;
+    private final String createdAt;
+    private final int reviewCode;
+
+    public String encode() {
+        String raw = sort + DELIMITER + value + DELIMITER + createdAt + DELIMITER + reviewCode;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석한다. 요청한 정렬 기준과 커서의 정렬 기준이 다르면 예외를 던진다.
+     */
+    public static ReviewCursor decode(String cursor, String sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 4 || !parts[0].equals(sort))
+                throw new InvalidCursorException();
+
+            return new ReviewCursor(parts[0], parts[1], parts[2], Integer.parseInt(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public Integer getIntValue() {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public LocalDateTime getCreatedAtValue() {
+        try {
+            return LocalDateTime.parse(createdAt);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
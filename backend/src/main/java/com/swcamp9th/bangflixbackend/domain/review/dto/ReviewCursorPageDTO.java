@@ -0,0 +1,18 @@
+package com.swcamp9th.bangflixbackend.domain.review.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ReviewCursorPageDTO {
+    private List<ReviewDTO> reviews;
+    private String nextCursor;      // 마지막 페이지면 null
+}
@@ -30,9 +30,11 @@ public class ReviewDTO {
     private Integer memberCode;
     private Integer themeCode;
     private List<String> imagePaths;
+    private List<String> thumbnailPaths;    // 첨부 이미지 320px 파생본
     private Integer Likes;
     private String memberNickname;
     private String memberImage;
+    private String memberThumbnail;         // 프로필 이미지 96px 파생본
     private List<String> genres;
     private Boolean isLike;
     private String themeImage;
@@ -0,0 +1,15 @@
+package com.swcamp9th.bangflixbackend.domain.review.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewFileUrlDTO {
+    private Integer reviewCode;
+    private String url;
+}
@@ -73,6 +73,14 @@ public class Review {
     @Column(name = "content", length = 1024, nullable = false)
     private String content;
 
+    // 좋아요 수. ReviewLikeCounter 가 모아 둔 증감분을 주기적으로 더해 반영한다 (엔티티 저장으로는 덮어쓰지 않음)
+    @Column(name = "like_count", nullable = false, updatable = false)
+    private Integer likeCount;
+
+    // 좋아요 수 재계산 세대. 재계산 이전 세대에 모아 둔 증감분은 반영하지 않는다
+    @Column(name = "like_count_generation", insertable = false, updatable = false)
+    private Integer likeCountGeneration;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_code", nullable = false)
     private Member member;
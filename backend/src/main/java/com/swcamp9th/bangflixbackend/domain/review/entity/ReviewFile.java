@@ -14,10 +14,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 @Entity
 @Table(name = "review_file")
 @Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -0,0 +1,35 @@
+package com.swcamp9th.bangflixbackend.domain.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 리뷰 작성 시점에 리뷰한 테마가 가졌던 장르.
+ * 리뷰 삭제 시 회원 장르별 리뷰 수(review_member_genre_stats)를 이 장르들로 되돌려, 그 사이 테마 장르가 바뀌어도 집계가 어긋나지 않게 한다.
+ */
+@Entity
+@Table(name = "review_genre")
+@IdClass(ReviewGenreId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ReviewGenre {
+
+    @Id
+    @Column(name = "review_code", nullable = false)
+    private Integer reviewCode;
+
+    @Id
+    @Column(name = "genre_code", nullable = false)
+    private Integer genreCode;
+}
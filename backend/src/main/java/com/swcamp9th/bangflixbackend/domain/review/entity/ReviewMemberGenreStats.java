@@ -0,0 +1,42 @@
+package com.swcamp9th.bangflixbackend.domain.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 회원이 활성 리뷰를 남긴 테마의 장르별 리뷰 수. 리뷰 리포트의 선호 장르를 계산하기 위해 사용한다.
+ * 리뷰 작성/삭제 시 리뷰 작성 시점의 테마 장르(review_genre)마다 증감된다.
+ */
+@Entity
+@Table(name = "review_member_genre_stats")
+@IdClass(ReviewMemberGenreStatsId.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ReviewMemberGenreStats {
+
+    @Id
+    @Column(name = "member_code", nullable = false)
+    private Integer memberCode;
+
+    @Id
+    @Column(name = "genre_code", nullable = false)
+    private Integer genreCode;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
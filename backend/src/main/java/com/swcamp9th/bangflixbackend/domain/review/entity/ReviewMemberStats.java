@@ -0,0 +1,39 @@
+package com.swcamp9th.bangflixbackend.domain.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 회원별 활성 리뷰 수와 총점 합계. 리뷰 리포트의 평균 점수를 리뷰 테이블을 읽지 않고 계산하기 위해 사용한다.
+ * 리뷰 작성/삭제 시 증감되며, 원본 테이블 기준 재집계는 ReviewStatsService 가 담당한다.
+ */
+@Entity
+@Table(name = "review_member_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ReviewMemberStats {
+
+    @Id
+    @Column(name = "member_code")
+    private Integer memberCode;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,139 @@
+package com.swcamp9th.bangflixbackend.domain.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 테마별 활성 리뷰의 항목(총점/난이도/공포도/활동성/인테리어/개연성/구성)마다 ONE~FIVE 값의 개수를 미리 집계해 둔 히스토그램.
+ * 리뷰 수와 점수 합계는 theme_stats 에 있다.
+ * 리뷰 작성/삭제 시 증감되며, 원본 테이블 기준 재집계는 ReviewStatsService 가 담당한다.
+ */
+@Entity
+@Table(name = "review_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ReviewStats {
+
+    @Id
+    @Column(name = "theme_code")
+    private Integer themeCode;
+
+    @Column(name = "score_one", nullable = false)
+    private Long scoreOne;
+
+    @Column(name = "score_two", nullable = false)
+    private Long scoreTwo;
+
+    @Column(name = "score_three", nullable = false)
+    private Long scoreThree;
+
+    @Column(name = "score_four", nullable = false)
+    private Long scoreFour;
+
+    @Column(name = "score_five", nullable = false)
+    private Long scoreFive;
+
+    @Column(name = "level_one", nullable = false)
+    private Long levelOne;
+
+    @Column(name = "level_two", nullable = false)
+    private Long levelTwo;
+
+    @Column(name = "level_three", nullable = false)
+    private Long levelThree;
+
+    @Column(name = "level_four", nullable = false)
+    private Long levelFour;
+
+    @Column(name = "level_five", nullable = false)
+    private Long levelFive;
+
+    @Column(name = "horror_level_one", nullable = false)
+    private Long horrorLevelOne;
+
+    @Column(name = "horror_level_two", nullable = false)
+    private Long horrorLevelTwo;
+
+    @Column(name = "horror_level_three", nullable = false)
+    private Long horrorLevelThree;
+
+    @Column(name = "horror_level_four", nullable = false)
+    private Long horrorLevelFour;
+
+    @Column(name = "horror_level_five", nullable = false)
+    private Long horrorLevelFive;
+
+    @Column(name = "activity_one", nullable = false)
+    private Long activityOne;
+
+    @Column(name = "activity_two", nullable = false)
+    private Long activityTwo;
+
+    @Column(name = "activity_three", nullable = false)
+    private Long activityThree;
+
+    @Column(name = "activity_four", nullable = false)
+    private Long activityFour;
+
+    @Column(name = "activity_five", nullable = false)
+    private Long activityFive;
+
+    @Column(name = "interior_one", nullable = false)
+    private Long interiorOne;
+
+    @Column(name = "interior_two", nullable = false)
+    private Long interiorTwo;
+
+    @Column(name = "interior_three", nullable = false)
+    private Long interiorThree;
+
+    @Column(name = "interior_four", nullable = false)
+    private Long interiorFour;
+
+    @Column(name = "interior_five", nullable = false)
+    private Long interiorFive;
+
+    @Column(name = "probability_one", nullable = false)
+    private Long probabilityOne;
+
+    @Column(name = "probability_two", nullable = false)
+    private Long probabilityTwo;
+
+    @Column(name = "probability_three", nullable = false)
+    private Long probabilityThree;
+
+    @Column(name = "probability_four", nullable = false)
+    private Long probabilityFour;
+
+    @Column(name = "probability_five", nullable = false)
+    private Long probabilityFive;
+
+    @Column(name = "composition_one", nullable = false)
+    private Long compositionOne;
+
+    @Column(name = "composition_two", nullable = false)
+    private Long compositionTwo;
+
+    @Column(name = "composition_three", nullable = false)
+    private Long compositionThree;
+
+    @Column(name = "composition_four", nullable = false)
+    private Long compositionFour;
+
+    @Column(name = "composition_five", nullable = false)
+    private Long compositionFive;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,49 @@
+package com.swcamp9th.bangflixbackend.domain.review.mapper;
+
+import com.swcamp9th.bangflixbackend.domain.review.dto.CreateReviewDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewDTO;
+import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import java.util.Objects;
+
+/**
+ * 리뷰 엔티티 <-> DTO 변환.
+ * 회원/테마 등 연관 정보와 이미지, 좋아요 수는 호출하는 쪽에서 채운다.
+ */
+public final class ReviewMapper {
+
+    private ReviewMapper() {
+    }
+
+    public static Review toReview(CreateReviewDTO newReview) {
+        Review review = new Review();
+        review.setHeadcount(newReview.getHeadcount());
+        review.setTakenTime(newReview.getTakenTime());
+        review.setTotalScore(newReview.getTotalScore());
+        review.setComposition(newReview.getComposition());
+        review.setLevel(newReview.getLevel());
+        review.setHorrorLevel(newReview.getHorrorLevel());
+        review.setActivity(newReview.getActivity());
+        review.setInterior(newReview.getInterior());
+        review.setProbability(newReview.getProbability());
+        review.setContent(newReview.getContent());
+        return review;
+    }
+
+    public static ReviewDTO toReviewDTO(Review review) {
+        ReviewDTO reviewDTO = new ReviewDTO();
+        reviewDTO.setReviewCode(review.getReviewCode());
+        reviewDTO.setActive(review.getActive());
+        reviewDTO.setCreatedAt(Objects.toString(review.getCreatedAt(), null));
+        reviewDTO.setHeadcount(review.getHeadcount());
+        reviewDTO.setTakenTime(review.getTakenTime());
+        reviewDTO.setComposition(Objects.toString(review.getComposition(), null));
+        reviewDTO.setLevel(Objects.toString(review.getLevel(), null));
+        reviewDTO.setHorrorLevel(Objects.toString(review.getHorrorLevel(), null));
+        reviewDTO.setActivity(Objects.toString(review.getActivity(), null));
+        reviewDTO.setTotalScore(review.getTotalScore());
+        reviewDTO.setInterior(Objects.toString(review.getInterior(), null));
+        reviewDTO.setProbability(Objects.toString(review.getProbability(), null));
+        reviewDTO.setContent(review.getContent());
+        return reviewDTO;
+    }
+}
@@ -1,6 +1,8 @@
 package com.swcamp9th.bangflixbackend.domain.review.repository;
 
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewFileUrlDTO;
 import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewFile;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -16,4 +18,11 @@ public interface ReviewFileRepository extends JpaRepository<ReviewFile, Integer>
             "WHERE r.active = true " +
               "AND r.review.reviewCode = :reviewCode ")
     List<ReviewFile> findByReview_ReviewCode(@Param("reviewCode") int reviewCode);
+
+    @Query("SELECT new com.swcamp9th.bangflixbackend.domain.review.dto.ReviewFileUrlDTO(r.review.reviewCode, r.url) " +
+             "FROM ReviewFile r " +
+            "WHERE r.active = true " +
+              "AND r.review.reviewCode IN :reviewCodes " +
+            "ORDER BY r.reviewFileCode ")
+    List<ReviewFileUrlDTO> findUrlsByReviewCodes(@Param("reviewCodes") Collection<Integer> reviewCodes);
 }
@@ -0,0 +1,36 @@
+package com.swcamp9th.bangflixbackend.domain.review.repository;
+
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewGenre;
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewGenreId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReviewGenreRepository extends JpaRepository<ReviewGenre, ReviewGenreId> {
+
+    // 리뷰한 테마의 현재 장르를 리뷰의 장르로 기록
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO review_genre (review_code, genre_code) " +
+                   "SELECT :reviewCode, tg.genre_code " +
+                     "FROM theme_genre tg " +
+                    "WHERE tg.theme_code = :themeCode",
+           nativeQuery = true)
+    int insertFromTheme(
+            @Param("reviewCode") int reviewCode,
+            @Param("themeCode") int themeCode
+    );
+
+    // 장르 기록이 없는 활성 리뷰(기록을 남기기 전에 작성된 리뷰)는 현재 테마 장르로 채움
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO review_genre (review_code, genre_code) " +
+                   "SELECT r.review_code, tg.genre_code " +
+                     "FROM review r " +
+                    "INNER JOIN theme_genre tg ON tg.theme_code = r.theme_code " +
+                    "WHERE r.active = true " +
+                      "AND NOT EXISTS (SELECT 1 FROM review_genre rg WHERE rg.review_code = r.review_code)",
+           nativeQuery = true)
+    int backfillFromThemes();
+}
@@ -4,9 +4,8 @@ import com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewLikeCountDTO;
 import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewLike;
 import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewLikeId;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,62 +13,18 @@ import org.springframework.data.repository.query.Param;
 
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, ReviewLikeId> {
 
-    @Query("SELECT rl " +
-             "FROM ReviewLike rl " +
-             "JOIN FETCH rl.review r " +
-             "JOIN FETCH rl.member m " +
-            "WHERE rl.active = true " +
-              "AND r.active = true " +
-              "AND m.active = true " +
-              "AND r.reviewCode = :reviewCode " +
-              "AND m.memberCode = :memberCode ")
-    Optional<ReviewLike> findByMemberCodeAndReviewCode(
-            @Param("memberCode") int memberCode,
-            @Param("reviewCode") int reviewCode
-    );
-
-    @Query("SELECT COUNT(rl) " +
-             "FROM ReviewLike rl " +
-            "WHERE rl.active = true " +
-              "AND rl.review.reviewCode = :reviewCode ")
-    Integer countReviewLikesByReviewCode(
-            @Param("reviewCode") int reviewCode
-    );
-
+    // 활성 리뷰별 활성 좋아요 수. since 가 null 이면 전체 기간. 좋아요 수가 같으면 리뷰 코드 역순
     @Query("SELECT new com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewLikeCountDTO(rl.reviewCode, COUNT(rl)) " +
              "FROM ReviewLike rl " +
-            "WHERE rl.createdAt > :oneWeekAgo " +
-              "AND rl.active = true " +
-            "GROUP BY rl.reviewCode " +
-            "ORDER BY COUNT(rl) DESC ")
-    List<ReviewLikeCountDTO> findTop5ReviewCodes(
-            @Param("oneWeekAgo") LocalDateTime oneWeekAgo
-    );
-
-    @Query("SELECT DISTINCT rl " +
-             "FROM ReviewLike rl " +
-             "JOIN FETCH rl.review " +
-             "JOIN FETCH rl.review.member " +
-            "WHERE rl.active = true " +
-            "ORDER BY COUNT(rl) DESC")
-    Page<ReviewLike> findReviewByReviewLikes(Pageable pageable);
-
-    @Query("SELECT rl " +
-             "FROM ReviewLike rl " +
-             "JOIN FETCH rl.review r " +
-             "JOIN FETCH r.theme t " +
-             "JOIN FETCH t.store s " +
+             "JOIN rl.review r " +
             "WHERE rl.active = true " +
               "AND r.active = true " +
-              "AND t.active = true " +
-              "AND s.active = true " +
-              "AND s.storeCode = :storeCode " +
-            "GROUP BY rl.review " +
-            "ORDER BY " +
-                  "COUNT(rl) DESC, " +
-                  "r.createdAt DESC")
-    List<ReviewLike> findTop1BestReviewByStoreCode(
-            @Param("storeCode") int storeCode
+              "AND (:since IS NULL OR rl.createdAt >= :since) " +
+            "GROUP BY rl.reviewCode " +
+            "ORDER BY COUNT(rl) DESC, rl.reviewCode DESC")
+    List<ReviewLikeCountDTO> countActiveLikesByReview(
+            @Param("since") LocalDateTime since,
+            Pageable pageable
     );
 
     @Query("SELECT " +
@@ -84,4 +39,14 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, ReviewLi
             @Param("reviewCode") int reviewCode,
             @Param("memberCode") int memberCode
     );
-}
\ No newline at end of file
+
+    @Query("SELECT rl.reviewCode " +
+             "FROM ReviewLike rl " +
+            "WHERE rl.active = true " +
+              "AND rl.memberCode = :memberCode " +
+              "AND rl.reviewCode IN :reviewCodes ")
+    List<Integer> findLikedReviewCodes(
+            @Param("memberCode") int memberCode,
+            @Param("reviewCodes") Collection<Integer> reviewCodes
+    );
+}
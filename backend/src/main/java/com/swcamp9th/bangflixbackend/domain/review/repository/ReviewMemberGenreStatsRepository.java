@@ -0,0 +1,53 @@
+package com.swcamp9th.bangflixbackend.domain.review.repository;
+
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewMemberGenreStats;
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewMemberGenreStatsId;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReviewMemberGenreStatsRepository extends JpaRepository<ReviewMemberGenreStats, ReviewMemberGenreStatsId> {
+
+    // 리뷰에 기록된 장르(review_genre)마다 회원의 리뷰 수를 delta(+1/-1) 만큼 증감하는 단일 upsert
+    @Modifying
+    @Query(value = "INSERT INTO review_member_genre_stats (member_code, genre_code, review_count, updated_at) " +
+                   "SELECT :memberCode, rg.genre_code, :delta, NOW() " +
+                     "FROM review_genre rg " +
+                    "WHERE rg.review_code = :reviewCode " +
+                   "ON DUPLICATE KEY UPDATE " +
+                       "review_count = review_count + VALUES(review_count), " +
+                       "updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int addDelta(
+            @Param("memberCode") int memberCode,
+            @Param("reviewCode") int reviewCode,
+            @Param("delta") int delta
+    );
+
+    // 원본 review / review_genre 테이블 기준으로 전체 회원의 장르별 리뷰 수를 다시 계산
+    @Modifying
+    @Query(value = "INSERT INTO review_member_genre_stats (member_code, genre_code, review_count, updated_at) " +
+                   "SELECT r.member_code, rg.genre_code, COUNT(*), NOW() " +
+                     "FROM review r " +
+                    "INNER JOIN review_genre rg ON rg.review_code = r.review_code " +
+                    "WHERE r.active = true " +
+                    "GROUP BY r.member_code, rg.genre_code",
+           nativeQuery = true)
+    int insertAllFromReviews();
+
+    @Query("SELECT g.name " +
+             "FROM ReviewMemberGenreStats s " +
+            "INNER JOIN Genre g ON g.genreCode = s.genreCode " +
+            "WHERE s.memberCode = :memberCode " +
+              "AND s.reviewCount > 0 " +
+            "ORDER BY s.reviewCount DESC, g.genreCode ASC")
+    List<String> findTopGenreNames(
+            @Param("memberCode") int memberCode,
+            Pageable pageable
+    );
+}
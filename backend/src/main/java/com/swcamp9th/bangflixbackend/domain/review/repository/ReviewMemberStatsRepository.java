@@ -0,0 +1,37 @@
+package com.swcamp9th.bangflixbackend.domain.review.repository;
+
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewMemberStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReviewMemberStatsRepository extends JpaRepository<ReviewMemberStats, Integer> {
+
+    // 회원의 리뷰 수와 총점 합계를 delta(+1/-1) 만큼 증감하는 단일 upsert
+    @Modifying
+    @Query(value = "INSERT INTO review_member_stats (member_code, review_count, score_sum, updated_at) " +
+                   "VALUES (:memberCode, :delta, :delta * COALESCE(:totalScore, 0), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                       "review_count = review_count + VALUES(review_count), " +
+                       "score_sum = score_sum + VALUES(score_sum), " +
+                       "updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int addDelta(
+            @Param("memberCode") int memberCode,
+            @Param("delta") int delta,
+            @Param("totalScore") Integer totalScore
+    );
+
+    // 원본 review 테이블 기준으로 활성 리뷰가 있는 전체 회원의 집계를 다시 계산
+    @Modifying
+    @Query(value = "INSERT INTO review_member_stats (member_code, review_count, score_sum, updated_at) " +
+                   "SELECT r.member_code, COUNT(*), COALESCE(SUM(r.total_score), 0), NOW() " +
+                     "FROM review r " +
+                    "WHERE r.active = true " +
+                    "GROUP BY r.member_code",
+           nativeQuery = true)
+    int insertAllFromReviews();
+}
@@ -1,117 +1,180 @@
 package com.swcamp9th.bangflixbackend.domain.review.repository;
 
-import com.swcamp9th.bangflixbackend.domain.review.dto.StatisticsReviewDTO;
 import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 
 public interface ReviewRepository extends JpaRepository<Review, Integer> {
 
+    // 테마별 리뷰 keyset 페이지네이션. 정렬 값이 같으면 작성 시각, 리뷰 코드 역순 (커서가 null 이면 첫 페이지)
     @Query("SELECT r " +
              "FROM Review r " +
              "JOIN FETCH r.member " +
              "JOIN FETCH r.theme " +
             "WHERE r.theme.themeCode = :themeCode " +
               "AND r.active = true " +
-            "ORDER BY r.createdAt desc ")
-    List<Review> findReviewListByThemeCode(
-            Pageable pageable,
-            @Param("themeCode") int themeCode
-    );
-
-    @Query("SELECT new com.swcamp9th.bangflixbackend.domain.review.dto.StatisticsReviewDTO(" +
-
-        // 평균 점수 계산
-        "AVG(r.totalScore), " +
-
-        // Score 비율 계산
-        "COUNT(CASE WHEN r.totalScore = 5 THEN 1 END) / COUNT(r.totalScore) * 100, " +
-        "COUNT(CASE WHEN r.totalScore = 4 THEN 1 END) / COUNT(r.totalScore) * 100, " +
-        "COUNT(CASE WHEN r.totalScore = 3 THEN 1 END) / COUNT(r.totalScore) * 100, " +
-        "COUNT(CASE WHEN r.totalScore = 2 THEN 1 END) / COUNT(r.totalScore) * 100, " +
-        "COUNT(CASE WHEN r.totalScore = 1 THEN 1 END) / COUNT(r.totalScore) * 100, " +
-
-        // Level 비율 계산
-        "COUNT(CASE WHEN r.level = 'ONE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.level = 'TWO' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.level = 'THREE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.level = 'FOUR' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.level = 'FIVE' THEN 1  END) / COUNT(r) * 100, " +
-
-        // HorrorLevel 비율 계산
-        "COUNT(CASE WHEN r.horrorLevel = 'ONE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.horrorLevel = 'TWO' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.horrorLevel = 'THREE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.horrorLevel = 'FOUR' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.horrorLevel = 'FIVE' THEN 1  END) / COUNT(r) * 100, " +
-
-        // Active 비율 계산
-        "COUNT(CASE WHEN r.activity = 'ONE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.activity = 'TWO' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.activity = 'THREE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.activity = 'FOUR' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.activity = 'FIVE' THEN 1  END) / COUNT(r) * 100, " +
-
-        // Interior 비율 계산
-        "COUNT(CASE WHEN r.interior = 'ONE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.interior = 'TWO' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.interior = 'THREE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.interior = 'FOUR' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.interior = 'FIVE' THEN 1  END) / COUNT(r) * 100, " +
-
-        // Probability 비율 계산
-        "COUNT(CASE WHEN r.probability = 'ONE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.probability = 'TWO' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.probability = 'THREE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.probability = 'FOUR' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.probability = 'FIVE' THEN 1  END) / COUNT(r) * 100, " +
-
-        // Composition 비율 계산
-        "COUNT(CASE WHEN r.composition = 'ONE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.composition = 'TWO' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.composition = 'THREE' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.composition = 'FOUR' THEN 1  END) / COUNT(r) * 100, " +
-        "COUNT(CASE WHEN r.composition = 'FIVE' THEN 1  END) / COUNT(r) * 100" +
-            ") " +
-
-        "FROM Review r " +
-            "WHERE r.active = true " +
-            "AND r.theme.themeCode = :themeCode "
-    )
-    Optional<StatisticsReviewDTO> findStatisticsByThemeCode(
-            @Param("themeCode") int themeCode
+              "AND (:cursorCreatedAt IS NULL " +
+                   "OR r.createdAt < :cursorCreatedAt " +
+                   "OR (r.createdAt = :cursorCreatedAt AND r.reviewCode < :cursorReviewCode)) " +
+            "ORDER BY r.createdAt DESC, r.reviewCode DESC")
+    List<Review> findReviewsOrderByNewest(
+            @Param("themeCode") int themeCode,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorReviewCode") Integer cursorReviewCode,
+            Pageable pageable
     );
 
-    @Query("SELECT AVG(r.totalScore) " +
+    @Query("SELECT r " +
              "FROM Review r " +
-             "JOIN r.member " +
-            "WHERE r.active = true " +
-              "AND r.member.memberCode = :memberCode")
-    Integer findAvgScoreByMemberCode(
-            @Param("memberCode") int memberCode
+             "JOIN FETCH r.member " +
+             "JOIN FETCH r.theme " +
+            "WHERE r.theme.themeCode = :themeCode " +
+              "AND r.active = true " +
+              "AND (:cursorScore IS NULL " +
+                   "OR r.totalScore < :cursorScore " +
+                   "OR (r.totalScore = :cursorScore AND r.createdAt < :cursorCreatedAt) " +
+                   "OR (r.totalScore = :cursorScore AND r.createdAt = :cursorCreatedAt AND r.reviewCode < :cursorReviewCode)) " +
+            "ORDER BY r.totalScore DESC, r.createdAt DESC, r.reviewCode DESC")
+    List<Review> findReviewsOrderByHighScore(
+            @Param("themeCode") int themeCode,
+            @Param("cursorScore") Integer cursorScore,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorReviewCode") Integer cursorReviewCode,
+            Pageable pageable
     );
 
-    @Query("SELECT g.name " +
-            "FROM Review r " +
-            "INNER JOIN r.theme t " +
-            "INNER JOIN ThemeGenre tg ON t.themeCode = tg.theme.themeCode " +
-            "INNER JOIN Genre g ON tg.genre.genreCode = g.genreCode " +
-            "WHERE r.member.memberCode = :memberCode AND t.active = true " +
-            "GROUP BY g.name " +
-            "ORDER BY COUNT(g) DESC")
-    List<String> findTopGenresByMemberCode(
-            Pageable pageable,
-            @Param("memberCode") int memberCode
+    @Query("SELECT r " +
+             "FROM Review r " +
+             "JOIN FETCH r.member " +
+             "JOIN FETCH r.theme " +
+            "WHERE r.theme.themeCode = :themeCode " +
+              "AND r.active = true " +
+              "AND (:cursorScore IS NULL " +
+                   "OR r.totalScore > :cursorScore " +
+                   "OR (r.totalScore = :cursorScore AND r.createdAt < :cursorCreatedAt) " +
+                   "OR (r.totalScore = :cursorScore AND r.createdAt = :cursorCreatedAt AND r.reviewCode < :cursorReviewCode)) " +
+            "ORDER BY r.totalScore ASC, r.createdAt DESC, r.reviewCode DESC")
+    List<Review> findReviewsOrderByLowScore(
+            @Param("themeCode") int themeCode,
+            @Param("cursorScore") Integer cursorScore,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorReviewCode") Integer cursorReviewCode,
+            Pageable pageable
     );
 
     @Query("SELECT r " +
              "FROM Review r " +
              "JOIN FETCH r.member " +
+             "JOIN FETCH r.theme " +
+            "WHERE r.theme.themeCode = :themeCode " +
+              "AND r.active = true " +
+              "AND (:cursorLikes IS NULL " +
+                   "OR r.likeCount < :cursorLikes " +
+                   "OR (r.likeCount = :cursorLikes AND r.createdAt < :cursorCreatedAt) " +
+                   "OR (r.likeCount = :cursorLikes AND r.createdAt = :cursorCreatedAt AND r.reviewCode < :cursorReviewCode)) " +
+            "ORDER BY r.likeCount DESC, r.createdAt DESC, r.reviewCode DESC")
+    List<Review> findReviewsOrderByLikes(
+            @Param("themeCode") int themeCode,
+            @Param("cursorLikes") Integer cursorLikes,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorReviewCode") Integer cursorReviewCode,
+            Pageable pageable
+    );
+
+    // 활성 업체의 활성 테마 코드 (업체 베스트 리뷰는 테마별 최다 좋아요 리뷰를 합쳐 구함)
+    @Query("SELECT t.themeCode " +
+             "FROM Theme t " +
+             "JOIN t.store s " +
+            "WHERE s.storeCode = :storeCode " +
+              "AND s.active = true " +
+              "AND t.active = true")
+    List<Integer> findActiveThemeCodesByStoreCode(
+            @Param("storeCode") int storeCode
+    );
+
+    // 테마의 좋아요 받은 활성 리뷰 중 가장 앞선 [리뷰 코드, 좋아요 수, 작성 시각].
+    // (theme_code, active, like_count, created_at) 인덱스만 역순으로 읽는다
+    @Query("SELECT r.reviewCode, r.likeCount, r.createdAt " +
+             "FROM Review r " +
+            "WHERE r.theme.themeCode = :themeCode " +
+              "AND r.active = true " +
+              "AND r.likeCount > 0 " +
+            "ORDER BY r.likeCount DESC, r.createdAt DESC, r.reviewCode DESC")
+    List<Object[]> findTopLikedReview(
+            @Param("themeCode") int themeCode,
+            Pageable pageable
+    );
+
+    @Query("SELECT r " +
+             "FROM Review r " +
+             "JOIN FETCH r.member " +
+             "JOIN FETCH r.theme " +
+            "WHERE r.reviewCode = :reviewCode " +
+              "AND r.active = true")
+    Optional<Review> findActiveReview(
+            @Param("reviewCode") int reviewCode
+    );
+
+    // 활성 리뷰의 좋아요 수 세대를 공유 잠금으로 조회 (삭제된 리뷰면 null). 커밋할 때까지 재계산이 이 리뷰를 건드리지 못함
+    @Query(value = "SELECT r.like_count_generation " +
+                     "FROM review r " +
+                    "WHERE r.review_code = :reviewCode " +
+                      "AND r.active = true " +
+                     "LOCK IN SHARE MODE",
+           nativeQuery = true)
+    Integer findLikeCountGenerationForShare(
+            @Param("reviewCode") int reviewCode
+    );
+
+    // 리뷰마다 (리뷰 코드, 작성자 코드)
+    @Query("SELECT r.reviewCode, r.member.memberCode " +
+             "FROM Review r " +
+            "WHERE r.reviewCode IN :reviewCodes")
+    List<Object[]> findAuthorsByReviewCodes(
+            @Param("reviewCodes") Collection<Integer> reviewCodes
+    );
+
+    @Query("SELECT r " +
+             "FROM Review r " +
+             "JOIN FETCH r.member " +
+             "JOIN FETCH r.theme " +
+            "WHERE r.reviewCode IN :reviewCodes " +
+              "AND r.active = true")
+    List<Review> findActiveReviewsByCodes(
+            @Param("reviewCodes") Collection<Integer> reviewCodes
+    );
+
+    // 리뷰마다 [리뷰 코드, 전체 좋아요 수]
+    @Query("SELECT r.reviewCode, r.likeCount " +
+             "FROM Review r " +
+            "WHERE r.reviewCode IN :reviewCodes")
+    List<Object[]> findLikeCountsByCodes(
+            @Param("reviewCodes") Collection<Integer> reviewCodes
+    );
+
+    // 지난 베스트 리뷰처럼 이미 공개된 목록은 삭제된 리뷰도 그대로 보여 줌
+    @Query("SELECT r " +
+             "FROM Review r " +
+             "JOIN FETCH r.member " +
+             "JOIN FETCH r.theme " +
+            "WHERE r.reviewCode IN :reviewCodes")
+    List<Review> findReviewsByCodes(
+            @Param("reviewCodes") Collection<Integer> reviewCodes
+    );
+
+    @Query("SELECT r " +
+             "FROM Review r " +
+             "JOIN FETCH r.member " +
+             "JOIN FETCH r.theme " +
             "WHERE r.active = true " +
               "AND r.member.memberCode = :memberCode " +
             "ORDER BY r.createdAt DESC ")
@@ -119,4 +182,51 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
             Pageable pageable,
             @Param("memberCode") int memberCode
     );
+
+    // 같은 세대, 같은 증감분을 가진 리뷰들의 좋아요 수를 한 번에 반영 (그 사이 재계산된 리뷰는 건너뜀)
+    @Transactional
+    @Modifying
+    @Query("UPDATE Review r " +
+              "SET r.likeCount = r.likeCount + :delta " +
+            "WHERE r.reviewCode IN :reviewCodes " +
+              "AND r.likeCountGeneration = :generation")
+    int addLikeCount(
+            @Param("delta") int delta,
+            @Param("generation") int generation,
+            @Param("reviewCodes") Collection<Integer> reviewCodes
+    );
+
+    // review_like 기준으로 좋아요 수가 어긋난 리뷰
+    @Query(value = "SELECT r.review_code " +
+                     "FROM review r " +
+                     "LEFT JOIN review_like rl " +
+                       "ON rl.review_code = r.review_code AND rl.active = true " +
+                    "GROUP BY r.review_code, r.like_count " +
+                   "HAVING r.like_count <> COUNT(rl.review_code)",
+           nativeQuery = true)
+    List<Integer> findLikeCountMismatches();
+
+    // 재계산할 리뷰 행을 배타 잠금 (진행 중인 좋아요 등록/취소가 커밋할 때까지 기다림)
+    @Query(value = "SELECT r.review_code " +
+                     "FROM review r " +
+                    "WHERE r.review_code = :reviewCode " +
+                      "FOR UPDATE",
+           nativeQuery = true)
+    Integer lockForLikeRecount(
+            @Param("reviewCode") int reviewCode
+    );
+
+    // review_like 기준으로 좋아요 수를 다시 계산하고 세대를 올려 이전 세대의 증감분이 반영되지 않게 함
+    @Modifying
+    @Query(value = "UPDATE review r " +
+                      "SET r.like_count = (SELECT COUNT(*) " +
+                                            "FROM review_like rl " +
+                                           "WHERE rl.review_code = r.review_code " +
+                                             "AND rl.active = true), " +
+                          "r.like_count_generation = r.like_count_generation + 1 " +
+                    "WHERE r.review_code = :reviewCode",
+           nativeQuery = true)
+    int recountLikeCount(
+            @Param("reviewCode") int reviewCode
+    );
 }
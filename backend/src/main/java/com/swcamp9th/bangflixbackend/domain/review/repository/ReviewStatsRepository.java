@@ -0,0 +1,76 @@
+package com.swcamp9th.bangflixbackend.domain.review.repository;
+
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReviewStatsRepository extends JpaRepository<ReviewStats, Integer> {
+
+    // 리뷰 한 건의 항목 값에 해당하는 칸만 delta(+1/-1) 만큼 증감하는 단일 upsert (동시 요청에도 원자적)
+    @Modifying
+    @Query(value = "INSERT INTO review_stats (theme_code, " +
+                       "score_one, score_two, score_three, score_four, score_five, " +
+                       "level_one, level_two, level_three, level_four, level_five, " +
+                       "horror_level_one, horror_level_two, horror_level_three, horror_level_four, horror_level_five, " +
+                       "activity_one, activity_two, activity_three, activity_four, activity_five, " +
+                       "interior_one, interior_two, interior_three, interior_four, interior_five, " +
+                       "probability_one, probability_two, probability_three, probability_four, probability_five, " +
+                       "composition_one, composition_two, composition_three, composition_four, composition_five, updated_at) " +
+                   "VALUES (:themeCode, " +
+                       "IF(:totalScore = 1, :delta, 0), IF(:totalScore = 2, :delta, 0), IF(:totalScore = 3, :delta, 0), IF(:totalScore = 4, :delta, 0), IF(:totalScore = 5, :delta, 0), " +
+                       "IF(:level = 'ONE', :delta, 0), IF(:level = 'TWO', :delta, 0), IF(:level = 'THREE', :delta, 0), IF(:level = 'FOUR', :delta, 0), IF(:level = 'FIVE', :delta, 0), " +
+                       "IF(:horrorLevel = 'ONE', :delta, 0), IF(:horrorLevel = 'TWO', :delta, 0), IF(:horrorLevel = 'THREE', :delta, 0), IF(:horrorLevel = 'FOUR', :delta, 0), IF(:horrorLevel = 'FIVE', :delta, 0), " +
+                       "IF(:activity = 'ONE', :delta, 0), IF(:activity = 'TWO', :delta, 0), IF(:activity = 'THREE', :delta, 0), IF(:activity = 'FOUR', :delta, 0), IF(:activity = 'FIVE', :delta, 0), " +
+                       "IF(:interior = 'ONE', :delta, 0), IF(:interior = 'TWO', :delta, 0), IF(:interior = 'THREE', :delta, 0), IF(:interior = 'FOUR', :delta, 0), IF(:interior = 'FIVE', :delta, 0), " +
+                       "IF(:probability = 'ONE', :delta, 0), IF(:probability = 'TWO', :delta, 0), IF(:probability = 'THREE', :delta, 0), IF(:probability = 'FOUR', :delta, 0), IF(:probability = 'FIVE', :delta, 0), " +
+                       "IF(:composition = 'ONE', :delta, 0), IF(:composition = 'TWO', :delta, 0), IF(:composition = 'THREE', :delta, 0), IF(:composition = 'FOUR', :delta, 0), IF(:composition = 'FIVE', :delta, 0), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                       "score_one = score_one + VALUES(score_one), score_two = score_two + VALUES(score_two), score_three = score_three + VALUES(score_three), score_four = score_four + VALUES(score_four), score_five = score_five + VALUES(score_five), " +
+                       "level_one = level_one + VALUES(level_one), level_two = level_two + VALUES(level_two), level_three = level_three + VALUES(level_three), level_four = level_four + VALUES(level_four), level_five = level_five + VALUES(level_five), " +
+                       "horror_level_one = horror_level_one + VALUES(horror_level_one), horror_level_two = horror_level_two + VALUES(horror_level_two), horror_level_three = horror_level_three + VALUES(horror_level_three), horror_level_four = horror_level_four + VALUES(horror_level_four), horror_level_five = horror_level_five + VALUES(horror_level_five), " +
+                       "activity_one = activity_one + VALUES(activity_one), activity_two = activity_two + VALUES(activity_two), activity_three = activity_three + VALUES(activity_three), activity_four = activity_four + VALUES(activity_four), activity_five = activity_five + VALUES(activity_five), " +
+                       "interior_one = interior_one + VALUES(interior_one), interior_two = interior_two + VALUES(interior_two), interior_three = interior_three + VALUES(interior_three), interior_four = interior_four + VALUES(interior_four), interior_five = interior_five + VALUES(interior_five), " +
+                       "probability_one = probability_one + VALUES(probability_one), probability_two = probability_two + VALUES(probability_two), probability_three = probability_three + VALUES(probability_three), probability_four = probability_four + VALUES(probability_four), probability_five = probability_five + VALUES(probability_five), " +
+                       "composition_one = composition_one + VALUES(composition_one), composition_two = composition_two + VALUES(composition_two), composition_three = composition_three + VALUES(composition_three), composition_four = composition_four + VALUES(composition_four), composition_five = composition_five + VALUES(composition_five), " +
+                       "updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int addDelta(
+            @Param("themeCode") int themeCode,
+            @Param("delta") int delta,
+            @Param("totalScore") Integer totalScore,
+            @Param("level") String level,
+            @Param("horrorLevel") String horrorLevel,
+            @Param("activity") String activity,
+            @Param("interior") String interior,
+            @Param("probability") String probability,
+            @Param("composition") String composition
+    );
+
+    // 원본 review 테이블 기준으로 활성 리뷰가 있는 전체 테마의 히스토그램을 다시 계산
+    @Modifying
+    @Query(value = "INSERT INTO review_stats (theme_code, " +
+                       "score_one, score_two, score_three, score_four, score_five, " +
+                       "level_one, level_two, level_three, level_four, level_five, " +
+                       "horror_level_one, horror_level_two, horror_level_three, horror_level_four, horror_level_five, " +
+                       "activity_one, activity_two, activity_three, activity_four, activity_five, " +
+                       "interior_one, interior_two, interior_three, interior_four, interior_five, " +
+                       "probability_one, probability_two, probability_three, probability_four, probability_five, " +
+                       "composition_one, composition_two, composition_three, composition_four, composition_five, updated_at) " +
+                   "SELECT r.theme_code, " +
+                          "COUNT(CASE WHEN r.total_score = 1 THEN 1 END), COUNT(CASE WHEN r.total_score = 2 THEN 1 END), COUNT(CASE WHEN r.total_score = 3 THEN 1 END), COUNT(CASE WHEN r.total_score = 4 THEN 1 END), COUNT(CASE WHEN r.total_score = 5 THEN 1 END), " +
+                          "COUNT(CASE WHEN r.level = 'ONE' THEN 1 END), COUNT(CASE WHEN r.level = 'TWO' THEN 1 END), COUNT(CASE WHEN r.level = 'THREE' THEN 1 END), COUNT(CASE WHEN r.level = 'FOUR' THEN 1 END), COUNT(CASE WHEN r.level = 'FIVE' THEN 1 END), " +
+                          "COUNT(CASE WHEN r.horror_level = 'ONE' THEN 1 END), COUNT(CASE WHEN r.horror_level = 'TWO' THEN 1 END), COUNT(CASE WHEN r.horror_level = 'THREE' THEN 1 END), COUNT(CASE WHEN r.horror_level = 'FOUR' THEN 1 END), COUNT(CASE WHEN r.horror_level = 'FIVE' THEN 1 END), " +
+                          "COUNT(CASE WHEN r.activity = 'ONE' THEN 1 END), COUNT(CASE WHEN r.activity = 'TWO' THEN 1 END), COUNT(CASE WHEN r.activity = 'THREE' THEN 1 END), COUNT(CASE WHEN r.activity = 'FOUR' THEN 1 END), COUNT(CASE WHEN r.activity = 'FIVE' THEN 1 END), " +
+                          "COUNT(CASE WHEN r.interior = 'ONE' THEN 1 END), COUNT(CASE WHEN r.interior = 'TWO' THEN 1 END), COUNT(CASE WHEN r.interior = 'THREE' THEN 1 END), COUNT(CASE WHEN r.interior = 'FOUR' THEN 1 END), COUNT(CASE WHEN r.interior = 'FIVE' THEN 1 END), " +
+                          "COUNT(CASE WHEN r.probability = 'ONE' THEN 1 END), COUNT(CASE WHEN r.probability = 'TWO' THEN 1 END), COUNT(CASE WHEN r.probability = 'THREE' THEN 1 END), COUNT(CASE WHEN r.probability = 'FOUR' THEN 1 END), COUNT(CASE WHEN r.probability = 'FIVE' THEN 1 END), " +
+                          "COUNT(CASE WHEN r.composition = 'ONE' THEN 1 END), COUNT(CASE WHEN r.composition = 'TWO' THEN 1 END), COUNT(CASE WHEN r.composition = 'THREE' THEN 1 END), COUNT(CASE WHEN r.composition = 'FOUR' THEN 1 END), COUNT(CASE WHEN r.composition = 'FIVE' THEN 1 END), NOW() " +
+                     "FROM review r " +
+                    "WHERE r.active = true " +
+                    "GROUP BY r.theme_code",
+           nativeQuery = true)
+    int insertAllFromReviews();
+}
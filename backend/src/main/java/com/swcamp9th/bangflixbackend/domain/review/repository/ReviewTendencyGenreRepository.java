@@ -1,7 +1,9 @@
 package com.swcamp9th.bangflixbackend.domain.review.repository;
 
+import com.swcamp9th.bangflixbackend.domain.review.dto.MemberGenreDTO;
 import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewTendencyGenre;
 import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewTendencyGenreId;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,4 +19,14 @@ public interface ReviewTendencyGenreRepository extends JpaRepository<ReviewTende
     List<ReviewTendencyGenre> findMemberGenreByMemberCode(
             @Param("memberCode") int memberCode
     );
+
+    @Query("SELECT new com.swcamp9th.bangflixbackend.domain.review.dto.MemberGenreDTO(tc.member.memberCode, g.name) " +
+             "FROM ReviewTendencyGenre t " +
+             "JOIN t.tendency tc " +
+             "JOIN t.genre g " +
+            "WHERE tc.member.memberCode IN :memberCodes " +
+            "ORDER BY t.genreCode ")
+    List<MemberGenreDTO> findGenreNamesByMemberCodes(
+            @Param("memberCodes") Collection<Integer> memberCodes
+    );
 }
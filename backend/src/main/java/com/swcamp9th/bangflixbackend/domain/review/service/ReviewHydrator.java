@@ -0,0 +1,117 @@
+package com.swcamp9th.bangflixbackend.domain.review.service;
+
+import com.swcamp9th.bangflixbackend.domain.review.dto.MemberGenreDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewFileUrlDTO;
+import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import com.swcamp9th.bangflixbackend.domain.review.mapper.ReviewMapper;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewFileRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewLikeRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewTendencyGenreRepository;
+import com.swcamp9th.bangflixbackend.shared.upload.ImageDerivativeService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰 목록을 ReviewDTO 목록으로 변환한다.
+ * <p>
+ * 첨부 이미지, 작성자 선호 장르, 조회 회원의 좋아요 여부를 리뷰마다 조회하지 않고
+ * 리뷰 코드(작성자 코드) 목록에 대한 IN 쿼리 한 번씩으로 읽은 뒤 메모리에서 조립한다.
+ * 좋아요 수는 리뷰의 like_count 와 ReviewLikeCounter 의 미반영 증감분으로 계산한다.
+ * 첨부 이미지와 프로필 이미지에는 목록 표시용 파생본(썸네일) URL 을 함께 채운다.
+ * 리뷰의 작성자와 테마는 호출하는 쪽의 조회 쿼리에서 fetch join 되어 있어야 한다.
+ */
+@Component
+public class ReviewHydrator {
+
+    private final ReviewFileRepository reviewFileRepository;
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final ReviewTendencyGenreRepository reviewTendencyGenreRepository;
+    private final ReviewLikeCounter reviewLikeCounter;
+    private final ImageDerivativeService imageDerivativeService;
+
+    @Autowired
+    public ReviewHydrator(
+            ReviewFileRepository reviewFileRepository,
+            ReviewLikeRepository reviewLikeRepository,
+            ReviewTendencyGenreRepository reviewTendencyGenreRepository,
+            ReviewLikeCounter reviewLikeCounter,
+            ImageDerivativeService imageDerivativeService
+    ) {
+        this.reviewFileRepository = reviewFileRepository;
+        this.reviewLikeRepository = reviewLikeRepository;
+        this.reviewTendencyGenreRepository = reviewTendencyGenreRepository;
+        this.reviewLikeCounter = reviewLikeCounter;
+        this.imageDerivativeService = imageDerivativeService;
+    }
+
+    /**
+     * 비회원 조회용. 모든 리뷰의 isLike 는 false.
+     */
+    public List<ReviewDTO> hydrate(List<Review> reviews) {
+        return hydrate(reviews, null);
+    }
+
+    /**
+     * 회원 조회용. memberCode 가 좋아요한 리뷰는 isLike 가 true.
+     */
+    public List<ReviewDTO> hydrate(List<Review> reviews, Integer memberCode) {
+        if (reviews.isEmpty())
+            return new ArrayList<>();
+
+        Set<Integer> reviewCodes = new LinkedHashSet<>();
+        Set<Integer> memberCodes = new LinkedHashSet<>();
+        for (Review review : reviews) {
+            reviewCodes.add(review.getReviewCode());
+            memberCodes.add(review.getMember().getMemberCode());
+        }
+
+        Map<Integer, List<String>> imagePaths = new HashMap<>();
+        for (ReviewFileUrlDTO file : reviewFileRepository.findUrlsByReviewCodes(reviewCodes)) {
+            imagePaths.computeIfAbsent(file.getReviewCode(), key -> new ArrayList<>()).add(file.getUrl());
+        }
+
+        Map<Integer, List<String>> genres = new HashMap<>();
+        for (MemberGenreDTO genre : reviewTendencyGenreRepository.findGenreNamesByMemberCodes(memberCodes)) {
+            genres.computeIfAbsent(genre.getMemberCode(), key -> new ArrayList<>()).add(genre.getGenreName());
+        }
+
+        Set<Integer> likedReviewCodes = (memberCode == null)
+                ? Set.of()
+                : new HashSet<>(reviewLikeRepository.findLikedReviewCodes(memberCode, reviewCodes));
+
+        List<ReviewDTO> reviewDTOList = new ArrayList<>(reviews.size());
+        for (Review review : reviews) {
+            int reviewCode = review.getReviewCode();
+            int authorCode = review.getMember().getMemberCode();
+
+            ReviewDTO reviewDTO = ReviewMapper.toReviewDTO(review);
+            List<String> reviewImagePaths = imagePaths.getOrDefault(reviewCode, List.of());
+            reviewDTO.setImagePaths(new ArrayList<>(reviewImagePaths));
+            reviewDTO.setThumbnailPaths(new ArrayList<>(
+                    imageDerivativeService.derivativeUrlsOf(reviewImagePaths, ImageDerivativeService.MEDIUM)));
+            reviewDTO.setLikes(reviewLikeCounter.likeCount(review));
+            reviewDTO.setMemberCode(authorCode);
+            reviewDTO.setMemberNickname(review.getMember().getNickname());
+            reviewDTO.setMemberImage(review.getMember().getImage());
+            reviewDTO.setMemberThumbnail(
+                    imageDerivativeService.derivativeUrlOf(review.getMember().getImage(), ImageDerivativeService.SMALL));
+            // 선호 장르가 없으면 null 유지
+            if (genres.containsKey(authorCode))
+                reviewDTO.setGenres(new ArrayList<>(genres.get(authorCode)));
+            reviewDTO.setThemeCode(review.getTheme().getThemeCode());
+            reviewDTO.setThemeImage(review.getTheme().getPosterImage());
+            reviewDTO.setThemeName(review.getTheme().getName());
+            reviewDTO.setIsLike(likedReviewCodes.contains(reviewCode));
+            reviewDTOList.add(reviewDTO);
+        }
+        return reviewDTOList;
+    }
+}
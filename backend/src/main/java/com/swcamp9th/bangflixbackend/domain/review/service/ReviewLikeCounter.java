@@ -0,0 +1,186 @@
+package com.swcamp9th.bangflixbackend.domain.review.service;
+
+import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewRepository;
+import com.swcamp9th.bangflixbackend.shared.lock.RedisLeaseLock;
+import com.swcamp9th.bangflixbackend.shared.transaction.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 리뷰 좋아요 수 write-behind 카운터.
+ * <p>
+ * 좋아요 등록/취소 시 review_like 행은 그대로 기록하되, 좋아요 수는 리뷰 코드로 나눈 잠금 구간(stripe)별 맵에
+ * 증감분만 모아 두었다가 몇 초마다 같은 증감분끼리 묶어 review.like_count 에 한 번에 더한다.
+ * 조회 시의 좋아요 수는 리뷰와 함께 읽힌 like_count 에 이 인스턴스가 아직 반영하지 않은 증감분을 더한 값이다.
+ * <p>
+ * 증감분을 더하는 방식이라 여러 인스턴스가 각자 반영해도 결과가 같고, 다른 인스턴스의 좋아요는 반영 주기만큼 늦게 보인다.
+ * 정상 종료 시에는 남은 증감분을 반영하며, 비정상 종료로 잃은 증감분은 review_like 기준 재계산으로 바로잡는다.
+ * <p>
+ * 재계산은 리뷰마다 세대(like_count_generation)를 1 올리고, 증감분은 좋아요를 기록할 때 읽은 세대와 함께 모아 두었다가
+ * 세대가 같을 때만 반영한다. 재계산에 이미 포함된 다른 인스턴스의 증감분이 나중에 한 번 더 더해지지 않는다.
+ */
+@Component
+@Slf4j
+public class ReviewLikeCounter {
+
+    private static final int STRIPE_COUNT = 16;
+    // IN 절 하나에 넣을 최대 리뷰 수
+    private static final int FLUSH_CHUNK_SIZE = 500;
+    private static final String RECOUNT_JOB_NAME = "REVIEW_LIKE_RECOUNT";
+    private static final Duration RECOUNT_LEASE_TTL = Duration.ofMinutes(5);
+
+    private record PendingKey(int reviewCode, int generation) {
+    }
+
+    private record Batch(int generation, int delta) {
+    }
+
+    private final ReviewRepository reviewRepository;
+    private final RedisLeaseLock redisLeaseLock;
+    private final TransactionTemplate transactionTemplate;
+
+    // (리뷰 코드, 세대) -> 아직 반영하지 않은 증감분. 리뷰 코드로 나누며 각 맵은 자기 자신으로 잠근다
+    private final List<Map<PendingKey, Integer>> stripes = new ArrayList<>(STRIPE_COUNT);
+
+    @Autowired
+    public ReviewLikeCounter(
+            ReviewRepository reviewRepository,
+            RedisLeaseLock redisLeaseLock,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.reviewRepository = reviewRepository;
+        this.redisLeaseLock = redisLeaseLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 좋아요 등록. generation 은 같은 트랜잭션에서 공유 잠금으로 읽은 리뷰의 세대이며, 커밋 이후 증감분에 반영된다.
+     */
+    public void increment(int reviewCode, int generation) {
+        TransactionCallbacks.afterCommit(() -> add(new PendingKey(reviewCode, generation), 1));
+    }
+
+    /**
+     * 좋아요 취소. generation 은 같은 트랜잭션에서 공유 잠금으로 읽은 리뷰의 세대이며, 커밋 이후 증감분에 반영된다.
+     */
+    public void decrement(int reviewCode, int generation) {
+        TransactionCallbacks.afterCommit(() -> add(new PendingKey(reviewCode, generation), -1));
+    }
+
+    /**
+     * 리뷰의 현재 좋아요 수 (저장된 값 + 같은 세대의 아직 반영하지 않은 증감분).
+     */
+    public int likeCount(Review review) {
+        int stored = (review.getLikeCount() == null) ? 0 : review.getLikeCount();
+        int generation = (review.getLikeCountGeneration() == null) ? 0 : review.getLikeCountGeneration();
+        return Math.max(0, stored + pendingDelta(review.getReviewCode(), generation));
+    }
+
+    public int pendingDelta(int reviewCode, int generation) {
+        Map<PendingKey, Integer> stripe = stripeOf(reviewCode);
+        synchronized (stripe) {
+            return stripe.getOrDefault(new PendingKey(reviewCode, generation), 0);
+        }
+    }
+
+    /**
+     * 모아 둔 증감분을 비우고 같은 세대, 같은 증감분을 가진 리뷰끼리 묶어 반영한다. 실패한 묶음은 다음 주기에 다시 시도한다.
+     * 그 사이 재계산된 리뷰의 증감분은 이미 재계산에 포함되었으므로 반영되지 않고 버려진다.
+     */
+    @Scheduled(fixedDelay = 5000)
+    @PreDestroy
+    public void flush() {
+        Map<Batch, List<Integer>> reviewCodesByBatch = new HashMap<>();
+        for (Map<PendingKey, Integer> stripe : stripes) {
+            Map<PendingKey, Integer> drained;
+            synchronized (stripe) {
+                if (stripe.isEmpty())
+                    continue;
+                drained = new HashMap<>(stripe);
+                stripe.clear();
+            }
+            drained.forEach((key, delta) -> reviewCodesByBatch
+                    .computeIfAbsent(new Batch(key.generation(), delta), batch -> new ArrayList<>())
+                    .add(key.reviewCode()));
+        }
+
+        reviewCodesByBatch.forEach((batch, reviewCodes) -> {
+            for (int from = 0; from < reviewCodes.size(); from += FLUSH_CHUNK_SIZE) {
+                List<Integer> chunk = reviewCodes.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, reviewCodes.size()));
+                try {
+                    reviewRepository.addLikeCount(batch.delta(), batch.generation(), chunk);
+                } catch (RuntimeException e) {
+                    log.warn("리뷰 좋아요 수 반영 실패, 다음 주기에 재시도 ({} reviews, delta: {})", chunk.size(), batch.delta(), e);
+                    chunk.forEach(reviewCode -> add(new PendingKey(reviewCode, batch.generation()), batch.delta()));
+                }
+            }
+        });
+    }
+
+    /**
+     * review_like 기준으로 좋아요 수를 다시 계산해 비정상 종료 등으로 생긴 오차를 바로잡는다.
+     * 한 인스턴스만 실행하며, 어긋난 리뷰마다 행을 잠가 진행 중인 좋아요가 커밋된 뒤 다시 세고 세대를 올린다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 20 4 * * *")
+    public void reconcile() {
+        flush();
+
+        Optional<RedisLeaseLock.Lease> lease = redisLeaseLock.tryAcquire(RECOUNT_JOB_NAME, RECOUNT_LEASE_TTL);
+        if (lease.isEmpty()) {
+            log.info("다른 인스턴스가 리뷰 좋아요 수를 재계산 중이므로 건너뜀");
+            return;
+        }
+
+        try {
+            int corrected = 0;
+            for (Integer reviewCode : reviewRepository.findLikeCountMismatches()) {
+                if (!lease.get().renew()) {
+                    log.warn("리뷰 좋아요 수 재계산 잠금 만료, 중단");
+                    break;
+                }
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        reviewRepository.lockForLikeRecount(reviewCode);
+                        reviewRepository.recountLikeCount(reviewCode);
+                    });
+                    corrected++;
+                } catch (RuntimeException e) {
+                    log.warn("리뷰 좋아요 수 재계산 실패 (review: {})", reviewCode, e);
+                }
+            }
+            log.info("리뷰 좋아요 수 재계산 완료 ({} reviews corrected)", corrected);
+        } finally {
+            lease.get().release();
+        }
+    }
+
+    private void add(PendingKey key, int delta) {
+        Map<PendingKey, Integer> stripe = stripeOf(key.reviewCode());
+        synchronized (stripe) {
+            // 증감분이 0 이 되면 항목을 제거
+            stripe.merge(key, delta, (a, b) -> (a + b == 0) ? null : a + b);
+        }
+    }
+
+    private Map<PendingKey, Integer> stripeOf(int reviewCode) {
+        return stripes.get(Math.floorMod(reviewCode, STRIPE_COUNT));
+    }
+}
@@ -2,6 +2,7 @@ package com.swcamp9th.bangflixbackend.domain.review.service;
 
 import com.swcamp9th.bangflixbackend.domain.review.dto.CreateReviewDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewCodeDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewCursorPageDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewReportDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.StatisticsReviewDTO;
@@ -9,8 +10,8 @@ import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
 import java.util.List;
 
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
 import org.springframework.data.domain.Pageable;
-import org.springframework.web.multipart.MultipartFile;
 
 
 /**
@@ -22,10 +23,11 @@ public interface ReviewService {
 
     /**
      * 특정 테마에 대한 리뷰 목록을 조회합니다.
-     * 기본적으로 최신순(생성일 내림차순) 정렬하며, 선택적 정렬 필터("highScore" 또는 "lowScore")에 따라 정렬 방식이 변경됩니다.
+     * 기본적으로 최신순(생성일 내림차순) 정렬하며, 선택적 정렬 필터("highScore", "lowScore", "like")에 따라 정렬 방식이 변경됩니다.
+     * 정렬은 테마 전체 리뷰를 기준으로 DB 에서 수행됩니다.
      *
      * @param themeCode 조회할 테마의 코드
-     * @param sort 정렬 필터 (예: "highScore", "lowScore") - null인 경우 기본 최신순 정렬
+     * @param sort 정렬 필터 (예: "highScore", "lowScore", "like") - null인 경우 기본 최신순 정렬
      * @param pageable 페이징 정보(페이지 번호, 크기 등)
      * @return 조회된 리뷰 목록을 ReviewDTO 리스트로 반환
      */
@@ -36,13 +38,37 @@ public interface ReviewService {
      * 로그인한 회원의 memberCode에 기반하여 맞춤형 리뷰 데이터를 제공할 수 있습니다.
      *
      * @param themeCode 조회할 테마의 코드
-     * @param sort 정렬 필터 (예: "highScore", "lowScore") - null인 경우 기본 최신순 정렬
+     * @param sort 정렬 필터 (예: "highScore", "lowScore", "like") - null인 경우 기본 최신순 정렬
      * @param pageable 페이징 정보(페이지 번호, 크기 등)
      * @param memberCode 로그인한 회원의 고유 코드
      * @return 조회된 리뷰 목록을 ReviewDTO 리스트로 반환
      */
     List<ReviewDTO> findReviewsBy(int themeCode, String sort, Pageable pageable, int memberCode);
 
+    /**
+     * 특정 테마에 대한 리뷰 목록을 커서 기반으로 회원용 조회합니다.
+     * 이전 응답의 nextCursor 를 전달하면 그 다음 위치부터 조회하며, 페이지 깊이와 관계없이 동일한 비용으로 조회됩니다.
+     *
+     * @param themeCode  조회할 테마의 코드
+     * @param cursor     이전 페이지 응답의 nextCursor. 첫 페이지는 null.
+     * @param size       페이지 크기 (최대 50)
+     * @param sort       정렬 필터 (예: "highScore", "lowScore", "like") - null인 경우 기본 최신순 정렬
+     * @param memberCode 로그인한 회원의 고유 코드
+     * @return 조회된 리뷰 목록과 다음 페이지 커서를 담은 ReviewCursorPageDTO
+     */
+    ReviewCursorPageDTO findReviewPageByCursor(int themeCode, String cursor, int size, String sort, int memberCode);
+
+    /**
+     * 특정 테마에 대한 리뷰 목록을 커서 기반으로 조회합니다.
+     *
+     * @param themeCode 조회할 테마의 코드
+     * @param cursor    이전 페이지 응답의 nextCursor. 첫 페이지는 null.
+     * @param size      페이지 크기 (최대 50)
+     * @param sort      정렬 필터 (예: "highScore", "lowScore", "like") - null인 경우 기본 최신순 정렬
+     * @return 조회된 리뷰 목록과 다음 페이지 커서를 담은 ReviewCursorPageDTO
+     */
+    ReviewCursorPageDTO findReviewPageByCursor(int themeCode, String cursor, int size, String sort);
+
     /**
      * 특정 테마에 대한 리뷰 통계 정보를 조회합니다.
      * 통계 정보에는 리뷰 개수, 점수 분포 등 다양한 항목이 포함됩니다.
@@ -52,6 +78,14 @@ public interface ReviewService {
      */
     StatisticsReviewDTO findReviewStatistics(int themeCode);
 
+    /**
+     * 전체 테마의 리뷰 통계 히스토그램을 review 테이블 기준으로 다시 계산합니다. 관리자만 실행할 수 있습니다.
+     *
+     * @param member 요청한 회원
+     * @return 히스토그램이 생성된 테마 수
+     */
+    int rebuildReviewStatistics(Member member);
+
     /**
      * Review 엔티티 리스트를 ReviewDTO 리스트로 변환합니다.
      *
@@ -114,7 +148,7 @@ public interface ReviewService {
      * @param images 첨부할 이미지 파일들의 리스트 (선택적)
      * @param member 리뷰를 작성하는 회원 엔티티
      */
-    void createReview(CreateReviewDTO newReview, List<MultipartFile> images, Member member);
+    void createReview(CreateReviewDTO newReview, List<StoredBlob> images, Member member);
 
     /**
      * 리뷰를 삭제합니다.
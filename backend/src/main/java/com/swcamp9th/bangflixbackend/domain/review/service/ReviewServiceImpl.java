@@ -1,90 +1,117 @@
 package com.swcamp9th.bangflixbackend.domain.review.service;
 
 import com.swcamp9th.bangflixbackend.domain.review.exception.ReviewNotFoundException;
+import com.swcamp9th.bangflixbackend.domain.ranking.service.ReviewLeaderboard;
 import com.swcamp9th.bangflixbackend.domain.review.dto.CreateReviewDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewCodeDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewCursor;
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewCursorPageDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewReportDTO;
 import com.swcamp9th.bangflixbackend.domain.review.dto.StatisticsReviewDTO;
 import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
 import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewFile;
 import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewLike;
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewLikeId;
 import com.swcamp9th.bangflixbackend.domain.review.exception.ReviewAlreadyLiked;
 import com.swcamp9th.bangflixbackend.domain.review.exception.ReviewNotLikedException;
+import com.swcamp9th.bangflixbackend.domain.review.mapper.ReviewMapper;
 import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewFileRepository;
 import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewLikeRepository;
 import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewRepository;
-import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewTendencyGenreRepository;
 import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeService;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeStatsService;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
+import com.swcamp9th.bangflixbackend.domain.user.entity.PointReasonEnum;
 import com.swcamp9th.bangflixbackend.domain.user.service.UserService;
+import com.swcamp9th.bangflixbackend.shared.error.exception.InvalidUserException;
 
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import com.swcamp9th.bangflixbackend.shared.error.exception.FileUploadException;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @Slf4j
 public class ReviewServiceImpl implements ReviewService {
 
-    private final ModelMapper modelMapper;
+    private static final String SORT_HIGH_SCORE = "highScore";
+    private static final String SORT_LOW_SCORE = "lowScore";
+    private static final String SORT_LIKE = "like";
+    private static final String SORT_NEWEST = "newest";
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 10;
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final ThemeService themeService;
+    private final ThemeStatsService themeStatsService;
     private final UserService userService;
     private final ReviewRepository reviewRepository;
     private final ReviewFileRepository reviewFileRepository;
     private final ReviewLikeRepository reviewLikeRepository;
-    private final ReviewTendencyGenreRepository reviewTendencyGenreRepository;
+    private final ReviewHydrator reviewHydrator;
+    private final ReviewStatsService reviewStatsService;
+    private final ReviewLikeCounter reviewLikeCounter;
+    private final FileUploadPipeline fileUploadPipeline;
+    private final StoreBestReviewIndex storeBestReviewIndex;
+    private final ReviewLeaderboard reviewLeaderboard;
 
     @Autowired
     public ReviewServiceImpl(
-            ModelMapper modelMapper,
             ThemeService themeService,
+            ThemeStatsService themeStatsService,
             UserService userService,
             ReviewRepository reviewRepository,
             ReviewFileRepository reviewFileRepository,
             ReviewLikeRepository reviewLikeRepository,
-            ReviewTendencyGenreRepository reviewTendencyGenreRepository
+            ReviewHydrator reviewHydrator,
+            ReviewStatsService reviewStatsService,
+            ReviewLikeCounter reviewLikeCounter,
+            FileUploadPipeline fileUploadPipeline,
+            StoreBestReviewIndex storeBestReviewIndex,
+            ReviewLeaderboard reviewLeaderboard
     ) {
-        this.modelMapper = modelMapper;
         this.themeService = themeService;
+        this.themeStatsService = themeStatsService;
         this.userService = userService;
         this.reviewRepository = reviewRepository;
         this.reviewFileRepository = reviewFileRepository;
         this.reviewLikeRepository = reviewLikeRepository;
-        this.reviewTendencyGenreRepository = reviewTendencyGenreRepository;
+        this.reviewHydrator = reviewHydrator;
+        this.reviewStatsService = reviewStatsService;
+        this.reviewLikeCounter = reviewLikeCounter;
+        this.fileUploadPipeline = fileUploadPipeline;
+        this.storeBestReviewIndex = storeBestReviewIndex;
+        this.reviewLeaderboard = reviewLeaderboard;
     }
 
     @Transactional
     @Override
     public void createReview(
             CreateReviewDTO newReviewDTO,
-            List<MultipartFile> images,
+            List<StoredBlob> images,
             Member member
     ) {
 
         // 리뷰 저장
-        Review review = modelMapper.map(newReviewDTO, Review.class);
+        Review review = ReviewMapper.toReview(newReviewDTO);
         review.setTheme(
                 themeService.findThemeByThemeCode(newReviewDTO.getThemeCode())
         );
         review.setMember(member);
         review.setActive(true);
         review.setCreatedAt(LocalDateTime.now());
+        review.setLikeCount(0);
         Review createdReview = reviewRepository.save(review);
+        themeStatsService.addReview(newReviewDTO.getThemeCode(), createdReview.getTotalScore());
+        reviewStatsService.addReview(createdReview);
 
         // 리뷰 파일 저장
         if(images != null) {
@@ -92,7 +119,7 @@ public class ReviewServiceImpl implements ReviewService {
         }
 
         // 멤버 포인트 올리기
-        userService.memberGainPoint(member, 5);
+        userService.memberGainPoint(member, 5, PointReasonEnum.REVIEW_CREATED, String.valueOf(createdReview.getReviewCode()));
     }
 
     @Transactional
@@ -100,8 +127,19 @@ public class ReviewServiceImpl implements ReviewService {
     public void deleteReview(ReviewCodeDTO reviewCodeDTO, int memberCode) {
         Review existingReview = reviewRepository.findById(reviewCodeDTO.getReviewCode())
                 .orElseThrow(ReviewNotFoundException::new);
+        if (!existingReview.getActive())
+            return;
+
         existingReview.setActive(false);
         reviewRepository.save(existingReview);
+        releaseReviewFiles(existingReview);
+        themeStatsService.removeReview(
+                existingReview.getTheme().getThemeCode(),
+                existingReview.getTotalScore()
+        );
+        reviewStatsService.removeReview(existingReview);
+        storeBestReviewIndex.evictReview(existingReview.getReviewCode());
+        reviewLeaderboard.remove(existingReview.getReviewCode());
     }
 
     @Transactional
@@ -112,8 +150,7 @@ public class ReviewServiceImpl implements ReviewService {
             Pageable pageable,
             int memberCode
     ) {
-        List<Review> reviews = reviewRepository.findReviewListByThemeCode(pageable, themeCode);
-        sortReviewList(sort, reviews);
+        List<Review> reviews = fetchReviewsBy(themeCode, normalizeSort(sort), withoutSort(pageable), null);
         return toReviewDTOList(reviews, memberCode);
     }
 
@@ -124,25 +161,135 @@ public class ReviewServiceImpl implements ReviewService {
             String sort,
             Pageable pageable
     ) {
-        List<Review> reviews = reviewRepository.findReviewListByThemeCode(pageable, themeCode);
-        sortReviewList(sort, reviews);
+        List<Review> reviews = fetchReviewsBy(themeCode, normalizeSort(sort), withoutSort(pageable), null);
         return toReviewDTOList(reviews);
     }
 
     @Transactional
     @Override
-    public ReviewReportDTO findReviewReport(int memberCode) {
-        Integer avgScore = reviewRepository.findAvgScoreByMemberCode(memberCode);
+    public ReviewCursorPageDTO findReviewPageByCursor(
+            int themeCode,
+            String cursor,
+            int size,
+            String sort,
+            int memberCode
+    ) {
+        String sortKey = normalizeSort(sort);
+        int pageSize = toCursorPageSize(size);
+        List<Review> reviews = fetchReviewPage(themeCode, cursor, pageSize, sortKey);
+        List<Review> page = reviews.subList(0, Math.min(reviews.size(), pageSize));
+        return toCursorPage(page, toReviewDTOList(page, memberCode), reviews.size() > pageSize, sortKey);
+    }
+
+    @Transactional
+    @Override
+    public ReviewCursorPageDTO findReviewPageByCursor(
+            int themeCode,
+            String cursor,
+            int size,
+            String sort
+    ) {
+        String sortKey = normalizeSort(sort);
+        int pageSize = toCursorPageSize(size);
+        List<Review> reviews = fetchReviewPage(themeCode, cursor, pageSize, sortKey);
+        List<Review> page = reviews.subList(0, Math.min(reviews.size(), pageSize));
+        return toCursorPage(page, toReviewDTOList(page), reviews.size() > pageSize, sortKey);
+    }
+
+    private List<Review> fetchReviewPage(
+            int themeCode,
+            String cursor,
+            int pageSize,
+            String sortKey
+    ) {
+        ReviewCursor reviewCursor = (cursor == null || cursor.isBlank()) ? null : ReviewCursor.decode(cursor, sortKey);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        return fetchReviewsBy(themeCode, sortKey, PageRequest.of(0, pageSize + 1), reviewCursor);
+    }
+
+    /**
+     * 정렬 기준에 맞는 쿼리로 테마의 리뷰를 조회한다. 정렬은 DB 에서 (theme_code, active, 정렬 값, created_at) 인덱스로 수행되며,
+     * 커서가 주어지면 해당 위치 이후의 행만 조회한다 (keyset).
+     */
+    private List<Review> fetchReviewsBy(
+            int themeCode,
+            String sortKey,
+            Pageable pageable,
+            ReviewCursor cursor
+    ) {
+        LocalDateTime cursorCreatedAt = (cursor == null) ? null : cursor.getCreatedAtValue();
+        Integer cursorReviewCode = (cursor == null) ? null : cursor.getReviewCode();
+        Integer cursorValue = (cursor == null || SORT_NEWEST.equals(sortKey)) ? null : cursor.getIntValue();
+
+        switch (sortKey) {
+            case SORT_HIGH_SCORE:
+                return reviewRepository.findReviewsOrderByHighScore(
+                        themeCode, cursorValue, cursorCreatedAt, cursorReviewCode, pageable);
+            case SORT_LOW_SCORE:
+                return reviewRepository.findReviewsOrderByLowScore(
+                        themeCode, cursorValue, cursorCreatedAt, cursorReviewCode, pageable);
+            case SORT_LIKE:
+                return reviewRepository.findReviewsOrderByLikes(
+                        themeCode, cursorValue, cursorCreatedAt, cursorReviewCode, pageable);
+            default:
+                return reviewRepository.findReviewsOrderByNewest(
+                        themeCode, cursorCreatedAt, cursorReviewCode, pageable);
+        }
+    }
 
-        if(avgScore == null)
-            return null;
+    private ReviewCursorPageDTO toCursorPage(
+            List<Review> reviews,
+            List<ReviewDTO> reviewDTOList,
+            boolean hasNext,
+            String sortKey
+    ) {
+        if (!hasNext || reviews.isEmpty())
+            return new ReviewCursorPageDTO(reviewDTOList, null);
+
+        // 좋아요 순 커서는 DTO 의 (미반영 증감분이 더해진) 값이 아니라 정렬에 쓰인 저장 값을 사용
+        Review lastReview = reviews.get(reviews.size() - 1);
+        String value;
+        switch (sortKey) {
+            case SORT_HIGH_SCORE:
+            case SORT_LOW_SCORE:
+                value = String.valueOf(lastReview.getTotalScore());
+                break;
+            case SORT_LIKE:
+                value = String.valueOf(lastReview.getLikeCount());
+                break;
+            default:
+                value = "";
+                break;
+        }
+
+        return new ReviewCursorPageDTO(
+                reviewDTOList,
+                new ReviewCursor(sortKey, value, lastReview.getCreatedAt().toString(), lastReview.getReviewCode()).encode()
+        );
+    }
+
+    private String normalizeSort(String sort) {
+        if (SORT_HIGH_SCORE.equals(sort) || SORT_LOW_SCORE.equals(sort) || SORT_LIKE.equals(sort))
+            return sort;
+        return SORT_NEWEST;
+    }
 
-        return new ReviewReportDTO(
-                avgScore,
-                reviewRepository.findTopGenresByMemberCode(
-                        PageRequest.of(0, 3),
-                        memberCode)
-                );
+    private int toCursorPageSize(int size) {
+        if (size <= 0)
+            return DEFAULT_CURSOR_PAGE_SIZE;
+        return Math.min(size, MAX_CURSOR_PAGE_SIZE);
+    }
+
+    // 정렬은 filter 값으로 결정되므로 Pageable 에 포함된 정렬 조건은 무시
+    private Pageable withoutSort(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+
+    @Transactional
+    @Override
+    public ReviewReportDTO findReviewReport(int memberCode) {
+        return reviewStatsService.findReviewReport(memberCode);
     }
 
     @Transactional
@@ -157,28 +304,36 @@ public class ReviewServiceImpl implements ReviewService {
     @Transactional
     @Override
     public StatisticsReviewDTO findReviewStatistics(int themeCode) {
+        return reviewStatsService.findStatistics(themeCode);
+    }
 
-        StatisticsReviewDTO statisticsReviewDTO = reviewRepository.findStatisticsByThemeCode(themeCode)
-                .orElse(null);
-
-        if (statisticsReviewDTO == null || statisticsReviewDTO.getAvgTotalScore() == null)
-            return null;
+    @Transactional
+    @Override
+    public int rebuildReviewStatistics(Member member) {
+        if (!Boolean.TRUE.equals(member.getIsAdmin()))
+            throw new InvalidUserException();
 
-        return statisticsReviewDTO;
+        return reviewStatsService.rebuildReviewStats();
     }
 
     @Transactional
     @Override
     public void likeReview(ReviewCodeDTO reviewCodeDTO, int memberCode) {
-        Optional<ReviewLike> reviewLikeOptional = reviewLikeRepository.findByMemberCodeAndReviewCode(
-                memberCode,
-                reviewCodeDTO.getReviewCode());
+        // 삭제된 리뷰에는 좋아요를 남기지 않음. 세대를 공유 잠금으로 읽어 커밋할 때까지 좋아요 수 재계산과 겹치지 않게 함
+        Integer generation = reviewRepository.findLikeCountGenerationForShare(reviewCodeDTO.getReviewCode());
+        if (generation == null)
+            throw new ReviewNotFoundException();
+
+        // 좋아요 수는 카운터가 따로 관리하므로 기본 키로만 조회
+        Optional<ReviewLike> reviewLikeOptional = reviewLikeRepository.findById(
+                new ReviewLikeId(memberCode, reviewCodeDTO.getReviewCode()));
+        LocalDateTime now = LocalDateTime.now();
 
         if (reviewLikeOptional.isEmpty()) {
             ReviewLike newReviewLike = new ReviewLike();
             newReviewLike.setMemberCode(memberCode);
             newReviewLike.setReviewCode(reviewCodeDTO.getReviewCode());
-            newReviewLike.setCreatedAt(LocalDateTime.now());
+            newReviewLike.setCreatedAt(now);
             newReviewLike.setActive(true);
             reviewLikeRepository.save(newReviewLike);
         } else {
@@ -186,153 +341,78 @@ public class ReviewServiceImpl implements ReviewService {
             if(reviewLike.isActive()) {
                 throw new ReviewAlreadyLiked();
             } else{
+                // 다시 좋아요한 시각을 기준으로 주간 집계에 포함
+                reviewLike.setCreatedAt(now);
                 reviewLike.setActive(true);
                 reviewLikeRepository.save(reviewLike);
             }
         }
+        reviewLikeCounter.increment(reviewCodeDTO.getReviewCode(), generation);
+        reviewLeaderboard.liked(reviewCodeDTO.getReviewCode(), now);
     }
 
     @Transactional
     @Override
     public void deleteLikeReview(ReviewCodeDTO reviewCodeDTO, int memberCode) {
-        ReviewLike reviewLike = reviewLikeRepository.findByMemberCodeAndReviewCode(memberCode, reviewCodeDTO.getReviewCode())
+        // 삭제된 리뷰의 좋아요는 이미 집계에서 빠졌으므로 취소할 수 없음
+        Integer generation = reviewRepository.findLikeCountGenerationForShare(reviewCodeDTO.getReviewCode());
+        if (generation == null)
+            throw new ReviewNotLikedException();
+
+        ReviewLike reviewLike = reviewLikeRepository.findById(new ReviewLikeId(memberCode, reviewCodeDTO.getReviewCode()))
                 .orElseThrow(ReviewNotLikedException::new);
 
         if(reviewLike.isActive()) {
             reviewLike.setActive(false);
             reviewLikeRepository.save(reviewLike);
+            reviewLikeCounter.decrement(reviewCodeDTO.getReviewCode(), generation);
+            reviewLeaderboard.unliked(reviewCodeDTO.getReviewCode(), reviewLike.getCreatedAt());
         } else{
             throw new ReviewNotLikedException();
         }
     }
 
-    private void saveReviewFile(List<MultipartFile> images, Review review) {
-        String uploadsDir = "src/main/resources/static/uploadFiles/reviewFile";
-
-        try {
-            for(MultipartFile file : images) {
-                String fileName = UUID.randomUUID().toString().replace("-", "") + "_" + file.getOriginalFilename();
-                String filePath = uploadsDir + "/" + fileName;
-                String dbFilePath = "/uploadFiles/reviewFile/" + fileName;
-
-                Path path = Paths.get(filePath);
-                Files.createDirectories(path.getParent());
-                Files.write(path, file.getBytes());
-
-                reviewFileRepository.save(ReviewFile.builder()
-                        .review(review)
-                        .active(true)
-                        .createdAt(LocalDateTime.now())
-                        .url(dbFilePath)
-                        .build());
-            }
-        } catch (IOException e) {
-            throw new FileUploadException();
+    // 리뷰 첨부파일을 비활성화하고 저장된 내용의 참조를 해제
+    private void releaseReviewFiles(Review review) {
+        for (ReviewFile reviewFile : reviewFileRepository.findByReview_ReviewCode(review.getReviewCode())) {
+            reviewFile.setActive(false);
+            fileUploadPipeline.release(reviewFile.getUrl());
         }
     }
 
-    public List<String> findImagePathsByReviewCode(int reviewCode) {
-        return reviewFileRepository.findByReview_ReviewCode(reviewCode)
-                .stream()
-                .map(ReviewFile::getUrl)
-                .collect(Collectors.toCollection(ArrayList::new));
-    }
-
-    private int findReviewLikesByReviewCode(int reviewCode) {
-        return reviewLikeRepository.countReviewLikesByReviewCode(reviewCode);
-    }
+    private void saveReviewFile(List<StoredBlob> images, Review review) {
+        for (StoredBlob file : images) {
+            String dbFilePath = fileUploadPipeline.attach(file);
 
-    private List<String> findMemberTendencyGenre(int memberCode) {
-        return reviewTendencyGenreRepository.findMemberGenreByMemberCode(memberCode).stream()
-                .map(reviewTendencyGenre -> reviewTendencyGenre.getGenre().getName())
-                .collect(Collectors.toCollection(ArrayList::new));
+            reviewFileRepository.save(ReviewFile.builder()
+                    .review(review)
+                    .active(true)
+                    .createdAt(LocalDateTime.now())
+                    .url(dbFilePath)
+                    .build());
+        }
     }
 
     @Override
     @Transactional
     public ReviewDTO getBestReviewByStoreCode(int storeCode) {
-        return reviewLikeRepository.findTop1BestReviewByStoreCode(storeCode)
-                .stream()
-                .findFirst()
-                .map(reviewLike ->
-                        reviewRepository.findById(reviewLike.getReviewCode())
-                                .orElseThrow(ReviewNotFoundException::new))
-                .map(this::toBaseReviewDTO)
+        return storeBestReviewIndex.find(storeCode)
+                .map(review -> reviewHydrator.hydrate(List.of(review)).get(0))
                 .orElse(null);
     }
 
-    private boolean checkMemberLikeReview(int memberCode, int reviewCode) {
-        return reviewLikeRepository.existReviewLikeByReviewCodeAndMemberCode(memberCode, reviewCode);
-    }
-
-    private void sortReviewList(
-            String sort,
-            List<Review> reviews
-    ) {
-        if (sort == null) sort = "";
-        switch (sort) {
-            case "highScore":
-
-                // 점수 높은 순 정렬
-                reviews.sort(Comparator.comparing(Review::getTotalScore).reversed()
-                        .thenComparing(Comparator.comparing(Review::getCreatedAt).reversed()));
-                break;
-            case "lowScore":
-
-                // 점수 낮은 순 정렬
-                reviews.sort(Comparator.comparing(Review::getTotalScore)
-                        .thenComparing(Comparator.comparing(Review::getCreatedAt).reversed()));
-                break;
-            default:
-
-                // 필터가 일치하지 않으면 최신순으로 정렬 (기본값)
-                reviews.sort(Comparator.comparing(Review::getCreatedAt).reversed());
-                break;
-        }
-    }
-
     @Override
     public List<ReviewDTO> toReviewDTOList(
             List<Review> reviewList,
             int memberCode
     ) {
-        return reviewList.stream()
-                .map(review -> {
-                    ReviewDTO reviewDTO = toBaseReviewDTO(review);
-                    if (checkMemberLikeReview(review.getReviewCode(), memberCode)) {
-                        reviewDTO.setIsLike(true);
-                    }
-                    return reviewDTO;
-                }).collect(Collectors.toCollection(ArrayList::new));
+        return reviewHydrator.hydrate(reviewList, memberCode);
     }
 
     @Override
     public List<ReviewDTO> toReviewDTOList(
             List<Review> reviewList
     ) {
-        return reviewList.stream()
-                .map(this::toBaseReviewDTO)
-                .collect(Collectors.toCollection(ArrayList::new));
-    }
-
-    private ReviewDTO toBaseReviewDTO(Review review) {
-        ReviewDTO reviewDTO = modelMapper.map(review, ReviewDTO.class);
-
-        // 이미지 경로 추가
-        reviewDTO.setImagePaths(findImagePathsByReviewCode(review.getReviewCode()));
-        reviewDTO.setLikes(findReviewLikesByReviewCode(review.getReviewCode()));
-        reviewDTO.setMemberNickname(review.getMember().getNickname());
-        reviewDTO.setReviewCode(review.getReviewCode());
-        reviewDTO.setMemberCode(review.getMember().getMemberCode());
-        reviewDTO.setMemberImage(review.getMember().getImage());
-        List<String> genres = findMemberTendencyGenre(review.getMember().getMemberCode());
-        if(!genres.isEmpty())
-            reviewDTO.setGenres(genres);
-        reviewDTO.setThemeCode(review.getTheme().getThemeCode());
-        reviewDTO.setThemeImage(review.getTheme().getPosterImage());
-        reviewDTO.setThemeName(review.getTheme().getName());
-        reviewDTO.setIsLike(false);
-        return reviewDTO;
+        return reviewHydrator.hydrate(reviewList);
     }
-
 }
@@ -0,0 +1,52 @@
+package com.swcamp9th.bangflixbackend.domain.review.service;
+
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewReportDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.StatisticsReviewDTO;
+import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+
+/**
+ * ReviewStatsService 인터페이스는 테마별 리뷰 항목 히스토그램(review_stats)과
+ * 회원별 리뷰 집계(review_member_stats, review_member_genre_stats) 관리 로직을 정의합니다.
+ * <p>
+ * 리뷰 작성/삭제 트랜잭션 안에서 호출되어 해당 리뷰의 항목 값에 해당하는 칸과 작성자의 집계를 증감시키며,
+ * 리뷰 통계와 회원 리뷰 리포트는 리뷰 테이블을 읽지 않고 집계 테이블로 계산합니다.
+ */
+public interface ReviewStatsService {
+
+    /**
+     * 리뷰가 등록되었을 때 리뷰의 각 항목 값에 해당하는 개수와 작성자의 리뷰 집계를 증가시킵니다.
+     *
+     * @param review 등록된 리뷰 (테마와 작성자가 설정되어 있어야 함)
+     */
+    void addReview(Review review);
+
+    /**
+     * 리뷰가 삭제되었을 때 리뷰의 각 항목 값에 해당하는 개수와 작성자의 리뷰 집계를 감소시킵니다.
+     *
+     * @param review 삭제된 리뷰 (테마와 작성자가 설정되어 있어야 함)
+     */
+    void removeReview(Review review);
+
+    /**
+     * 테마의 리뷰 수와 점수 합계(theme_stats), 히스토그램(review_stats)으로 리뷰 통계를 계산합니다.
+     *
+     * @param themeCode 조회할 테마의 코드
+     * @return 리뷰 통계 정보, 활성 리뷰가 없으면 null
+     */
+    StatisticsReviewDTO findStatistics(int themeCode);
+
+    /**
+     * 회원별 리뷰 집계로 리뷰 리포트(평균 점수, 리뷰 수가 많은 장르 상위 3개)를 계산합니다.
+     *
+     * @param memberCode 조회할 회원의 코드
+     * @return 리뷰 리포트 정보, 활성 리뷰가 없으면 null
+     */
+    ReviewReportDTO findReviewReport(int memberCode);
+
+    /**
+     * review 테이블을 기준으로 전체 테마의 히스토그램과 회원별 리뷰 집계를 다시 계산합니다. (백필/보정용)
+     *
+     * @return 히스토그램이 생성된 테마 수
+     */
+    int rebuildReviewStats();
+}
@@ -0,0 +1,184 @@
+package com.swcamp9th.bangflixbackend.domain.review.service;
+
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewReportDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.StatisticsReviewDTO;
+import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewMemberStats;
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewStats;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewGenreRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewMemberGenreStatsRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewMemberStatsRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewStatsRepository;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeStats;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Slf4j
+public class ReviewStatsServiceImpl implements ReviewStatsService {
+
+    private static final int REPORT_GENRE_COUNT = 3;
+
+    private final ReviewStatsRepository reviewStatsRepository;
+    private final ReviewMemberStatsRepository reviewMemberStatsRepository;
+    private final ReviewMemberGenreStatsRepository reviewMemberGenreStatsRepository;
+    private final ReviewGenreRepository reviewGenreRepository;
+    private final ThemeStatsService themeStatsService;
+
+    @Autowired
+    public ReviewStatsServiceImpl(
+            ReviewStatsRepository reviewStatsRepository,
+            ReviewMemberStatsRepository reviewMemberStatsRepository,
+            ReviewMemberGenreStatsRepository reviewMemberGenreStatsRepository,
+            ReviewGenreRepository reviewGenreRepository,
+            ThemeStatsService themeStatsService
+    ) {
+        this.reviewStatsRepository = reviewStatsRepository;
+        this.reviewMemberStatsRepository = reviewMemberStatsRepository;
+        this.reviewMemberGenreStatsRepository = reviewMemberGenreStatsRepository;
+        this.reviewGenreRepository = reviewGenreRepository;
+        this.themeStatsService = themeStatsService;
+    }
+
+    @Override
+    @Transactional
+    public void addReview(Review review) {
+        // 삭제 시 같은 장르로 되돌릴 수 있도록 작성 시점의 테마 장르를 먼저 기록
+        reviewGenreRepository.insertFromTheme(review.getReviewCode(), review.getTheme().getThemeCode());
+        applyDelta(review, 1);
+    }
+
+    @Override
+    @Transactional
+    public void removeReview(Review review) {
+        applyDelta(review, -1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StatisticsReviewDTO findStatistics(int themeCode) {
+        // 리뷰 수와 점수 합계는 theme_stats, 항목별 개수는 review_stats 에서 읽음
+        ThemeStats themeStats = themeStatsService.findThemeStats(themeCode);
+        if (themeStats == null || themeStats.getReviewCount() <= 0)
+            return null;
+        ReviewStats stats = reviewStatsRepository.findById(themeCode).orElse(null);
+        if (stats == null)
+            return null;
+
+        long total = themeStats.getReviewCount();
+        return StatisticsReviewDTO.builder()
+                .avgTotalScore((double) themeStats.getScoreSum() / total)
+                .fiveScorePercent(percent(stats.getScoreFive(), total))
+                .fourScorePercent(percent(stats.getScoreFour(), total))
+                .threeScorePercent(percent(stats.getScoreThree(), total))
+                .twoScorePercent(percent(stats.getScoreTwo(), total))
+                .oneScorePercent(percent(stats.getScoreOne(), total))
+                .oneLevelPercent(percent(stats.getLevelOne(), total))
+                .twoLevelPercent(percent(stats.getLevelTwo(), total))
+                .threeLevelPercent(percent(stats.getLevelThree(), total))
+                .fourLevelPercent(percent(stats.getLevelFour(), total))
+                .fiveLevelPercent(percent(stats.getLevelFive(), total))
+                .oneHorrorLevelPercent(percent(stats.getHorrorLevelOne(), total))
+                .twoHorrorLevelPercent(percent(stats.getHorrorLevelTwo(), total))
+                .threeHorrorLevelPercent(percent(stats.getHorrorLevelThree(), total))
+                .fourHorrorLevelPercent(percent(stats.getHorrorLevelFour(), total))
+                .fiveHorrorLevelPercent(percent(stats.getHorrorLevelFive(), total))
+                .oneActivePercent(percent(stats.getActivityOne(), total))
+                .twoActivePercent(percent(stats.getActivityTwo(), total))
+                .threeActivePercent(percent(stats.getActivityThree(), total))
+                .fourActivePercent(percent(stats.getActivityFour(), total))
+                .fiveActivePercent(percent(stats.getActivityFive(), total))
+                .oneInteriorPercent(percent(stats.getInteriorOne(), total))
+                .twoInteriorPercent(percent(stats.getInteriorTwo(), total))
+                .threeInteriorPercent(percent(stats.getInteriorThree(), total))
+                .fourInteriorPercent(percent(stats.getInteriorFour(), total))
+                .fiveInteriorPercent(percent(stats.getInteriorFive(), total))
+                .oneProbabilityPercent(percent(stats.getProbabilityOne(), total))
+                .twoProbabilityPercent(percent(stats.getProbabilityTwo(), total))
+                .threeProbabilityPercent(percent(stats.getProbabilityThree(), total))
+                .fourProbabilityPercent(percent(stats.getProbabilityFour(), total))
+                .fiveProbabilityPercent(percent(stats.getProbabilityFive(), total))
+                .oneCompositionPercent(percent(stats.getCompositionOne(), total))
+                .twoCompositionPercent(percent(stats.getCompositionTwo(), total))
+                .threeCompositionPercent(percent(stats.getCompositionThree(), total))
+                .fourCompositionPercent(percent(stats.getCompositionFour(), total))
+                .fiveCompositionPercent(percent(stats.getCompositionFive(), total))
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReviewReportDTO findReviewReport(int memberCode) {
+        ReviewMemberStats stats = reviewMemberStatsRepository.findById(memberCode).orElse(null);
+        if (stats == null || stats.getReviewCount() <= 0)
+            return null;
+
+        // 소수점 이하는 버린 평균 점수
+        return new ReviewReportDTO(
+                (int) (stats.getScoreSum() / stats.getReviewCount()),
+                reviewMemberGenreStatsRepository.findTopGenreNames(memberCode, PageRequest.of(0, REPORT_GENRE_COUNT))
+        );
+    }
+
+    @Override
+    @Transactional
+    public int rebuildReviewStats() {
+        // 활성 리뷰가 모두 사라진 테마/회원의 행도 정리되도록 비운 뒤 다시 채움
+        reviewStatsRepository.deleteAllInBatch();
+        int inserted = reviewStatsRepository.insertAllFromReviews();
+        reviewMemberStatsRepository.deleteAllInBatch();
+        int members = reviewMemberStatsRepository.insertAllFromReviews();
+        reviewGenreRepository.backfillFromThemes();
+        reviewMemberGenreStatsRepository.deleteAllInBatch();
+        reviewMemberGenreStatsRepository.insertAllFromReviews();
+        log.info("review_stats 재집계 완료 ({} themes, {} members)", inserted, members);
+        return inserted;
+    }
+
+    // 집계 테이블이 비어 있는 상태로 기동되면 최초 1회 채워 넣음
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initReviewStats() {
+        if (reviewStatsRepository.count() == 0 || reviewMemberStatsRepository.count() == 0) {
+            rebuildReviewStats();
+            return;
+        }
+        // 장르 기록 없이 작성된 리뷰가 있으면 채워 두어야 삭제 시 장르별 리뷰 수를 되돌릴 수 있음
+        int backfilled = reviewGenreRepository.backfillFromThemes();
+        if (backfilled > 0)
+            log.info("review_genre 기록 생성 ({} rows)", backfilled);
+    }
+
+    private void applyDelta(Review review, int delta) {
+        int themeCode = review.getTheme().getThemeCode();
+        int memberCode = review.getMember().getMemberCode();
+        reviewStatsRepository.addDelta(
+                themeCode,
+                delta,
+                review.getTotalScore(),
+                name(review.getLevel()),
+                name(review.getHorrorLevel()),
+                name(review.getActivity()),
+                name(review.getInterior()),
+                name(review.getProbability()),
+                name(review.getComposition())
+        );
+        reviewMemberStatsRepository.addDelta(memberCode, delta, review.getTotalScore());
+        reviewMemberGenreStatsRepository.addDelta(memberCode, review.getReviewCode(), delta);
+    }
+
+    private String name(Enum<?> value) {
+        return (value == null) ? null : value.name();
+    }
+
+    // 소수점 이하는 버린 백분율
+    private long percent(long count, long total) {
+        return count * 100 / total;
+    }
+}
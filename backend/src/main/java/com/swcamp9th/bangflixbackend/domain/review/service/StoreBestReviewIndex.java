@@ -0,0 +1,89 @@
+package com.swcamp9th.bangflixbackend.domain.review.service;
+
+import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewRepository;
+import com.swcamp9th.bangflixbackend.shared.transaction.TransactionCallbacks;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업체별 베스트 리뷰(좋아요가 가장 많은 리뷰) 인덱스.
+ * <p>
+ * 업체 코드 -> 베스트 리뷰 코드를 보관하고, 조회 시에는 리뷰 한 건만 기본 키로 읽는다.
+ * 좋아요 수는 ReviewLikeCounter 가 review.like_count 에 몇 초 간격으로 반영하므로,
+ * 항목은 짧은 주기(REFRESH_MILLIS)가 지나면 다시 계산한다. 업체 전체 리뷰를 정렬하는 대신 업체의 테마마다
+ * (theme_code, active, like_count, created_at) 인덱스에서 맨 앞 한 건만 읽어 합친다 (업체당 테마는 수 개).
+ * 리뷰가 삭제되면 그 리뷰를 가리키는 항목을 커밋 이후 제거하며, 다른 인스턴스에서 삭제된 리뷰는 조회 시 비활성 여부로 걸러 다시 계산한다.
+ */
+@Component
+public class StoreBestReviewIndex {
+
+    private static final long REFRESH_MILLIS = 60 * 1000L;
+
+    private final ReviewRepository reviewRepository;
+
+    // 업체 코드 -> 베스트 리뷰 (좋아요 받은 리뷰가 없으면 reviewCode 가 null)
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public StoreBestReviewIndex(ReviewRepository reviewRepository) {
+        this.reviewRepository = reviewRepository;
+    }
+
+    /**
+     * 업체의 베스트 리뷰 (작성자와 테마가 함께 로딩됨). 좋아요 받은 활성 리뷰가 없으면 빈 값.
+     */
+    public Optional<Review> find(int storeCode) {
+        Entry entry = entries.get(storeCode);
+        if (entry != null && System.currentTimeMillis() - entry.loadedAt() < REFRESH_MILLIS) {
+            if (entry.reviewCode() == null)
+                return Optional.empty();
+
+            Optional<Review> review = reviewRepository.findActiveReview(entry.reviewCode());
+            if (review.isPresent())
+                return review;
+            // 다른 인스턴스에서 삭제된 리뷰
+            entries.remove(storeCode, entry);
+        }
+        return load(storeCode);
+    }
+
+    /**
+     * 리뷰가 삭제되면 그 리뷰를 베스트 리뷰로 가진 업체의 항목을 커밋 이후 제거한다.
+     */
+    public void evictReview(int reviewCode) {
+        TransactionCallbacks.afterCommit(() -> entries.values().removeIf(entry -> Integer.valueOf(reviewCode).equals(entry.reviewCode())));
+    }
+
+    private Optional<Review> load(int storeCode) {
+        Candidate best = null;
+        for (Integer themeCode : reviewRepository.findActiveThemeCodesByStoreCode(storeCode)) {
+            for (Object[] row : reviewRepository.findTopLikedReview(themeCode, PageRequest.of(0, 1))) {
+                Candidate candidate = new Candidate(
+                        ((Number) row[0]).intValue(), ((Number) row[1]).intValue(), (LocalDateTime) row[2]);
+                if (best == null || Candidate.ORDER.compare(candidate, best) > 0)
+                    best = candidate;
+            }
+        }
+
+        Optional<Review> review = (best == null) ? Optional.empty() : reviewRepository.findActiveReview(best.reviewCode());
+        entries.put(storeCode, new Entry(review.map(Review::getReviewCode).orElse(null), System.currentTimeMillis()));
+        return review;
+    }
+
+    private record Entry(Integer reviewCode, long loadedAt) {
+    }
+
+    // 좋아요 수, 작성 시각, 리뷰 코드 순으로 클수록 앞선 리뷰
+    private record Candidate(int reviewCode, int likeCount, LocalDateTime createdAt) {
+        private static final Comparator<Candidate> ORDER = Comparator.comparingInt(Candidate::likeCount)
+                .thenComparing(Candidate::createdAt)
+                .thenComparingInt(Candidate::reviewCode);
+    }
+}
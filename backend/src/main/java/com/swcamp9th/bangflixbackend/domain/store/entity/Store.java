@@ -1,11 +1,14 @@
 package com.swcamp9th.bangflixbackend.domain.store.entity;
 
+import com.swcamp9th.bangflixbackend.domain.store.service.StoreCacheListener;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeIndexListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 import lombok.*;
 
 @Entity
+@EntityListeners({ThemeIndexListener.class, StoreCacheListener.class})
 @Table(name = "store")
 @Getter
 @Setter
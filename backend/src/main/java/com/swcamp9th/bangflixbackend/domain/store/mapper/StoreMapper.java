@@ -0,0 +1,38 @@
+package com.swcamp9th.bangflixbackend.domain.store.mapper;
+
+import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
+import com.swcamp9th.bangflixbackend.domain.store.entity.Store;
+import java.util.Objects;
+
+/**
+ * 업체 엔티티 -> DTO 변환.
+ */
+public final class StoreMapper {
+
+    private StoreMapper() {
+    }
+
+    public static StoreDTO toStoreDTO(Store store) {
+        return new StoreDTO(
+                store.getStoreCode(),
+                store.getActive(),
+                Objects.toString(store.getCreatedAt(), null),
+                store.getName(),
+                store.getAddress(),
+                store.getPageUrl(),
+                store.getImage()
+        );
+    }
+
+    public static StoreDTO copy(StoreDTO store) {
+        return new StoreDTO(
+                store.getStoreCode(),
+                store.getActive(),
+                store.getCreatedAt(),
+                store.getName(),
+                store.getAddress(),
+                store.getPageUrl(),
+                store.getImage()
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package com.swcamp9th.bangflixbackend.domain.store.service;
+
+import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
+import com.swcamp9th.bangflixbackend.domain.store.entity.Store;
+import com.swcamp9th.bangflixbackend.domain.store.mapper.StoreMapper;
+import com.swcamp9th.bangflixbackend.domain.store.repository.StoreRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업체 정보 읽기 캐시.
+ * <p>
+ * 업체 테이블은 작고 거의 바뀌지 않으므로 기동 시 전체를 적재하고, 캐시에 없는 업체는 한 번의 findAllById 로 채운다.
+ * 업체가 변경되면 해당 항목을 제거하고, 다른 인스턴스의 변경은 주기적 재로딩으로 맞춘다.
+ * 반환되는 StoreDTO 는 공유 객체이므로 호출하는 쪽에서 수정하지 않는다.
+ */
+@Component
+@Slf4j
+public class StoreCache {
+
+    private final StoreRepository storeRepository;
+
+    // 조회는 잠금 없이 읽고, 변경은 새 Map 으로 교체
+    private volatile Map<Integer, StoreDTO> stores = Map.of();
+
+    @Autowired
+    public StoreCache(
+            StoreRepository storeRepository
+    ) {
+        this.storeRepository = storeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    public void reload() {
+        Map<Integer, StoreDTO> loaded = new HashMap<>();
+        for (Store store : storeRepository.findAll()) {
+            loaded.put(store.getStoreCode(), StoreMapper.toStoreDTO(store));
+        }
+        stores = loaded;
+        log.info("업체 캐시 로딩 완료 ({} stores)", loaded.size());
+    }
+
+    /**
+     * 업체 정보를 반환한다. 존재하지 않는 업체면 null.
+     */
+    public StoreDTO get(int storeCode) {
+        return getAll(List.of(storeCode)).get(storeCode);
+    }
+
+    /**
+     * 여러 업체 정보를 한 번에 반환한다. 캐시에 없는 업체만 모아 한 번에 조회하며, 존재하지 않는 업체는 결과에서 빠진다.
+     */
+    public Map<Integer, StoreDTO> getAll(Collection<Integer> storeCodes) {
+        Map<Integer, StoreDTO> current = stores;
+        Map<Integer, StoreDTO> result = new HashMap<>();
+        List<Integer> misses = new ArrayList<>();
+        for (Integer storeCode : storeCodes) {
+            StoreDTO store = current.get(storeCode);
+            if (store != null)
+                result.put(storeCode, store);
+            else if (!misses.contains(storeCode))
+                misses.add(storeCode);
+        }
+
+        if (!misses.isEmpty()) {
+            Map<Integer, StoreDTO> loaded = new HashMap<>();
+            for (Store store : storeRepository.findAllById(misses)) {
+                loaded.put(store.getStoreCode(), StoreMapper.toStoreDTO(store));
+            }
+            result.putAll(loaded);
+            putAll(loaded);
+        }
+        return result;
+    }
+
+    public synchronized void evict(int storeCode) {
+        if (!stores.containsKey(storeCode))
+            return;
+
+        Map<Integer, StoreDTO> updated = new HashMap<>(stores);
+        updated.remove(storeCode);
+        stores = updated;
+    }
+
+    private synchronized void putAll(Map<Integer, StoreDTO> loaded) {
+        if (loaded.isEmpty())
+            return;
+
+        Map<Integer, StoreDTO> updated = new HashMap<>(stores);
+        updated.putAll(loaded);
+        stores = updated;
+    }
+}
@@ -0,0 +1,29 @@
+package com.swcamp9th.bangflixbackend.domain.store.service;
+
+import com.swcamp9th.bangflixbackend.domain.store.entity.Store;
+import com.swcamp9th.bangflixbackend.shared.transaction.TransactionCallbacks;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Store 엔티티가 변경/삭제되면 커밋 이후 StoreCache 의 해당 항목을 제거하는 JPA 엔티티 리스너.
+ */
+@Component
+public class StoreCacheListener {
+
+    // 리스너는 EntityManagerFactory 생성 중에 만들어지므로 캐시 빈은 지연 조회
+    private final ObjectProvider<StoreCache> storeCache;
+
+    public StoreCacheListener(ObjectProvider<StoreCache> storeCache) {
+        this.storeCache = storeCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Store store) {
+        int storeCode = store.getStoreCode();
+        TransactionCallbacks.afterCommit(() -> storeCache.getObject().evict(storeCode));
+    }
+}
@@ -1,8 +1,13 @@
 package com.swcamp9th.bangflixbackend.domain.store.service;
 
 import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
+import java.util.Collection;
+import java.util.Map;
 
 public interface StoreService {
 
     StoreDTO findStore(Integer storeCode);
+
+    // 업체 코드 -> 업체 정보 (존재하지 않는 업체는 제외). 반환된 DTO 는 캐시 공유 객체이므로 수정하지 않는다.
+    Map<Integer, StoreDTO> findStores(Collection<Integer> storeCodes);
 }
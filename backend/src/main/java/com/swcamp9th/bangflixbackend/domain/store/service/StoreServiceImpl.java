@@ -2,33 +2,34 @@ package com.swcamp9th.bangflixbackend.domain.store.service;
 
 import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
 import com.swcamp9th.bangflixbackend.domain.store.exception.StoreNotFoundException;
-import com.swcamp9th.bangflixbackend.domain.store.repository.StoreRepository;
-import org.modelmapper.ModelMapper;
+import com.swcamp9th.bangflixbackend.domain.store.mapper.StoreMapper;
+import java.util.Collection;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class StoreServiceImpl implements StoreService {
 
-    private final ModelMapper modelMapper;
-    private final StoreRepository storeRepository;
+    private final StoreCache storeCache;
 
     @Autowired
-    public StoreServiceImpl(
-            ModelMapper modelMapper,
-            StoreRepository storeRepository
-    ) {
-        this.modelMapper = modelMapper;
-        this.storeRepository = storeRepository;
+    public StoreServiceImpl(StoreCache storeCache) {
+        this.storeCache = storeCache;
     }
 
     @Override
-    @Transactional
     public StoreDTO findStore(Integer storeCode) {
-        return modelMapper.map(
-                storeRepository.findById(storeCode)
-                        .orElseThrow(StoreNotFoundException::new),
-                StoreDTO.class);
+        StoreDTO store = storeCache.get(storeCode);
+        if (store == null)
+            throw new StoreNotFoundException();
+
+        // 캐시 객체가 외부에서 수정되지 않도록 복사본 반환
+        return StoreMapper.copy(store);
+    }
+
+    @Override
+    public Map<Integer, StoreDTO> findStores(Collection<Integer> storeCodes) {
+        return storeCache.getAll(storeCodes);
     }
 }
@@ -4,6 +4,9 @@ import com.swcamp9th.bangflixbackend.domain.user.service.UserService;
 import com.swcamp9th.bangflixbackend.shared.response.ResponseCode;
 import com.swcamp9th.bangflixbackend.shared.response.SuccessResponse;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.FindThemeByReactionDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeCursorPageDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeFacetFilterDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeFacetSearchDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeReactionDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.GenreDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeDTO;
@@ -19,6 +22,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestAttribute;
@@ -139,6 +143,83 @@ public class ThemeController {
                 .body(SuccessResponse.of(ResponseCode.OK, themeDTOList));
     }
 
+    /**
+     * 테마 필터링 및 검색 조회 API (커서 기반).
+     * <p>
+     * 정렬/장르/검색 조건은 기본 검색 API와 동일하며, 페이지 번호 대신 이전 응답의 nextCursor 를 전달받아
+     * 다음 페이지를 조회합니다. nextCursor 가 null 이면 마지막 페이지입니다.
+     *
+     * @param cursor  (선택적) 이전 페이지 응답의 nextCursor. 첫 페이지는 생략.
+     * @param size    페이지 크기 (기본 10, 최대 50)
+     * @param filter  정렬 필터 (like, scrap, review 등)
+     * @param genres  선택적 장르 리스트 (여러 개 가능)
+     * @param content 검색어 (테마 이름에 포함된 문자열)
+     * @param loginId (선택적) 인증 토큰에서 추출한 로그인 아이디. 게스트의 경우 null.
+     * @return 테마 목록과 다음 페이지 커서를 담은 ThemeCursorPageDTO와 성공 메시지가 포함된 응답
+     */
+    @GetMapping("/cursor")
+    @SecurityRequirement(name = "Authorization")
+    @Operation(summary = "테마 필터링 및 검색 조회 API (커서 기반)",
+            description = "기본 검색 API와 동일한 조건으로 테마를 조회하되, 이전 응답의 nextCursor 를 이용해 다음 페이지를 조회합니다. "
+                    + "nextCursor 가 null 이면 마지막 페이지입니다.")
+    public ResponseEntity<SuccessResponse<ThemeCursorPageDTO>> findThemePageByCursor(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(required = false) String filter,
+        @RequestParam(required = false) List<String> genres,
+        @RequestParam(required = false) String content,
+        @RequestAttribute(value = SERVLET_REQUEST_ATTRIBUTE_KEY, required = false) String loginId
+    ) {
+        ThemeCursorPageDTO themeCursorPage;
+
+        if (loginId == null) {  // for guests
+            themeCursorPage = themeService.findThemePageByCursor(cursor, size, filter, genres, content);
+        } else {    // for members
+            int memberCode = userService.findMemberCodeByLoginId(loginId);
+            themeCursorPage = themeService.findThemePageByCursor(cursor, size, filter, genres, content, memberCode);
+        }
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(SuccessResponse.of(ResponseCode.OK, themeCursorPage));
+    }
+
+    /**
+     * facet 테마 검색 API (테마 검색 API 의 facet 모드, mode=facet).
+     * <p>
+     * 장르, 난이도, 가격 구간, 제한 시간 구간, 인원, 업체를 조합해 테마를 조회합니다.
+     * 같은 facet 안의 값은 OR, 서로 다른 facet 은 AND 로 결합되며,
+     * 응답의 facets 에는 각 값을 선택했을 때 조회되는 테마 수가 포함됩니다.
+     *
+     * @param pageable 페이징 정보
+     * @param filter   정렬 필터 (like, scrap, review 등)
+     * @param facets   facet 선택 값 (genres, levels, prices, timeLimits, headcounts, stores) 과 검색어(content)
+     * @param loginId  (선택적) 인증 토큰에서 추출한 로그인 아이디. 게스트의 경우 null.
+     * @return 테마 목록, 전체 결과 수, facet 별 개수를 담은 ThemeFacetSearchDTO와 성공 메시지가 포함된 응답
+     */
+    @GetMapping(value = "", params = "mode=facet")
+    @SecurityRequirement(name = "Authorization")
+    @Operation(summary = "facet 테마 검색 API",
+            description = "mode=facet 으로 호출하면 장르/난이도/가격/제한 시간/인원/업체 조건을 조합해 테마를 조회하고, "
+                    + "조건별 테마 수를 함께 반환합니다.")
+    public ResponseEntity<SuccessResponse<ThemeFacetSearchDTO>> findThemeByFacets(
+        @PageableDefault(size = 10, page = 0) Pageable pageable,
+        @RequestParam(required = false) String filter,
+        @ModelAttribute ThemeFacetFilterDTO facets,
+        @RequestAttribute(value = SERVLET_REQUEST_ATTRIBUTE_KEY, required = false) String loginId
+    ) {
+        ThemeFacetSearchDTO themeFacetSearch;
+
+        if (loginId == null) {  // for guests
+            themeFacetSearch = themeService.findThemeByFacets(pageable, filter, facets);
+        } else {    // for members
+            int memberCode = userService.findMemberCodeByLoginId(loginId);
+            themeFacetSearch = themeService.findThemeByFacets(pageable, filter, facets, memberCode);
+        }
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(SuccessResponse.of(ResponseCode.OK, themeFacetSearch));
+    }
+
     /**
      * 업체별 테마 조회 API.
      * <p>
@@ -292,6 +373,38 @@ public class ThemeController {
                 .body(SuccessResponse.of(ResponseCode.OK, themeDTOList));
     }
 
+    /**
+     * 인기 테마 조회 API.
+     * <p>
+     * 최근 24시간, 7일, 30일 중 선택한 기간 동안 반응(좋아요/스크랩)이 많이 발생한 테마를 조회합니다.
+     *
+     * @param window  집계 기간 ("24h", "7d", "30d"). 기본값 "7d".
+     * @param size    조회할 테마 수 (기본 10, 최대 50)
+     * @param loginId (선택적) 인증 토큰에서 추출한 로그인 아이디. 게스트의 경우 null.
+     * @return 기간 내 반응 수 기준 상위 테마 목록(ThemeDTO 리스트)과 성공 메시지를 포함한 응답
+     */
+    @GetMapping("/trending")
+    @SecurityRequirement(name = "Authorization")
+    @Operation(summary = "기간별 인기 테마 조회 API",
+            description = "최근 24시간(24h), 7일(7d), 30일(30d) 중 선택한 기간 동안 반응이 많은 순서로 테마를 반환합니다.")
+    public ResponseEntity<SuccessResponse<List<ThemeDTO>>> findTrendingThemes(
+        @RequestParam(defaultValue = "7d") String window,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestAttribute(value = SERVLET_REQUEST_ATTRIBUTE_KEY, required = false) String loginId
+    ) {
+        List<ThemeDTO> themeDTOList;
+        if (loginId == null) {
+            themeDTOList = themeService.findTrendingThemes(window, size);
+        } else {
+            int memberCode = userService.findMemberCodeByLoginId(loginId);
+            themeDTOList = themeService.findTrendingThemes(window, size, memberCode);
+        }
+
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(SuccessResponse.of(ResponseCode.OK, themeDTOList));
+    }
+
     /**
      * 테마 추천 API.
      * <p>
@@ -0,0 +1,18 @@
+package com.swcamp9th.bangflixbackend.domain.theme.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class FacetCountDTO {
+    private String value;       // 필터 요청 시 사용하는 값
+    private String label;       // 화면 표시용 이름
+    private Integer count;      // 다른 facet 조건을 적용했을 때 이 값을 선택하면 조회되는 테마 수
+}
@@ -10,6 +10,7 @@ import lombok.Setter;
 @NoArgsConstructor
 @AllArgsConstructor
 public class ThemeCountDTO {
+    private Integer themeCode;
     private Long likeCount;
     private Long scrapCount;
     private Long reviewCount;
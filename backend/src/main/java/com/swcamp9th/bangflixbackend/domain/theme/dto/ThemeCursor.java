@@ -0,0 +1,66 @@
+package com.swcamp9th.bangflixbackend.domain.theme.dto;
+
+import com.swcamp9th.bangflixbackend.shared.error.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 테마 검색 keyset 페이지네이션 커서.
+ * 정렬 기준, 마지막 행의 정렬 값, 마지막 행의 테마 코드를 "sort|value|themeCode" 형태로 묶어
+ * URL-safe Base64 로 인코딩한 값을 클라이언트에 그대로 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ThemeCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String sort;
+    private final String value;
+    private final int themeCode;
+
+    public String encode() {
+        String raw = sort + DELIMITER + value + DELIMITER + themeCode;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석한다. 요청한 정렬 기준과 커서의 정렬 기준이 다르면 예외를 던진다.
+     */
+    public static ThemeCursor decode(String cursor, String sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !parts[0].equals(sort))
+                throw new InvalidCursorException();
+
+            return new ThemeCursor(parts[0], parts[1], Integer.parseInt(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public Long getCountValue() {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public LocalDateTime getCreatedAtValue() {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.swcamp9th.bangflixbackend.domain.theme.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * facet 검색 조건. 같은 facet 안의 값은 OR, 서로 다른 facet 사이는 AND 로 조합된다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ThemeFacetFilterDTO {
+    private List<String> genres;         // 장르 이름
+    private List<String> levels;         // 난이도
+    private List<String> prices;         // 가격 구간 (FacetCountDTO.value)
+    private List<String> timeLimits;     // 제한 시간 구간 (FacetCountDTO.value)
+    private List<String> headcounts;     // 플레이 가능 인원 수
+    private List<String> stores;         // 업체 코드
+    private String content;              // 검색어
+}
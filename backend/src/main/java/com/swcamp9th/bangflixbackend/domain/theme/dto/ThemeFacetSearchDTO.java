@@ -0,0 +1,20 @@
+package com.swcamp9th.bangflixbackend.domain.theme.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ThemeFacetSearchDTO {
+    private List<ThemeDTO> themes;
+    private Integer totalCount;
+    private Map<String, List<FacetCountDTO>> facets;    // facet 이름 -> 값별 테마 수
+}
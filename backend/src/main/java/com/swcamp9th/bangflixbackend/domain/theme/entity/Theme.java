@@ -1,5 +1,6 @@
 package com.swcamp9th.bangflixbackend.domain.theme.entity;
 
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeIndexListener;
 import com.swcamp9th.bangflixbackend.domain.store.entity.Store;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
@@ -7,6 +8,7 @@ import java.time.LocalDateTime;
 import lombok.*;
 
 @Entity
+@EntityListeners(ThemeIndexListener.class)
 @Table(name = "theme")
 @Getter
 @Setter
@@ -1,7 +1,9 @@
 package com.swcamp9th.bangflixbackend.domain.theme.entity;
 
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeIndexListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
@@ -16,6 +18,7 @@ import lombok.Setter;
 import java.util.Objects;
 
 @Entity
+@EntityListeners(ThemeIndexListener.class)
 @Table(name = "theme_genre")
 @IdClass(ThemeGenre.class)
 @Getter
@@ -0,0 +1,45 @@
+package com.swcamp9th.bangflixbackend.domain.theme.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * 테마별 좋아요/스크랩/리뷰 수와 리뷰 점수 합계를 미리 집계해 둔 카운터.
+ * 반응/리뷰 작성 시 증감되며, 원본 테이블 기준 재집계는 ThemeStatsService 가 담당한다.
+ */
+@Entity
+@Table(name = "theme_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class ThemeStats {
+
+    @Id
+    @Column(name = "theme_code")
+    private Integer themeCode;
+
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount;
+
+    @Column(name = "scrap_count", nullable = false)
+    private Long scrapCount;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "score_sum", nullable = false)
+    private Long scoreSum;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
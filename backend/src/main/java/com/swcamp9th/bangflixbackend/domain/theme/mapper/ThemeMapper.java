@@ -0,0 +1,57 @@
+package com.swcamp9th.bangflixbackend.domain.theme.mapper;
+
+import com.swcamp9th.bangflixbackend.domain.theme.dto.FindThemeByReactionDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.GenreDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Genre;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import java.util.Objects;
+
+/**
+ * 테마 엔티티 -> DTO 변환.
+ * 테마 자신의 컬럼만 복사하며, 업체/반응 수 등 연관 정보는 호출하는 쪽에서 채운다.
+ */
+public final class ThemeMapper {
+
+    private ThemeMapper() {
+    }
+
+    public static ThemeDTO toThemeDTO(Theme theme) {
+        ThemeDTO themeDTO = new ThemeDTO();
+        themeDTO.setThemeCode(theme.getThemeCode());
+        themeDTO.setActive(theme.getActive());
+        themeDTO.setCreatedAt(Objects.toString(theme.getCreatedAt(), null));
+        themeDTO.setName(theme.getName());
+        themeDTO.setLevel(theme.getLevel());
+        themeDTO.setTimeLimit(theme.getTimeLimit());
+        themeDTO.setStory(theme.getStory());
+        themeDTO.setPrice(theme.getPrice());
+        themeDTO.setPosterImage(theme.getPosterImage());
+        themeDTO.setHeadcount(theme.getHeadcount());
+        return themeDTO;
+    }
+
+    public static FindThemeByReactionDTO toFindThemeByReactionDTO(Theme theme) {
+        FindThemeByReactionDTO themeDTO = new FindThemeByReactionDTO();
+        themeDTO.setThemeCode(theme.getThemeCode());
+        themeDTO.setActive(theme.getActive());
+        themeDTO.setCreatedAt(Objects.toString(theme.getCreatedAt(), null));
+        themeDTO.setName(theme.getName());
+        themeDTO.setLevel(theme.getLevel());
+        themeDTO.setTimeLimit(theme.getTimeLimit());
+        themeDTO.setStory(theme.getStory());
+        themeDTO.setPrice(theme.getPrice());
+        themeDTO.setPosterImage(theme.getPosterImage());
+        themeDTO.setHeadcount(theme.getHeadcount());
+        return themeDTO;
+    }
+
+    public static GenreDTO toGenreDTO(Genre genre) {
+        return new GenreDTO(
+                genre.getGenreCode(),
+                genre.getActive(),
+                Objects.toString(genre.getCreatedAt(), null),
+                genre.getName()
+        );
+    }
+}
@@ -3,6 +3,7 @@ package com.swcamp9th.bangflixbackend.domain.theme.repository;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.ReactionType;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeReaction;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeReactionId;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,9 +28,8 @@ public interface ThemeReactionRepository extends JpaRepository<ThemeReaction, Th
 
     @Query("SELECT tr " +
              "FROM ThemeReaction tr " +
-             "JOIN FETCH tr.member " +
-             "JOIN FETCH tr.theme " +
-            "WHERE tr.theme.active = true " +
+             "JOIN FETCH tr.theme t " +
+            "WHERE t.active = true " +
               "AND tr.memberCode = :memberCode " +
               "AND tr.reaction IN ('LIKE', 'SCRAPLIKE') " +
             "ORDER BY tr.createdAt desc")
@@ -40,9 +40,8 @@ public interface ThemeReactionRepository extends JpaRepository<ThemeReaction, Th
 
     @Query("SELECT tr " +
              "FROM ThemeReaction tr " +
-             "JOIN FETCH tr.member " +
-             "JOIN FETCH tr.theme " +
-            "WHERE tr.theme.active = true " +
+             "JOIN FETCH tr.theme t " +
+            "WHERE t.active = true " +
               "AND tr.memberCode = :memberCode " +
               "AND tr.reaction IN ('SCRAP', 'SCRAPLIKE') " +
             "ORDER BY tr.createdAt desc")
@@ -63,4 +62,21 @@ public interface ThemeReactionRepository extends JpaRepository<ThemeReaction, Th
             @Param("memberCode") int memberCode,
             @Param("reactions") List<ReactionType> reactions
     );
+
+    @Query("SELECT tr " +
+             "FROM ThemeReaction tr " +
+            "WHERE tr.active = true " +
+              "AND tr.memberCode = :memberCode")
+    List<ThemeReaction> findActiveReactionsByMemberCode(@Param("memberCode") int memberCode);
+
+    // [theme_code, 시간 버킷("yyyy-MM-dd HH:00:00"), 반응 수] 목록
+    @Query(value = "SELECT tr.theme_code, DATE_FORMAT(tr.created_at, '%Y-%m-%d %H:00:00') AS bucket_hour, COUNT(*) " +
+                     "FROM theme_reaction tr " +
+                     "JOIN theme t ON t.theme_code = tr.theme_code " +
+                    "WHERE tr.active = true " +
+                      "AND t.active = true " +
+                      "AND tr.created_at >= :since " +
+                    "GROUP BY tr.theme_code, bucket_hour",
+           nativeQuery = true)
+    List<Object[]> countReactionsByThemeCodeAndHour(@Param("since") LocalDateTime since);
 }
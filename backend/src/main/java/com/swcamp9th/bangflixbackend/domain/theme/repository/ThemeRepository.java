@@ -1,10 +1,11 @@
 package com.swcamp9th.bangflixbackend.domain.theme.repository;
 
+import com.swcamp9th.bangflixbackend.domain.theme.dto.MemberThemeDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeCountDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeGenre;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
@@ -14,68 +15,127 @@ import org.springframework.data.repository.query.Param;
 
 public interface ThemeRepository extends JpaRepository<Theme, Integer> {
 
-    @Query("SELECT " +
-                  "COUNT(r) " +
-             "FROM Review r " +
-            "WHERE r.active = true " +
-              "AND r.theme.themeCode = :themeCode")
-    Integer countReviewsByThemeCode(int themeCode);
-
-    @Query("SELECT " +
-                  "COUNT(r) " +
-             "FROM ThemeReaction r " +
-            "WHERE r.theme.themeCode = :themeCode " +
-              "AND r.active = true " +
-              "AND r.reaction IN ('LIKE', 'SCRAPLIKE')")
-    Integer countLikesByThemeCode(
-            @Param("themeCode") int themeCode
+    // 검색 조건 (정렬/커서 쿼리 공통)
+    String GENRE_FILTER =
+            "((:genres) IS NULL OR EXISTS (" +
+                "SELECT tg.themeCode " +
+                  "FROM ThemeGenre tg " +
+                  "JOIN Genre g " +
+                       "ON tg.genreCode = g.genreCode " +
+                 "WHERE tg.themeCode = t.themeCode " +
+                   "AND g.name IN :genres)) ";
+    // 이름 검색은 ThemeNameIndex 가 구한 후보 테마 코드로 대체 (null 이면 검색어 없음)
+    String THEME_CODE_FILTER =
+            "((:themeCodes) IS NULL OR t.themeCode IN :themeCodes) ";
+    // 한 글자 검색어는 후보가 대부분의 테마라 IN 조건 대신 LIKE 로 거름 (null 이면 사용하지 않음)
+    String KEYWORD_FILTER =
+            "((:keyword) IS NULL " +
+                "OR t.name LIKE CONCAT('%', :keyword, '%') " +
+                "OR t.store.name LIKE CONCAT('%', :keyword, '%')) ";
+
+    // 정렬 기준 값과 테마 코드를 키로 하는 keyset 페이지네이션 (커서가 null 이면 첫 페이지).
+    // theme_stats 에서 출발해 (카운트, theme_code) 인덱스 순서로 읽는다.
+    // 모든 테마는 theme_stats 행을 가진다 (등록 시 TRG_THEME_STATS_INIT 트리거와 ThemeIndexListener 가 0 행을 만듦).
+    // [테마, 정렬에 사용된 카운트] 를 반환하므로 커서는 이 쿼리가 정렬한 값으로 만든다
+    @Query("SELECT t, s.likeCount " +
+             "FROM ThemeStats s " +
+             "JOIN Theme t " +
+                  "ON t.themeCode = s.themeCode " +
+            "WHERE t.active = true " +
+              "AND " + GENRE_FILTER +
+              "AND " + THEME_CODE_FILTER +
+              "AND " + KEYWORD_FILTER +
+              "AND (:cursorCount IS NULL " +
+                   "OR s.likeCount < :cursorCount " +
+                   "OR (s.likeCount = :cursorCount AND s.themeCode < :cursorThemeCode)) " +
+            "ORDER BY s.likeCount DESC, s.themeCode DESC")
+    List<Object[]> findThemesOrderByLikes(
+            @Param("genres") List<String> genres,
+            @Param("themeCodes") List<Integer> themeCodes,
+            @Param("keyword") String keyword,
+            @Param("cursorCount") Long cursorCount,
+            @Param("cursorThemeCode") Integer cursorThemeCode,
+            Pageable pageable
     );
 
-    @Query("SELECT " +
-                  "COUNT(r) " +
-             "FROM ThemeReaction r " +
-            "WHERE r.theme.themeCode = :themeCode " +
-              "AND r.active = true " +
-              "AND r.reaction IN ('SCRAP', 'SCRAPLIKE')")
-    Integer countScrapsByThemeCode(
-            @Param("themeCode") int themeCode
+    @Query("SELECT t, s.scrapCount " +
+             "FROM ThemeStats s " +
+             "JOIN Theme t " +
+                  "ON t.themeCode = s.themeCode " +
+            "WHERE t.active = true " +
+              "AND " + GENRE_FILTER +
+              "AND " + THEME_CODE_FILTER +
+              "AND " + KEYWORD_FILTER +
+              "AND (:cursorCount IS NULL " +
+                   "OR s.scrapCount < :cursorCount " +
+                   "OR (s.scrapCount = :cursorCount AND s.themeCode < :cursorThemeCode)) " +
+            "ORDER BY s.scrapCount DESC, s.themeCode DESC")
+    List<Object[]> findThemesOrderByScraps(
+            @Param("genres") List<String> genres,
+            @Param("themeCodes") List<Integer> themeCodes,
+            @Param("keyword") String keyword,
+            @Param("cursorCount") Long cursorCount,
+            @Param("cursorThemeCode") Integer cursorThemeCode,
+            Pageable pageable
+    );
+
+    @Query("SELECT t, s.reviewCount " +
+             "FROM ThemeStats s " +
+             "JOIN Theme t " +
+                  "ON t.themeCode = s.themeCode " +
+            "WHERE t.active = true " +
+              "AND " + GENRE_FILTER +
+              "AND " + THEME_CODE_FILTER +
+              "AND " + KEYWORD_FILTER +
+              "AND (:cursorCount IS NULL " +
+                   "OR s.reviewCount < :cursorCount " +
+                   "OR (s.reviewCount = :cursorCount AND s.themeCode < :cursorThemeCode)) " +
+            "ORDER BY s.reviewCount DESC, s.themeCode DESC")
+    List<Object[]> findThemesOrderByReviews(
+            @Param("genres") List<String> genres,
+            @Param("themeCodes") List<Integer> themeCodes,
+            @Param("keyword") String keyword,
+            @Param("cursorCount") Long cursorCount,
+            @Param("cursorThemeCode") Integer cursorThemeCode,
+            Pageable pageable
     );
 
-    @Query("SELECT " +
-                  "DISTINCT t " +
+    @Query("SELECT t " +
              "FROM Theme t " +
-             "LEFT JOIN ThemeGenre tg " +
-                  "ON tg.themeCode = t.themeCode " +
-             "LEFT JOIN Genre g " +
-                  "ON tg.genreCode = g.genreCode " +
             "WHERE t.active = true " +
-              "AND ((:genres) IS NULL OR g.name IN :genres) " +
-              "AND ((:search) IS NULL OR :search = '' OR t.name LIKE CONCAT('%', :search, '%'))")
-    List<Theme> findThemesBy(
+              "AND " + GENRE_FILTER +
+              "AND " + THEME_CODE_FILTER +
+              "AND " + KEYWORD_FILTER +
+              "AND (:cursorCreatedAt IS NULL " +
+                   "OR t.createdAt < :cursorCreatedAt " +
+                   "OR (t.createdAt = :cursorCreatedAt AND t.themeCode < :cursorThemeCode)) " +
+            "ORDER BY t.createdAt DESC, t.themeCode DESC")
+    List<Theme> findThemesOrderByNewest(
             @Param("genres") List<String> genres,
-            @Param("search") String search,
+            @Param("themeCodes") List<Integer> themeCodes,
+            @Param("keyword") String keyword,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorThemeCode") Integer cursorThemeCode,
             Pageable pageable
     );
 
     @Query("SELECT t " +
              "FROM Theme t " +
-             "JOIN t.store s " +
             "WHERE t.active = true " +
-              "AND s.storeCode = :storeCode ")
+              "AND t.store.storeCode = :storeCode ")
     List<Theme> findThemeListByStoreCode(
             int storeCode,
             Pageable pageable
     );
 
-    @Query("SELECT t FROM Theme t "
-            + "INNER JOIN ThemeReaction tr ON t.themeCode = tr.themeCode "
-            + "WHERE tr.createdAt > :oneWeekAgo AND tr.active = true AND t.active = true "
-            + "GROUP BY t.themeCode "
-            + "ORDER BY COUNT(tr) DESC, t.themeCode DESC")
-    List<Theme> findByWeekOrderByLikes(
-            @Param("oneWeekAgo") LocalDateTime oneWeekAgo,
-            Pageable pageable
-    );
+    @Query("SELECT t " +
+             "FROM Theme t " +
+            "WHERE t.active = true")
+    List<Theme> findAllActiveThemes();
+
+    @Query("SELECT tg " +
+             "FROM ThemeGenre tg")
+    List<ThemeGenre> findAllThemeGenres();
 
     @Query("SELECT tg.genreCode " +
              "FROM ThemeGenre tg " +
@@ -94,24 +154,30 @@ public interface ThemeRepository extends JpaRepository<Theme, Integer> {
             @Param("themeCodes") List<Integer> themeCodes
     );
 
+    // 카운트는 theme_stats 에 미리 집계된 값을 사용 (행이 없으면 0)
     @Query("SELECT new com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeCountDTO(" +
-            "(SELECT COUNT(tr) " +
-               "FROM ThemeReaction tr " +
-              "WHERE tr.active = true " +
-                "AND tr.themeCode = :themeCode " +
-                "AND tr.reaction IN ('LIKE', 'SCRAPLIKE')), " +
-            "(SELECT COUNT(tr) " +
-               "FROM ThemeReaction tr " +
-              "WHERE tr.active = true " +
-                "AND tr.themeCode = :themeCode " +
-                "AND tr.reaction IN ('SCRAP', 'SCRAPLIKE')), " +
-            "(SELECT COUNT(r) " +
-               "FROM Review r " +
-              "WHERE r.active = true " +
-                "AND r.theme.themeCode = :themeCode)" +
+            "t.themeCode, " +
+            "COALESCE(s.likeCount, 0L), " +
+            "COALESCE(s.scrapCount, 0L), " +
+            "COALESCE(s.reviewCount, 0L)" +
             ") " +
              "FROM Theme t " +
+             "LEFT JOIN ThemeStats s ON s.themeCode = t.themeCode " +
             "WHERE t.active = true " +
-              "AND t.themeCode = :themeCode")
-    Optional<ThemeCountDTO> findThemeCountsByThemeCode(@Param("themeCode") int themeCode);
+              "AND t.themeCode IN :themeCodes")
+    List<ThemeCountDTO> findThemeCountsByThemeCodes(@Param("themeCodes") List<Integer> themeCodes);
+
+    @Query("SELECT DISTINCT new com.swcamp9th.bangflixbackend.domain.theme.dto.MemberThemeDTO(tr.memberCode, tr.themeCode) " +
+             "FROM ThemeReaction tr " +
+             "JOIN tr.theme t " +
+            "WHERE tr.active = true " +
+              "AND t.active = true")
+    List<MemberThemeDTO> findMemberThemesFromReactions();
+
+    @Query("SELECT DISTINCT new com.swcamp9th.bangflixbackend.domain.theme.dto.MemberThemeDTO(r.member.memberCode, r.theme.themeCode) " +
+             "FROM Review r " +
+            "WHERE r.active = true " +
+              "AND r.theme.active = true " +
+              "AND r.totalScore >= :minScore")
+    List<MemberThemeDTO> findMemberThemesFromReviews(@Param("minScore") int minScore);
 }
@@ -0,0 +1,72 @@
+package com.swcamp9th.bangflixbackend.domain.theme.repository;
+
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ThemeStatsRepository extends JpaRepository<ThemeStats, Integer> {
+
+    // 행이 없으면 생성하고, 있으면 현재 값에 증감분을 더하는 단일 upsert (동시 요청에도 원자적)
+    @Modifying
+    @Query(value = "INSERT INTO theme_stats (theme_code, like_count, scrap_count, review_count, score_sum, updated_at) " +
+                   "VALUES (:themeCode, :likeDelta, :scrapDelta, :reviewDelta, :scoreDelta, NOW()) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                       "like_count = like_count + VALUES(like_count), " +
+                       "scrap_count = scrap_count + VALUES(scrap_count), " +
+                       "review_count = review_count + VALUES(review_count), " +
+                       "score_sum = score_sum + VALUES(score_sum), " +
+                       "updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int addDelta(
+            @Param("themeCode") int themeCode,
+            @Param("likeDelta") long likeDelta,
+            @Param("scrapDelta") long scrapDelta,
+            @Param("reviewDelta") long reviewDelta,
+            @Param("scoreDelta") long scoreDelta
+    );
+
+    // 새 테마의 0 카운터 행 (이미 있으면 그대로 둔다)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO theme_stats (theme_code, like_count, scrap_count, review_count, score_sum, updated_at) " +
+                   "VALUES (:themeCode, 0, 0, 0, 0, NOW())",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("themeCode") int themeCode);
+
+    // 원본 테이블(theme_reaction, review) 기준으로 전체 테마의 카운터를 다시 계산
+    @Modifying
+    @Query(value = "INSERT INTO theme_stats (theme_code, like_count, scrap_count, review_count, score_sum, updated_at) " +
+                   "SELECT t.theme_code, " +
+                          "(SELECT COUNT(*) FROM theme_reaction tr " +
+                            "WHERE tr.theme_code = t.theme_code AND tr.active = true " +
+                              "AND tr.reaction IN ('LIKE', 'SCRAPLIKE')), " +
+                          "(SELECT COUNT(*) FROM theme_reaction tr " +
+                            "WHERE tr.theme_code = t.theme_code AND tr.active = true " +
+                              "AND tr.reaction IN ('SCRAP', 'SCRAPLIKE')), " +
+                          "(SELECT COUNT(*) FROM review r " +
+                            "WHERE r.theme_code = t.theme_code AND r.active = true), " +
+                          "(SELECT COALESCE(SUM(r.total_score), 0) FROM review r " +
+                            "WHERE r.theme_code = t.theme_code AND r.active = true), " +
+                          "NOW() " +
+                     "FROM theme t " +
+                   "ON DUPLICATE KEY UPDATE " +
+                       "like_count = VALUES(like_count), " +
+                       "scrap_count = VALUES(scrap_count), " +
+                       "review_count = VALUES(review_count), " +
+                       "score_sum = VALUES(score_sum), " +
+                       "updated_at = VALUES(updated_at)",
+           nativeQuery = true)
+    int rebuildAll();
+
+    // theme_stats 행이 없는 테마 수 (정렬 쿼리는 theme_stats 에서 출발하므로 모든 테마가 행을 가져야 함)
+    @Query(value = "SELECT COUNT(*) " +
+                     "FROM theme t " +
+                     "LEFT JOIN theme_stats s " +
+                            "ON s.theme_code = t.theme_code " +
+                    "WHERE s.theme_code IS NULL",
+           nativeQuery = true)
+    long countThemesWithoutStats();
+}
@@ -0,0 +1,183 @@
+package com.swcamp9th.bangflixbackend.domain.theme.service;
+
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ReactionType;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeReaction;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeReactionRepository;
+import com.swcamp9th.bangflixbackend.shared.transaction.TransactionCallbacks;
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원별 좋아요/스크랩 테마 코드를 BitSet 두 개로 보관하는 캐시.
+ * <p>
+ * 회원의 첫 조회 시 활성 반응을 한 번에 읽어 적재하고, 이후 목록 조회의 isLike/isScrap 은 DB 조회 없이 계산한다.
+ * 반응 등록/취소는 커밋 이후 캐시에 바로 반영하고, Redis pub/sub 으로 다른 인스턴스의 해당 회원 캐시를 무효화한다.
+ * 메시지 유실에 대비해 항목은 일정 시간이 지나면 다시 적재한다.
+ */
+@Component
+@Slf4j
+public class MemberReactionCache {
+
+    private static final String INVALIDATE_CHANNEL = "THEME_REACTION:INVALIDATE";
+    private static final int MAX_MEMBERS = 10_000;
+    private static final long EXPIRE_NANOS = TimeUnit.MINUTES.toNanos(30);
+
+    private final ThemeReactionRepository themeReactionRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 자기 자신이 보낸 무효화 메시지는 무시하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 적재 중에 변경/무효화가 있었는지 확인하기 위한 변경 횟수
+    private final AtomicLong modifications = new AtomicLong();
+
+    private final Map<Integer, ReactionBits> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, ReactionBits> eldest) {
+            return size() > MAX_MEMBERS;
+        }
+    };
+
+    @Autowired
+    public MemberReactionCache(
+            ThemeReactionRepository themeReactionRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer
+    ) {
+        this.themeReactionRepository = themeReactionRepository;
+        this.redisTemplate = redisTemplate;
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onInvalidateMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATE_CHANNEL)
+        );
+    }
+
+    /**
+     * 회원의 반응 비트를 반환한다. 캐시에 없거나 만료되었으면 한 번의 쿼리로 적재한다.
+     */
+    public ReactionBits get(int memberCode) {
+        synchronized (cache) {
+            ReactionBits cached = cache.get(memberCode);
+            if (cached != null && !cached.isExpired())
+                return cached;
+        }
+
+        long modificationsBefore = modifications.get();
+        ReactionBits loaded = ReactionBits.of(themeReactionRepository.findActiveReactionsByMemberCode(memberCode));
+
+        // 적재하는 동안 반응이 바뀌었다면 이번 결과는 캐시하지 않음
+        synchronized (cache) {
+            if (modifications.get() == modificationsBefore)
+                cache.put(memberCode, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 반응 변경을 커밋 이후 캐시에 반영하고 다른 인스턴스에 무효화를 알린다. after 가 null 이면 반응 삭제.
+     */
+    public void update(int memberCode, int themeCode, ReactionType after) {
+        TransactionCallbacks.afterCommit(() -> {
+            modifications.incrementAndGet();
+            synchronized (cache) {
+                ReactionBits cached = cache.get(memberCode);
+                if (cached != null)
+                    cache.put(memberCode, cached.with(themeCode, after));
+            }
+            publishInvalidate(memberCode);
+        });
+    }
+
+    public void evict(int memberCode) {
+        modifications.incrementAndGet();
+        synchronized (cache) {
+            cache.remove(memberCode);
+        }
+    }
+
+    private void publishInvalidate(int memberCode) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, instanceId + ":" + memberCode);
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 만료 시간 이후 다시 적재하므로 발행 실패로 요청을 실패시키지 않음
+            log.warn("테마 반응 캐시 무효화 메시지 발행 실패 (memberCode: {})", memberCode, e);
+        }
+    }
+
+    private void onInvalidateMessage(String body) {
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(instanceId))
+            return;
+
+        try {
+            evict(Integer.parseInt(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 테마 반응 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    private static boolean isLike(ReactionType reactionType) {
+        return reactionType == ReactionType.LIKE || reactionType == ReactionType.SCRAPLIKE;
+    }
+
+    private static boolean isScrap(ReactionType reactionType) {
+        return reactionType == ReactionType.SCRAP || reactionType == ReactionType.SCRAPLIKE;
+    }
+
+    /**
+     * 한 회원의 좋아요/스크랩 테마 코드 집합. 변경 시에는 새 인스턴스를 만들어 교체하므로 읽기에 잠금이 필요 없다.
+     */
+    public static final class ReactionBits {
+        private final BitSet likes;
+        private final BitSet scraps;
+        private final long loadedAt;
+
+        private ReactionBits(BitSet likes, BitSet scraps, long loadedAt) {
+            this.likes = likes;
+            this.scraps = scraps;
+            this.loadedAt = loadedAt;
+        }
+
+        public static ReactionBits of(List<ThemeReaction> reactions) {
+            BitSet likes = new BitSet();
+            BitSet scraps = new BitSet();
+            for (ThemeReaction reaction : reactions) {
+                likes.set(reaction.getThemeCode(), MemberReactionCache.isLike(reaction.getReaction()));
+                scraps.set(reaction.getThemeCode(), MemberReactionCache.isScrap(reaction.getReaction()));
+            }
+            return new ReactionBits(likes, scraps, System.nanoTime());
+        }
+
+        public boolean isLike(int themeCode) {
+            return likes.get(themeCode);
+        }
+
+        public boolean isScrap(int themeCode) {
+            return scraps.get(themeCode);
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - loadedAt > EXPIRE_NANOS;
+        }
+
+        private ReactionBits with(int themeCode, ReactionType reactionType) {
+            BitSet newLikes = (BitSet) likes.clone();
+            BitSet newScraps = (BitSet) scraps.clone();
+            newLikes.set(themeCode, MemberReactionCache.isLike(reactionType));
+            newScraps.set(themeCode, MemberReactionCache.isScrap(reactionType));
+            return new ReactionBits(newLikes, newScraps, loadedAt);
+        }
+    }
+}
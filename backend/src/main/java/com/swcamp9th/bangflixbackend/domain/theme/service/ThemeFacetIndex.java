@@ -0,0 +1,337 @@
+package com.swcamp9th.bangflixbackend.domain.theme.service;
+
+import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
+import com.swcamp9th.bangflixbackend.domain.store.service.StoreService;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.FacetCountDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeFacetFilterDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Genre;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeGenre;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.GenreRepository;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 활성 테마 카탈로그에 대한 facet(장르/난이도/가격/제한 시간/인원/업체) 비트맵 색인.
+ * <p>
+ * 테마 코드를 오름차순으로 정렬한 위치(ordinal)를 비트 번호로 사용하고, facet 값마다 해당 테마의 비트를 켠 BitSet 을 둔다.
+ * 같은 facet 안의 선택 값은 OR, facet 사이는 AND 로 계산하며,
+ * facet 별 개수는 "자기 facet 을 제외한 나머지 조건"을 적용한 집합과 각 값의 교집합 크기로 구한다.
+ * <p>
+ * 기동 시 전체 로딩, 테마/업체 변경 시 무효화 후 다음 조회에서 재구성, 다른 인스턴스의 변경은 주기적 재로딩으로 맞춘다.
+ */
+@Component
+@Slf4j
+public class ThemeFacetIndex {
+
+    public static final String GENRE = "genre";
+    public static final String LEVEL = "level";
+    public static final String PRICE = "price";
+    public static final String TIME_LIMIT = "timeLimit";
+    public static final String HEADCOUNT = "headcount";
+    public static final String STORE = "store";
+
+    private static final List<Bucket> PRICE_BUCKETS = List.of(
+            new Bucket("0-20000", "2만원 미만", 0, 20000),
+            new Bucket("20000-25000", "2만원 ~ 2만 5천원", 20000, 25000),
+            new Bucket("25000-30000", "2만 5천원 ~ 3만원", 25000, 30000),
+            new Bucket("30000-", "3만원 이상", 30000, Integer.MAX_VALUE)
+    );
+
+    private static final List<Bucket> TIME_LIMIT_BUCKETS = List.of(
+            new Bucket("0-60", "60분 미만", 0, 60),
+            new Bucket("60-75", "60분 ~ 75분", 60, 75),
+            new Bucket("75-90", "75분 ~ 90분", 75, 90),
+            new Bucket("90-", "90분 이상", 90, Integer.MAX_VALUE)
+    );
+
+    // 인원 facet 은 1명부터 이 값까지만 만든다
+    private static final int MAX_HEADCOUNT = 10;
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    private final ThemeRepository themeRepository;
+    private final GenreRepository genreRepository;
+    private final ThemeNameIndex themeNameIndex;
+    private final StoreService storeService;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public ThemeFacetIndex(
+            ThemeRepository themeRepository,
+            GenreRepository genreRepository,
+            ThemeNameIndex themeNameIndex,
+            StoreService storeService
+    ) {
+        this.themeRepository = themeRepository;
+        this.genreRepository = genreRepository;
+        this.themeNameIndex = themeNameIndex;
+        this.storeService = storeService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    public void reload() {
+        List<Theme> themes = themeRepository.findAllActiveThemes();
+        // 업체 이름은 업체 캐시에서 한 번에 조회
+        Map<Integer, StoreDTO> stores = storeService.findStores(
+                themes.stream().map(theme -> theme.getStore().getStoreCode()).distinct().toList());
+        Snapshot loaded = Snapshot.build(
+                themes,
+                stores,
+                themeRepository.findAllThemeGenres(),
+                genreRepository.findAll()
+        );
+        snapshot = loaded;
+        log.info("테마 facet 색인 로딩 완료 ({} themes)", loaded.themeCodes.length);
+    }
+
+    /**
+     * 테마/업체가 변경되면 호출된다. 다음 조회 시 색인을 다시 만든다.
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * 필터 조건에 맞는 테마 코드(오름차순)와 facet 별 개수를 계산한다.
+     */
+    public FacetResult search(ThemeFacetFilterDTO filter) {
+        Snapshot current = currentSnapshot();
+
+        BitSet base = (BitSet) current.all.clone();
+        if (filter.getContent() != null && !filter.getContent().isBlank())
+            base.and(current.toBits(themeNameIndex.search(filter.getContent())));
+
+        // facet 별 선택 값 OR
+        Map<String, BitSet> selected = new HashMap<>();
+        selections(filter).forEach((facet, values) -> {
+            if (values == null || values.isEmpty())
+                return;
+
+            BitSet union = new BitSet();
+            Map<String, FacetValue> facetValues = current.facets.get(facet);
+            for (String value : values) {
+                FacetValue facetValue = facetValues.get(value);
+                if (facetValue != null)
+                    union.or(facetValue.bits);
+            }
+            selected.put(facet, union);
+        });
+
+        BitSet result = (BitSet) base.clone();
+        selected.values().forEach(result::and);
+
+        Map<String, List<FacetCountDTO>> counts = new LinkedHashMap<>();
+        current.facets.forEach((facet, facetValues) -> {
+            BitSet others = (BitSet) base.clone();
+            selected.forEach((otherFacet, bits) -> {
+                if (!otherFacet.equals(facet))
+                    others.and(bits);
+            });
+
+            List<FacetCountDTO> facetCounts = new ArrayList<>();
+            facetValues.forEach((value, facetValue) -> {
+                BitSet matched = (BitSet) others.clone();
+                matched.and(facetValue.bits);
+                facetCounts.add(new FacetCountDTO(value, facetValue.label, matched.cardinality()));
+            });
+            counts.put(facet, facetCounts);
+        });
+
+        int[] themeCodes = result.stream()
+                .map(ordinal -> current.themeCodes[ordinal])
+                .toArray();
+        return new FacetResult(themeCodes, counts);
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null)
+                    reload();
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private static Map<String, List<String>> selections(ThemeFacetFilterDTO filter) {
+        Map<String, List<String>> selections = new HashMap<>();
+        selections.put(GENRE, filter.getGenres());
+        selections.put(LEVEL, filter.getLevels());
+        selections.put(PRICE, filter.getPrices());
+        selections.put(TIME_LIMIT, filter.getTimeLimits());
+        selections.put(HEADCOUNT, filter.getHeadcounts());
+        selections.put(STORE, filter.getStores());
+        return selections;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FacetResult {
+        private final int[] themeCodes;
+        private final Map<String, List<FacetCountDTO>> facets;
+    }
+
+    private record Bucket(String value, String label, int from, int to) {
+        private boolean contains(Integer amount) {
+            return amount != null && amount >= from && amount < to;
+        }
+    }
+
+    private record FacetValue(String label, BitSet bits) {
+    }
+
+    private static final class Snapshot {
+        private final int[] themeCodes;
+        private final BitSet all;
+        private final Map<String, Map<String, FacetValue>> facets;
+
+        private Snapshot(int[] themeCodes, BitSet all, Map<String, Map<String, FacetValue>> facets) {
+            this.themeCodes = themeCodes;
+            this.all = all;
+            this.facets = facets;
+        }
+
+        private BitSet toBits(int[] sortedThemeCodes) {
+            BitSet bits = new BitSet(themeCodes.length);
+            for (int themeCode : sortedThemeCodes) {
+                int ordinal = Arrays.binarySearch(themeCodes, themeCode);
+                if (ordinal >= 0)
+                    bits.set(ordinal);
+            }
+            return bits;
+        }
+
+        private static Snapshot build(
+                List<Theme> themes,
+                Map<Integer, StoreDTO> storesByCode,
+                List<ThemeGenre> themeGenres,
+                List<Genre> genres
+        ) {
+            List<Theme> sorted = new ArrayList<>(themes);
+            sorted.sort(Comparator.comparing(Theme::getThemeCode));
+            int[] themeCodes = sorted.stream().mapToInt(Theme::getThemeCode).toArray();
+
+            BitSet all = new BitSet(themeCodes.length);
+            all.set(0, themeCodes.length);
+
+            Map<String, Map<String, FacetValue>> facets = new LinkedHashMap<>();
+
+            // 장르 (이름순)
+            Map<Integer, String> genreNames = new HashMap<>();
+            genres.forEach(genre -> genreNames.put(genre.getGenreCode(), genre.getName()));
+            Map<String, FacetValue> genreFacet = new TreeMap<>();
+            for (ThemeGenre themeGenre : themeGenres) {
+                int ordinal = Arrays.binarySearch(themeCodes, themeGenre.getThemeCode());
+                String name = genreNames.get(themeGenre.getGenreCode());
+                if (ordinal >= 0 && name != null)
+                    genreFacet.computeIfAbsent(name, key -> new FacetValue(key, new BitSet())).bits.set(ordinal);
+            }
+            facets.put(GENRE, new LinkedHashMap<>(genreFacet));
+
+            // 난이도 (오름차순)
+            Map<Integer, FacetValue> levelFacet = new TreeMap<>();
+            for (int i = 0; i < sorted.size(); i++) {
+                Integer level = sorted.get(i).getLevel();
+                if (level != null)
+                    levelFacet.computeIfAbsent(level, key -> new FacetValue(String.valueOf(key), new BitSet())).bits.set(i);
+            }
+            Map<String, FacetValue> levels = new LinkedHashMap<>();
+            levelFacet.forEach((level, facetValue) -> levels.put(String.valueOf(level), facetValue));
+            facets.put(LEVEL, levels);
+
+            facets.put(PRICE, buckets(sorted, PRICE_BUCKETS, true));
+            facets.put(TIME_LIMIT, buckets(sorted, TIME_LIMIT_BUCKETS, false));
+
+            // 인원: "2~4명" 처럼 범위로 저장되어 있으므로 범위 안의 인원 수마다 비트를 켬
+            Map<String, FacetValue> headcounts = new LinkedHashMap<>();
+            for (int headcount = 1; headcount <= MAX_HEADCOUNT; headcount++) {
+                headcounts.put(String.valueOf(headcount), new FacetValue(headcount + "명", new BitSet()));
+            }
+            for (int i = 0; i < sorted.size(); i++) {
+                int[] range = parseHeadcount(sorted.get(i).getHeadcount());
+                if (range == null)
+                    continue;
+                for (int headcount = Math.max(1, range[0]); headcount <= Math.min(MAX_HEADCOUNT, range[1]); headcount++) {
+                    headcounts.get(String.valueOf(headcount)).bits.set(i);
+                }
+            }
+            headcounts.values().removeIf(facetValue -> facetValue.bits.isEmpty());
+            facets.put(HEADCOUNT, headcounts);
+
+            // 업체 (이름순)
+            Map<String, FacetValue> storeFacet = new HashMap<>();
+            for (int i = 0; i < sorted.size(); i++) {
+                int storeCode = sorted.get(i).getStore().getStoreCode();
+                StoreDTO store = storesByCode.get(storeCode);
+                storeFacet.computeIfAbsent(
+                        String.valueOf(storeCode),
+                        key -> new FacetValue(store != null ? store.getName() : "", new BitSet())
+                ).bits.set(i);
+            }
+            Map<String, FacetValue> stores = new LinkedHashMap<>();
+            storeFacet.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue(Comparator.comparing(FacetValue::label)))
+                    .forEach(entry -> stores.put(entry.getKey(), entry.getValue()));
+            facets.put(STORE, stores);
+
+            return new Snapshot(themeCodes, all, facets);
+        }
+
+        private static Map<String, FacetValue> buckets(
+                List<Theme> themes,
+                List<Bucket> buckets,
+                boolean price
+        ) {
+            Map<String, FacetValue> facet = new LinkedHashMap<>();
+            for (Bucket bucket : buckets) {
+                BitSet bits = new BitSet();
+                for (int i = 0; i < themes.size(); i++) {
+                    Integer amount = price ? themes.get(i).getPrice() : themes.get(i).getTimeLimit();
+                    if (bucket.contains(amount))
+                        bits.set(i);
+                }
+                facet.put(bucket.value(), new FacetValue(bucket.label(), bits));
+            }
+            return facet;
+        }
+
+        // "2~4명" -> [2, 4], "4명" -> [4, 4], 숫자가 없으면 null
+        private static int[] parseHeadcount(String headcount) {
+            if (headcount == null)
+                return null;
+
+            Matcher matcher = NUMBER.matcher(headcount);
+            Integer min = null;
+            int max = 0;
+            while (matcher.find()) {
+                int number = Integer.parseInt(matcher.group());
+                if (min == null)
+                    min = number;
+                max = number;
+            }
+            return (min == null) ? null : new int[]{min, Math.max(min, max)};
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.swcamp9th.bangflixbackend.domain.theme.service;
+
+import com.swcamp9th.bangflixbackend.domain.store.entity.Store;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeGenre;
+import com.swcamp9th.bangflixbackend.shared.transaction.TransactionCallbacks;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Theme, Store, ThemeGenre 엔티티 변경을 테마 메모리 색인(ThemeNameIndex, ThemeFacetIndex)에 반영하는 JPA 엔티티 리스너.
+ * 이름 색인은 증분 반영하고, facet 색인은 무효화해 다음 조회에서 다시 만든다.
+ * 새 테마는 카운트 정렬 조회에서 빠지지 않도록 theme_stats 0 카운터 행도 만든다.
+ * 트랜잭션 안에서 호출되면 커밋이 끝난 뒤에 반영한다.
+ */
+@Component
+public class ThemeIndexListener {
+
+    // 리스너는 EntityManagerFactory 생성 중에 만들어지므로 색인 빈은 지연 조회
+    private final ObjectProvider<ThemeNameIndex> themeNameIndex;
+    private final ObjectProvider<ThemeFacetIndex> themeFacetIndex;
+    private final ObjectProvider<ThemeStatsService> themeStatsService;
+
+    public ThemeIndexListener(
+            ObjectProvider<ThemeNameIndex> themeNameIndex,
+            ObjectProvider<ThemeFacetIndex> themeFacetIndex,
+            ObjectProvider<ThemeStatsService> themeStatsService
+    ) {
+        this.themeNameIndex = themeNameIndex;
+        this.themeFacetIndex = themeFacetIndex;
+        this.themeStatsService = themeStatsService;
+    }
+
+    @PostPersist
+    public void onPersist(Object entity) {
+        if (entity instanceof Theme theme) {
+            int themeCode = theme.getThemeCode();
+            TransactionCallbacks.afterCommit(() -> themeStatsService.getObject().createThemeStats(themeCode));
+        }
+        onSave(entity);
+    }
+
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Theme theme) {
+            // 커밋 이후에는 지연 로딩이 불가능하므로 필요한 값을 미리 꺼내 둠
+            int themeCode = theme.getThemeCode();
+            boolean active = Boolean.TRUE.equals(theme.getActive());
+            String themeName = theme.getName();
+            int storeCode = theme.getStore().getStoreCode();
+            String storeName = theme.getStore().getName();
+            TransactionCallbacks.afterCommit(() -> {
+                themeNameIndex.getObject().upsert(themeCode, active, themeName, storeCode, storeName);
+                themeFacetIndex.getObject().invalidate();
+            });
+        } else if (entity instanceof Store store) {
+            int storeCode = store.getStoreCode();
+            String storeName = store.getName();
+            TransactionCallbacks.afterCommit(() -> {
+                themeNameIndex.getObject().updateStoreName(storeCode, storeName);
+                themeFacetIndex.getObject().invalidate();
+            });
+        } else if (entity instanceof ThemeGenre) {
+            TransactionCallbacks.afterCommit(() -> themeFacetIndex.getObject().invalidate());
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Theme theme) {
+            int themeCode = theme.getThemeCode();
+            TransactionCallbacks.afterCommit(() -> {
+                themeNameIndex.getObject().remove(themeCode);
+                themeFacetIndex.getObject().invalidate();
+            });
+        } else if (entity instanceof ThemeGenre) {
+            TransactionCallbacks.afterCommit(() -> themeFacetIndex.getObject().invalidate());
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.swcamp9th.bangflixbackend.domain.theme.service;
+
+import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
+import com.swcamp9th.bangflixbackend.domain.store.service.StoreService;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeRepository;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테마 이름과 업체 이름에 대한 메모리 n-gram(1~3글자) 역색인.
+ * <p>
+ * 각 n-gram 의 posting list 는 테마 코드를 오름차순 정렬한 int 배열로 보관한다.
+ * 검색어의 n-gram posting list 를 교집합한 뒤, 후보의 원문에 검색어가 실제로 포함되는지 확인해
+ * {@code LIKE '%검색어%'} 와 같은 결과를 DB 조회 없이 반환한다.
+ * 한 글자 검색어도 검색할 수 있지만 대부분의 테마와 일치하므로, 정렬 쿼리에 후보를 IN 목록으로 넘기는 쪽에서는
+ * MIN_CANDIDATE_QUERY_LENGTH 보다 짧은 검색어에 DB LIKE 를 사용한다.
+ * <p>
+ * 조회는 volatile 스냅샷을 읽기만 하고, 변경은 새 스냅샷을 만들어 교체한다.
+ * 기동 시 전체 로딩, 테마/업체 엔티티 변경 시 증분 반영, 다른 인스턴스의 변경은 주기적 재로딩으로 맞춘다.
+ */
+@Component
+@Slf4j
+public class ThemeNameIndex {
+
+    // 이보다 짧은 검색어는 후보가 너무 많아 IN 목록으로 넘기기에 적합하지 않음
+    public static final int MIN_CANDIDATE_QUERY_LENGTH = 2;
+    private static final int MAX_GRAM = 3;
+    private static final int[] EMPTY = new int[0];
+
+    private final ThemeRepository themeRepository;
+    private final StoreService storeService;
+
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public ThemeNameIndex(ThemeRepository themeRepository, StoreService storeService) {
+        this.themeRepository = themeRepository;
+        this.storeService = storeService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    public void reload() {
+        List<Theme> themes = themeRepository.findAllActiveThemes();
+        // 업체 이름은 업체 캐시에서 한 번에 조회 (업체 코드는 프록시 식별자라 추가 조회가 없음)
+        Map<Integer, StoreDTO> stores = storeService.findStores(
+                themes.stream().map(theme -> theme.getStore().getStoreCode()).distinct().toList());
+
+        Map<Integer, Entry> entries = new HashMap<>();
+        for (Theme theme : themes) {
+            entries.put(theme.getThemeCode(), Entry.of(theme, stores.get(theme.getStore().getStoreCode())));
+        }
+
+        synchronized (this) {
+            snapshot = Snapshot.build(entries);
+        }
+        log.info("테마 이름 색인 로딩 완료 ({} themes, {} grams)", entries.size(), snapshot.postings.size());
+    }
+
+    /**
+     * 검색어가 테마 이름 또는 업체 이름에 포함된 활성 테마 코드를 오름차순으로 반환한다.
+     */
+    public int[] search(String keyword) {
+        String query = normalize(keyword);
+        if (query.isEmpty())
+            return EMPTY;
+
+        Snapshot current = currentSnapshot();
+
+        int[] candidates = null;
+        for (String gram : queryGrams(query)) {
+            int[] postings = current.postings.getOrDefault(gram, EMPTY);
+            candidates = (candidates == null) ? postings : intersect(candidates, postings);
+            if (candidates.length == 0)
+                return EMPTY;
+        }
+
+        // n-gram 교집합은 후보일 뿐이므로 원문 포함 여부로 최종 확인
+        int size = 0;
+        int[] result = new int[candidates.length];
+        for (int themeCode : candidates) {
+            if (current.entries.get(themeCode).contains(query))
+                result[size++] = themeCode;
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 테마가 추가/변경되었을 때 해당 테마의 n-gram posting 만 갱신한다. 비활성 테마는 제거된다.
+     */
+    public synchronized void upsert(
+            int themeCode,
+            boolean active,
+            String themeName,
+            int storeCode,
+            String storeName
+    ) {
+        if (snapshot == null)
+            return;
+
+        Entry entry = active ? new Entry(normalize(themeName), storeCode, normalize(storeName)) : null;
+        snapshot = snapshot.with(themeCode, entry);
+    }
+
+    public synchronized void remove(int themeCode) {
+        if (snapshot == null)
+            return;
+
+        snapshot = snapshot.with(themeCode, null);
+    }
+
+    /**
+     * 업체 이름이 바뀌면 해당 업체의 테마 항목을 다시 색인한다.
+     */
+    public synchronized void updateStoreName(int storeCode, String storeName) {
+        if (snapshot == null)
+            return;
+
+        Snapshot updated = snapshot;
+        for (Map.Entry<Integer, Entry> e : snapshot.entries.entrySet()) {
+            Entry entry = e.getValue();
+            if (entry.storeCode == storeCode)
+                updated = updated.with(e.getKey(), new Entry(entry.themeName, storeCode, normalize(storeName)));
+        }
+        snapshot = updated;
+    }
+
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null)
+                    reload();
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    // 검색어 길이가 3 이상이면 trigram, 그보다 짧으면 검색어 자체를 하나의 gram 으로 사용
+    private static Set<String> queryGrams(String query) {
+        Set<String> grams = new HashSet<>();
+        if (query.length() <= MAX_GRAM) {
+            grams.add(query);
+            return grams;
+        }
+        for (int i = 0; i + MAX_GRAM <= query.length(); i++) {
+            grams.add(query.substring(i, i + MAX_GRAM));
+        }
+        return grams;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                result[size++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    // 대소문자와 공백 차이는 무시
+    static String normalize(String value) {
+        if (value == null)
+            return "";
+        return value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final String themeName;
+        private final int storeCode;
+        private final String storeName;
+
+        private Entry(String themeName, int storeCode, String storeName) {
+            this.themeName = themeName;
+            this.storeCode = storeCode;
+            this.storeName = storeName;
+        }
+
+        private static Entry of(Theme theme, StoreDTO store) {
+            return new Entry(
+                    normalize(theme.getName()),
+                    theme.getStore().getStoreCode(),
+                    normalize(store != null ? store.getName() : null)
+            );
+        }
+
+        private boolean contains(String query) {
+            return themeName.contains(query) || storeName.contains(query);
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            addGrams(grams, themeName);
+            addGrams(grams, storeName);
+            return grams;
+        }
+
+        private static void addGrams(Set<String> grams, String text) {
+            for (int n = 1; n <= MAX_GRAM; n++) {
+                for (int i = 0; i + n <= text.length(); i++) {
+                    grams.add(text.substring(i, i + n));
+                }
+            }
+        }
+    }
+
+    private static final class Snapshot {
+        private final Map<Integer, Entry> entries;
+        private final Map<String, int[]> postings;
+
+        private Snapshot(Map<Integer, Entry> entries, Map<String, int[]> postings) {
+            this.entries = entries;
+            this.postings = postings;
+        }
+
+        private static Snapshot build(Map<Integer, Entry> entries) {
+            Map<String, TreeSet<Integer>> grams = new HashMap<>();
+            entries.forEach((themeCode, entry) -> {
+                for (String gram : entry.grams())
+                    grams.computeIfAbsent(gram, key -> new TreeSet<>()).add(themeCode);
+            });
+
+            Map<String, int[]> postings = new HashMap<>(grams.size() * 2);
+            grams.forEach((gram, codes) -> postings.put(gram, codes.stream().mapToInt(Integer::intValue).toArray()));
+            return new Snapshot(entries, postings);
+        }
+
+        /**
+         * 한 테마의 항목을 교체한 새 스냅샷을 만든다 (entry 가 null 이면 제거).
+         * 바뀐 n-gram 의 posting 배열만 새로 만들고 나머지 배열은 그대로 공유한다.
+         */
+        private Snapshot with(int themeCode, Entry entry) {
+            Entry previous = entries.get(themeCode);
+            if (previous == null && entry == null)
+                return this;
+
+            Set<String> removedGrams = (previous == null) ? new HashSet<>() : previous.grams();
+            Set<String> addedGrams = (entry == null) ? new HashSet<>() : entry.grams();
+            Set<String> unchanged = new HashSet<>(removedGrams);
+            unchanged.retainAll(addedGrams);
+            removedGrams.removeAll(unchanged);
+            addedGrams.removeAll(unchanged);
+
+            Map<String, int[]> newPostings = new HashMap<>(postings);
+            for (String gram : removedGrams) {
+                int[] updated = without(newPostings.getOrDefault(gram, EMPTY), themeCode);
+                if (updated.length == 0)
+                    newPostings.remove(gram);
+                else
+                    newPostings.put(gram, updated);
+            }
+            for (String gram : addedGrams) {
+                newPostings.put(gram, with(newPostings.getOrDefault(gram, EMPTY), themeCode));
+            }
+
+            Map<Integer, Entry> newEntries = new HashMap<>(entries);
+            if (entry == null)
+                newEntries.remove(themeCode);
+            else
+                newEntries.put(themeCode, entry);
+
+            return new Snapshot(newEntries, newPostings);
+        }
+
+        private static int[] with(int[] postings, int themeCode) {
+            int index = Arrays.binarySearch(postings, themeCode);
+            if (index >= 0)
+                return postings;
+
+            int insertAt = -index - 1;
+            int[] result = new int[postings.length + 1];
+            System.arraycopy(postings, 0, result, 0, insertAt);
+            result[insertAt] = themeCode;
+            System.arraycopy(postings, insertAt, result, insertAt + 1, postings.length - insertAt);
+            return result;
+        }
+
+        private static int[] without(int[] postings, int themeCode) {
+            int index = Arrays.binarySearch(postings, themeCode);
+            if (index < 0)
+                return postings;
+
+            int[] result = new int[postings.length - 1];
+            System.arraycopy(postings, 0, result, 0, index);
+            System.arraycopy(postings, index + 1, result, index, postings.length - index - 1);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.swcamp9th.bangflixbackend.domain.theme.service;
+
+import com.swcamp9th.bangflixbackend.domain.theme.dto.MemberThemeDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테마 간 동시 반응(co-occurrence) 기반 추천 색인.
+ * <p>
+ * "X 에 반응한 회원이 Y 에도 반응했다" 를 기준으로 테마 쌍의 코사인 유사도
+ * {@code 공통 회원 수 / sqrt(X 회원 수 * Y 회원 수)} 를 계산하고,
+ * 테마마다 유사도가 높은 이웃 N 개를 원시 배열로 보관한다.
+ * 반응(좋아요/스크랩)과 높은 점수의 리뷰를 회원-테마 상호작용으로 사용하며, 매일 새벽 다시 만든다.
+ * <p>
+ * 추천 요청은 요청 테마들의 이웃 목록을 유사도 합으로 병합하기만 하므로 DB 조회가 없다.
+ */
+@Component
+@Slf4j
+public class ThemeRecommendationIndex {
+
+    private static final int NEIGHBOR_COUNT = 20;
+    // 이 점수 이상인 리뷰만 긍정적인 상호작용으로 사용 (5점 만점)
+    private static final int MIN_REVIEW_SCORE = 4;
+    // 한 회원의 상호작용이 지나치게 많으면 쌍의 수가 제곱으로 늘어나므로 상한을 둠
+    private static final int MAX_THEMES_PER_MEMBER = 200;
+    private static final int[] EMPTY = new int[0];
+
+    private final ThemeRepository themeRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY_SNAPSHOT;
+
+    @Autowired
+    public ThemeRecommendationIndex(ThemeRepository themeRepository) {
+        this.themeRepository = themeRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 30 4 * * *")
+    public void rebuild() {
+        List<MemberThemeDTO> interactions = new ArrayList<>(themeRepository.findMemberThemesFromReactions());
+        interactions.addAll(themeRepository.findMemberThemesFromReviews(MIN_REVIEW_SCORE));
+
+        Snapshot built = Snapshot.build(interactions);
+        snapshot = built;
+        log.info("테마 추천 색인 생성 완료 ({} themes)", built.themeCodes.length);
+    }
+
+    /**
+     * 요청 테마들의 이웃을 유사도 합이 큰 순서로 최대 k 개 반환한다. 요청 테마 자신은 제외된다.
+     */
+    public int[] recommend(List<Integer> themeCodes, int k) {
+        Snapshot current = snapshot;
+        if (themeCodes == null || themeCodes.isEmpty() || current.themeCodes.length == 0)
+            return EMPTY;
+
+        Set<Integer> exclude = new HashSet<>(themeCodes);
+        Map<Integer, Float> scores = new HashMap<>();
+        for (int themeCode : exclude) {
+            int ordinal = Arrays.binarySearch(current.themeCodes, themeCode);
+            if (ordinal < 0)
+                continue;
+
+            int[] neighbors = current.neighbors[ordinal];
+            float[] similarities = current.similarities[ordinal];
+            for (int i = 0; i < neighbors.length; i++) {
+                if (!exclude.contains(neighbors[i]))
+                    scores.merge(neighbors[i], similarities[i], Float::sum);
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Float>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(k)
+                .mapToInt(Map.Entry::getKey)
+                .toArray();
+    }
+
+    private static final class Snapshot {
+        private static final Snapshot EMPTY_SNAPSHOT = new Snapshot(EMPTY, new int[0][], new float[0][]);
+
+        // 오름차순 테마 코드와 같은 위치의 이웃 테마 코드/유사도 (유사도 내림차순)
+        private final int[] themeCodes;
+        private final int[][] neighbors;
+        private final float[][] similarities;
+
+        private Snapshot(int[] themeCodes, int[][] neighbors, float[][] similarities) {
+            this.themeCodes = themeCodes;
+            this.neighbors = neighbors;
+            this.similarities = similarities;
+        }
+
+        private static Snapshot build(List<MemberThemeDTO> interactions) {
+            // 회원별 테마 집합 (반응과 리뷰의 중복 제거)
+            Map<Integer, TreeSet<Integer>> themesByMember = new HashMap<>();
+            TreeSet<Integer> allThemes = new TreeSet<>();
+            for (MemberThemeDTO interaction : interactions) {
+                themesByMember.computeIfAbsent(interaction.getMemberCode(), key -> new TreeSet<>())
+                        .add(interaction.getThemeCode());
+                allThemes.add(interaction.getThemeCode());
+            }
+
+            int[] themeCodes = allThemes.stream().mapToInt(Integer::intValue).toArray();
+            int size = themeCodes.length;
+            int[] memberCounts = new int[size];
+            List<Map<Integer, Integer>> coCounts = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                coCounts.add(new HashMap<>());
+            }
+
+            for (TreeSet<Integer> themes : themesByMember.values()) {
+                int[] ordinals = themes.stream()
+                        .limit(MAX_THEMES_PER_MEMBER)
+                        .mapToInt(themeCode -> Arrays.binarySearch(themeCodes, themeCode))
+                        .toArray();
+                for (int i = 0; i < ordinals.length; i++) {
+                    memberCounts[ordinals[i]]++;
+                    for (int j = i + 1; j < ordinals.length; j++) {
+                        coCounts.get(ordinals[i]).merge(ordinals[j], 1, Integer::sum);
+                        coCounts.get(ordinals[j]).merge(ordinals[i], 1, Integer::sum);
+                    }
+                }
+            }
+
+            int[][] neighbors = new int[size][];
+            float[][] similarities = new float[size][];
+            for (int i = 0; i < size; i++) {
+                int self = i;
+                // 크기 N 의 최소 힙으로 유사도 상위 N 개 선택
+                PriorityQueue<Neighbor> heap = new PriorityQueue<>(
+                        (a, b) -> (a.similarity != b.similarity)
+                                ? Float.compare(a.similarity, b.similarity)
+                                : Integer.compare(b.ordinal, a.ordinal));
+                coCounts.get(i).forEach((other, count) -> {
+                    float similarity = (float) (count / Math.sqrt((double) memberCounts[self] * memberCounts[other]));
+                    heap.offer(new Neighbor(other, similarity));
+                    if (heap.size() > NEIGHBOR_COUNT)
+                        heap.poll();
+                });
+
+                neighbors[i] = new int[heap.size()];
+                similarities[i] = new float[heap.size()];
+                for (int n = heap.size() - 1; n >= 0; n--) {
+                    Neighbor neighbor = heap.poll();
+                    neighbors[i][n] = themeCodes[neighbor.ordinal];
+                    similarities[i][n] = neighbor.similarity;
+                }
+            }
+
+            return new Snapshot(themeCodes, neighbors, similarities);
+        }
+    }
+
+    private record Neighbor(int ordinal, float similarity) {
+    }
+}
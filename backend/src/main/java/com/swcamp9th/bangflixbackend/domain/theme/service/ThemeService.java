@@ -1,6 +1,9 @@
 package com.swcamp9th.bangflixbackend.domain.theme.service;
 
 import com.swcamp9th.bangflixbackend.domain.theme.dto.FindThemeByReactionDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeCursorPageDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeFacetFilterDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeFacetSearchDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeReactionDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.GenreDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeDTO;
@@ -116,6 +119,57 @@ public interface ThemeService {
      */
     List<ThemeDTO> findThemeByGenresAndSearchOrderBySort(Pageable pageable, String sort, List<String> genres, String search);
 
+    /**
+     * 회원용 테마 조회 API (커서 기반 페이지네이션).
+     * <p>
+     * 이전 응답의 nextCursor 를 전달하면 그 다음 위치부터 조회하며, 페이지 깊이와 관계없이 동일한 비용으로 조회됩니다.
+     *
+     * @param cursor     이전 페이지 응답의 nextCursor. 첫 페이지는 null.
+     * @param size       페이지 크기
+     * @param sort       정렬 기준 (예: "like", "scrap", "review"). 값이 없으면 최신 순으로 정렬됩니다.
+     * @param genres     선택적 장르 리스트 (여러 개 가능)
+     * @param search     검색어 (테마 이름에 포함된 문자열)
+     * @param memberCode 로그인한 회원의 고유 코드
+     * @return 조회된 테마 목록과 다음 페이지 커서를 담은 ThemeCursorPageDTO
+     */
+    ThemeCursorPageDTO findThemePageByCursor(String cursor, int size, String sort, List<String> genres, String search, int memberCode);
+
+    /**
+     * 게스트용 테마 조회 API (커서 기반 페이지네이션).
+     *
+     * @param cursor 이전 페이지 응답의 nextCursor. 첫 페이지는 null.
+     * @param size   페이지 크기
+     * @param sort   정렬 기준 (예: "like", "scrap", "review"). 값이 없으면 최신 순으로 정렬됩니다.
+     * @param genres 선택적 장르 리스트 (여러 개 가능)
+     * @param search 검색어 (테마 이름에 포함된 문자열)
+     * @return 조회된 테마 목록과 다음 페이지 커서를 담은 ThemeCursorPageDTO
+     */
+    ThemeCursorPageDTO findThemePageByCursor(String cursor, int size, String sort, List<String> genres, String search);
+
+    /**
+     * 회원용 facet 테마 검색 API.
+     * <p>
+     * 같은 facet 안의 값은 OR, 서로 다른 facet 은 AND 로 결합하며,
+     * 각 facet 값별 테마 수는 해당 facet 을 제외한 나머지 조건을 적용해 계산됩니다.
+     *
+     * @param pageable   페이지 정보
+     * @param sort       정렬 기준 (예: "like", "scrap", "review"). 값이 없으면 최신 순으로 정렬됩니다.
+     * @param filter     facet 선택 값과 검색어
+     * @param memberCode 로그인한 회원의 고유 코드
+     * @return 조회된 테마 목록, 전체 결과 수, facet 별 개수를 담은 ThemeFacetSearchDTO
+     */
+    ThemeFacetSearchDTO findThemeByFacets(Pageable pageable, String sort, ThemeFacetFilterDTO filter, int memberCode);
+
+    /**
+     * 게스트용 facet 테마 검색 API.
+     *
+     * @param pageable 페이지 정보
+     * @param sort     정렬 기준 (예: "like", "scrap", "review"). 값이 없으면 최신 순으로 정렬됩니다.
+     * @param filter   facet 선택 값과 검색어
+     * @return 조회된 테마 목록, 전체 결과 수, facet 별 개수를 담은 ThemeFacetSearchDTO
+     */
+    ThemeFacetSearchDTO findThemeByFacets(Pageable pageable, String sort, ThemeFacetFilterDTO filter);
+
     /**
      * 회원용 업체별 테마 조회 API.
      * <p>
@@ -170,6 +224,25 @@ public interface ThemeService {
      */
     List<ThemeDTO> findThemeByWeek(int memberCode);
 
+    /**
+     * 회원용 인기 테마 조회 API.
+     *
+     * @param window     집계 기간 ("24h", "7d", "30d"). 그 외의 값은 "7d" 로 처리됩니다.
+     * @param size       조회할 테마 수 (최대 50)
+     * @param memberCode 로그인한 회원의 고유 코드
+     * @return 기간 내 반응 수가 많은 순서의 테마 목록
+     */
+    List<ThemeDTO> findTrendingThemes(String window, int size, int memberCode);
+
+    /**
+     * 게스트용 인기 테마 조회 API.
+     *
+     * @param window 집계 기간 ("24h", "7d", "30d"). 그 외의 값은 "7d" 로 처리됩니다.
+     * @param size   조회할 테마 수 (최대 50)
+     * @return 기간 내 반응 수가 많은 순서의 테마 목록
+     */
+    List<ThemeDTO> findTrendingThemes(String window, int size);
+
     /**
      * 전체 장르 조회 API.
      * <p>
@@ -3,11 +3,11 @@ package com.swcamp9th.bangflixbackend.domain.theme.service;
 import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
 import com.swcamp9th.bangflixbackend.domain.store.service.StoreService;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.*;
-import com.swcamp9th.bangflixbackend.domain.theme.dto.mapper.ReactionMapper;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.ReactionType;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeReaction;
 import com.swcamp9th.bangflixbackend.domain.theme.exception.*;
+import com.swcamp9th.bangflixbackend.domain.theme.mapper.ThemeMapper;
 import com.swcamp9th.bangflixbackend.domain.theme.repository.GenreRepository;
 import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeReactionRepository;
 import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeRepository;
@@ -16,7 +16,6 @@ import java.time.LocalDateTime;
 import java.util.*;
 
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,25 +27,53 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ThemeServiceImpl implements ThemeService {
 
-    private final ModelMapper modelMapper;
+    private static final String SORT_LIKE = "like";
+    private static final String SORT_SCRAP = "scrap";
+    private static final String SORT_REVIEW = "review";
+    private static final String SORT_NEWEST = "newest";
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 10;
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    private static final int WEEKLY_BEST_SIZE = 5;
+    private static final int RECOMMEND_SIZE = 5;
+
+    // 정렬 쿼리가 반환한 테마와 정렬에 사용된 값 (커서 값)
+    private record SortedTheme(Theme theme, String sortValue) {
+    }
+
     private final StoreService storeService;
     private final GenreRepository genreRepository;
     private final ThemeRepository themeRepository;
     private final ThemeReactionRepository themeReactionRepository;
+    private final ThemeStatsService themeStatsService;
+    private final ThemeNameIndex themeNameIndex;
+    private final ThemeFacetIndex themeFacetIndex;
+    private final MemberReactionCache memberReactionCache;
+    private final ThemeTrendingEngine themeTrendingEngine;
+    private final ThemeRecommendationIndex themeRecommendationIndex;
 
     @Autowired
     public ThemeServiceImpl(
-            ModelMapper modelMapper,
             StoreService storeService,
             GenreRepository genreRepository,
             ThemeRepository themeRepository,
-            ThemeReactionRepository themeReactionRepository
+            ThemeReactionRepository themeReactionRepository,
+            ThemeStatsService themeStatsService,
+            ThemeNameIndex themeNameIndex,
+            ThemeFacetIndex themeFacetIndex,
+            MemberReactionCache memberReactionCache,
+            ThemeTrendingEngine themeTrendingEngine,
+            ThemeRecommendationIndex themeRecommendationIndex
     ) {
-        this.modelMapper = modelMapper;
         this.storeService = storeService;
         this.genreRepository = genreRepository;
         this.themeRepository = themeRepository;
         this.themeReactionRepository = themeReactionRepository;
+        this.themeStatsService = themeStatsService;
+        this.themeNameIndex = themeNameIndex;
+        this.themeFacetIndex = themeFacetIndex;
+        this.memberReactionCache = memberReactionCache;
+        this.themeTrendingEngine = themeTrendingEngine;
+        this.themeRecommendationIndex = themeRecommendationIndex;
     }
 
     @Override
@@ -77,7 +104,7 @@ public class ThemeServiceImpl implements ThemeService {
     @Transactional
     public List<GenreDTO> findGenres() {
         return genreRepository.findAll(Sort.by(Sort.Direction.ASC, "name")).stream()
-                .map(genre -> modelMapper.map(genre, GenreDTO.class))
+                .map(genre -> ThemeMapper.toGenreDTO(genre))
                 .toList();
     }
 
@@ -90,10 +117,8 @@ public class ThemeServiceImpl implements ThemeService {
             String search,
             int memberCode
     ) {
-        List<Theme> themes = fetchThemesBy(pageable, genres, search);
-        List<ThemeDTO> themeDTOList = createThemeDTOList(themes, memberCode);
-        sortThemeList(themeDTOList, sort);
-        return themeDTOList;
+        List<Theme> themes = themesOf(fetchThemesBy(withoutSort(pageable), normalizeSort(sort), genres, search, null));
+        return createThemeDTOList(themes, memberCode);
     }
 
     @Override
@@ -104,18 +129,202 @@ public class ThemeServiceImpl implements ThemeService {
             List<String> genres,
             String search
     ) {
-        List<Theme> themes = fetchThemesBy(pageable, genres, search);
-        List<ThemeDTO> themeDTOList = createThemeDTOList(themes);
-        sortThemeList(themeDTOList, sort);
-        return themeDTOList;
+        List<Theme> themes = themesOf(fetchThemesBy(withoutSort(pageable), normalizeSort(sort), genres, search, null));
+        return createThemeDTOList(themes);
+    }
+
+    @Override
+    @Transactional
+    public ThemeCursorPageDTO findThemePageByCursor(
+            String cursor,
+            int size,
+            String sort,
+            List<String> genres,
+            String search,
+            int memberCode
+    ) {
+        String sortKey = normalizeSort(sort);
+        int pageSize = toCursorPageSize(size);
+        List<SortedTheme> themes = fetchThemePage(cursor, pageSize, sortKey, genres, search);
+        List<SortedTheme> page = themes.subList(0, Math.min(themes.size(), pageSize));
+        return toCursorPage(page, createThemeDTOList(themesOf(page), memberCode), themes.size() > pageSize, sortKey);
+    }
+
+    @Override
+    @Transactional
+    public ThemeCursorPageDTO findThemePageByCursor(
+            String cursor,
+            int size,
+            String sort,
+            List<String> genres,
+            String search
+    ) {
+        String sortKey = normalizeSort(sort);
+        int pageSize = toCursorPageSize(size);
+        List<SortedTheme> themes = fetchThemePage(cursor, pageSize, sortKey, genres, search);
+        List<SortedTheme> page = themes.subList(0, Math.min(themes.size(), pageSize));
+        return toCursorPage(page, createThemeDTOList(themesOf(page)), themes.size() > pageSize, sortKey);
+    }
+
+    @Override
+    @Transactional
+    public ThemeFacetSearchDTO findThemeByFacets(
+            Pageable pageable,
+            String sort,
+            ThemeFacetFilterDTO filter,
+            int memberCode
+    ) {
+        ThemeFacetIndex.FacetResult facetResult = themeFacetIndex.search(filter);
+        List<Theme> themes = fetchThemesByFacetResult(pageable, sort, facetResult);
+        return new ThemeFacetSearchDTO(
+                createThemeDTOList(themes, memberCode),
+                facetResult.getThemeCodes().length,
+                facetResult.getFacets()
+        );
+    }
+
+    @Override
+    @Transactional
+    public ThemeFacetSearchDTO findThemeByFacets(
+            Pageable pageable,
+            String sort,
+            ThemeFacetFilterDTO filter
+    ) {
+        ThemeFacetIndex.FacetResult facetResult = themeFacetIndex.search(filter);
+        List<Theme> themes = fetchThemesByFacetResult(pageable, sort, facetResult);
+        return new ThemeFacetSearchDTO(
+                createThemeDTOList(themes),
+                facetResult.getThemeCodes().length,
+                facetResult.getFacets()
+        );
     }
 
-    private List<Theme> fetchThemesBy(
+    // facet 색인에서 구한 테마 코드 집합을 IN 조건으로 넘기고, 정렬과 페이지 자르기만 DB 에서 수행
+    private List<Theme> fetchThemesByFacetResult(
             Pageable pageable,
+            String sort,
+            ThemeFacetIndex.FacetResult facetResult
+    ) {
+        if (facetResult.getThemeCodes().length == 0)
+            return new ArrayList<>();
+
+        List<Integer> themeCodes = Arrays.stream(facetResult.getThemeCodes()).boxed().toList();
+        return themesOf(fetchThemesByThemeCodes(withoutSort(pageable), normalizeSort(sort), null, themeCodes, null, null));
+    }
+
+    private List<SortedTheme> fetchThemePage(
+            String cursor,
+            int pageSize,
+            String sortKey,
             List<String> genres,
             String search
     ) {
-        return themeRepository.findThemesBy(genres, search, pageable);
+        ThemeCursor themeCursor = (cursor == null || cursor.isBlank()) ? null : ThemeCursor.decode(cursor, sortKey);
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        return fetchThemesBy(PageRequest.of(0, pageSize + 1), sortKey, genres, search, themeCursor);
+    }
+
+    /**
+     * 정렬 기준에 맞는 쿼리로 테마를 조회한다. 정렬은 DB 에서 theme_stats 카운터 기준으로 수행되며,
+     * 커서가 주어지면 해당 위치 이후의 행만 조회한다 (keyset). 장르 조건은 이름 색인 결과와 함께 DB 에서 교집합된다.
+     */
+    private List<SortedTheme> fetchThemesBy(
+            Pageable pageable,
+            String sortKey,
+            List<String> genres,
+            String search,
+            ThemeCursor cursor
+    ) {
+        // 검색어는 DB LIKE 대신 이름 색인에서 후보 테마 코드를 구해 IN 조건으로 넘김
+        List<Integer> themeCodes = null;
+        String keyword = null;
+        String query = ThemeNameIndex.normalize(search);
+        if (query.length() >= ThemeNameIndex.MIN_CANDIDATE_QUERY_LENGTH) {
+            themeCodes = Arrays.stream(themeNameIndex.search(search)).boxed().toList();
+            if (themeCodes.isEmpty())
+                return new ArrayList<>();
+        } else if (!query.isEmpty()) {
+            // 한 글자 검색어는 대부분의 테마가 후보라 IN 목록 대신 DB LIKE 로 거름
+            keyword = query;
+        }
+
+        return fetchThemesByThemeCodes(pageable, sortKey, genres, themeCodes, keyword, cursor);
+    }
+
+    // themeCodes, keyword 가 null 이면 각각의 조건 없이 조회
+    private List<SortedTheme> fetchThemesByThemeCodes(
+            Pageable pageable,
+            String sortKey,
+            List<String> genres,
+            List<Integer> themeCodes,
+            String keyword,
+            ThemeCursor cursor
+    ) {
+        Integer cursorThemeCode = (cursor == null) ? null : cursor.getThemeCode();
+
+        switch (sortKey) {
+            case SORT_LIKE:
+                return toSortedThemes(themeRepository.findThemesOrderByLikes(
+                        genres, themeCodes, keyword, (cursor == null) ? null : cursor.getCountValue(), cursorThemeCode, pageable));
+            case SORT_SCRAP:
+                return toSortedThemes(themeRepository.findThemesOrderByScraps(
+                        genres, themeCodes, keyword, (cursor == null) ? null : cursor.getCountValue(), cursorThemeCode, pageable));
+            case SORT_REVIEW:
+                return toSortedThemes(themeRepository.findThemesOrderByReviews(
+                        genres, themeCodes, keyword, (cursor == null) ? null : cursor.getCountValue(), cursorThemeCode, pageable));
+            default:
+                return themeRepository.findThemesOrderByNewest(
+                        genres, themeCodes, keyword, (cursor == null) ? null : cursor.getCreatedAtValue(), cursorThemeCode, pageable)
+                        .stream()
+                        .map(theme -> new SortedTheme(theme, theme.getCreatedAt().toString()))
+                        .toList();
+        }
+    }
+
+    // [테마, 정렬에 사용된 카운트] 행을 커서 값과 함께 보관
+    private List<SortedTheme> toSortedThemes(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new SortedTheme((Theme) row[0], String.valueOf(row[1])))
+                .toList();
+    }
+
+    private List<Theme> themesOf(List<SortedTheme> sortedThemes) {
+        return sortedThemes.stream().map(SortedTheme::theme).toList();
+    }
+
+    // 커서 값은 DTO 의 카운트가 아니라 쿼리가 정렬에 사용한 값으로 만들어야 다음 페이지 경계가 어긋나지 않음
+    private ThemeCursorPageDTO toCursorPage(
+            List<SortedTheme> themes,
+            List<ThemeDTO> themeDTOList,
+            boolean hasNext,
+            String sortKey
+    ) {
+        if (!hasNext || themes.isEmpty())
+            return new ThemeCursorPageDTO(themeDTOList, null);
+
+        SortedTheme lastTheme = themes.get(themes.size() - 1);
+        return new ThemeCursorPageDTO(
+                themeDTOList,
+                new ThemeCursor(sortKey, lastTheme.sortValue(), lastTheme.theme().getThemeCode()).encode()
+        );
+    }
+
+    private String normalizeSort(String sort) {
+        if (SORT_LIKE.equals(sort) || SORT_SCRAP.equals(sort) || SORT_REVIEW.equals(sort))
+            return sort;
+        return SORT_NEWEST;
+    }
+
+    private int toCursorPageSize(int size) {
+        if (size <= 0)
+            return DEFAULT_CURSOR_PAGE_SIZE;
+        return Math.min(size, MAX_CURSOR_PAGE_SIZE);
+    }
+
+    // 정렬은 filter 값으로 결정되므로 Pageable 에 포함된 정렬 조건은 무시
+    private Pageable withoutSort(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
     }
 
     @Override
@@ -172,8 +381,12 @@ public class ThemeServiceImpl implements ThemeService {
             themeReaction.setThemeCode(theme.getThemeCode());
             themeReaction.setMemberCode(member.getMemberCode());
             themeReactionRepository.save(themeReaction);
+            themeStatsService.applyReactionChange(theme.getThemeCode(), null, themeReaction.getReaction());
+            memberReactionCache.update(member.getMemberCode(), theme.getThemeCode(), themeReaction.getReaction());
+            themeTrendingEngine.recordReaction(theme.getThemeCode(), themeReaction.getCreatedAt(), 1);
         }
         else {
+            ReactionType before = themeReaction.getReaction();
             if (themeReactionDTO.getReaction().equals("like")) {
                 if (themeReaction.getReaction().equals(ReactionType.LIKE))
                     return;
@@ -191,6 +404,8 @@ public class ThemeServiceImpl implements ThemeService {
                     return;
             }
             themeReactionRepository.save(themeReaction);
+            themeStatsService.applyReactionChange(theme.getThemeCode(), before, themeReaction.getReaction());
+            memberReactionCache.update(member.getMemberCode(), theme.getThemeCode(), themeReaction.getReaction());
         }
     }
 
@@ -205,6 +420,7 @@ public class ThemeServiceImpl implements ThemeService {
                 .orElseThrow(ReactionNotFoundException::new);
 
         ReactionType currentReaction = themeReaction.getReaction();
+        ReactionType after = currentReaction;
         String requestedReaction = themeReactionDTO.getReaction();
 
         // 요청이 'like'인 경우
@@ -213,11 +429,13 @@ public class ThemeServiceImpl implements ThemeService {
 
                 // 이미 좋아요 상태이면 삭제
                 themeReactionRepository.delete(themeReaction);
+                after = null;
             } else if (currentReaction == ReactionType.SCRAPLIKE) {
 
                 // 스크랩+좋아요인 경우 좋아요만 취소 -> 스크랩 상태로 변경
                 themeReaction.setReaction(ReactionType.SCRAP);
                 themeReactionRepository.save(themeReaction);
+                after = ReactionType.SCRAP;
             }
         }
         // 요청이 'scrap'인 경우
@@ -226,15 +444,23 @@ public class ThemeServiceImpl implements ThemeService {
 
                 // 이미 스크랩 상태이면 삭제
                 themeReactionRepository.delete(themeReaction);
+                after = null;
             } else if (currentReaction == ReactionType.SCRAPLIKE) {
 
                 // 스크랩+좋아요인 경우 스크랩만 취소 -> 좋아요 상태로 변경
                 themeReaction.setReaction(ReactionType.LIKE);
                 themeReactionRepository.save(themeReaction);
+                after = ReactionType.LIKE;
             }
         } else {
             throw new UnexpectedReactionTypeException("잘못된 타입입니다. + 요청된 리액션: " + requestedReaction);
         }
+
+        themeStatsService.applyReactionChange(themeReactionDTO.getThemeCode(), currentReaction, after);
+        if (after != currentReaction)
+            memberReactionCache.update(memberCode, themeReactionDTO.getThemeCode(), after);
+        if (after == null)
+            themeTrendingEngine.recordReaction(themeReactionDTO.getThemeCode(), themeReaction.getCreatedAt(), -1);
     }
 
     @Override
@@ -258,14 +484,19 @@ public class ThemeServiceImpl implements ThemeService {
 
         List<FindThemeByReactionDTO> result = new ArrayList<>();
 
-        for(ThemeReaction themeReaction : themeReactions){
-            FindThemeByReactionDTO findThemeByReaction = modelMapper.map(themeReaction.getTheme(), FindThemeByReactionDTO.class);
+        // 테마는 반응 조회 시 fetch join 으로 함께 로딩되고, 업체 정보는 업체 캐시에서 한 번에 조회
+        List<Theme> themes = themeReactions.stream().map(ThemeReaction::getTheme).toList();
+        Map<Integer, StoreDTO> stores = storeService.findStores(toStoreCodes(themes));
 
-            StoreDTO storeDTO = storeService.findStore(themeReaction.getTheme().getThemeCode());
-            findThemeByReaction.setStoreCode(storeDTO.getStoreCode());
-            findThemeByReaction.setStoreName(storeDTO.getName());
-            findThemeByReaction.setIsLike(true);
-            findThemeByReaction.setIsScrap(true);
+        for(ThemeReaction themeReaction : themeReactions){
+            Theme theme = themeReaction.getTheme();
+            FindThemeByReactionDTO findThemeByReaction = ThemeMapper.toFindThemeByReactionDTO(theme);
+
+            StoreDTO store = stores.get(theme.getStore().getStoreCode());
+            findThemeByReaction.setStoreCode(theme.getStore().getStoreCode());
+            findThemeByReaction.setStoreName(store != null ? store.getName() : null);
+            findThemeByReaction.setIsLike(isLikeReaction(themeReaction.getReaction()));
+            findThemeByReaction.setIsScrap(isScrapReaction(themeReaction.getReaction()));
             result.add(findThemeByReaction);
         }
 
@@ -273,32 +504,69 @@ public class ThemeServiceImpl implements ThemeService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<ThemeDTO> findThemeByWeek(int memberCode) {
-        LocalDateTime oneWeekAgo = LocalDateTime.now().minusWeeks(1);  // 현재로부터 1주일 이전
-        Pageable pageable = PageRequest.of(0,5);
+        return findTrendingThemes(ThemeTrendingEngine.Window.WEEK.getValue(), WEEKLY_BEST_SIZE, memberCode);
+    }
 
-        List<Theme> themes = themeRepository.findByWeekOrderByLikes(oneWeekAgo, pageable);
+    @Override
+    @Transactional(readOnly = true)
+    public List<ThemeDTO> findThemeByWeek() {
+        return findTrendingThemes(ThemeTrendingEngine.Window.WEEK.getValue(), WEEKLY_BEST_SIZE);
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<ThemeDTO> findTrendingThemes(String window, int size, int memberCode) {
+        List<Theme> themes = findTrendingThemeList(window, size);
         return createThemeDTOList(themes, memberCode);
     }
 
     @Override
-    public List<ThemeDTO> findThemeByWeek() {
-        LocalDateTime oneWeekAgo = LocalDateTime.now().minusWeeks(1);  // 현재로부터 1주일 이전
-        Pageable pageable = PageRequest.of(0,5);
+    @Transactional(readOnly = true)
+    public List<ThemeDTO> findTrendingThemes(String window, int size) {
+        List<Theme> themes = findTrendingThemeList(window, size);
+        return createThemeDTOList(themes);
+    }
 
-        List<Theme> themes = themeRepository.findByWeekOrderByLikes(oneWeekAgo, pageable);
+    // 집계 엔진의 순위대로 테마를 조회 (비활성 테마는 제외)
+    private List<Theme> findTrendingThemeList(String window, int size) {
+        int k = (size <= 0) ? WEEKLY_BEST_SIZE : Math.min(size, ThemeTrendingEngine.MAX_TOP_K);
+        List<Integer> themeCodes = themeTrendingEngine.top(ThemeTrendingEngine.Window.from(window), k);
+        if (themeCodes.isEmpty())
+            return new ArrayList<>();
 
-        return createThemeDTOList(themes);
+        Map<Integer, Theme> themes = new HashMap<>();
+        themeRepository.findByThemeCodes(themeCodes).forEach(theme -> themes.put(theme.getThemeCode(), theme));
+
+        return themeCodes.stream()
+                .map(themes::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
     @Transactional
     public List<ThemeDTO> recommendTheme(List<Integer> themeCodes) {
+        int[] recommended = themeRecommendationIndex.recommend(themeCodes, RECOMMEND_SIZE);
+        if (recommended.length > 0) {
+            List<Integer> recommendedCodes = Arrays.stream(recommended).boxed().toList();
+            Map<Integer, Theme> themes = new HashMap<>();
+            themeRepository.findByThemeCodes(recommendedCodes).forEach(theme -> themes.put(theme.getThemeCode(), theme));
+
+            List<Theme> orderedThemes = recommendedCodes.stream()
+                    .map(themes::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (!orderedThemes.isEmpty())
+                return createThemeDTOList(orderedThemes);
+        }
+
+        // 함께 반응한 이력이 없는 테마(또는 요청 테마 없음)는 장르 기준 인기 테마로 대체
         return findThemeByGenresAndSearchOrderBySort(
-                PageRequest.of(0,5),
+                PageRequest.of(0, RECOMMEND_SIZE),
                 "like",
-                (themeCodes == null) ? null : getGenreNameListByThemeCodeList(themeCodes),
+                (themeCodes == null || themeCodes.isEmpty()) ? null : getGenreNameListByThemeCodeList(themeCodes),
                 null
         );
     }
@@ -314,9 +582,7 @@ public class ThemeServiceImpl implements ThemeService {
                 .toList()
         );
 
-        return themes.stream()
-                .map(theme -> createThemeDTO(theme, memberCode))
-                .toList();
+        return createThemeDTOList(themes, memberCode);
 
     }
 
@@ -350,26 +616,28 @@ public class ThemeServiceImpl implements ThemeService {
             List<Theme> themes,
             int memberCode) {
 
-        List<ThemeDTO> themeDTOList = new ArrayList<>();
-
-        themes.stream()
-                .map(theme -> {
-                    ThemeDTO themeDto = createBaseThemeDTO(theme);
-                    applyReaction(theme.getThemeCode(), memberCode, themeDto);
-                    return themeDto;
-                })
-                .forEach(themeDTOList::add);
-
+        List<ThemeDTO> themeDTOList = createThemeDTOList(themes);
+        applyReactions(themes, themeDTOList, memberCode);
         return themeDTOList;
     }
 
+    /**
+     * 테마 목록을 한 번에 ThemeDTO 로 변환한다.
+     * 좋아요/스크랩/리뷰 수는 테마 코드 목록 단위로 한 번만 조회하며,
+     * 업체 정보는 업체 캐시에서 한 번에 조회한다.
+     */
     private List<ThemeDTO> createThemeDTOList(
             List<Theme> themes
     ) {
         List<ThemeDTO> themeDTOList = new ArrayList<>();
+        if (themes.isEmpty())
+            return themeDTOList;
+
+        Map<Integer, ThemeCountDTO> themeCounts = getThemeReactions(toThemeCodes(themes));
+        Map<Integer, StoreDTO> stores = storeService.findStores(toStoreCodes(themes));
 
         themes.stream()
-                .map(this::createBaseThemeDTO)
+                .map(theme -> createBaseThemeDTO(theme, themeCounts.get(theme.getThemeCode()), stores))
                 .forEach(themeDTOList::add);
 
         return themeDTOList;
@@ -379,35 +647,88 @@ public class ThemeServiceImpl implements ThemeService {
             Theme theme,
             int memberCode
     ) {
-        ThemeDTO themeDto = createBaseThemeDTO(theme);
-        applyReaction(theme.getThemeCode(), memberCode, themeDto);
-        return themeDto;
+        return createThemeDTOList(List.of(theme), memberCode).get(0);
     }
 
     private ThemeDTO createBaseThemeDTO(Theme theme) {
-        ThemeDTO themeDto = modelMapper.map(theme, ThemeDTO.class);
-        ThemeCountDTO reactions = getThemeReactions(theme.getThemeCode());
+        return createThemeDTOList(List.of(theme)).get(0);
+    }
+
+    private ThemeDTO createBaseThemeDTO(
+            Theme theme,
+            ThemeCountDTO reactions,
+            Map<Integer, StoreDTO> stores
+    ) {
+        // 비활성 테마는 카운트 조회 결과에 포함되지 않음
+        if (reactions == null)
+            throw new ThemeNotFoundException();
+
+        ThemeDTO themeDto = ThemeMapper.toThemeDTO(theme);
         themeDto.setLikeCount(Math.toIntExact(reactions.getLikeCount()));
         themeDto.setScrapCount(Math.toIntExact(reactions.getScrapCount()));
         themeDto.setReviewCount(Math.toIntExact(reactions.getReviewCount()));
-        themeDto.setStoreCode(theme.getStore().getStoreCode());
-        themeDto.setStoreName(theme.getStore().getName());
+        setStore(themeDto, theme, stores);
         themeDto.setIsLike(false);
         themeDto.setIsScrap(false);
         return themeDto;
     }
 
-    private ThemeCountDTO getThemeReactions(int themeCode) {
-        return themeRepository.findThemeCountsByThemeCode(themeCode).orElseThrow(ThemeNotFoundException::new);
+    private void setStore(
+            ThemeDTO themeDto,
+            Theme theme,
+            Map<Integer, StoreDTO> stores
+    ) {
+        // 업체 코드는 프록시 식별자라 추가 조회가 없음
+        int storeCode = theme.getStore().getStoreCode();
+        StoreDTO store = stores.get(storeCode);
+        themeDto.setStoreCode(storeCode);
+        themeDto.setStoreName(store != null ? store.getName() : null);
     }
 
-    private void applyReaction(
-            int themeCode,
-            int memberCode,
-            ThemeDTO themeDto
+    private List<Integer> toStoreCodes(List<Theme> themes) {
+        return themes.stream()
+                .map(theme -> theme.getStore().getStoreCode())
+                .distinct()
+                .toList();
+    }
+
+    private Map<Integer, ThemeCountDTO> getThemeReactions(List<Integer> themeCodes) {
+        Map<Integer, ThemeCountDTO> themeCounts = new HashMap<>();
+        for (ThemeCountDTO themeCount : themeRepository.findThemeCountsByThemeCodes(themeCodes)) {
+            themeCounts.put(themeCount.getThemeCode(), themeCount);
+        }
+        return themeCounts;
+    }
+
+    private void applyReactions(
+            List<Theme> themes,
+            List<ThemeDTO> themeDTOList,
+            int memberCode
     ) {
-        themeReactionRepository.findReactionByThemeCodeAndMemberCode(themeCode, memberCode)
-                .ifPresent(reaction -> ReactionMapper.applyReaction(themeDto, reaction.getReaction()));
+        if (themes.isEmpty())
+            return;
+
+        // 회원별 반응 캐시에서 좋아요/스크랩 여부를 계산 (캐시 적재 시에만 DB 조회)
+        MemberReactionCache.ReactionBits reactions = memberReactionCache.get(memberCode);
+        for (int i = 0; i < themes.size(); i++) {
+            int themeCode = themes.get(i).getThemeCode();
+            themeDTOList.get(i).setIsLike(reactions.isLike(themeCode));
+            themeDTOList.get(i).setIsScrap(reactions.isScrap(themeCode));
+        }
+    }
+
+    private List<Integer> toThemeCodes(List<Theme> themes) {
+        return themes.stream()
+                .map(Theme::getThemeCode)
+                .toList();
+    }
+
+    private boolean isLikeReaction(ReactionType reactionType) {
+        return reactionType == ReactionType.LIKE || reactionType == ReactionType.SCRAPLIKE;
+    }
+
+    private boolean isScrapReaction(ReactionType reactionType) {
+        return reactionType == ReactionType.SCRAP || reactionType == ReactionType.SCRAPLIKE;
     }
 
     private void sortThemeList(
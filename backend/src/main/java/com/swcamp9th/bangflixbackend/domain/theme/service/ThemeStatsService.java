@@ -0,0 +1,62 @@
+package com.swcamp9th.bangflixbackend.domain.theme.service;
+
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ReactionType;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeStats;
+
+/**
+ * ThemeStatsService 인터페이스는 테마별 집계 카운터(theme_stats) 갱신 로직을 정의합니다.
+ * <p>
+ * 반응/리뷰 작성 트랜잭션 안에서 호출되어 카운터를 증감시키며,
+ * 주기적으로 원본 테이블 기준 재집계를 수행해 누적 오차를 바로잡습니다.
+ */
+public interface ThemeStatsService {
+
+    /**
+     * 회원의 테마 반응이 변경되었을 때 좋아요/스크랩 수를 증감합니다.
+     *
+     * @param themeCode 반응이 변경된 테마의 고유 코드
+     * @param before    변경 전 반응 (신규 등록이면 null)
+     * @param after     변경 후 반응 (삭제되었으면 null)
+     */
+    void applyReactionChange(int themeCode, ReactionType before, ReactionType after);
+
+    /**
+     * 리뷰가 등록되었을 때 리뷰 수와 점수 합계를 증가시킵니다.
+     *
+     * @param themeCode  리뷰가 작성된 테마의 고유 코드
+     * @param totalScore 리뷰 총점
+     */
+    void addReview(int themeCode, int totalScore);
+
+    /**
+     * 리뷰가 삭제되었을 때 리뷰 수와 점수 합계를 감소시킵니다.
+     *
+     * @param themeCode  리뷰가 작성된 테마의 고유 코드
+     * @param totalScore 리뷰 총점
+     */
+    void removeReview(int themeCode, int totalScore);
+
+    /**
+     * 새 테마의 카운터 행을 0 으로 만듭니다. 이미 있으면 그대로 둡니다.
+     * 카운트 정렬 조회는 theme_stats 에서 출발하므로 행이 없는 테마는 조회되지 않습니다.
+     *
+     * @param themeCode 새로 등록된 테마의 고유 코드
+     */
+    void createThemeStats(int themeCode);
+
+    /**
+     * 테마의 집계 카운터를 조회합니다.
+     *
+     * @param themeCode 조회할 테마의 고유 코드
+     * @return 집계 카운터, 없으면 null
+     */
+    ThemeStats findThemeStats(int themeCode);
+
+    /**
+     * theme_reaction, review 테이블을 기준으로 전체 테마의 카운터를 다시 계산합니다.
+     * 다른 인스턴스가 재집계 중이면 건너뜁니다.
+     *
+     * @return 갱신된 행 수 (건너뛰었으면 0)
+     */
+    int rebuildThemeStats();
+}
@@ -0,0 +1,121 @@
+package com.swcamp9th.bangflixbackend.domain.theme.service;
+
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ReactionType;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeStats;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeStatsRepository;
+import com.swcamp9th.bangflixbackend.shared.lock.RedisLeaseLock;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@Slf4j
+public class ThemeStatsServiceImpl implements ThemeStatsService {
+
+    private static final String REBUILD_JOB_NAME = "THEME_STATS_REBUILD";
+    private static final Duration REBUILD_LEASE_TTL = Duration.ofMinutes(10);
+
+    private final ThemeStatsRepository themeStatsRepository;
+    private final RedisLeaseLock redisLeaseLock;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public ThemeStatsServiceImpl(
+            ThemeStatsRepository themeStatsRepository,
+            RedisLeaseLock redisLeaseLock,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.themeStatsRepository = themeStatsRepository;
+        this.redisLeaseLock = redisLeaseLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional
+    public void applyReactionChange(
+            int themeCode,
+            ReactionType before,
+            ReactionType after
+    ) {
+        long likeDelta = toInt(isLike(after)) - toInt(isLike(before));
+        long scrapDelta = toInt(isScrap(after)) - toInt(isScrap(before));
+
+        if (likeDelta == 0 && scrapDelta == 0)
+            return;
+
+        themeStatsRepository.addDelta(themeCode, likeDelta, scrapDelta, 0, 0);
+    }
+
+    @Override
+    @Transactional
+    public void addReview(int themeCode, int totalScore) {
+        themeStatsRepository.addDelta(themeCode, 0, 0, 1, totalScore);
+    }
+
+    @Override
+    @Transactional
+    public void removeReview(int themeCode, int totalScore) {
+        themeStatsRepository.addDelta(themeCode, 0, 0, -1, -totalScore);
+    }
+
+    // 테마 등록 트랜잭션이 커밋된 뒤 호출되므로 새 트랜잭션에서 실행
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createThemeStats(int themeCode) {
+        themeStatsRepository.insertIfAbsent(themeCode);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ThemeStats findThemeStats(int themeCode) {
+        return themeStatsRepository.findById(themeCode).orElse(null);
+    }
+
+    // 매일 새벽 4시에 원본 테이블 기준으로 카운터 재집계.
+    // 전체 테이블을 읽으며 theme_reaction, review 에 공유 잠금을 걸므로 리스를 잡은 인스턴스 한 곳에서만 실행
+    @Scheduled(cron = "0 0 4 * * *")
+    @Override
+    public int rebuildThemeStats() {
+        Optional<RedisLeaseLock.Lease> lease = redisLeaseLock.tryAcquire(REBUILD_JOB_NAME, REBUILD_LEASE_TTL);
+        if (lease.isEmpty()) {
+            log.info("다른 인스턴스가 theme_stats 를 재집계 중이므로 건너뜀");
+            return 0;
+        }
+
+        try {
+            Integer updated = transactionTemplate.execute(status -> themeStatsRepository.rebuildAll());
+            log.info("theme_stats 재집계 완료 ({} rows)", updated);
+            return (updated == null) ? 0 : updated;
+        } finally {
+            lease.get().release();
+        }
+    }
+
+    // 카운터 행이 없는 테마가 있는 상태로 기동되면 채워 넣음 (카운트 정렬 쿼리에서 빠지지 않도록)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initThemeStats() {
+        if (themeStatsRepository.countThemesWithoutStats() > 0)
+            rebuildThemeStats();
+    }
+
+    private boolean isLike(ReactionType reactionType) {
+        return reactionType == ReactionType.LIKE || reactionType == ReactionType.SCRAPLIKE;
+    }
+
+    private boolean isScrap(ReactionType reactionType) {
+        return reactionType == ReactionType.SCRAP || reactionType == ReactionType.SCRAPLIKE;
+    }
+
+    private int toInt(boolean value) {
+        return value ? 1 : 0;
+    }
+}
@@ -0,0 +1,285 @@
+package com.swcamp9th.bangflixbackend.domain.theme.service;
+
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeReactionRepository;
+import com.swcamp9th.bangflixbackend.shared.transaction.TransactionCallbacks;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 테마 반응 수 기준 실시간 인기 테마 집계.
+ * <p>
+ * 테마마다 최근 30일을 1시간 단위로 나눈 링 버퍼 카운터와 윈도우(24시간/7일/30일)별 합계를 유지한다.
+ * 반응이 생기거나 삭제되면 해당 시간 버킷과 합계만 갱신하고, 시간이 지나 윈도우를 벗어난 버킷은 합계에서 뺀다.
+ * 윈도우별 상위 K 개는 변경이 있을 때만 다시 계산해 두므로 조회는 O(K) 이다.
+ * <p>
+ * 반응 변경은 커밋 이후 Redis pub/sub 으로 다른 인스턴스에도 보내 모든 인스턴스가 같은 카운터를 유지한다.
+ * 메시지 유실에 대비해 매시간 DB 의 시간별 집계로 전체를 다시 만들어 맞춘다.
+ */
+@Component
+@Slf4j
+public class ThemeTrendingEngine {
+
+    public static final int MAX_TOP_K = 50;
+
+    // 가장 긴 윈도우(30일)만큼의 시간 버킷
+    private static final int RING_HOURS = 30 * 24;
+    private static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final DateTimeFormatter BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final String REACTION_CHANNEL = "THEME_TRENDING:REACTION";
+
+    public enum Window {
+        DAY("24h", 24),
+        WEEK("7d", 7 * 24),
+        MONTH("30d", 30 * 24);
+
+        private final String value;
+        private final int hours;
+
+        Window(String value, int hours) {
+            this.value = value;
+            this.hours = hours;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        // 알 수 없는 값이면 7일 기준
+        public static Window from(String value) {
+            for (Window window : values()) {
+                if (window.value.equals(value))
+                    return window;
+            }
+            return WEEK;
+        }
+    }
+
+    private final ThemeReactionRepository themeReactionRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Clock clock;
+
+    // 자기 자신이 보낸 반응 메시지는 무시하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private Map<Integer, Counter> counters = new HashMap<>();
+    private long currentHour;
+
+    // 윈도우별 상위 테마 코드. null 이면 다시 계산 필요
+    private final int[][] topThemeCodes = new int[Window.values().length][];
+
+    @Autowired
+    public ThemeTrendingEngine(
+            ThemeReactionRepository themeReactionRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer
+    ) {
+        this(themeReactionRepository, redisTemplate, redisMessageListenerContainer, Clock.systemDefaultZone());
+    }
+
+    public ThemeTrendingEngine(
+            ThemeReactionRepository themeReactionRepository,
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            Clock clock
+    ) {
+        this.themeReactionRepository = themeReactionRepository;
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.currentHour = toEpochHour(clock.millis());
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onReactionMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(REACTION_CHANNEL)
+        );
+    }
+
+    /**
+     * 최근 30일의 시간별 반응 수를 DB 에서 읽어 카운터 전체를 다시 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 1 * * * *")
+    public void reload() {
+        long nowHour = toEpochHour(clock.millis());
+        LocalDateTime since = toLocalDateTime(nowHour - RING_HOURS + 1);
+
+        Map<Integer, Counter> loaded = new HashMap<>();
+        for (Object[] row : themeReactionRepository.countReactionsByThemeCodeAndHour(since)) {
+            int themeCode = ((Number) row[0]).intValue();
+            long hour = toEpochHour(LocalDateTime.parse(row[1].toString(), BUCKET_FORMAT));
+            int count = ((Number) row[2]).intValue();
+            loaded.computeIfAbsent(themeCode, key -> new Counter()).add(hour, nowHour, count);
+        }
+
+        synchronized (this) {
+            counters = loaded;
+            currentHour = nowHour;
+            Arrays.fill(topThemeCodes, null);
+        }
+        log.info("인기 테마 집계 로딩 완료 ({} themes)", loaded.size());
+    }
+
+    /**
+     * 반응이 새로 생기면 +1, 삭제되면 반응이 만들어졌던 시각의 버킷에서 -1 한다.
+     * 커밋 이후 반영하고 다른 인스턴스에도 같은 변경을 보낸다.
+     */
+    public void recordReaction(int themeCode, LocalDateTime createdAt, int delta) {
+        long hour = toEpochHour(createdAt);
+        TransactionCallbacks.afterCommit(() -> {
+            apply(themeCode, hour, delta);
+            publishReaction(themeCode, hour, delta);
+        });
+    }
+
+    /**
+     * 윈도우 안에서 반응 수가 많은 순(같으면 테마 코드 역순)으로 상위 테마 코드를 반환한다.
+     */
+    public synchronized List<Integer> top(Window window, int k) {
+        advanceTo(toEpochHour(clock.millis()));
+
+        int[] top = topThemeCodes[window.ordinal()];
+        if (top == null) {
+            top = computeTop(window);
+            topThemeCodes[window.ordinal()] = top;
+        }
+        return Arrays.stream(top, 0, Math.min(k, top.length)).boxed().toList();
+    }
+
+    private synchronized void apply(int themeCode, long hour, int delta) {
+        long nowHour = toEpochHour(clock.millis());
+        if (hour > nowHour)
+            hour = nowHour;
+        advanceTo(nowHour);
+
+        // 30일보다 오래된 반응의 삭제는 집계에 영향 없음
+        if (hour <= currentHour - RING_HOURS)
+            return;
+
+        counters.computeIfAbsent(themeCode, key -> new Counter()).add(hour, currentHour, delta);
+        Arrays.fill(topThemeCodes, null);
+    }
+
+    private void publishReaction(int themeCode, long hour, int delta) {
+        try {
+            redisTemplate.convertAndSend(REACTION_CHANNEL, instanceId + ":" + themeCode + ":" + hour + ":" + delta);
+        } catch (RuntimeException e) {
+            // 다른 인스턴스는 다음 정각 재구성 때 맞춰지므로 발행 실패로 요청을 실패시키지 않음
+            log.warn("인기 테마 반응 메시지 발행 실패 (themeCode: {})", themeCode, e);
+        }
+    }
+
+    // "인스턴스 식별자:테마 코드:시간 버킷:증감" 형식의 다른 인스턴스 반응을 반영
+    private void onReactionMessage(String body) {
+        String[] parts = body.split(":");
+        if (parts.length != 4 || parts[0].equals(instanceId))
+            return;
+
+        try {
+            apply(Integer.parseInt(parts[1]), Long.parseLong(parts[2]), Integer.parseInt(parts[3]));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 인기 테마 반응 메시지: {}", body);
+        }
+    }
+
+    // 현재 시각까지 시간을 진행시키며 윈도우를 벗어난 버킷을 합계에서 제거
+    private void advanceTo(long nowHour) {
+        if (nowHour <= currentHour)
+            return;
+
+        if (nowHour - currentHour >= RING_HOURS) {
+            counters.clear();
+        } else {
+            for (long hour = currentHour + 1; hour <= nowHour; hour++) {
+                long newHour = hour;
+                counters.values().forEach(counter -> counter.roll(newHour));
+            }
+            counters.values().removeIf(Counter::isEmpty);
+        }
+        currentHour = nowHour;
+        Arrays.fill(topThemeCodes, null);
+    }
+
+    // 크기 K 의 최소 힙으로 상위 K 개 선택 (O(N log K))
+    private int[] computeTop(Window window) {
+        int index = window.ordinal();
+        PriorityQueue<long[]> heap = new PriorityQueue<>(
+                (a, b) -> (a[1] != b[1]) ? Long.compare(a[1], b[1]) : Long.compare(a[0], b[0]));
+
+        counters.forEach((themeCode, counter) -> {
+            long sum = counter.sums[index];
+            if (sum <= 0)
+                return;
+
+            heap.offer(new long[]{themeCode, sum});
+            if (heap.size() > MAX_TOP_K)
+                heap.poll();
+        });
+
+        int[] top = new int[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = (int) heap.poll()[0];
+        }
+        return top;
+    }
+
+    private long toEpochHour(long epochMillis) {
+        return Math.floorDiv(epochMillis, HOUR_MILLIS);
+    }
+
+    private long toEpochHour(LocalDateTime dateTime) {
+        return toEpochHour(dateTime.atZone(clock.getZone()).toInstant().toEpochMilli());
+    }
+
+    private LocalDateTime toLocalDateTime(long epochHour) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochHour * HOUR_MILLIS), clock.getZone());
+    }
+
+    /**
+     * 한 테마의 시간별 반응 수 링 버퍼와 윈도우별 합계.
+     */
+    private static final class Counter {
+        private final int[] buckets = new int[RING_HOURS];
+        private final long[] sums = new long[Window.values().length];
+
+        private void add(long hour, long nowHour, int delta) {
+            buckets[slot(hour)] += delta;
+            for (Window window : Window.values()) {
+                if (hour > nowHour - window.hours)
+                    sums[window.ordinal()] += delta;
+            }
+        }
+
+        // newHour 가 시작되면 각 윈도우에서 벗어나는 버킷을 빼고, 재사용할 슬롯을 비움
+        private void roll(long newHour) {
+            for (Window window : Window.values()) {
+                sums[window.ordinal()] -= buckets[slot(newHour - window.hours)];
+            }
+            buckets[slot(newHour)] = 0;
+        }
+
+        private boolean isEmpty() {
+            return sums[Window.MONTH.ordinal()] <= 0;
+        }
+
+        private static int slot(long hour) {
+            return (int) Math.floorMod(hour, RING_HOURS);
+        }
+    }
+}
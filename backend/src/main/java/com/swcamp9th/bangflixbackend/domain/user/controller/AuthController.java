@@ -5,6 +5,7 @@ import com.swcamp9th.bangflixbackend.shared.response.SuccessResponse;
 import com.swcamp9th.bangflixbackend.domain.user.dto.*;
 import com.swcamp9th.bangflixbackend.domain.user.service.UserServiceImpl;
 import com.swcamp9th.bangflixbackend.domain.user.service.EmailService;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
 import io.swagger.v3.oas.annotations.Operation;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -27,6 +28,7 @@ public class AuthController {
 
     private final UserServiceImpl userService;
     private final EmailService emailService;
+    private final FileUploadPipeline fileUploadPipeline;
 
     @PostMapping(value = "/signup", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE, MediaType.APPLICATION_JSON_VALUE})
     @Operation(summary = "회원가입 API")
@@ -35,7 +37,8 @@ public class AuthController {
         if (imgFile == null) {
             userService.signupWithoutProfile(signupRequestDto);
         } else {
-            userService.signup(signupRequestDto, imgFile);
+            // 파일은 트랜잭션 밖에서 먼저 저장하고 서비스에서는 참조만 기록
+            userService.signup(signupRequestDto, fileUploadPipeline.store(imgFile));
         }
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -4,6 +4,8 @@ import com.swcamp9th.bangflixbackend.shared.response.ResponseCode;
 import com.swcamp9th.bangflixbackend.shared.response.SuccessResponse;
 import com.swcamp9th.bangflixbackend.domain.user.dto.*;
 import com.swcamp9th.bangflixbackend.domain.user.service.UserServiceImpl;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,7 @@ import static com.swcamp9th.bangflixbackend.shared.filter.RequestFilter.SERVLET_
 public class UserController {
 
     private final UserServiceImpl userService;
+    private final FileUploadPipeline fileUploadPipeline;
 
     @PostMapping("")
     @SecurityRequirement(name = "Authorization")
@@ -58,7 +61,9 @@ public class UserController {
             @RequestPart(value = "imgFile", required = false) MultipartFile imgFile,
             @RequestAttribute(SERVLET_REQUEST_ATTRIBUTE_KEY) String userId
     ) {
-        userService.updateUserInfo(userId, updateUserInfoRequestDto, imgFile);
+        // 파일은 트랜잭션 밖에서 먼저 저장하고 서비스에서는 참조만 기록
+        StoredBlob storedImage = (imgFile == null) ? null : fileUploadPipeline.store(imgFile);
+        userService.updateUserInfo(userId, updateUserInfoRequestDto, storedImage);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -9,4 +9,5 @@ public class MyPageResponseDto {
     String nickname;
     Integer point;
     String image;
+    String thumbnail;   // 프로필 이미지 96px 파생본
 }
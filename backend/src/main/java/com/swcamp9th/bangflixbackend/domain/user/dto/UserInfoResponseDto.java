@@ -10,4 +10,5 @@ public class UserInfoResponseDto {
     private final String nickname;
     private final boolean isAdmin;
     private final String image;
+    private final String thumbnail;     // 프로필 이미지 96px 파생본
 }
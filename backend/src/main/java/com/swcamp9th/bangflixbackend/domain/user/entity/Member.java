@@ -37,7 +37,8 @@ public class Member {
     @Column(name = "image", length = 1024)
     private String image;
 
-    @Column(name = "point", nullable = false)
+    // 포인트 원장을 반영해 둔 잔액. PointLedgerApplier 만 갱신하며, 엔티티 저장으로는 덮어쓰지 않음
+    @Column(name = "point", nullable = false, updatable = false)
     private Integer point = 0;
 
     @Column(name = "created_at", nullable = false)
@@ -63,8 +64,4 @@ public class Member {
     public MemberRoleEnum getRole() {
         return isAdmin ? MemberRoleEnum.ADMIN : MemberRoleEnum.USER;
     }
-
-    public void gainPoint(int point) {
-        this.point += point;
-    }
 }
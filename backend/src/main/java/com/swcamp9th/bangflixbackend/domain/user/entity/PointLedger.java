@@ -0,0 +1,46 @@
+package com.swcamp9th.bangflixbackend.domain.user.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 (지급 한 건당 한 행, 추가만 한다).
+ * member.point 는 이 원장의 합계를 반영해 둔 값이며, 아직 반영하지 않은 행은 applied_at 이 비어 있다.
+ */
+@Entity
+@Table(name = "point_ledger")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class PointLedger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "ledger_code")
+    private Long ledgerCode;
+
+    @Column(name = "member_code", nullable = false)
+    private Integer memberCode;
+
+    @Column(name = "delta", nullable = false)
+    private Integer delta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason", nullable = false)
+    private PointReasonEnum reason;
+
+    // 지급의 근거가 된 대상 (사유와 함께 유일)
+    @Column(name = "source_id", nullable = false)
+    private String sourceId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // member.point 에 반영한 시각
+    @Column(name = "applied_at")
+    private LocalDateTime appliedAt;
+}
@@ -0,0 +1,11 @@
+package com.swcamp9th.bangflixbackend.domain.user.entity;
+
+/**
+ * 포인트 지급 사유. (사유, 출처 id) 당 한 번만 지급된다.
+ */
+public enum PointReasonEnum {
+    // 출처 id: 리뷰 코드
+    REVIEW_CREATED,
+    // 출처 id: 선정일:리뷰 코드
+    WEEKLY_BEST_REVIEW
+}
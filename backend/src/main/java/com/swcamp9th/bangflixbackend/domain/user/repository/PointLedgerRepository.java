@@ -0,0 +1,45 @@
+package com.swcamp9th.bangflixbackend.domain.user.repository;
+
+import com.swcamp9th.bangflixbackend.domain.user.entity.PointLedger;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PointLedgerRepository extends JpaRepository<PointLedger, Long> {
+
+    // 같은 (사유, 출처 id) 의 지급이 이미 있으면 그대로 둔다. 1 이면 새로 지급된 것
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO point_ledger (member_code, delta, reason, source_id, created_at) " +
+                   "VALUES (:memberCode, :delta, :reason, :sourceId, NOW())",
+           nativeQuery = true)
+    int insertIfAbsent(
+            @Param("memberCode") int memberCode,
+            @Param("delta") int delta,
+            @Param("reason") String reason,
+            @Param("sourceId") String sourceId
+    );
+
+    /*
+     * 아직 반영하지 않은 (원장 코드, 회원 코드, 증감분) 을 오래된 순으로 잠그며 읽는다.
+     * 다른 인스턴스가 잠근 행은 기다리지 않고 건너뛴다 (SKIP LOCKED, MariaDB 10.6 이상).
+     */
+    @Query(value = "SELECT l.ledger_code, l.member_code, l.delta " +
+                     "FROM point_ledger l " +
+                    "WHERE l.applied_at IS NULL " +
+                    "ORDER BY l.ledger_code " +
+                    "LIMIT :limit " +
+                      "FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Object[]> findPendingForUpdate(@Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE PointLedger l " +
+              "SET l.appliedAt = CURRENT_TIMESTAMP " +
+            "WHERE l.ledgerCode IN :ledgerCodes")
+    int markApplied(@Param("ledgerCodes") Collection<Long> ledgerCodes);
+}
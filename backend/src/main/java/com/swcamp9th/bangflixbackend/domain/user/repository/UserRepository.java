@@ -1,9 +1,16 @@
 package com.swcamp9th.bangflixbackend.domain.user.repository;
 
+import com.swcamp9th.bangflixbackend.domain.ranking.dto.MemberRankingDTO;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +21,74 @@ public interface UserRepository extends JpaRepository<Member, Long> {
     boolean existsByNickname(String nickname);
     boolean existsByEmail(String email);
     Optional<Member> findByIdAndIsAdminTrue(String userId);
+
+    /*
+     * 회원 포인트 리더보드 기준 포인트 (member.point + 아직 반영하지 않은 원장 증감분).
+     * 리더보드는 지급 시점에 더해지고 member.point 는 원장 반영 때 더해지므로, 반영 대기 중인 지급도 합쳐야 같은 값이 된다.
+     * 원장 반영은 member.point 증가와 원장 반영 표시를 한 트랜잭션에서 하므로, 한 쿼리 안에서는 두 번 더하거나 빠뜨리지 않는다.
+     */
+    String MEMBER_POINT_SOURCE =
+            "FROM member m " +
+            "LEFT JOIN (" +
+                "SELECT l.member_code, SUM(l.delta) AS pending " +
+                  "FROM point_ledger l " +
+                 "WHERE l.applied_at IS NULL " +
+                 "GROUP BY l.member_code" +
+            ") p " +
+                   "ON p.member_code = m.member_code ";
+    String MEMBER_POINT = "(m.point + COALESCE(p.pending, 0))";
+
+    // 활성 회원의 (회원 코드, 포인트). 포인트가 같으면 회원 코드 역순
+    @Query(value = "SELECT m.member_code, " + MEMBER_POINT + " AS total_point " +
+                   MEMBER_POINT_SOURCE +
+                    "WHERE m.active = true " +
+                      "AND " + MEMBER_POINT + " > 0 " +
+                    "ORDER BY total_point DESC, m.member_code DESC",
+           nativeQuery = true)
+    List<Object[]> findMemberPoints(Pageable pageable);
+
+    // findMemberPoints 와 같은 순서로 offset 번째부터 limit 명
+    @Query(value = "SELECT m.member_code, " + MEMBER_POINT + " AS total_point " +
+                   MEMBER_POINT_SOURCE +
+                    "WHERE m.active = true " +
+                      "AND " + MEMBER_POINT + " > 0 " +
+                    "ORDER BY total_point DESC, m.member_code DESC " +
+                    "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Object[]> findMemberPointsFrom(@Param("offset") long offset, @Param("limit") int limit);
+
+    // 활성 회원의 포인트 (findMemberPoints 기준). 없거나 비활성이면 null
+    @Query(value = "SELECT " + MEMBER_POINT + " " +
+                   MEMBER_POINT_SOURCE +
+                    "WHERE m.member_code = :memberCode " +
+                      "AND m.active = true",
+           nativeQuery = true)
+    Integer findActivePoint(@Param("memberCode") int memberCode);
+
+    // findMemberPoints 순서에서 회원보다 앞에 있는 활성 회원 수 (0 부터 시작하는 순위)
+    @Query(value = "SELECT COUNT(*) " +
+                   MEMBER_POINT_SOURCE +
+                    "WHERE m.active = true " +
+                      "AND (" + MEMBER_POINT + " > :point " +
+                       "OR (" + MEMBER_POINT + " = :point AND m.member_code > :memberCode))",
+           nativeQuery = true)
+    long countMembersAhead(@Param("point") int point, @Param("memberCode") int memberCode);
+
+    // 랭킹 표시용 회원 정보 (비밀번호 등은 읽지 않음)
+    @Query("SELECT new com.swcamp9th.bangflixbackend.domain.ranking.dto.MemberRankingDTO(" +
+                  "m.memberCode, m.id, m.nickname, m.email, m.isAdmin, m.image, m.point, m.createdAt, m.active) " +
+             "FROM Member m " +
+            "WHERE m.memberCode IN :memberCodes " +
+              "AND m.active = true")
+    List<MemberRankingDTO> findRankingProfiles(@Param("memberCodes") Collection<Integer> memberCodes);
+
+    // 같은 증감분을 가진 회원들의 포인트를 한 번에 반영 (원장 반영 전용)
+    @Modifying
+    @Query("UPDATE Member m " +
+              "SET m.point = m.point + :delta " +
+            "WHERE m.memberCode IN :memberCodes")
+    int addPoint(
+            @Param("delta") int delta,
+            @Param("memberCodes") Collection<Integer> memberCodes
+    );
 }
@@ -0,0 +1,91 @@
+package com.swcamp9th.bangflixbackend.domain.user.service;
+
+import com.swcamp9th.bangflixbackend.domain.user.repository.PointLedgerRepository;
+import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 포인트 원장 반영.
+ * <p>
+ * 포인트 지급은 point_ledger 에 행을 추가할 뿐 member 행을 건드리지 않으므로, 동시에 지급해도 증가분을 잃거나 회원 행을 두고 경합하지 않는다.
+ * 몇 초마다 아직 반영하지 않은 원장 행을 BATCH_SIZE 개씩 잠가 읽고, 회원별로 합친 뒤 같은 증감분을 가진 회원끼리 묶어
+ * member.point 에 한 번에 더하고, 같은 트랜잭션에서 원장 행을 반영됨으로 표시한다.
+ * <p>
+ * 원장 행을 잠근 채 반영하므로 여러 인스턴스가 동시에 실행해도 한 행은 한 번만 반영되며,
+ * 다른 인스턴스가 잠근 행은 기다리지 않고 건너뛰어 각자 서로 다른 행을 반영한다.
+ * 건너뛴 행은 잠근 쪽이 반영하거나, 그쪽이 실패하면 다음 주기에 다시 읽힌다.
+ */
+@Component
+@Slf4j
+public class PointLedgerApplier {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public PointLedgerApplier(
+            PointLedgerRepository pointLedgerRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.pointLedgerRepository = pointLedgerRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 아직 반영하지 않은 원장 행을 모두 반영한다. 실패한 묶음은 반영되지 않은 채 남아 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void apply() {
+        int applied;
+        do {
+            try {
+                applied = applyBatch();
+            } catch (RuntimeException e) {
+                log.warn("포인트 원장 반영 실패, 다음 주기에 재시도", e);
+                return;
+            }
+        } while (applied == BATCH_SIZE);
+    }
+
+    // 한 묶음을 반영하고 반영한 원장 행 수를 반환
+    private int applyBatch() {
+        Integer applied = transactionTemplate.execute(status -> {
+            List<Object[]> rows = pointLedgerRepository.findPendingForUpdate(BATCH_SIZE);
+            if (rows.isEmpty())
+                return 0;
+
+            List<Long> ledgerCodes = new ArrayList<>(rows.size());
+            // 회원 코드 -> 합친 증감분
+            Map<Integer, Integer> deltaByMember = new HashMap<>();
+            for (Object[] row : rows) {
+                ledgerCodes.add(((Number) row[0]).longValue());
+                deltaByMember.merge(((Number) row[1]).intValue(), ((Number) row[2]).intValue(), Integer::sum);
+            }
+
+            Map<Integer, List<Integer>> membersByDelta = new HashMap<>();
+            deltaByMember.forEach((memberCode, delta) -> {
+                if (delta != 0)
+                    membersByDelta.computeIfAbsent(delta, key -> new ArrayList<>()).add(memberCode);
+            });
+            membersByDelta.forEach((delta, memberCodes) -> userRepository.addPoint(delta, memberCodes));
+
+            pointLedgerRepository.markApplied(ledgerCodes);
+            return rows.size();
+        });
+        return (applied == null) ? 0 : applied;
+    }
+}
@@ -2,22 +2,23 @@ package com.swcamp9th.bangflixbackend.domain.user.service;
 
 import com.swcamp9th.bangflixbackend.domain.user.dto.*;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
-import org.springframework.web.multipart.MultipartFile;
+import com.swcamp9th.bangflixbackend.domain.user.entity.PointReasonEnum;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
 
 import java.io.IOException;
 
 public interface UserService {
     SignupResponseDto signupWithoutProfile(SignupRequestDto signupRequestDto);
-    SignupResponseDto signup(SignupRequestDto signupRequestDto, MultipartFile imgFile) throws IOException;
+    SignupResponseDto signup(SignupRequestDto signupRequestDto, StoredBlob imgFile) throws IOException;
     SignResponseDto login(SignRequestDto signRequestDto);
     ReissueTokenResponseDto refreshTokens(String refreshToken);
     void logout(String refreshToken);
     UserInfoResponseDto findUserInfoById(String id);
     DuplicateCheckResponseDto findId(String id);
     DuplicateCheckResponseDto findNickName(String nickname);
-    void updateUserInfo(String id, UpdateUserInfoRequestDto updateUserInfoRequestDto, MultipartFile imgFile) throws IOException;
+    void updateUserInfo(String id, UpdateUserInfoRequestDto updateUserInfoRequestDto, StoredBlob imgFile) throws IOException;
     MyPageResponseDto findMyPageInfoById(String userId);
     int findMemberCodeByLoginId(String loginId);
     Member findMemberByLoginId(String loginId);
-    void memberGainPoint(Member member, int point);
+    void memberGainPoint(Member member, int point, PointReasonEnum reason, String sourceId);
 }
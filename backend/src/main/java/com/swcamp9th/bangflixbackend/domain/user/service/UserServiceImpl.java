@@ -1,15 +1,20 @@
 package com.swcamp9th.bangflixbackend.domain.user.service;
 
+import com.swcamp9th.bangflixbackend.domain.ranking.service.MemberPointLeaderboard;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
+import com.swcamp9th.bangflixbackend.domain.user.entity.PointReasonEnum;
 import com.swcamp9th.bangflixbackend.domain.user.dto.*;
 import com.swcamp9th.bangflixbackend.domain.user.exception.DuplicateException;
 import com.swcamp9th.bangflixbackend.domain.user.exception.MemberNotFoundException;
 import com.swcamp9th.bangflixbackend.domain.user.exception.PasswordNotMatchedException;
+import com.swcamp9th.bangflixbackend.domain.user.repository.PointLedgerRepository;
 import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
 import com.swcamp9th.bangflixbackend.shared.error.ErrorCode;
 import com.swcamp9th.bangflixbackend.domain.user.exception.ExpiredTokenException;
 import com.swcamp9th.bangflixbackend.security.service.RedisService;
-import com.swcamp9th.bangflixbackend.shared.error.exception.FileUploadException;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
+import com.swcamp9th.bangflixbackend.shared.upload.ImageDerivativeService;
 import com.swcamp9th.bangflixbackend.shared.util.JwtUtil;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
@@ -17,13 +22,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
-
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -31,9 +29,13 @@ import java.util.UUID;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final PointLedgerRepository pointLedgerRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final RedisService redisService;
+    private final FileUploadPipeline fileUploadPipeline;
+    private final ImageDerivativeService imageDerivativeService;
+    private final MemberPointLeaderboard memberPointLeaderboard;
 
     @Override
     @Transactional
@@ -62,7 +64,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
-    public SignupResponseDto signup(SignupRequestDto signupRequestDto, MultipartFile imgFile) {
+    public SignupResponseDto signup(SignupRequestDto signupRequestDto, StoredBlob imgFile) {
         if (userRepository.existsById(signupRequestDto.getId())) {
             throw new DuplicateException(ErrorCode.DUPLICATE_ID);
         } else if (userRepository.existsByNickname(signupRequestDto.getNickname())) {
@@ -71,19 +73,7 @@ public class UserServiceImpl implements UserService {
             throw new DuplicateException(ErrorCode.DUPLICATE_EMAIL);
         }
 
-        String uploadsDir = "src/main/resources/static/uploadFiles/profileFile";
-
-        String fileName = UUID.randomUUID().toString().replace("-", "") + "_" + imgFile.getOriginalFilename();
-        String filePath = uploadsDir + "/" + fileName;
-        String dbFilePath = "/uploadFiles/profileFile/" + fileName;
-
-        Path path = Paths.get(filePath);
-        try {
-            Files.createDirectories(path.getParent());
-            Files.write(path, imgFile.getBytes());
-        } catch (IOException e) {
-            throw new FileUploadException();
-        }
+        String dbFilePath = fileUploadPipeline.attach(imgFile);
 
         Member user = Member.builder()
                 .id(signupRequestDto.getId())
@@ -166,7 +156,8 @@ public class UserServiceImpl implements UserService {
                 user.getId(),
                 user.getNickname(),
                 user.getIsAdmin(),
-                user.getImage()
+                user.getImage(),
+                imageDerivativeService.derivativeUrlOf(user.getImage(), ImageDerivativeService.SMALL)
         );
     }
 
@@ -190,7 +181,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     @Transactional
-    public void updateUserInfo(String id, UpdateUserInfoRequestDto updateUserInfoRequestDto, MultipartFile imgFile) {
+    public void updateUserInfo(String id, UpdateUserInfoRequestDto updateUserInfoRequestDto, StoredBlob imgFile) {
         if (userRepository.existsByNickname(updateUserInfoRequestDto.getNickname())) {
             throw new DuplicateException(ErrorCode.DUPLICATE_NICKNAME);
         }
@@ -203,34 +194,13 @@ public class UserServiceImpl implements UserService {
         Member user = userRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        // // 프로필 파일이 수정된 경우
-        if (imgFile.getOriginalFilename() != user.getImage().substring(user.getImage().lastIndexOf("/") + 1)) {
-
-            // 이전 프로필 이미지 삭제
-            String oldFileName = user.getImage();
-            if (oldFileName != null && !oldFileName.isEmpty()) {
-                String oldFilePath = "src/main/resources/static" + oldFileName;
-                Path oldPath = Paths.get(oldFilePath);
-                try {
-                    Files.deleteIfExists(oldPath); // 파일이 존재하면 삭제
-                } catch (IOException e) {
-                    throw new FileUploadException();
-                }
-            }
-
-            // 파일 경로 및 이름
-            String uploadsDir = "src/main/resources/static/uploadFiles/profileFile";
-            String newFileName = UUID.randomUUID().toString().replace("-", "") + "_" + imgFile.getOriginalFilename();
-            String filePath = uploadsDir + "/" + newFileName;
-            String dbFilePath = "/uploadFiles/profileFile/" + newFileName;
-
-            Path path = Paths.get(filePath);
-            try {
-                Files.createDirectories(path.getParent());
-                Files.write(path, imgFile.getBytes());
-            } catch (IOException e) {
-                throw new FileUploadException();
-            }
+        // 프로필 파일이 수정된 경우 (같은 내용이면 URL 이 같음)
+        if (imgFile != null && !fileUploadPipeline.urlOf(imgFile).equals(user.getImage())) {
+
+            // 이전 프로필 이미지의 참조 해제
+            fileUploadPipeline.release(user.getImage());
+
+            String dbFilePath = fileUploadPipeline.attach(imgFile);
             user.setImage(dbFilePath);
         }
 
@@ -247,7 +217,8 @@ public class UserServiceImpl implements UserService {
         return new MyPageResponseDto(
                 user.getNickname(),
                 user.getPoint(),
-                user.getImage()
+                user.getImage(),
+                imageDerivativeService.derivativeUrlOf(user.getImage(), ImageDerivativeService.SMALL)
         );
     }
 
@@ -265,8 +236,11 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public void memberGainPoint(Member member, int point) {
-        member.gainPoint(point);
-        userRepository.save(member);
+    @Transactional
+    public void memberGainPoint(Member member, int point, PointReasonEnum reason, String sourceId) {
+        // 원장에 추가만 하고 member.point 는 PointLedgerApplier 가 모아서 반영
+        int inserted = pointLedgerRepository.insertIfAbsent(member.getMemberCode(), point, reason.name(), sourceId);
+        if (inserted > 0)
+            memberPointLeaderboard.gained(member.getMemberCode(), point);
     }
 }
\ No newline at end of file
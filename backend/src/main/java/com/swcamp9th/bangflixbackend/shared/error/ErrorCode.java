@@ -9,6 +9,7 @@ public enum ErrorCode {
 
     // General
     FILE_UPLOAD_ERROR(400, "파일 업로드에 실패했습니다."),
+    FILE_UPLOAD_BUSY(503, "업로드 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     // User
     MEMBER_NOT_FOUND(404, "존재하지 않는 회원입니다."),
@@ -32,6 +33,7 @@ public enum ErrorCode {
     THEME_NOT_FOUND(404, "존재하지 않는 테마입니다."),
     GENRE_NOT_FOUND(404, "존재하지 않는 장르입니다."),
     REACTION_NOT_FOUND(404, "존재하지 않는 리액션입니다."),
+    INVALID_CURSOR(400, "유효하지 않은 커서입니다."),
 
     // Review
     REVIEW_NOT_FOUND(404, "존재하지 않는 리뷰입니다."),
@@ -54,6 +56,9 @@ public enum ErrorCode {
     // Comment
     COMMENT_NOT_FOUND(404, "존재하지 않는 댓글입니다."),
 
+    // Not Found
+    NOT_FOUND(404, "존재하지 않는 경로입니다."),
+
     // Internal Server Error
     INTERNAL_SERVER_ERROR(500, "시스템 에러입니다. 관리자에게 문의하세요."),
     BAD_REQUEST(400, "잘못된 요청입니다.");
@@ -14,6 +14,8 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.io.IOException;
 import java.util.stream.Collectors;
@@ -68,6 +70,24 @@ public class GlobalExceptionHandler {
                 .body(ErrorResponse.of(ErrorCode.BAD_REQUEST));
     }
 
+    /**
+     * 매핑되지 않은 경로로 요청했을 때 발생하는 예외를 처리합니다. <br>
+     * 경고 로그만 남기고, NOT_FOUND 상태의 ErrorResponse를 반환합니다.
+     *
+     * @param e NoHandlerFoundException 또는 NoResourceFoundException 인스턴스
+     * @return 에러 응답을 포함한 ResponseEntity
+     */
+    @ExceptionHandler({
+            NoHandlerFoundException.class,
+            NoResourceFoundException.class
+    })
+    public ResponseEntity<ErrorResponse> handleNotFoundException(Exception e) {
+        log.warn("Not found: {}", e.getMessage());
+
+        return ResponseEntity.status(ErrorCode.NOT_FOUND.getStatus())
+                .body(ErrorResponse.of(ErrorCode.NOT_FOUND));
+    }
+
     /**
      * 비즈니스 로직 실행 중 발생하는 예외를 처리합니다. <br>
      * 에러 로그를 남기고, 예외에 포함된 ErrorCode를 기반으로 ErrorResponse를 반환합니다.
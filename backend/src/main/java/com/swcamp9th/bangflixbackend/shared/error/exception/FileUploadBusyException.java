@@ -0,0 +1,9 @@
+package com.swcamp9th.bangflixbackend.shared.error.exception;
+
+import com.swcamp9th.bangflixbackend.shared.error.ErrorCode;
+
+public class FileUploadBusyException extends BusinessException {
+    public FileUploadBusyException() {
+        super(ErrorCode.FILE_UPLOAD_BUSY);
+    }
+}
@@ -0,0 +1,9 @@
+package com.swcamp9th.bangflixbackend.shared.error.exception;
+
+import com.swcamp9th.bangflixbackend.shared.error.ErrorCode;
+
+public class InvalidCursorException extends BusinessException {
+    public InvalidCursorException() {
+        super(ErrorCode.INVALID_CURSOR);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 
 @Configuration
 public class FilterConfiguration {
@@ -23,4 +24,14 @@ public class FilterConfiguration {
         filterRegistrationBean.addUrlPatterns("/api/*");
         return filterRegistrationBean;
     }
+
+    // 베스트 리뷰 선정일 목록 / 선정일별 베스트 리뷰는 응답 본문 해시로 강한 ETag 를 붙이고 If-None-Match 에 304 로 응답
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> reviewRankingEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> filterRegistrationBean = new FilterRegistrationBean<>();
+        filterRegistrationBean.setFilter(new ShallowEtagHeaderFilter());
+        filterRegistrationBean.setOrder(2);
+        filterRegistrationBean.addUrlPatterns("/api/v1/rankings/reviews/date", "/api/v1/rankings/reviews/dates/*");
+        return filterRegistrationBean;
+    }
 }
@@ -0,0 +1,90 @@
+package com.swcamp9th.bangflixbackend.shared.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 리스(만료 시간이 있는 잠금).
+ * <p>
+ * 여러 인스턴스에서 같은 스케줄 작업이 동시에 실행되지 않도록 SET NX PX 로 잠금을 잡는다.
+ * 잠금 값은 획득할 때 만든 토큰이며, 연장과 해제는 토큰이 같을 때만 하므로 만료 이후 다른 인스턴스가 잡은 잠금을 건드리지 않는다.
+ * 보유한 인스턴스가 죽으면 만료 시간이 지나 다른 인스턴스가 다시 잡을 수 있다.
+ * 만료 이후에도 작업이 계속될 수 있으므로 작업 자체는 DB 에서 중복 실행을 막아야 한다.
+ */
+@Component
+@Slf4j
+public class RedisLeaseLock {
+
+    private static final String KEY_PREFIX = "JOB_LEASE:";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                "return redis.call('pexpire', KEYS[1], ARGV[2]) " +
+            "else " +
+                "return 0 " +
+            "end", Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                "return redis.call('del', KEYS[1]) " +
+            "else " +
+                "return 0 " +
+            "end", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    public RedisLeaseLock(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 잠금을 잡는다. 다른 인스턴스가 보유 중이면 빈 값.
+     */
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        String key = KEY_PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(new Lease(key, token, ttl)) : Optional.empty();
+    }
+
+    /**
+     * 획득한 잠금. 긴 작업은 단계마다 {@link #renew()} 로 만료 시간을 늘리고, 끝나면 {@link #release()} 한다.
+     */
+    public final class Lease {
+        private final String key;
+        private final String token;
+        private final Duration ttl;
+
+        private Lease(String key, String token, Duration ttl) {
+            this.key = key;
+            this.token = token;
+            this.ttl = ttl;
+        }
+
+        /**
+         * 만료 시간을 처음부터 다시 센다. 이미 만료되어 잃은 잠금이면 false.
+         */
+        public boolean renew() {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+            return renewed != null && renewed > 0;
+        }
+
+        public void release() {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+            } catch (RuntimeException e) {
+                // 해제하지 못해도 만료 시간이 지나면 풀림
+                log.warn("잠금 해제 실패 ({})", key, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.swcamp9th.bangflixbackend.shared.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행할 작업 등록.
+ * <p>
+ * 메모리 색인, 캐시, Redis 처럼 DB 밖의 상태는 롤백되지 않으므로 커밋된 변경만 반영해야 한다.
+ * 진행 중인 트랜잭션이 없으면 (스케줄 작업, 테스트 등) 바로 실행한다.
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package com.swcamp9th.bangflixbackend.shared.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * 내용의 SHA-256 해시를 키로 쓰는 첨부파일 저장소.
+ * 같은 내용은 같은 키가 되므로 한 번만 저장되며, 키의 참조 수 관리는 호출하는 쪽(blob_ref)이 담당한다.
+ * <p>
+ * 저장은 두 단계로 이루어진다. {@link #stage} 가 내용을 임시 위치에 쓰면서 해시를 계산하고,
+ * {@link #commit} 이 키 위치로 옮긴다. 이미 같은 키가 있으면 덮어써도 내용이 같으므로 결과가 같다.
+ */
+public interface BlobStore {
+
+    /**
+     * 내용을 임시 위치에 흘려 쓰면서 해시를 계산한다. 내용을 다시 읽지 않는다.
+     *
+     * @param content   저장할 내용
+     * @param extension 키에 붙일 확장자 (없으면 빈 문자열)
+     */
+    StagedBlob stage(ReadableByteChannel content, String extension) throws IOException;
+
+    /**
+     * 임시 위치의 내용을 키 위치로 옮긴다.
+     */
+    void commit(StagedBlob blob) throws IOException;
+
+    /**
+     * 임시 위치의 내용을 버린다.
+     */
+    void discard(StagedBlob blob);
+
+    void delete(String blobKey) throws IOException;
+
+    /**
+     * 저장된 내용을 읽는다. 없으면 NoSuchFileException.
+     */
+    InputStream open(String blobKey) throws IOException;
+
+    /**
+     * 키의 공개 URL.
+     */
+    String urlOf(String blobKey);
+
+    /**
+     * 공개 URL 의 키. 이 저장소의 URL 이 아니면 null.
+     */
+    String keyOf(String url);
+}
@@ -0,0 +1,140 @@
+package com.swcamp9th.bangflixbackend.shared.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파일 시스템 BlobStore.
+ * <p>
+ * 여러 인스턴스가 같은 내용을 보도록 공유 볼륨(file.blob.root)에 저장한다.
+ * 키 "{해시}.{확장자}" 는 "{루트}/{해시 앞 두 글자}/{키}" 에 저장되어 한 디렉터리에 파일이 몰리지 않으며,
+ * 임시 파일은 같은 볼륨의 ".staging" 에 두어 원자적 이동이 가능하도록 한다.
+ */
+@Component
+@Slf4j
+public class FileSystemBlobStore implements BlobStore {
+
+    private static final String STAGING_DIR = ".staging";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}(\\.[a-z0-9]{1,8})?");
+
+    private final Path rootPath;
+    private final String urlPrefix;
+
+    public FileSystemBlobStore(
+            @Value("${file.blob.root:src/main/resources/static/uploadFiles/blobs}") String root,
+            @Value("${file.blob.url-prefix:/uploadFiles/blobs/}") String urlPrefix
+    ) {
+        this.rootPath = Paths.get(root).toAbsolutePath().normalize();
+        this.urlPrefix = urlPrefix.endsWith("/") ? urlPrefix : urlPrefix + "/";
+    }
+
+    @Override
+    public StagedBlob stage(ReadableByteChannel content, String extension) throws IOException {
+        String stagingId = UUID.randomUUID().toString().replace("-", "");
+        Path staged = stagingPath(stagingId);
+        Files.createDirectories(staged.getParent());
+
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        long size = 0;
+        try (FileChannel out = FileChannel.open(staged, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            // 한 번 읽은 버퍼로 해시 계산과 쓰기를 함께 수행
+            while (content.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    size += out.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(staged);
+            throw e;
+        }
+
+        String key = HexFormat.of().formatHex(digest.digest())
+                + (extension == null || extension.isEmpty() ? "" : "." + extension);
+        return new StagedBlob(key, size, stagingId);
+    }
+
+    @Override
+    public void commit(StagedBlob blob) throws IOException {
+        Path staged = stagingPath(blob.stagingId());
+        Path target = blobPath(blob.key());
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(staged, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void discard(StagedBlob blob) {
+        try {
+            Files.deleteIfExists(stagingPath(blob.stagingId()));
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 ({})", blob.stagingId(), e);
+        }
+    }
+
+    @Override
+    public void delete(String blobKey) throws IOException {
+        Files.deleteIfExists(blobPath(blobKey));
+    }
+
+    @Override
+    public InputStream open(String blobKey) throws IOException {
+        return Files.newInputStream(blobPath(blobKey));
+    }
+
+    @Override
+    public String urlOf(String blobKey) {
+        return urlPrefix + blobKey.substring(0, 2) + "/" + blobKey;
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (url == null || !url.startsWith(urlPrefix))
+            return null;
+
+        String key = url.substring(url.lastIndexOf('/') + 1);
+        return KEY_PATTERN.matcher(key).matches() ? key : null;
+    }
+
+    private Path blobPath(String blobKey) {
+        if (!KEY_PATTERN.matcher(blobKey).matches())
+            throw new IllegalArgumentException("잘못된 blob 키: " + blobKey);
+        return rootPath.resolve(blobKey.substring(0, 2)).resolve(blobKey);
+    }
+
+    private Path stagingPath(String stagingId) {
+        return rootPath.resolve(STAGING_DIR).resolve(stagingId);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.swcamp9th.bangflixbackend.shared.upload;
+
+import com.swcamp9th.bangflixbackend.shared.error.exception.FileUploadBusyException;
+import com.swcamp9th.bangflixbackend.shared.error.exception.FileUploadException;
+import com.swcamp9th.bangflixbackend.shared.upload.repository.BlobRefRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 업로드 파일 저장 파이프라인.
+ * <p>
+ * 저장은 두 단계로 나뉜다. 컨트롤러가 트랜잭션 밖에서 {@link #store} 로 multipart 내용을 NIO 채널로 BlobStore 의 임시 위치에
+ * 흘려 쓰면서 SHA-256 해시를 계산하고 (힙에 전체를 올리지 않음), 참조 수 0 인 blob_ref 행을 남긴 뒤 키 위치로 옮긴다.
+ * 서비스는 트랜잭션 안에서 {@link #attach} 로 참조 수만 올리고 URL 을 받으므로, DB 트랜잭션은 파일 I/O 를 기다리지 않고
+ * 반환된 URL 은 이미 조회할 수 있다. 같은 내용은 한 번만 저장되며, 이미지는 옮긴 뒤 크기별 파생본 생성을 예약한다.
+ * 트랜잭션이 롤백되어 참조되지 않은 파일은 유예 시간 뒤 정리 작업이 지운다.
+ * <p>
+ * 동시에 스테이징할 수 있는 파일 수는 세마포어로 제한하며, 대기 시간 안에 자리를 얻지 못하면 요청을 거절한다.
+ */
+@Component
+@Slf4j
+public class FileUploadPipeline {
+
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("[a-z0-9]{1,8}");
+    // 참조 수가 0 이 된 뒤 이 시간이 지나야 삭제 (되돌리기/재업로드 여유)
+    private static final long UNREFERENCED_GRACE_HOURS = 24;
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private final BlobStore blobStore;
+    private final BlobRefRepository blobRefRepository;
+    private final ImageDerivativeService imageDerivativeService;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore writePermits;
+    private final long acquireTimeoutMillis;
+
+    @Autowired
+    public FileUploadPipeline(
+            BlobStore blobStore,
+            BlobRefRepository blobRefRepository,
+            ImageDerivativeService imageDerivativeService,
+            PlatformTransactionManager transactionManager,
+            @Value("${file.upload.max-concurrent-writes:8}") int maxConcurrentWrites,
+            @Value("${file.upload.acquire-timeout-millis:3000}") long acquireTimeoutMillis
+    ) {
+        this.blobStore = blobStore;
+        this.blobRefRepository = blobRefRepository;
+        this.imageDerivativeService = imageDerivativeService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.writePermits = new Semaphore(maxConcurrentWrites, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    /**
+     * 파일을 키 위치에 저장한다. 트랜잭션 밖(컨트롤러)에서 호출하고, 반환값을 서비스의 트랜잭션에서 {@link #attach} 한다.
+     */
+    public StoredBlob store(MultipartFile file) {
+        StagedBlob staged = stage(file);
+        try {
+            // 행을 먼저 만들어 두어야 정리 작업이 옮긴 파일을 지우지 않고, 첨부되지 않으면 유예 시간 뒤 정리됨
+            blobRefRepository.touch(staged.key(), staged.size());
+            blobStore.commit(staged);
+        } catch (IOException e) {
+            blobStore.discard(staged);
+            throw new FileUploadException();
+        } catch (RuntimeException e) {
+            blobStore.discard(staged);
+            throw e;
+        }
+
+        imageDerivativeService.generateAsync(staged.key());
+        return new StoredBlob(staged.key(), staged.size());
+    }
+
+    /**
+     * 여러 파일을 저장한다. 첨부파일이 없으면(null) null.
+     */
+    public List<StoredBlob> storeAll(List<MultipartFile> files) {
+        if (files == null)
+            return null;
+
+        return files.stream().map(this::store).toList();
+    }
+
+    /**
+     * 저장된 파일의 참조 수를 올리고 공개 URL 을 반환한다. 반환된 URL 을 참조하는 행이 비활성화되면 {@link #release} 를 호출해야 한다.
+     */
+    public String attach(StoredBlob blob) {
+        blobRefRepository.retain(blob.key(), blob.size());
+        return blobStore.urlOf(blob.key());
+    }
+
+    /**
+     * 저장된 파일의 공개 URL (참조 수는 바꾸지 않음).
+     */
+    public String urlOf(StoredBlob blob) {
+        return blobStore.urlOf(blob.key());
+    }
+
+    /**
+     * URL 이 가리키는 내용의 참조를 하나 줄인다. BlobStore 의 URL 이 아니면(이전 방식으로 저장된 파일 등) 무시한다.
+     */
+    public void release(String url) {
+        String blobKey = blobStore.keyOf(url);
+        if (blobKey != null)
+            blobRefRepository.release(blobKey);
+    }
+
+    /**
+     * 참조 수가 0 인 채로 유예 시간이 지난 내용을 삭제한다.
+     * 행을 잠근 채로 다시 확인하므로, 그 사이 같은 내용이 다시 업로드되거나 첨부되면 삭제하지 않는다.
+     */
+    @Scheduled(cron = "0 50 4 * * *")
+    public void sweepUnreferencedBlobs() {
+        LocalDateTime before = LocalDateTime.now().minusHours(UNREFERENCED_GRACE_HOURS);
+        List<String> blobKeys = blobRefRepository.findUnreferencedKeys(before, PageRequest.of(0, SWEEP_BATCH_SIZE));
+
+        int deleted = 0;
+        for (String blobKey : blobKeys) {
+            try {
+                Boolean removed = transactionTemplate.execute(status ->
+                        blobRefRepository.findUnreferencedForUpdate(blobKey, before)
+                                .map(blobRef -> {
+                                    deleteBlob(blobKey);
+                                    blobRefRepository.delete(blobRef);
+                                    return true;
+                                })
+                                .orElse(false));
+                if (Boolean.TRUE.equals(removed))
+                    deleted++;
+            } catch (RuntimeException e) {
+                log.warn("참조되지 않는 첨부파일 삭제 실패 ({})", blobKey, e);
+            }
+        }
+        log.info("참조되지 않는 첨부파일 정리 완료 ({} deleted)", deleted);
+    }
+
+    private StagedBlob stage(MultipartFile file) {
+        acquireWritePermit();
+        try (ReadableByteChannel in = Channels.newChannel(file.getInputStream())) {
+            return blobStore.stage(in, extensionOf(file));
+        } catch (IOException e) {
+            throw new FileUploadException();
+        } finally {
+            writePermits.release();
+        }
+    }
+
+    private void acquireWritePermit() {
+        try {
+            if (!writePermits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS))
+                throw new FileUploadBusyException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileUploadBusyException();
+        }
+    }
+
+    private void deleteBlob(String blobKey) {
+        try {
+            blobStore.delete(blobKey);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        imageDerivativeService.deleteDerivatives(blobKey);
+    }
+
+    // 원본 파일명의 확장자 (영문 소문자/숫자만 허용, 그 외에는 확장자 없이 저장)
+    private String extensionOf(MultipartFile file) {
+        String name = file.getOriginalFilename();
+        if (name == null || name.lastIndexOf('.') < 0)
+            return "";
+
+        String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+        return EXTENSION_PATTERN.matcher(extension).matches() ? extension : "";
+    }
+}
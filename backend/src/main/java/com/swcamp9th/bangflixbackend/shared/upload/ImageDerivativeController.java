@@ -0,0 +1,69 @@
+package com.swcamp9th.bangflixbackend.shared.upload;
+
+import io.swagger.v3.oas.annotations.Operation;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 이미지 파생본(썸네일) 제공.
+ * 미리 만들어진 파생본은 그대로 제공하고, 아직 없으면 만들기를 맡긴 뒤 기다리지 않고 원본으로 보낸다.
+ * 원본으로 보내는 응답은 캐시하지 않으므로 파생본이 만들어진 뒤의 요청은 파생본을 받는다.
+ */
+@RestController
+public class ImageDerivativeController {
+
+    private final ImageDerivativeService imageDerivativeService;
+
+    @Autowired
+    public ImageDerivativeController(ImageDerivativeService imageDerivativeService) {
+        this.imageDerivativeService = imageDerivativeService;
+    }
+
+    @GetMapping("/uploadFiles/derivatives/{size}/{prefix}/{fileName}")
+    @Operation(
+            summary = "이미지 파생본 조회 API",
+            description = "업로드 이미지의 크기별(96/320/1080px) 파생본을 반환합니다. "
+                    + "파생본이 아직 없으면 원본 이미지로 리다이렉트합니다."
+    )
+    public ResponseEntity<Resource> findDerivative(
+            @PathVariable("size") int size,
+            @PathVariable("prefix") String prefix,
+            @PathVariable("fileName") String fileName
+    ) {
+        // 파생본 주소 형식이 아니면 (알 수 없는 크기/디렉터리/파일 이름) 찾을 수 없음
+        if (!imageDerivativeService.isDerivative(size, prefix, fileName))
+            return ResponseEntity.notFound().build();
+
+        Path path = imageDerivativeService.resolve(size, prefix, fileName);
+        if (path != null) {
+            // 내용 해시로 정해지는 주소이므로 내용이 바뀌지 않음
+            return ResponseEntity
+                    .status(HttpStatus.OK)
+                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                    .eTag(size + "-" + fileName)
+                    .contentType(MediaType.parseMediaType(imageDerivativeService.contentTypeOf(fileName)))
+                    .body(new FileSystemResource(path));
+        }
+
+        String originalUrl = imageDerivativeService.originalUrlOf(fileName);
+        if (originalUrl == null)
+            return ResponseEntity.notFound().build();
+
+        return ResponseEntity
+                .status(HttpStatus.FOUND)
+                .cacheControl(CacheControl.noStore())
+                .location(URI.create(originalUrl))
+                .build();
+    }
+}
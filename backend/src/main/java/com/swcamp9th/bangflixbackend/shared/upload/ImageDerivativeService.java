@@ -0,0 +1,340 @@
+package com.swcamp9th.bangflixbackend.shared.upload;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Pattern;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 업로드 이미지의 크기별 파생본(썸네일) 생성기.
+ * <p>
+ * BlobStore 에 저장된 이미지를 긴 변 기준 96/320/1080px 로 줄여 "{루트}/{크기}/{해시 앞 두 글자}/{키}.{jpg|png}" 에
+ * 저장한다. 원본 키가 내용 해시이므로 파생본도 내용과 크기만으로 정해지며, 한 번 만든 파생본은 다시 만들지 않는다.
+ * 업로드 직후 제한된 크기의 스레드 풀에서 미리 만들고, 아직 없거나 밀려서 만들지 못한 파생본은 처음 요청될 때
+ * 같은 스레드 풀에 맡긴다. 요청 스레드는 생성을 기다리지 않는다.
+ * 크기 조절은 JDK ImageIO / Java2D 만 사용한다.
+ */
+@Component
+@Slf4j
+public class ImageDerivativeService {
+
+    public static final int SMALL = 96;
+    public static final int MEDIUM = 320;
+    public static final int LARGE = 1080;
+    public static final List<Integer> SIZES = List.of(SMALL, MEDIUM, LARGE);
+
+    // 파생본을 만들 수 있는 원본 확장자. png/gif 는 투명도를 유지하도록 png 로, 나머지는 jpg 로 저장
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+    private static final Set<String> ALPHA_EXTENSIONS = Set.of("png", "gif");
+    // 압축 해제 폭탄 방지를 위한 원본 최대 픽셀 수
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+    private static final float JPEG_QUALITY = 0.85f;
+    private static final Pattern BLOB_KEY_PATTERN = Pattern.compile("[0-9a-f]{64}\\.[a-z0-9]{1,8}");
+
+    private final Executor imageDerivativeExecutor;
+    private final BlobStore blobStore;
+    private final Path rootPath;
+    private final String urlPrefix;
+
+    // 같은 파생본을 동시에 여러 번 만들지 않도록 진행 중인 작업을 공유
+    private final Map<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ImageDerivativeService(
+            @Qualifier("imageDerivativeExecutor") Executor imageDerivativeExecutor,
+            BlobStore blobStore,
+            @Value("${file.derivative.root:src/main/resources/static/uploadFiles/derivatives}") String root,
+            @Value("${file.derivative.url-prefix:/uploadFiles/derivatives/}") String urlPrefix
+    ) {
+        this.imageDerivativeExecutor = imageDerivativeExecutor;
+        this.blobStore = blobStore;
+        this.rootPath = Paths.get(root).toAbsolutePath().normalize();
+        this.urlPrefix = urlPrefix.endsWith("/") ? urlPrefix : urlPrefix + "/";
+    }
+
+    /**
+     * 이미지 URL 의 크기별 파생본 URL. 파생본을 만들 수 없는 URL(이전 방식으로 저장된 파일, 이미지가 아닌 파일)은 원본 URL 을 그대로 반환한다.
+     */
+    public String derivativeUrlOf(String url, int size) {
+        String blobKey = blobStore.keyOf(url);
+        if (blobKey == null || !isImage(blobKey) || !SIZES.contains(size))
+            return url;
+
+        return urlPrefix + size + "/" + blobKey.substring(0, 2) + "/" + fileNameOf(blobKey);
+    }
+
+    public List<String> derivativeUrlsOf(List<String> urls, int size) {
+        return urls.stream().map(url -> derivativeUrlOf(url, size)).toList();
+    }
+
+    /**
+     * 모든 크기의 파생본을 스레드 풀에서 미리 만든다. 풀이 가득 차 있으면 건너뛰고 요청 시점에 만든다.
+     */
+    public void generateAsync(String blobKey) {
+        if (!isImage(blobKey))
+            return;
+
+        for (int size : SIZES) {
+            try {
+                generate(blobKey, size);
+            } catch (RejectedExecutionException e) {
+                log.debug("이미지 파생본 생성 대기열이 가득 차 요청 시점으로 미룸 ({}, {}px)", blobKey, size);
+                return;
+            }
+        }
+    }
+
+    /**
+     * derivativeUrlOf 가 만드는 파생본 주소인지 확인한다 (지원하는 크기, 해시 앞 두 글자 디렉터리, "{키}.{jpg|png}").
+     */
+    public boolean isDerivative(int size, String prefix, String fileName) {
+        String blobKey = blobKeyOf(fileName);
+        return blobKey != null
+                && SIZES.contains(size)
+                && blobKey.substring(0, 2).equals(prefix)
+                && fileNameOf(blobKey).equals(fileName);
+    }
+
+    /**
+     * 이미 만들어진 파생본 파일 경로. 아직 없으면 스레드 풀에서 만들기 시작하고 기다리지 않고 null 을 반환한다.
+     * 올바른 파생본 주소가 아니어도 null 을 반환한다.
+     *
+     * @param size     파생본 크기
+     * @param prefix   파생본 URL 의 디렉터리 (해시 앞 두 글자)
+     * @param fileName 파생본 URL 의 파일 이름 ("{키}.{jpg|png}")
+     */
+    public Path resolve(int size, String prefix, String fileName) {
+        if (!isDerivative(size, prefix, fileName))
+            return null;
+
+        String blobKey = blobKeyOf(fileName);
+        Path path = derivativePath(blobKey, size);
+        if (Files.exists(path))
+            return path;
+
+        try {
+            generate(blobKey, size).whenComplete((created, e) -> {
+                if (e != null)
+                    log.warn("이미지 파생본 생성 실패 ({}, {}px)", blobKey, size, e);
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("이미지 파생본 생성 대기열이 가득 차 다음 요청으로 미룸 ({}, {}px)", blobKey, size);
+        }
+        return null;
+    }
+
+    /**
+     * 원본이 삭제될 때 모든 크기의 파생본을 지운다.
+     */
+    public void deleteDerivatives(String blobKey) {
+        if (!isImage(blobKey))
+            return;
+
+        for (int size : SIZES) {
+            try {
+                Files.deleteIfExists(derivativePath(blobKey, size));
+            } catch (IOException e) {
+                log.warn("이미지 파생본 삭제 실패 ({}, {}px)", blobKey, size, e);
+            }
+        }
+    }
+
+    /**
+     * 파생본 파일 이름에 해당하는 원본 URL. 올바른 파생본 이름이 아니면 null.
+     */
+    public String originalUrlOf(String fileName) {
+        String blobKey = blobKeyOf(fileName);
+        return blobKey == null ? null : blobStore.urlOf(blobKey);
+    }
+
+    public String contentTypeOf(String fileName) {
+        return fileName.endsWith(".png") ? "image/png" : "image/jpeg";
+    }
+
+    private CompletableFuture<Path> generate(String blobKey, int size) {
+        Path path = derivativePath(blobKey, size);
+        if (Files.exists(path))
+            return CompletableFuture.completedFuture(path);
+
+        String taskKey = size + "/" + blobKey;
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> existing = inFlight.putIfAbsent(taskKey, created);
+        if (existing != null)
+            return existing;
+
+        try {
+            imageDerivativeExecutor.execute(() -> {
+                try {
+                    write(blobKey, size, path);
+                    created.complete(path);
+                } catch (IOException | RuntimeException e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(taskKey, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(taskKey, created);
+            throw e;
+        }
+        return created;
+    }
+
+    private void write(String blobKey, int size, Path path) throws IOException {
+        if (Files.exists(path))
+            return;
+
+        BufferedImage source = read(blobKey);
+        boolean alpha = ALPHA_EXTENSIONS.contains(extensionOf(blobKey));
+        BufferedImage resized = resize(source, size, alpha);
+
+        // 같은 디렉터리의 임시 파일에 쓴 뒤 옮겨, 쓰는 중인 파일이 제공되지 않도록 함
+        Files.createDirectories(path.getParent());
+        Path temp = path.resolveSibling(path.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            if (alpha)
+                ImageIO.write(resized, "png", temp.toFile());
+            else
+                writeJpeg(resized, temp);
+
+            try {
+                Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private BufferedImage read(String blobKey) throws IOException {
+        try (InputStream in = blobStore.open(blobKey);
+             ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageIn);
+            if (!readers.hasNext())
+                throw new IOException("지원하지 않는 이미지 형식: " + blobKey);
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageIn, true, true);
+                // 디코딩 전에 크기부터 확인
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_SOURCE_PIXELS)
+                    throw new IOException("이미지가 너무 큼: " + blobKey);
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변이 maxSide 가 되도록 줄인다 (확대하지 않음).
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 목표 크기까지 절반씩 단계적으로 줄인다.
+     */
+    static BufferedImage resize(BufferedImage source, int maxSide, boolean alpha) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSide / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int type = alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                if (!alpha) {
+                    // jpg 는 투명도가 없으므로 흰 배경 위에 그림
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, currentWidth, currentHeight);
+                }
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+
+    private void writeJpeg(BufferedImage image, Path path) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(path.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private Path derivativePath(String blobKey, int size) {
+        return rootPath.resolve(String.valueOf(size))
+                .resolve(blobKey.substring(0, 2))
+                .resolve(fileNameOf(blobKey));
+    }
+
+    private String fileNameOf(String blobKey) {
+        return blobKey + (ALPHA_EXTENSIONS.contains(extensionOf(blobKey)) ? ".png" : ".jpg");
+    }
+
+    // 파생본 파일 이름에서 원본 키 추출 ("{키}.{jpg|png}")
+    private String blobKeyOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        if (dot < 0)
+            return null;
+
+        String blobKey = fileName.substring(0, dot);
+        return BLOB_KEY_PATTERN.matcher(blobKey).matches() && isImage(blobKey) ? blobKey : null;
+    }
+
+    private boolean isImage(String blobKey) {
+        return IMAGE_EXTENSIONS.contains(extensionOf(blobKey));
+    }
+
+    private String extensionOf(String blobKey) {
+        int dot = blobKey.lastIndexOf('.');
+        return dot < 0 ? "" : blobKey.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+}
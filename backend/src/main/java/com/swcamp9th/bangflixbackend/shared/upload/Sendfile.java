@@ -0,0 +1,70 @@
+package com.swcamp9th.bangflixbackend.shared.upload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import org.springframework.core.io.Resource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 파일 본문 전송.
+ * <p>
+ * 컨테이너(Tomcat NIO 커넥터)가 sendfile 을 지원하면 요청 속성으로 파일 구간만 넘기고 본문은 쓰지 않는다.
+ * 이 경우 응답이 커밋될 때 커널이 파일을 소켓으로 바로 보낸다 (사용자 영역 복사 없음).
+ * 지원하지 않으면 FileChannel 에서 응답 스트림으로 전송한다.
+ */
+final class Sendfile {
+
+    private static final String SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String END_ATTR = "org.apache.tomcat.sendfile.end";
+    // 작은 파일은 sendfile 준비 비용이 더 크므로 일반 쓰기로 보냄 (Tomcat DefaultServlet 기본값과 동일)
+    private static final long MIN_SIZE = 48 * 1024;
+
+    private Sendfile() {
+    }
+
+    /**
+     * 파일의 [start, end] 구간을 응답 본문으로 보낸다.
+     */
+    static void transfer(Resource resource, long start, long end, OutputStream body, UploadFileAccessMetrics metrics)
+            throws IOException {
+        File file = resource.getFile();
+        long count = end - start + 1;
+        HttpServletRequest request = currentRequest();
+        if (request != null && count >= MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SUPPORT_ATTR))) {
+            request.setAttribute(FILENAME_ATTR, file.getAbsolutePath());
+            request.setAttribute(START_ATTR, start);
+            request.setAttribute(END_ATTR, end + 1);
+            metrics.recordTransfer(count, true);
+            return;
+        }
+
+        long remaining = count;
+        try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(body);
+            long position = start;
+            while (remaining > 0) {
+                long transferred = in.transferTo(position, remaining, out);
+                if (transferred <= 0)
+                    break;
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+        metrics.recordTransfer(count - remaining, false);
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+}
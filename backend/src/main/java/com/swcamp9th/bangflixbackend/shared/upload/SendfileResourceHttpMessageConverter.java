@@ -0,0 +1,28 @@
+package com.swcamp9th.bangflixbackend.shared.upload;
+
+import java.io.IOException;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+
+/**
+ * 파일 리소스 전체 응답을 sendfile / FileChannel 로 보내는 변환기. 파일이 아닌 리소스는 기본 동작을 따른다.
+ */
+public class SendfileResourceHttpMessageConverter extends ResourceHttpMessageConverter {
+
+    private final UploadFileAccessMetrics metrics;
+
+    public SendfileResourceHttpMessageConverter(UploadFileAccessMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeContent(Resource resource, HttpOutputMessage outputMessage) throws IOException {
+        if (!resource.isFile()) {
+            super.writeContent(resource, outputMessage);
+            return;
+        }
+        // Content-Length 는 기본 헤더로 이미 설정됨
+        Sendfile.transfer(resource, 0, resource.contentLength() - 1, outputMessage.getBody(), metrics);
+    }
+}
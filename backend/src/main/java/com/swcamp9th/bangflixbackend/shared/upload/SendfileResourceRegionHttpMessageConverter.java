@@ -0,0 +1,37 @@
+package com.swcamp9th.bangflixbackend.shared.upload;
+
+import java.io.IOException;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
+
+/**
+ * 단일 Range 요청의 파일 구간을 sendfile / FileChannel 로 보내는 변환기.
+ * 여러 구간(multipart/byteranges)이나 파일이 아닌 리소스는 기본 동작을 따른다.
+ */
+public class SendfileResourceRegionHttpMessageConverter extends ResourceRegionHttpMessageConverter {
+
+    private final UploadFileAccessMetrics metrics;
+
+    public SendfileResourceRegionHttpMessageConverter(UploadFileAccessMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void writeResourceRegion(ResourceRegion region, HttpOutputMessage outputMessage) throws IOException {
+        if (!region.getResource().isFile()) {
+            super.writeResourceRegion(region, outputMessage);
+            return;
+        }
+
+        long resourceLength = region.getResource().contentLength();
+        long start = region.getPosition();
+        long end = Math.min(start + region.getCount() - 1, resourceLength - 1);
+
+        HttpHeaders headers = outputMessage.getHeaders();
+        headers.add(HttpHeaders.CONTENT_RANGE, "bytes " + start + '-' + end + '/' + resourceLength);
+        headers.setContentLength(end - start + 1);
+        Sendfile.transfer(region.getResource(), start, end, outputMessage.getBody(), metrics);
+    }
+}
@@ -0,0 +1,11 @@
+package com.swcamp9th.bangflixbackend.shared.upload;
+
+/**
+ * 임시 위치에 쓰인, 아직 키 위치로 옮겨지지 않은 내용.
+ *
+ * @param key       내용의 SHA-256 해시(16진수) + 확장자
+ * @param size      바이트 수
+ * @param stagingId 저장소 내부의 임시 위치 식별자
+ */
+public record StagedBlob(String key, long size, String stagingId) {
+}
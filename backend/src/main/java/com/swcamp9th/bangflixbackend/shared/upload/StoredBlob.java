@@ -0,0 +1,11 @@
+package com.swcamp9th.bangflixbackend.shared.upload;
+
+/**
+ * 키 위치에 저장되었지만 아직 참조되지 않은 업로드 파일.
+ * 트랜잭션 안에서 {@link FileUploadPipeline#attach} 해야 참조로 남으며, 그렇지 않으면 유예 시간 뒤 정리된다.
+ *
+ * @param key  내용의 SHA-256 해시(16진수) + 확장자
+ * @param size 바이트 수
+ */
+public record StoredBlob(String key, long size) {
+}
@@ -0,0 +1,95 @@
+package com.swcamp9th.bangflixbackend.shared.upload;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 업로드 파일(/uploadFiles/**) 접근 지표.
+ * 응답 상태별 요청 수와 전송 바이트를 모아 주기적으로 로그로 남기고 초기화한다.
+ * 304 비율로 브라우저 캐시 재검증이 얼마나 일어나는지, sendfile 비율로 제로 카피 전송이 되고 있는지 확인할 수 있다.
+ */
+@Component
+@Slf4j
+public class UploadFileAccessMetrics implements HandlerInterceptor {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder partialContent = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder sendfileRequests = new LongAdder();
+    private final LongAdder sendfileBytes = new LongAdder();
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        record(response.getStatus());
+    }
+
+    void record(int status) {
+        requests.increment();
+        if (status == HttpStatus.OK.value())
+            ok.increment();
+        else if (status == HttpStatus.PARTIAL_CONTENT.value())
+            partialContent.increment();
+        else if (status == HttpStatus.NOT_MODIFIED.value())
+            notModified.increment();
+        else if (status == HttpStatus.NOT_FOUND.value())
+            notFound.increment();
+        else if (status >= 400)
+            errors.increment();
+    }
+
+    // 본문 전송량 (HEAD / 304 응답은 본문을 보내지 않으므로 호출되지 않음)
+    void recordTransfer(long bytes, boolean sendfile) {
+        bytesSent.add(bytes);
+        if (sendfile) {
+            sendfileRequests.increment();
+            sendfileBytes.add(bytes);
+        }
+    }
+
+    /**
+     * 현재까지 모인 지표 (초기화하지 않음).
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        snapshot.put("requests", requests.sum());
+        snapshot.put("ok", ok.sum());
+        snapshot.put("partialContent", partialContent.sum());
+        snapshot.put("notModified", notModified.sum());
+        snapshot.put("notFound", notFound.sum());
+        snapshot.put("errors", errors.sum());
+        snapshot.put("bytesSent", bytesSent.sum());
+        snapshot.put("sendfileRequests", sendfileRequests.sum());
+        snapshot.put("sendfileBytes", sendfileBytes.sum());
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    public void report() {
+        long total = requests.sumThenReset();
+        long sendfile = sendfileRequests.sumThenReset();
+        long sendfileTotalBytes = sendfileBytes.sumThenReset();
+        long okCount = ok.sumThenReset();
+        long partialCount = partialContent.sumThenReset();
+        long notModifiedCount = notModified.sumThenReset();
+        long notFoundCount = notFound.sumThenReset();
+        long errorCount = errors.sumThenReset();
+        long bytes = bytesSent.sumThenReset();
+        if (total == 0)
+            return;
+
+        log.info("업로드 파일 접근 (최근 10분): {} requests, 200={}, 206={}, 304={}, 404={}, error={}, {} bytes, sendfile={} ({} bytes)",
+                total, okCount, partialCount, notModifiedCount, notFoundCount, errorCount, bytes, sendfile, sendfileTotalBytes);
+    }
+}
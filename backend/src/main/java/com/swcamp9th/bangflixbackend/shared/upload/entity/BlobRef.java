@@ -0,0 +1,43 @@
+package com.swcamp9th.bangflixbackend.shared.upload.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * BlobStore 에 저장된 내용의 참조 수.
+ * 활성 첨부파일 행(review_file, community_file, event_file, notice_file)과 회원 프로필 이미지가 참조하며,
+ * 행이 비활성화(soft delete)되면 감소한다. 참조 수가 0 인 채로 일정 시간이 지난 내용은 정리 작업이 삭제한다.
+ */
+@Entity
+@Table(name = "blob_ref")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BlobRef {
+
+    @Id
+    @Column(name = "blob_key")
+    private String blobKey;
+
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private Integer refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
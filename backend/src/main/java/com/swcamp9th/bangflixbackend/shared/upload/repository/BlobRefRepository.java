@@ -0,0 +1,66 @@
+package com.swcamp9th.bangflixbackend.shared.upload.repository;
+
+import com.swcamp9th.bangflixbackend.shared.upload.entity.BlobRef;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface BlobRefRepository extends JpaRepository<BlobRef, String> {
+
+    // 처음 저장되는 내용이면 참조 수 1 로 추가, 이미 있으면 1 증가 (동시 요청에도 원자적)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO blob_ref (blob_key, size, ref_count, created_at, updated_at) " +
+                   "VALUES (:blobKey, :size, 1, NOW(), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                       "ref_count = ref_count + 1, " +
+                       "updated_at = NOW()",
+           nativeQuery = true)
+    int retain(@Param("blobKey") String blobKey, @Param("size") long size);
+
+    // 참조 수는 그대로 두고 행만 추가하거나 갱신. 첨부되지 않은 채 남으면 유예 시간 뒤 정리된다
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO blob_ref (blob_key, size, ref_count, created_at, updated_at) " +
+                   "VALUES (:blobKey, :size, 0, NOW(), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                       "updated_at = NOW()",
+           nativeQuery = true)
+    int touch(@Param("blobKey") String blobKey, @Param("size") long size);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BlobRef b " +
+              "SET b.refCount = b.refCount - 1, " +
+                  "b.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE b.blobKey = :blobKey " +
+              "AND b.refCount > 0")
+    int release(@Param("blobKey") String blobKey);
+
+    @Query("SELECT b.blobKey " +
+             "FROM BlobRef b " +
+            "WHERE b.refCount <= 0 " +
+              "AND b.updatedAt < :before " +
+            "ORDER BY b.updatedAt")
+    List<String> findUnreferencedKeys(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 정리 중에 같은 내용이 다시 업로드되면 touch/retain 이 이 잠금을 기다린 뒤 새 행을 만든다.
+    // 목록을 읽은 뒤 다시 업로드된 내용은 updatedAt 이 바뀌었으므로 건너뜀
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b " +
+             "FROM BlobRef b " +
+            "WHERE b.blobKey = :blobKey " +
+              "AND b.refCount <= 0 " +
+              "AND b.updatedAt < :before")
+    Optional<BlobRef> findUnreferencedForUpdate(@Param("blobKey") String blobKey, @Param("before") LocalDateTime before);
+}
@@ -5,6 +5,8 @@ import com.swcamp9th.bangflixbackend.domain.review.dto.*;
 import com.swcamp9th.bangflixbackend.domain.review.service.ReviewService;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
 import com.swcamp9th.bangflixbackend.domain.user.service.UserService;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,6 +49,9 @@ class ReviewControllerTests {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private FileUploadPipeline fileUploadPipeline;
+
     private static final String LOGIN_ID = "testUser";
 
     @BeforeEach
@@ -68,6 +73,9 @@ class ReviewControllerTests {
         // 로그인한 회원 정보 모킹
         Member dummyMember = new Member(); // 필요한 필드가 있다면 setter 등을 활용해 설정
         given(userService.findMemberByLoginId(LOGIN_ID)).willReturn(dummyMember);
+        // 이미지는 서비스 호출 전에 저장됨
+        List<StoredBlob> storedImages = List.of(new StoredBlob("stored.jpg", 10));
+        given(fileUploadPipeline.storeAll(anyList())).willReturn(storedImages);
 
         // when & then
         String response = mockMvc.perform(multipart("/api/v1/reviews")
@@ -85,7 +93,7 @@ class ReviewControllerTests {
         assertThat(response).contains("리뷰 작성 성공");
 
         // reviewService.createReview 메서드가 올바른 인자로 호출되었는지 검증
-        verify(reviewService).createReview(any(CreateReviewDTO.class), anyList(),  eq(dummyMember));
+        verify(reviewService).createReview(any(CreateReviewDTO.class), eq(storedImages),  eq(dummyMember));
     }
 
     @Test
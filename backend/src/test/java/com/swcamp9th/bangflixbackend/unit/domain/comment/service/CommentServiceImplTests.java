@@ -18,7 +18,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -38,9 +37,6 @@ class CommentServiceImplTests {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private ModelMapper modelMapper;
-
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -143,12 +139,6 @@ class CommentServiceImplTests {
         when(communityPostRepository.findById(100)).thenReturn(Optional.of(mockPost));
         when(commentRepository.findByCommunityPostAndActiveTrue(mockPost)).thenReturn(List.of(mockComment));
 
-        CommentDTO mockCommentDTO = new CommentDTO();
-        mockCommentDTO.setContent("Test comment");
-        mockCommentDTO.setNickname("Test User");
-
-        when(modelMapper.map(mockComment, CommentDTO.class)).thenReturn(mockCommentDTO);
-
         // When
         List<CommentDTO> comments = commentService.getAllCommentsOfPost(100);
 
@@ -178,11 +168,6 @@ class CommentServiceImplTests {
         when(userRepository.findById("user123")).thenReturn(Optional.of(mockMember));
         when(commentRepository.findByMemberAndActiveTrue(mockMember)).thenReturn(List.of(mockComment));
 
-        CommentDTO mockCommentDTO = new CommentDTO();
-        mockCommentDTO.setContent("Test comment");
-
-        when(modelMapper.map(mockComment, CommentDTO.class)).thenReturn(mockCommentDTO);
-
         // When
         List<CommentDTO> comments = commentService.getCommentsById("user123");
 
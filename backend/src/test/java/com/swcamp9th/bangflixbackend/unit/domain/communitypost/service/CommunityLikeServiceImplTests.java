@@ -15,7 +15,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -35,9 +34,6 @@ class CommunityLikeServiceImplTests {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private ModelMapper modelMapper;
-
     @InjectMocks
     private CommunityLikeServiceImpl communityLikeService;
 
@@ -68,7 +64,6 @@ class CommunityLikeServiceImplTests {
     void addLike_ShouldToggleLike_WhenUserExists() {
         // Given
         CommunityLikeCreateDTO request = new CommunityLikeCreateDTO();
-        when(modelMapper.map(request, CommunityLike.class)).thenReturn(mockLike);
         request.setCommunityPostCode(100);
 
         when(userRepository.findById("user123")).thenReturn(Optional.of(mockMember));
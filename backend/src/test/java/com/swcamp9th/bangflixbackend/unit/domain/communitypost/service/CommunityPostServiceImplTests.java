@@ -11,13 +11,13 @@ import com.swcamp9th.bangflixbackend.domain.communitypost.service.CommunityPostS
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
 import com.swcamp9th.bangflixbackend.domain.user.exception.MemberNotFoundException;
 import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
+import com.swcamp9th.bangflixbackend.shared.upload.ImageDerivativeService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
@@ -44,7 +44,7 @@ class CommunityPostServiceImplTests {
     private UserRepository userRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private ImageDerivativeService imageDerivativeService;
 
     @InjectMocks
     private CommunityPostServiceImpl communityPostService;
@@ -80,7 +80,6 @@ class CommunityPostServiceImplTests {
         request.setContent("New Content");
 
         when(userRepository.findById("user123")).thenReturn(Optional.of(mockMember));
-        when(modelMapper.map(request, CommunityPost.class)).thenReturn(mockPost);
         when(communityPostRepository.save(any(CommunityPost.class))).thenReturn(mockPost);
 
         // When
@@ -171,12 +170,6 @@ class CommunityPostServiceImplTests {
         when(communityPostRepository.findByActiveTrue((Sort) any()))
                 .thenReturn(List.of(mockPost));
 
-        CommunityPostDTO mockPostDTO = new CommunityPostDTO();
-        mockPostDTO.setTitle("Test Title");
-        mockPostDTO.setContent("Test Content");
-
-        when(modelMapper.map(mockPost, CommunityPostDTO.class)).thenReturn(mockPostDTO);
-
         // When
         List<CommunityPostDTO> posts = communityPostService.getAllPosts("user123");
 
@@ -194,11 +187,6 @@ class CommunityPostServiceImplTests {
         when(communityPostRepository.findById(100)).thenReturn(Optional.of(mockPost));
         when(userRepository.findById("user123")).thenReturn(Optional.of(mockMember));
 
-        CommunityPostDTO mockPostDTO = new CommunityPostDTO();
-        mockPostDTO.setTitle("Test Title");
-
-        when(modelMapper.map(mockPost, CommunityPostDTO.class)).thenReturn(mockPostDTO);
-
         // When
         CommunityPostDTO post = communityPostService.findPostByCode("user123", 100);
 
@@ -0,0 +1,125 @@
+package com.swcamp9th.bangflixbackend.unit.domain.ranking;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.service.LeaderboardRebuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardRebuilderTests {
+
+    private static final String KEY = "REVIEW_LEADERBOARD:ALL";
+    private static final String JOURNAL_NAME_KEY = KEY + ":REBUILD_JOURNAL";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private LeaderboardRebuilder leaderboardRebuilder;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardRebuilder = new LeaderboardRebuilder(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("increment: 리더보드와 기록 키 이름을 가진 키를 함께 넘겨 스크립트 한 번으로 더함")
+    void testIncrement() {
+        // when
+        leaderboardRebuilder.increment(KEY, "0000000001", -1);
+
+        // then
+        verify(redisTemplate, times(1)).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of(KEY, JOURNAL_NAME_KEY)), eq("0000000001"), eq("-1"), eq("1800000"));
+    }
+
+    @Test
+    @DisplayName("replace: DB 를 읽기 전에 기록을 시작하고, 실행별 임시 키에 채운 뒤 기록 키와 합쳐 교체")
+    void testReplace() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList())).thenReturn(2L);
+        List<String> calls = new ArrayList<>();
+        doAnswer(invocation -> calls.add("journal")).when(valueOperations)
+                .set(eq(JOURNAL_NAME_KEY), any(), eq(Duration.ofMinutes(30)));
+
+        // when
+        int size = leaderboardRebuilder.replace(KEY, () -> {
+            calls.add("load");
+            return List.of(new DefaultTypedTuple<>("0000000007", 4.0), new DefaultTypedTuple<>("0000000003", 1.0));
+        });
+
+        // then
+        assertThat(size).isEqualTo(2);
+        assertThat(calls).containsExactly("journal", "load");
+
+        ArgumentCaptor<String> journalKey = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).set(eq(JOURNAL_NAME_KEY), journalKey.capture(), eq(Duration.ofMinutes(30)));
+        String runKey = journalKey.getValue().substring(0, journalKey.getValue().length() - ":JOURNAL".length());
+        assertThat(runKey).startsWith(KEY + ":REBUILD:");
+
+        InOrder inOrder = inOrder(zSetOperations, redisTemplate);
+        inOrder.verify(zSetOperations).add(eq(runKey), anySet());
+        inOrder.verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(),
+                eq(List.of(KEY, runKey, journalKey.getValue(), JOURNAL_NAME_KEY)));
+    }
+
+    @Test
+    @DisplayName("replace: 실행별 임시 키는 실행마다 다름")
+    void testReplace_runKeyPerRun() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList())).thenReturn(0L);
+
+        // when
+        leaderboardRebuilder.replace(KEY, List::of);
+        leaderboardRebuilder.replace(KEY, List::of);
+
+        // then
+        ArgumentCaptor<String> journalKey = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(2)).set(eq(JOURNAL_NAME_KEY), journalKey.capture(), any(Duration.class));
+        assertThat(journalKey.getAllValues().get(0)).isNotEqualTo(journalKey.getAllValues().get(1));
+    }
+
+    @Test
+    @DisplayName("replace: 실패하면 기록을 멈추고 임시 키를 지운 뒤 예외를 그대로 던짐")
+    void testReplace_failure() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when & then
+        assertThatThrownBy(() -> leaderboardRebuilder.replace(KEY, () -> {
+            throw new RedisConnectionFailureException("down");
+        })).isInstanceOf(RedisConnectionFailureException.class);
+        verify(redisTemplate, times(1)).delete(argThat((List<String> keys) -> keys.contains(JOURNAL_NAME_KEY)));
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList());
+    }
+}
@@ -0,0 +1,257 @@
+package com.swcamp9th.bangflixbackend.unit.domain.ranking;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.service.LeaderboardRebuilder;
+import com.swcamp9th.bangflixbackend.domain.ranking.service.MemberPointLeaderboard;
+import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
+import com.swcamp9th.bangflixbackend.shared.lock.RedisLeaseLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberPointLeaderboardTests {
+
+    private static final String ALL_KEY = "MEMBER_LEADERBOARD:ALL";
+    // 2024-10-09 (수) 기준 이번 주는 2024-10-07 (월), 이번 달은 2024-10-01 부터
+    private static final String WEEK_KEY = "MEMBER_LEADERBOARD:WEEK:2024-10-07";
+    private static final String MONTH_KEY = "MEMBER_LEADERBOARD:MONTH:2024-10-01";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private LeaderboardRebuilder leaderboardRebuilder;
+    @Mock
+    private RedisLeaseLock redisLeaseLock;
+    @Mock
+    private RedisLeaseLock.Lease lease;
+    @Captor
+    private ArgumentCaptor<Supplier<List<TypedTuple<String>>>> loaderCaptor;
+
+    private MemberPointLeaderboard memberPointLeaderboard;
+
+    @BeforeEach
+    void setUp() {
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        Clock clock = Clock.fixed(LocalDateTime.of(2024, 10, 9, 10, 0).atZone(zone).toInstant(), zone);
+        memberPointLeaderboard = new MemberPointLeaderboard(redisTemplate, userRepository, leaderboardRebuilder, redisLeaseLock, clock);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("gained: 전체, 이번 주, 이번 달 리더보드에 모두 더함")
+    void testGained() {
+        // when
+        memberPointLeaderboard.gained(7, 50);
+
+        // then
+        verify(leaderboardRebuilder, times(1)).increment(ALL_KEY, "0000000007", 50);
+        verify(zSetOperations, times(1)).incrementScore(WEEK_KEY, "0000000007", 50);
+        verify(zSetOperations, times(1)).incrementScore(MONTH_KEY, "0000000007", 50);
+        verify(redisTemplate, times(1)).expire(WEEK_KEY, Duration.ofDays(14));
+        verify(redisTemplate, times(1)).expire(MONTH_KEY, Duration.ofDays(62));
+    }
+
+    @Test
+    @DisplayName("around: 내 순위를 구한 뒤 앞뒤 회원을 순위와 함께 반환")
+    void testAround() {
+        // given
+        when(zSetOperations.reverseRank(WEEK_KEY, "0000000007")).thenReturn(4L);
+        when(zSetOperations.reverseRangeWithScores(WEEK_KEY, 2, 6)).thenReturn(tuples(
+                "0000000003", 90, "0000000009", 80, "0000000007", 70, "0000000001", 60, "0000000002", 50));
+
+        // when
+        List<MemberPointLeaderboard.Entry> entries =
+                memberPointLeaderboard.around(MemberPointLeaderboard.Period.WEEK, 7, 2);
+
+        // then
+        assertThat(entries).extracting(MemberPointLeaderboard.Entry::memberCode).containsExactly(3, 9, 7, 1, 2);
+        assertThat(entries).extracting(MemberPointLeaderboard.Entry::rank).containsExactly(3, 4, 5, 6, 7);
+        assertThat(entries.get(2).point()).isEqualTo(70);
+    }
+
+    @Test
+    @DisplayName("around: 리더보드에 없는 회원이면 빈 목록")
+    void testAround_notRanked() {
+        // given
+        when(zSetOperations.reverseRank(ALL_KEY, "0000000007")).thenReturn(null);
+        when(redisTemplate.hasKey(ALL_KEY)).thenReturn(true);
+
+        // when & then
+        assertThat(memberPointLeaderboard.around(MemberPointLeaderboard.Period.from("all"), 7, 5)).isEmpty();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("around: Redis 를 사용할 수 없으면 전체 순위는 앞선 회원 수로 구해 DB 에서, 기간별 순위는 빈 목록")
+    void testAround_redisUnavailable() {
+        // given
+        when(zSetOperations.reverseRank(anyString(), eq("0000000007")))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(userRepository.findActivePoint(7)).thenReturn(70);
+        when(userRepository.countMembersAhead(70, 7)).thenReturn(1L);
+        when(userRepository.findMemberPointsFrom(0, 4))
+                .thenReturn(List.of(new Object[]{3, 90}, new Object[]{7, 70}, new Object[]{1, 60}, new Object[]{2, 50}));
+
+        // when
+        List<MemberPointLeaderboard.Entry> all = memberPointLeaderboard.around(MemberPointLeaderboard.Period.ALL, 7, 2);
+        List<MemberPointLeaderboard.Entry> week = memberPointLeaderboard.around(MemberPointLeaderboard.Period.WEEK, 7, 2);
+
+        // then
+        assertThat(all).extracting(MemberPointLeaderboard.Entry::memberCode).containsExactly(3, 7, 1, 2);
+        assertThat(all).extracting(MemberPointLeaderboard.Entry::rank).containsExactly(1, 2, 3, 4);
+        assertThat(week).isEmpty();
+    }
+
+    @Test
+    @DisplayName("page: 전체 리더보드 키가 아직 없으면 DB 에서 조회")
+    void testPage_allKeyMissing() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2);
+        when(zSetOperations.reverseRangeWithScores(ALL_KEY, 0L, 1L)).thenReturn(new LinkedHashSet<>());
+        when(redisTemplate.hasKey(ALL_KEY)).thenReturn(false);
+        when(userRepository.findMemberPoints(pageable)).thenReturn(List.<Object[]>of(new Object[]{5, 300}));
+
+        // when
+        List<MemberPointLeaderboard.Entry> entries = memberPointLeaderboard.page(MemberPointLeaderboard.Period.ALL, pageable);
+
+        // then
+        assertThat(entries).containsExactly(new MemberPointLeaderboard.Entry(5, 1, 300));
+    }
+
+    @Test
+    @DisplayName("page: Redis 를 사용할 수 없으면 전체 리더보드는 DB 에서, 기간별 리더보드는 빈 목록")
+    void testPage_redisUnavailable() {
+        // given
+        Pageable pageable = PageRequest.of(1, 2);
+        when(zSetOperations.reverseRangeWithScores(anyString(), eq(2L), eq(3L)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(userRepository.findMemberPoints(pageable))
+                .thenReturn(List.of(new Object[]{5, 300}, new Object[]{8, 250}));
+
+        // when
+        List<MemberPointLeaderboard.Entry> all = memberPointLeaderboard.page(MemberPointLeaderboard.Period.ALL, pageable);
+        List<MemberPointLeaderboard.Entry> month = memberPointLeaderboard.page(MemberPointLeaderboard.Period.MONTH, pageable);
+
+        // then
+        assertThat(all).containsExactly(
+                new MemberPointLeaderboard.Entry(5, 3, 300),
+                new MemberPointLeaderboard.Entry(8, 4, 250));
+        assertThat(month).isEmpty();
+    }
+
+    @Test
+    @DisplayName("periodStart / top: 지난 기간의 키에서 상위 회원을 읽음")
+    void testTopOfLastWeek() {
+        // given
+        LocalDate lastWeek = memberPointLeaderboard.periodStart(MemberPointLeaderboard.Period.WEEK).minusWeeks(1);
+        when(zSetOperations.reverseRangeWithScores("MEMBER_LEADERBOARD:WEEK:2024-09-30", 0, 99))
+                .thenReturn(tuples("0000000004", 120));
+
+        // when
+        List<MemberPointLeaderboard.Entry> entries =
+                memberPointLeaderboard.top(MemberPointLeaderboard.Period.WEEK, lastWeek, 100);
+
+        // then
+        assertThat(entries).containsExactly(new MemberPointLeaderboard.Entry(4, 1, 120));
+    }
+
+    private Set<TypedTuple<String>> tuples(Object... memberAndScores) {
+        Set<TypedTuple<String>> tuples = new LinkedHashSet<>();
+        for (int i = 0; i < memberAndScores.length; i += 2) {
+            tuples.add(new DefaultTypedTuple<>((String) memberAndScores[i], ((Integer) memberAndScores[i + 1]).doubleValue()));
+        }
+        return tuples;
+    }
+
+    @Test
+    @DisplayName("rebuild: 리스를 잡고 member.point 로 전체 리더보드를 교체")
+    void testRebuild() {
+        // given
+        when(redisLeaseLock.tryAcquire("MEMBER_LEADERBOARD_REBUILD", Duration.ofMinutes(10))).thenReturn(Optional.of(lease));
+        when(userRepository.findMemberPoints(Pageable.unpaged()))
+                .thenReturn(List.of(new Object[]{5, 300}, new Object[]{8, 250}));
+        when(leaderboardRebuilder.replace(eq(ALL_KEY), any())).thenAnswer(invocation -> {
+            Supplier<List<TypedTuple<String>>> loader = invocation.getArgument(1);
+            return loader.get().size();
+        });
+
+        // when
+        memberPointLeaderboard.rebuild();
+
+        // then
+        verify(leaderboardRebuilder, times(1)).replace(eq(ALL_KEY), loaderCaptor.capture());
+        assertThat(loaderCaptor.getValue().get()).containsExactly(
+                new DefaultTypedTuple<>("0000000005", 300.0),
+                new DefaultTypedTuple<>("0000000008", 250.0));
+        verify(lease, times(1)).release();
+    }
+
+    @Test
+    @DisplayName("rebuild: 원장에 반영 대기 중인 지급도 더한 포인트로 교체")
+    void testRebuild_pendingLedger() {
+        // given
+        // 방금 100 포인트를 지급받아 리더보드에는 더해졌지만 member.point (0) 에는 아직 반영되지 않은 회원
+        memberPointLeaderboard.gained(9, 100);
+        when(redisLeaseLock.tryAcquire("MEMBER_LEADERBOARD_REBUILD", Duration.ofMinutes(10))).thenReturn(Optional.of(lease));
+        // member.point + 반영 대기 증감분
+        when(userRepository.findMemberPoints(Pageable.unpaged()))
+                .thenReturn(List.of(new Object[]{5, 300}, new Object[]{9, 100L}));
+
+        // when
+        memberPointLeaderboard.rebuild();
+
+        // then
+        verify(leaderboardRebuilder, times(1)).increment(ALL_KEY, "0000000009", 100);
+        verify(leaderboardRebuilder, times(1)).replace(eq(ALL_KEY), loaderCaptor.capture());
+        assertThat(loaderCaptor.getValue().get()).containsExactly(
+                new DefaultTypedTuple<>("0000000005", 300.0),
+                new DefaultTypedTuple<>("0000000009", 100.0));
+        verify(lease, times(1)).release();
+    }
+
+    @Test
+    @DisplayName("rebuild: 다른 인스턴스가 재생성 중이면 건너뜀")
+    void testRebuild_leaseHeldElsewhere() {
+        // given
+        when(redisLeaseLock.tryAcquire("MEMBER_LEADERBOARD_REBUILD", Duration.ofMinutes(10))).thenReturn(Optional.empty());
+
+        // when
+        memberPointLeaderboard.rebuild();
+
+        // then
+        verifyNoInteractions(leaderboardRebuilder);
+        verify(userRepository, never()).findMemberPoints(any());
+    }
+}
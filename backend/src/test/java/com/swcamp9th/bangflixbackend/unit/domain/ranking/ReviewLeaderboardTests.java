@@ -0,0 +1,184 @@
+package com.swcamp9th.bangflixbackend.unit.domain.ranking;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewLikeCountDTO;
+import com.swcamp9th.bangflixbackend.domain.ranking.service.LeaderboardRebuilder;
+import com.swcamp9th.bangflixbackend.domain.ranking.service.ReviewLeaderboard;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewLikeRepository;
+import com.swcamp9th.bangflixbackend.shared.lock.RedisLeaseLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewLeaderboardTests {
+
+    private static final String ALL_KEY = "REVIEW_LEADERBOARD:ALL";
+    // 2024-10-09 (수) 기준 이번 주는 2024-10-07 (월) 부터
+    private static final String WEEK_KEY = "REVIEW_LEADERBOARD:WEEK:2024-10-07";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+    @Mock
+    private ReviewLikeRepository reviewLikeRepository;
+    @Mock
+    private LeaderboardRebuilder leaderboardRebuilder;
+    @Mock
+    private RedisLeaseLock redisLeaseLock;
+    @Mock
+    private RedisLeaseLock.Lease lease;
+    @Captor
+    private ArgumentCaptor<Supplier<List<TypedTuple<String>>>> loaderCaptor;
+
+    private ReviewLeaderboard reviewLeaderboard;
+
+    @BeforeEach
+    void setUp() {
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        Clock clock = Clock.fixed(LocalDateTime.of(2024, 10, 9, 10, 0).atZone(zone).toInstant(), zone);
+        reviewLeaderboard = new ReviewLeaderboard(redisTemplate, reviewLikeRepository, leaderboardRebuilder, redisLeaseLock, clock);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("liked: 이번 주 좋아요는 전체와 주간 리더보드에 모두 더함")
+    void testLiked_currentWeek() {
+        // when
+        reviewLeaderboard.liked(1, LocalDateTime.of(2024, 10, 9, 9, 0));
+
+        // then
+        verify(leaderboardRebuilder, times(1)).increment(ALL_KEY, "0000000001", 1);
+        verify(leaderboardRebuilder, times(1)).increment(WEEK_KEY, "0000000001", 1);
+        verify(redisTemplate, times(1)).expire(WEEK_KEY, Duration.ofDays(8));
+    }
+
+    @Test
+    @DisplayName("unliked: 지난 주 좋아요의 취소는 전체 리더보드에서만 뺌")
+    void testUnliked_previousWeek() {
+        // when
+        reviewLeaderboard.unliked(1, LocalDateTime.of(2024, 10, 6, 23, 59));
+
+        // then
+        verify(leaderboardRebuilder, times(1)).increment(ALL_KEY, "0000000001", -1);
+        verify(leaderboardRebuilder, never()).increment(eq(WEEK_KEY), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("page: Redis 의 순위대로 리뷰 코드를 반환")
+    void testPage_fromRedis() {
+        // given
+        when(zSetOperations.reverseRange(WEEK_KEY, 10, 19))
+                .thenReturn(new LinkedHashSet<>(List.of("0000000012", "0000000009")));
+
+        // when
+        List<Integer> reviewCodes = reviewLeaderboard.page(ReviewLeaderboard.Period.WEEK, PageRequest.of(1, 10));
+
+        // then
+        assertThat(reviewCodes).containsExactly(12, 9);
+        verifyNoInteractions(reviewLikeRepository);
+    }
+
+    @Test
+    @DisplayName("page: 주간 키가 아직 없으면 이번 주 월요일부터의 좋아요를 DB 에서 조회")
+    void testPage_weekKeyMissing() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(zSetOperations.reverseRange(WEEK_KEY, 0, 9)).thenReturn(new LinkedHashSet<>());
+        when(redisTemplate.hasKey(WEEK_KEY)).thenReturn(false);
+        when(reviewLikeRepository.countActiveLikesByReview(LocalDateTime.of(2024, 10, 7, 0, 0), pageable))
+                .thenReturn(List.of(new ReviewLikeCountDTO(5, 2L)));
+
+        // when
+        List<Integer> reviewCodes = reviewLeaderboard.page(ReviewLeaderboard.Period.WEEK, pageable);
+
+        // then
+        assertThat(reviewCodes).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("page: Redis 를 사용할 수 없으면 DB 에서 같은 순서로 조회")
+    void testPage_redisUnavailable() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(zSetOperations.reverseRange(ALL_KEY, 0, 9)).thenThrow(new RedisConnectionFailureException("down"));
+        when(reviewLikeRepository.countActiveLikesByReview(isNull(), eq(pageable)))
+                .thenReturn(List.of(new ReviewLikeCountDTO(7, 4L), new ReviewLikeCountDTO(3, 4L)));
+
+        // when
+        List<Integer> reviewCodes = reviewLeaderboard.page(ReviewLeaderboard.Period.from("unknown"), pageable);
+
+        // then
+        assertThat(reviewCodes).containsExactly(7, 3);
+    }
+
+    @Test
+    @DisplayName("rebuild: 리스를 잡고 review_like 기준으로 교체하며, 이번 주 좋아요가 없으면 주간 키 만료를 설정하지 않음")
+    void testRebuild() {
+        // given
+        when(redisLeaseLock.tryAcquire("REVIEW_LEADERBOARD_REBUILD", Duration.ofMinutes(10))).thenReturn(Optional.of(lease));
+        when(lease.renew()).thenReturn(true);
+        when(reviewLikeRepository.countActiveLikesByReview(null, Pageable.unpaged()))
+                .thenReturn(List.of(new ReviewLikeCountDTO(7, 4L), new ReviewLikeCountDTO(3, 1L)));
+        when(reviewLikeRepository.countActiveLikesByReview(LocalDateTime.of(2024, 10, 7, 0, 0), Pageable.unpaged()))
+                .thenReturn(List.of());
+        when(leaderboardRebuilder.replace(any(), any())).thenAnswer(invocation -> {
+            Supplier<List<TypedTuple<String>>> loader = invocation.getArgument(1);
+            return loader.get().size();
+        });
+
+        // when
+        reviewLeaderboard.rebuild();
+
+        // then
+        InOrder inOrder = inOrder(leaderboardRebuilder, lease);
+        inOrder.verify(leaderboardRebuilder).replace(eq(ALL_KEY), loaderCaptor.capture());
+        inOrder.verify(leaderboardRebuilder).replace(eq(WEEK_KEY), any());
+        inOrder.verify(lease).release();
+        assertThat(loaderCaptor.getValue().get()).containsExactly(
+                new DefaultTypedTuple<>("0000000007", 4.0),
+                new DefaultTypedTuple<>("0000000003", 1.0));
+        verify(redisTemplate, never()).expire(eq(WEEK_KEY), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("rebuild: 다른 인스턴스가 재생성 중이면 건너뜀")
+    void testRebuild_leaseHeldElsewhere() {
+        // given
+        when(redisLeaseLock.tryAcquire("REVIEW_LEADERBOARD_REBUILD", Duration.ofMinutes(10))).thenReturn(Optional.empty());
+
+        // when
+        reviewLeaderboard.rebuild();
+
+        // then
+        verifyNoInteractions(reviewLikeRepository, leaderboardRebuilder);
+    }
+}
@@ -0,0 +1,149 @@
+package com.swcamp9th.bangflixbackend.unit.domain.ranking;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.entity.ReviewRankingSnapshot;
+import com.swcamp9th.bangflixbackend.domain.ranking.repository.ReviewRankingSnapshotRepository;
+import com.swcamp9th.bangflixbackend.domain.ranking.service.ReviewRankingSnapshotCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewRankingSnapshotCacheTests {
+
+    private static final LocalDate RANKING_DATE = LocalDate.of(2024, 10, 13);
+
+    @Mock
+    private ReviewRankingSnapshotRepository reviewRankingSnapshotRepository;
+
+    private ReviewRankingSnapshotCache reviewRankingSnapshotCache;
+
+    @BeforeEach
+    void setUp() {
+        // 2024-10-16 기준
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        Clock clock = Clock.fixed(LocalDateTime.of(2024, 10, 16, 12, 0).atZone(zone).toInstant(), zone);
+        reviewRankingSnapshotCache = new ReviewRankingSnapshotCache(reviewRankingSnapshotRepository, clock);
+    }
+
+    @Test
+    @DisplayName("find: 스냅샷은 한 번만 읽고 순위 순 리뷰 코드와 좋아요 수를 그대로 반환")
+    void testFind() {
+        // given
+        when(reviewRankingSnapshotRepository.findById(RANKING_DATE)).thenReturn(Optional.of(
+                new ReviewRankingSnapshot(RANKING_DATE, RANKING_DATE.atTime(1, 0), "7,3,5", "9,4,4", RANKING_DATE.atTime(1, 0))));
+
+        // when
+        reviewRankingSnapshotCache.find(RANKING_DATE);
+        Optional<ReviewRankingSnapshotCache.Snapshot> snapshot = reviewRankingSnapshotCache.find(RANKING_DATE);
+
+        // then
+        assertThat(snapshot).isPresent();
+        assertThat(snapshot.get().reviewCodes()).containsExactly(7, 3, 5);
+        assertThat(snapshot.get().likeCounts()).containsExactly(9, 4, 4);
+        verify(reviewRankingSnapshotRepository, times(1)).findById(RANKING_DATE);
+    }
+
+    @Test
+    @DisplayName("find: 선정되지 않은 날은 보관하지 않아 이후 선정되면 조회됨")
+    void testFind_notRanked() {
+        // given
+        when(reviewRankingSnapshotRepository.findById(RANKING_DATE)).thenReturn(Optional.empty());
+
+        // when
+        reviewRankingSnapshotCache.find(RANKING_DATE);
+        reviewRankingSnapshotCache.find(RANKING_DATE);
+
+        // then
+        verify(reviewRankingSnapshotRepository, times(2)).findById(RANKING_DATE);
+    }
+
+    @Test
+    @DisplayName("datesOf: 지난 해 목록만 보관하고 올해 목록은 매번 조회")
+    void testDatesOf() {
+        // given
+        when(reviewRankingSnapshotRepository.findEarliestRankingDate()).thenReturn(LocalDate.of(2023, 3, 5));
+        when(reviewRankingSnapshotRepository.findRankingDates(LocalDate.of(2023, 1, 1), LocalDate.of(2024, 1, 1)))
+                .thenReturn(List.of(LocalDate.of(2023, 12, 31), LocalDate.of(2023, 12, 24)));
+        when(reviewRankingSnapshotRepository.findRankingDates(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1)))
+                .thenReturn(List.of(RANKING_DATE));
+
+        // when
+        reviewRankingSnapshotCache.datesOf(2023);
+        List<LocalDate> lastYear = reviewRankingSnapshotCache.datesOf(2023);
+        reviewRankingSnapshotCache.datesOf(2024);
+        List<LocalDate> thisYear = reviewRankingSnapshotCache.datesOf(2024);
+
+        // then
+        assertThat(lastYear).containsExactly(LocalDate.of(2023, 12, 31), LocalDate.of(2023, 12, 24));
+        assertThat(thisYear).containsExactly(RANKING_DATE);
+        assertThat(reviewRankingSnapshotCache.isClosedYear(2023)).isTrue();
+        assertThat(reviewRankingSnapshotCache.isClosedYear(2024)).isFalse();
+        verify(reviewRankingSnapshotRepository, times(1))
+                .findRankingDates(LocalDate.of(2023, 1, 1), LocalDate.of(2024, 1, 1));
+        verify(reviewRankingSnapshotRepository, times(2))
+                .findRankingDates(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1));
+    }
+
+    @Test
+    @DisplayName("datesOf: 첫 선정 연도 이전이나 올해 이후는 조회하지 않음")
+    void testDatesOf_outOfRange() {
+        // given
+        when(reviewRankingSnapshotRepository.findEarliestRankingDate()).thenReturn(LocalDate.of(2023, 3, 5));
+
+        // when
+        List<LocalDate> beforeFirst = reviewRankingSnapshotCache.datesOf(2022);
+        List<LocalDate> nextYear = reviewRankingSnapshotCache.datesOf(2025);
+        List<LocalDate> farFuture = reviewRankingSnapshotCache.datesOf(Integer.MAX_VALUE);
+
+        // then
+        assertThat(beforeFirst).isEmpty();
+        assertThat(nextYear).isEmpty();
+        assertThat(farFuture).isEmpty();
+        verify(reviewRankingSnapshotRepository, times(1)).findEarliestRankingDate();
+        verify(reviewRankingSnapshotRepository, never()).findRankingDates(any(), any());
+    }
+
+    @Test
+    @DisplayName("datesOf: 선정일이 없는 지난 해는 보관하지 않음")
+    void testDatesOf_emptyClosedYearNotCached() {
+        // given
+        when(reviewRankingSnapshotRepository.findEarliestRankingDate()).thenReturn(LocalDate.of(2022, 3, 5));
+        when(reviewRankingSnapshotRepository.findRankingDates(LocalDate.of(2023, 1, 1), LocalDate.of(2024, 1, 1)))
+                .thenReturn(List.of());
+
+        // when
+        reviewRankingSnapshotCache.datesOf(2023);
+        List<LocalDate> dates = reviewRankingSnapshotCache.datesOf(2023);
+
+        // then
+        assertThat(dates).isEmpty();
+        verify(reviewRankingSnapshotRepository, times(2))
+                .findRankingDates(LocalDate.of(2023, 1, 1), LocalDate.of(2024, 1, 1));
+    }
+
+    @Test
+    @DisplayName("backfillIfEmpty: 스냅샷이 이미 있으면 옮기지 않음")
+    void testBackfillIfEmpty_alreadyBackfilled() {
+        // given
+        when(reviewRankingSnapshotRepository.count()).thenReturn(3L);
+
+        // when
+        reviewRankingSnapshotCache.backfillIfEmpty();
+
+        // then
+        verify(reviewRankingSnapshotRepository, never()).backfillFromReviewRanking();
+    }
+}
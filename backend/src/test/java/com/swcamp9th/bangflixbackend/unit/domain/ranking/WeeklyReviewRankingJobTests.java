@@ -0,0 +1,235 @@
+package com.swcamp9th.bangflixbackend.unit.domain.ranking;
+
+import com.swcamp9th.bangflixbackend.domain.ranking.dto.ReviewLikeCountDTO;
+import com.swcamp9th.bangflixbackend.domain.ranking.entity.RankingJobRun;
+import com.swcamp9th.bangflixbackend.domain.ranking.repository.RankingJobRunRepository;
+import com.swcamp9th.bangflixbackend.domain.ranking.repository.ReviewRankingRepository;
+import com.swcamp9th.bangflixbackend.domain.ranking.repository.ReviewRankingSnapshotRepository;
+import com.swcamp9th.bangflixbackend.domain.ranking.service.MemberPointLeaderboard;
+import com.swcamp9th.bangflixbackend.domain.ranking.service.WeeklyReviewRankingJob;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewLikeRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewRepository;
+import com.swcamp9th.bangflixbackend.domain.user.repository.PointLedgerRepository;
+import com.swcamp9th.bangflixbackend.shared.lock.RedisLeaseLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WeeklyReviewRankingJobTests {
+
+    // 2024-10-13 (일) 01:00 실행
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 10, 13, 1, 0);
+    private static final String JOB_KEY = "REVIEW_RANKING:2024-10-13";
+
+    @Mock
+    private RedisLeaseLock redisLeaseLock;
+    @Mock
+    private RedisLeaseLock.Lease lease;
+    @Mock
+    private RankingJobRunRepository rankingJobRunRepository;
+    @Mock
+    private ReviewRankingRepository reviewRankingRepository;
+    @Mock
+    private ReviewRankingSnapshotRepository reviewRankingSnapshotRepository;
+    @Mock
+    private ReviewLikeRepository reviewLikeRepository;
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private MemberPointLeaderboard memberPointLeaderboard;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private WeeklyReviewRankingJob weeklyReviewRankingJob;
+
+    @BeforeEach
+    void setUp() {
+        ZoneId zone = ZoneId.of("Asia/Seoul");
+        Clock clock = Clock.fixed(NOW.atZone(zone).toInstant(), zone);
+        weeklyReviewRankingJob = new WeeklyReviewRankingJob(redisLeaseLock, rankingJobRunRepository,
+                reviewRankingRepository, reviewRankingSnapshotRepository, reviewLikeRepository, pointLedgerRepository,
+                reviewRepository, memberPointLeaderboard, transactionManager, clock);
+    }
+
+    @Test
+    @DisplayName("run: 다른 인스턴스가 잠금을 보유 중이면 실행하지 않음")
+    void testRun_leaseNotAcquired() {
+        // given
+        when(redisLeaseLock.tryAcquire("REVIEW_RANKING", Duration.ofMinutes(10))).thenReturn(Optional.empty());
+
+        // when
+        weeklyReviewRankingJob.run();
+
+        // then
+        verifyNoInteractions(rankingJobRunRepository, reviewRankingRepository, pointLedgerRepository);
+    }
+
+    @Test
+    @DisplayName("run: 이번 주 선정이 이미 끝났으면 다시 선정하거나 포인트를 주지 않음")
+    void testRun_alreadyCompleted() {
+        // given
+        givenLease();
+        when(rankingJobRunRepository.findById(JOB_KEY))
+                .thenReturn(Optional.of(run("7,3", 2, NOW.plusMinutes(1))));
+
+        // when
+        weeklyReviewRankingJob.run();
+
+        // then
+        verify(rankingJobRunRepository, never()).advance(any(), anyInt(), anyInt());
+        verifyNoInteractions(reviewRankingRepository, pointLedgerRepository);
+        verify(lease, times(1)).release();
+    }
+
+    @Test
+    @DisplayName("run: 선정 대상을 고정한 뒤 랭킹 추가와 포인트 지급을 한 번에 처리하고 선정일 스냅샷과 함께 완료 처리")
+    void testRun_newRun() {
+        // given
+        givenLease();
+        when(rankingJobRunRepository.findById(JOB_KEY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(run("7,3", 0, null)));
+        when(reviewLikeRepository.countActiveLikesByReview(NOW.minusWeeks(1), PageRequest.of(0, 5)))
+                .thenReturn(List.of(new ReviewLikeCountDTO(7, 4L), new ReviewLikeCountDTO(3, 2L)));
+        // 보여 줄 좋아요 수는 주간 좋아요 수가 아닌 전체 좋아요 수
+        when(reviewRepository.findLikeCountsByCodes(List.of(7, 3)))
+                .thenReturn(List.of(new Object[]{7, 40}, new Object[]{3, 25}));
+        when(lease.renew()).thenReturn(true);
+        when(rankingJobRunRepository.advance(JOB_KEY, 0, 2)).thenReturn(1);
+        when(reviewRepository.findAuthorsByReviewCodes(List.of(7, 3)))
+                .thenReturn(List.of(new Object[]{7, 1}, new Object[]{3, 2}));
+        when(pointLedgerRepository.insertIfAbsent(1, 50, "WEEKLY_BEST_REVIEW", "2024-10-13:7")).thenReturn(1);
+        when(pointLedgerRepository.insertIfAbsent(2, 50, "WEEKLY_BEST_REVIEW", "2024-10-13:3")).thenReturn(1);
+
+        // when
+        weeklyReviewRankingJob.run();
+
+        // then
+        verify(rankingJobRunRepository, times(1)).insertIfAbsent(JOB_KEY, NOW, "7,3", "40,25");
+        verify(reviewRankingRepository, times(1)).insertRankings(List.of(7, 3), NOW);
+        verify(memberPointLeaderboard, times(1)).gained(1, 50);
+        verify(memberPointLeaderboard, times(1)).gained(2, 50);
+        verify(reviewRankingSnapshotRepository, times(1))
+                .insertIfAbsent(LocalDate.of(2024, 10, 13), NOW, "7,3", "40,25");
+        verify(rankingJobRunRepository, times(1)).complete(JOB_KEY);
+        verify(lease, times(1)).release();
+    }
+
+    @Test
+    @DisplayName("run: 원장에 이미 지급된 리뷰는 포인트 리더보드에 다시 더하지 않음")
+    void testRun_pointAlreadyGranted() {
+        // given
+        givenLease();
+        when(rankingJobRunRepository.findById(JOB_KEY)).thenReturn(Optional.of(run("7,3", 0, null)));
+        when(lease.renew()).thenReturn(true);
+        when(rankingJobRunRepository.advance(JOB_KEY, 0, 2)).thenReturn(1);
+        when(reviewRepository.findAuthorsByReviewCodes(List.of(7, 3)))
+                .thenReturn(List.of(new Object[]{7, 1}, new Object[]{3, 2}));
+        when(pointLedgerRepository.insertIfAbsent(1, 50, "WEEKLY_BEST_REVIEW", "2024-10-13:7")).thenReturn(0);
+        when(pointLedgerRepository.insertIfAbsent(2, 50, "WEEKLY_BEST_REVIEW", "2024-10-13:3")).thenReturn(1);
+
+        // when
+        weeklyReviewRankingJob.run();
+
+        // then
+        verify(memberPointLeaderboard, never()).gained(eq(1), anyInt());
+        verify(memberPointLeaderboard, times(1)).gained(2, 50);
+        verify(rankingJobRunRepository, times(1)).complete(JOB_KEY);
+    }
+
+    @Test
+    @DisplayName("run: 모든 묶음을 처리한 뒤 중단된 실행은 완료 처리만 함")
+    void testRun_resumeAfterLastChunk() {
+        // given
+        givenLease();
+        when(rankingJobRunRepository.findById(JOB_KEY)).thenReturn(Optional.of(run("7,3", 2, null)));
+
+        // when
+        weeklyReviewRankingJob.run();
+
+        // then
+        verifyNoInteractions(reviewLikeRepository, reviewRankingRepository, pointLedgerRepository);
+        verify(reviewRankingSnapshotRepository, times(1))
+                .insertIfAbsent(LocalDate.of(2024, 10, 13), NOW, "7,3", "40,25");
+        verify(rankingJobRunRepository, times(1)).complete(JOB_KEY);
+    }
+
+    @Test
+    @DisplayName("run: 다른 실행이 이미 처리한 묶음이면 반영하지 않고 중단")
+    void testRun_chunkAlreadyProcessed() {
+        // given
+        givenLease();
+        when(rankingJobRunRepository.findById(JOB_KEY)).thenReturn(Optional.of(run("7,3", 0, null)));
+        when(lease.renew()).thenReturn(true);
+        when(rankingJobRunRepository.advance(JOB_KEY, 0, 2)).thenReturn(0);
+
+        // when
+        weeklyReviewRankingJob.run();
+
+        // then
+        verifyNoInteractions(reviewRankingRepository, reviewRankingSnapshotRepository, pointLedgerRepository, memberPointLeaderboard);
+        verify(rankingJobRunRepository, never()).complete(any());
+        verify(lease, times(1)).release();
+    }
+
+    @Test
+    @DisplayName("run: 선정 대상이 없던 주는 스냅샷 없이 완료 처리")
+    void testRun_noCandidates() {
+        // given
+        givenLease();
+        when(rankingJobRunRepository.findById(JOB_KEY)).thenReturn(Optional.of(run("", 0, null)));
+
+        // when
+        weeklyReviewRankingJob.run();
+
+        // then
+        verifyNoInteractions(reviewRankingRepository, reviewRankingSnapshotRepository, pointLedgerRepository);
+        verify(rankingJobRunRepository, times(1)).complete(JOB_KEY);
+    }
+
+    @Test
+    @DisplayName("run: 잠금을 잃으면 남은 묶음을 처리하지 않음")
+    void testRun_leaseLost() {
+        // given
+        givenLease();
+        when(rankingJobRunRepository.findById(JOB_KEY)).thenReturn(Optional.of(run("7,3", 0, null)));
+        when(lease.renew()).thenReturn(false);
+
+        // when
+        weeklyReviewRankingJob.run();
+
+        // then
+        verify(rankingJobRunRepository, never()).advance(any(), anyInt(), anyInt());
+        verify(rankingJobRunRepository, never()).complete(any());
+    }
+
+    private void givenLease() {
+        when(redisLeaseLock.tryAcquire("REVIEW_RANKING", Duration.ofMinutes(10))).thenReturn(Optional.of(lease));
+    }
+
+    private RankingJobRun run(String reviewCodes, int processed, LocalDateTime completedAt) {
+        String likeCounts = reviewCodes.isEmpty() ? "" : "40,25";
+        return new RankingJobRun(JOB_KEY, NOW, reviewCodes, likeCounts, processed, NOW, completedAt);
+    }
+}
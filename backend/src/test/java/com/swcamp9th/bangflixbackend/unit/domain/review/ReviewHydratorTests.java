@@ -0,0 +1,139 @@
+package com.swcamp9th.bangflixbackend.unit.domain.review;
+
+import com.swcamp9th.bangflixbackend.domain.review.dto.MemberGenreDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewFileUrlDTO;
+import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewFileRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewLikeRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewTendencyGenreRepository;
+import com.swcamp9th.bangflixbackend.domain.review.service.ReviewHydrator;
+import com.swcamp9th.bangflixbackend.domain.review.service.ReviewLikeCounter;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
+import com.swcamp9th.bangflixbackend.shared.upload.ImageDerivativeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewHydratorTests {
+
+    @Mock
+    private ReviewFileRepository reviewFileRepository;
+    @Mock
+    private ReviewLikeRepository reviewLikeRepository;
+    @Mock
+    private ReviewTendencyGenreRepository reviewTendencyGenreRepository;
+    @Mock
+    private ReviewLikeCounter reviewLikeCounter;
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+
+    @InjectMocks
+    private ReviewHydrator reviewHydrator;
+
+    private Review first;
+    private Review second;
+
+    @BeforeEach
+    void setUp() {
+        Theme theme = new Theme();
+        theme.setThemeCode(1);
+        theme.setName("Escape Room");
+        theme.setPosterImage("poster.png");
+
+        Member author = new Member();
+        author.setMemberCode(1000);
+        author.setNickname("Author");
+        author.setImage("profile.png");
+
+        first = createReview(500, theme, author);
+        second = createReview(501, theme, author);
+    }
+
+    @Test
+    @DisplayName("hydrate: 리뷰 수와 관계없이 조회 종류마다 한 번씩만 조회하고, 좋아요 수는 카운터에서 계산")
+    void testHydrate_queriesOncePerBatch() {
+        // given
+        Set<Integer> reviewCodes = Set.of(500, 501);
+        when(reviewFileRepository.findUrlsByReviewCodes(reviewCodes)).thenReturn(List.of(
+                new ReviewFileUrlDTO(500, "a.png"),
+                new ReviewFileUrlDTO(500, "b.png")));
+        when(reviewLikeCounter.likeCount(first)).thenReturn(0);
+        when(reviewLikeCounter.likeCount(second)).thenReturn(3);
+        when(reviewTendencyGenreRepository.findGenreNamesByMemberCodes(Set.of(1000))).thenReturn(List.of(
+                new MemberGenreDTO(1000, "공포"),
+                new MemberGenreDTO(1000, "추리")));
+        when(reviewLikeRepository.findLikedReviewCodes(2000, reviewCodes)).thenReturn(List.of(501));
+        when(imageDerivativeService.derivativeUrlsOf(List.of("a.png", "b.png"), ImageDerivativeService.MEDIUM))
+                .thenReturn(List.of("a_320.png", "b_320.png"));
+        when(imageDerivativeService.derivativeUrlsOf(List.of(), ImageDerivativeService.MEDIUM)).thenReturn(List.of());
+        when(imageDerivativeService.derivativeUrlOf("profile.png", ImageDerivativeService.SMALL))
+                .thenReturn("profile_96.png");
+
+        // when
+        List<ReviewDTO> result = reviewHydrator.hydrate(List.of(first, second), 2000);
+
+        // then
+        assertThat(result).extracting(ReviewDTO::getReviewCode).containsExactly(500, 501);
+        assertThat(result.get(0).getImagePaths()).containsExactly("a.png", "b.png");
+        assertThat(result.get(0).getThumbnailPaths()).containsExactly("a_320.png", "b_320.png");
+        assertThat(result.get(1).getImagePaths()).isEmpty();
+        assertThat(result).extracting(ReviewDTO::getMemberThumbnail).containsOnly("profile_96.png");
+        assertThat(result).extracting(ReviewDTO::getLikes).containsExactly(0, 3);
+        assertThat(result).extracting(ReviewDTO::getIsLike).containsExactly(false, true);
+        assertThat(result.get(0).getGenres()).containsExactly("공포", "추리");
+        assertThat(result.get(0).getMemberNickname()).isEqualTo("Author");
+        assertThat(result.get(0).getThemeName()).isEqualTo("Escape Room");
+        verify(reviewFileRepository, times(1)).findUrlsByReviewCodes(anyCollection());
+        verify(reviewTendencyGenreRepository, times(1)).findGenreNamesByMemberCodes(anyCollection());
+        verify(reviewLikeRepository, times(1)).findLikedReviewCodes(anyInt(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("hydrate: 비회원 조회는 좋아요 여부를 조회하지 않음")
+    void testHydrate_withoutMemberCode() {
+        // when
+        List<ReviewDTO> result = reviewHydrator.hydrate(List.of(first));
+
+        // then
+        assertThat(result.get(0).getIsLike()).isFalse();
+        assertThat(result.get(0).getGenres()).isNull();
+        verify(reviewLikeRepository, never()).findLikedReviewCodes(anyInt(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("hydrate: 빈 목록이면 조회하지 않음")
+    void testHydrate_emptyList() {
+        // when
+        List<ReviewDTO> result = reviewHydrator.hydrate(List.of(), 2000);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(reviewFileRepository, reviewLikeRepository, reviewTendencyGenreRepository, reviewLikeCounter,
+                imageDerivativeService);
+    }
+
+    private Review createReview(int reviewCode, Theme theme, Member member) {
+        Review review = new Review();
+        review.setReviewCode(reviewCode);
+        review.setTheme(theme);
+        review.setMember(member);
+        review.setTotalScore(80);
+        review.setCreatedAt(LocalDateTime.now());
+        review.setActive(true);
+        return review;
+    }
+}
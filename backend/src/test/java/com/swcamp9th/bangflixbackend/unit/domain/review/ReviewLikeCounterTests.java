@@ -0,0 +1,140 @@
+package com.swcamp9th.bangflixbackend.unit.domain.review;
+
+import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewRepository;
+import com.swcamp9th.bangflixbackend.domain.review.service.ReviewLikeCounter;
+import com.swcamp9th.bangflixbackend.shared.lock.RedisLeaseLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewLikeCounterTests {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+    @Mock
+    private RedisLeaseLock redisLeaseLock;
+    @Mock
+    private RedisLeaseLock.Lease lease;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReviewLikeCounter reviewLikeCounter;
+
+    @BeforeEach
+    void setUp() {
+        reviewLikeCounter = new ReviewLikeCounter(reviewRepository, redisLeaseLock, transactionManager);
+    }
+
+    @Test
+    @DisplayName("likeCount: 저장된 좋아요 수에 같은 세대의 미반영 증감분만 더함")
+    void testLikeCount_addsPendingDelta() {
+        // given
+        Review review = new Review();
+        review.setReviewCode(500);
+        review.setLikeCount(10);
+        review.setLikeCountGeneration(1);
+
+        // when
+        reviewLikeCounter.increment(500, 1);
+        reviewLikeCounter.increment(500, 1);
+        reviewLikeCounter.decrement(500, 1);
+        reviewLikeCounter.increment(500, 0);
+
+        // then
+        assertThat(reviewLikeCounter.pendingDelta(500, 1)).isEqualTo(1);
+        assertThat(reviewLikeCounter.likeCount(review)).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("flush: 같은 세대, 같은 증감분을 가진 리뷰끼리 묶어 반영하고 비움")
+    void testFlush_groupsByGenerationAndDelta() {
+        // given
+        reviewLikeCounter.increment(500, 0);
+        reviewLikeCounter.increment(501, 0);
+        reviewLikeCounter.increment(502, 0);
+        reviewLikeCounter.increment(502, 0);
+        reviewLikeCounter.decrement(503, 0);
+        reviewLikeCounter.increment(504, 0);
+        reviewLikeCounter.decrement(504, 0);
+        reviewLikeCounter.increment(505, 1);
+
+        // when
+        reviewLikeCounter.flush();
+
+        // then
+        verify(reviewRepository).addLikeCount(eq(1), eq(0), argThat(codes -> codes.containsAll(List.of(500, 501)) && codes.size() == 2));
+        verify(reviewRepository).addLikeCount(2, 0, List.of(502));
+        verify(reviewRepository).addLikeCount(-1, 0, List.of(503));
+        verify(reviewRepository).addLikeCount(1, 1, List.of(505));
+        verifyNoMoreInteractions(reviewRepository);
+        assertThat(reviewLikeCounter.pendingDelta(500, 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("flush: 반영에 실패한 증감분은 다음 주기를 위해 세대와 함께 다시 보관")
+    void testFlush_keepsDeltaOnFailure() {
+        // given
+        reviewLikeCounter.increment(500, 2);
+        when(reviewRepository.addLikeCount(1, 2, List.of(500))).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        reviewLikeCounter.flush();
+
+        // then
+        assertThat(reviewLikeCounter.pendingDelta(500, 2)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("reconcile: 남은 증감분을 반영한 뒤 어긋난 리뷰마다 잠가서 재계산")
+    void testReconcile() {
+        // given
+        reviewLikeCounter.increment(500, 0);
+        when(redisLeaseLock.tryAcquire("REVIEW_LIKE_RECOUNT", Duration.ofMinutes(5))).thenReturn(Optional.of(lease));
+        when(lease.renew()).thenReturn(true);
+        when(reviewRepository.findLikeCountMismatches()).thenReturn(List.of(500, 501));
+
+        // when
+        reviewLikeCounter.reconcile();
+
+        // then
+        InOrder inOrder = inOrder(reviewRepository, lease);
+        inOrder.verify(reviewRepository).addLikeCount(1, 0, List.of(500));
+        inOrder.verify(reviewRepository).findLikeCountMismatches();
+        inOrder.verify(reviewRepository).lockForLikeRecount(500);
+        inOrder.verify(reviewRepository).recountLikeCount(500);
+        inOrder.verify(reviewRepository).lockForLikeRecount(501);
+        inOrder.verify(reviewRepository).recountLikeCount(501);
+        inOrder.verify(lease).release();
+    }
+
+    @Test
+    @DisplayName("reconcile: 다른 인스턴스가 재계산 중이면 자기 증감분만 반영하고 건너뜀")
+    void testReconcile_leaseHeldElsewhere() {
+        // given
+        reviewLikeCounter.increment(500, 0);
+        when(redisLeaseLock.tryAcquire("REVIEW_LIKE_RECOUNT", Duration.ofMinutes(5))).thenReturn(Optional.empty());
+
+        // when
+        reviewLikeCounter.reconcile();
+
+        // then
+        verify(reviewRepository).addLikeCount(1, 0, List.of(500));
+        verify(reviewRepository, never()).findLikeCountMismatches();
+        verify(reviewRepository, never()).recountLikeCount(anyInt());
+    }
+}
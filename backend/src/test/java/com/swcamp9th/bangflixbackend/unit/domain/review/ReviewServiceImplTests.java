@@ -2,32 +2,42 @@ package com.swcamp9th.bangflixbackend.unit.domain.review;
 
 import com.swcamp9th.bangflixbackend.domain.review.dto.*;
 import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewFile;
 import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewLike;
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewLikeId;
 import com.swcamp9th.bangflixbackend.domain.review.exception.ReviewAlreadyLiked;
 import com.swcamp9th.bangflixbackend.domain.review.exception.ReviewNotLikedException;
 import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewFileRepository;
 import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewLikeRepository;
 import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewRepository;
 import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewTendencyGenreRepository;
+import com.swcamp9th.bangflixbackend.domain.review.service.ReviewHydrator;
+import com.swcamp9th.bangflixbackend.domain.ranking.service.ReviewLeaderboard;
+import com.swcamp9th.bangflixbackend.domain.review.service.ReviewLikeCounter;
 import com.swcamp9th.bangflixbackend.domain.review.service.ReviewServiceImpl;
+import com.swcamp9th.bangflixbackend.domain.review.service.ReviewStatsService;
+import com.swcamp9th.bangflixbackend.domain.review.service.StoreBestReviewIndex;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
 import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeService;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeStatsService;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
+import com.swcamp9th.bangflixbackend.domain.user.entity.PointReasonEnum;
 import com.swcamp9th.bangflixbackend.domain.user.service.UserService;
 import com.swcamp9th.bangflixbackend.domain.review.exception.ReviewNotFoundException;
+import com.swcamp9th.bangflixbackend.shared.error.exception.InvalidCursorException;
+import com.swcamp9th.bangflixbackend.shared.error.exception.InvalidUserException;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
+import com.swcamp9th.bangflixbackend.shared.upload.ImageDerivativeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.mock.web.MockMultipartFile;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -39,17 +49,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 
 @ExtendWith(MockitoExtension.class)
 class ReviewServiceImplTests {
 
-    @Mock
-    private ModelMapper modelMapper;
     @Mock
     private ThemeService themeService; // 인터페이스 타입 사용
     @Mock
+    private ThemeStatsService themeStatsService;
+    @Mock
     private UserService userService;
     @Mock
     private ReviewRepository reviewRepository;
@@ -59,20 +70,41 @@ class ReviewServiceImplTests {
     private ReviewLikeRepository reviewLikeRepository;
     @Mock
     private ReviewTendencyGenreRepository reviewTendencyGenreRepository;
+    @Mock
+    private ReviewStatsService reviewStatsService;
+    @Mock
+    private ReviewLikeCounter reviewLikeCounter;
+    @Mock
+    private FileUploadPipeline fileUploadPipeline;
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+    @Mock
+    private StoreBestReviewIndex storeBestReviewIndex;
+    @Mock
+    private ReviewLeaderboard reviewLeaderboard;
+
+    private static final String IMAGE_URL =
+            "/uploadFiles/blobs/9f/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.png";
 
-    @InjectMocks
+    // 목록 변환은 실제 ReviewHydrator 로 검증
     private ReviewServiceImpl reviewService;
 
     // 샘플 객체들
     private CreateReviewDTO createReviewDTO;
     private Review review;
-    private ReviewDTO reviewDTO;
     private Theme theme;
     private Member member;
     private ReviewCodeDTO reviewCodeDTO;
 
     @BeforeEach
     void setUp() {
+        ReviewHydrator reviewHydrator =
+                new ReviewHydrator(reviewFileRepository, reviewLikeRepository, reviewTendencyGenreRepository, reviewLikeCounter,
+                        imageDerivativeService);
+        reviewService = new ReviewServiceImpl(themeService, themeStatsService, userService,
+                reviewRepository, reviewFileRepository, reviewLikeRepository, reviewHydrator, reviewStatsService, reviewLikeCounter,
+                fileUploadPipeline, storeBestReviewIndex, reviewLeaderboard);
+
         // Member 샘플
         member = new Member();
         member.setMemberCode(1000);
@@ -100,19 +132,6 @@ class ReviewServiceImplTests {
         review.setCreatedAt(LocalDateTime.now().minusDays(1));
         review.setActive(true);
 
-        // ReviewDTO 샘플 (ModelMapper 매핑 결과)
-        reviewDTO = new ReviewDTO();
-        reviewDTO.setReviewCode(500);
-        reviewDTO.setMemberCode(member.getMemberCode());
-        reviewDTO.setMemberNickname(member.getNickname());
-        reviewDTO.setMemberImage(member.getImage());
-        reviewDTO.setThemeCode(theme.getThemeCode());
-        reviewDTO.setThemeName(theme.getName());
-        reviewDTO.setThemeImage(theme.getPosterImage());
-        reviewDTO.setImagePaths(Collections.emptyList());
-        reviewDTO.setLikes(0);
-        reviewDTO.setIsLike(false);
-
         // ReviewCodeDTO 샘플
         reviewCodeDTO = new ReviewCodeDTO();
         reviewCodeDTO.setReviewCode(500);
@@ -122,7 +141,6 @@ class ReviewServiceImplTests {
     @DisplayName("createReview: 이미지 없이 리뷰 생성 성공")
     void testCreateReview_withoutImages() {
         // given
-        when(modelMapper.map(createReviewDTO, Review.class)).thenReturn(review);
         when(themeService.findThemeByThemeCode(createReviewDTO.getThemeCode())).thenReturn(theme);
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
 
@@ -130,8 +148,17 @@ class ReviewServiceImplTests {
         reviewService.createReview(createReviewDTO, null, member);
 
         // then
-        verify(reviewRepository, times(1)).save(review);
-        verify(userService, times(1)).memberGainPoint(member, 5);
+        ArgumentCaptor<Review> captor = ArgumentCaptor.forClass(Review.class);
+        verify(reviewRepository, times(1)).save(captor.capture());
+        assertThat(captor.getValue().getContent()).isEqualTo("Great experience!");
+        assertThat(captor.getValue().getTotalScore()).isEqualTo(90);
+        assertThat(captor.getValue().getTheme()).isEqualTo(theme);
+        assertThat(captor.getValue().getMember()).isEqualTo(member);
+        assertThat(captor.getValue().getActive()).isTrue();
+        assertThat(captor.getValue().getLikeCount()).isZero();
+        verify(userService, times(1)).memberGainPoint(member, 5, PointReasonEnum.REVIEW_CREATED, "500");
+        verify(themeStatsService, times(1)).addReview(1, 90);
+        verify(reviewStatsService, times(1)).addReview(review);
         // images가 null인 경우 reviewFileRepository.save()가 호출되지 않아야 함
         verify(reviewFileRepository, never()).save(any());
     }
@@ -140,27 +167,31 @@ class ReviewServiceImplTests {
     @DisplayName("createReview: 이미지와 함께 리뷰 생성 성공")
     void testCreateReview_withImages() {
         // given
-        MultipartFile file = new MockMultipartFile("file", "image.png", "image/png", "dummyImageContent".getBytes());
-        List<MultipartFile> images = List.of(file);
-        when(modelMapper.map(createReviewDTO, Review.class)).thenReturn(review);
+        StoredBlob file = new StoredBlob("image.png", 17);
+        List<StoredBlob> images = List.of(file);
         when(themeService.findThemeByThemeCode(createReviewDTO.getThemeCode())).thenReturn(theme);
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
+        when(fileUploadPipeline.attach(file)).thenReturn(IMAGE_URL);
 
         // when
         reviewService.createReview(createReviewDTO, images, member);
 
         // then
-        verify(reviewRepository, times(1)).save(review);
-        verify(reviewFileRepository, atLeastOnce()).save(any());
-        verify(userService, times(1)).memberGainPoint(member, 5);
+        verify(reviewRepository, times(1)).save(any(Review.class));
+        verify(fileUploadPipeline, times(1)).attach(file);
+        verify(reviewFileRepository, times(1)).save(argThat(reviewFile ->
+                IMAGE_URL.equals(reviewFile.getUrl())));
+        verify(userService, times(1)).memberGainPoint(member, 5, PointReasonEnum.REVIEW_CREATED, "500");
     }
 
     @Test
     @DisplayName("deleteReview: 기존 리뷰 삭제 성공")
     void testDeleteReview_success() {
         // given
+        ReviewFile reviewFile = ReviewFile.builder().review(review).active(true).url(IMAGE_URL).build();
         when(reviewRepository.findById(reviewCodeDTO.getReviewCode())).thenReturn(Optional.of(review));
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
+        when(reviewFileRepository.findByReview_ReviewCode(review.getReviewCode())).thenReturn(List.of(reviewFile));
 
         // when
         reviewService.deleteReview(reviewCodeDTO, member.getMemberCode());
@@ -168,6 +199,31 @@ class ReviewServiceImplTests {
         // then
         assertThat(review.getActive()).isFalse();
         verify(reviewRepository, times(1)).save(review);
+        verify(themeStatsService, times(1)).removeReview(1, 90);
+        verify(reviewStatsService, times(1)).removeReview(review);
+        // 첨부파일은 비활성화되고 저장된 내용의 참조가 해제됨
+        assertThat(reviewFile.getActive()).isFalse();
+        verify(fileUploadPipeline, times(1)).release(IMAGE_URL);
+        verify(storeBestReviewIndex, times(1)).evictReview(review.getReviewCode());
+        verify(reviewLeaderboard, times(1)).remove(review.getReviewCode());
+    }
+
+    @Test
+    @DisplayName("deleteReview: 이미 삭제된 리뷰는 카운터를 다시 감소시키지 않음")
+    void testDeleteReview_alreadyInactive() {
+        // given
+        review.setActive(false);
+        when(reviewRepository.findById(reviewCodeDTO.getReviewCode())).thenReturn(Optional.of(review));
+
+        // when
+        reviewService.deleteReview(reviewCodeDTO, member.getMemberCode());
+
+        // then
+        verify(reviewRepository, never()).save(any());
+        verify(themeStatsService, never()).removeReview(anyInt(), anyInt());
+        verify(reviewStatsService, never()).removeReview(any());
+        verify(storeBestReviewIndex, never()).evictReview(anyInt());
+        verify(reviewLeaderboard, never()).remove(anyInt());
     }
 
     @Test
@@ -189,19 +245,15 @@ class ReviewServiceImplTests {
         Pageable pageable = PageRequest.of(0, 10);
         List<Review> reviews = new ArrayList<>();
         reviews.add(review);
-        when(reviewRepository.findReviewListByThemeCode(eq(pageable), eq(themeCode))).thenReturn(reviews);
-        when(modelMapper.map(review, ReviewDTO.class)).thenReturn(reviewDTO);
-        when(reviewLikeRepository.existReviewLikeByReviewCodeAndMemberCode(eq(member.getMemberCode()), eq(review.getReviewCode())))
-                .thenReturn(false);
-        when(reviewTendencyGenreRepository.findMemberGenreByMemberCode(anyInt()))
-                .thenReturn(Collections.emptyList());
+        when(reviewRepository.findReviewsOrderByNewest(eq(themeCode), isNull(), isNull(), eq(pageable))).thenReturn(reviews);
 
         // when
         List<ReviewDTO> result = reviewService.findReviewsBy(themeCode, null, pageable, member.getMemberCode());
 
         // then
         assertThat(result).hasSize(1);
-        verify(reviewRepository, times(1)).findReviewListByThemeCode(eq(pageable), eq(themeCode));
+        verify(reviewRepository, times(1)).findReviewsOrderByNewest(eq(themeCode), isNull(), isNull(), eq(pageable));
+        verify(reviewLikeRepository, times(1)).findLikedReviewCodes(eq(member.getMemberCode()), anyCollection());
     }
 
     @Test
@@ -226,20 +278,17 @@ class ReviewServiceImplTests {
         reviewLow.setActive(true);
 
         List<Review> reviews = new ArrayList<>();
-        reviews.add(reviewLow);
         reviews.add(reviewHigh);
-        when(reviewRepository.findReviewListByThemeCode(eq(pageable), eq(themeCode))).thenReturn(reviews);
-        when(modelMapper.map(any(Review.class), eq(ReviewDTO.class))).thenReturn(reviewDTO);
-        when(reviewLikeRepository.existReviewLikeByReviewCodeAndMemberCode(anyInt(), anyInt()))
-                .thenReturn(false);
-        when(reviewTendencyGenreRepository.findMemberGenreByMemberCode(anyInt()))
-                .thenReturn(Collections.emptyList());
+        reviews.add(reviewLow);
+        when(reviewRepository.findReviewsOrderByHighScore(eq(themeCode), isNull(), isNull(), isNull(), eq(pageable)))
+                .thenReturn(reviews);
 
         // when
         List<ReviewDTO> result = reviewService.findReviewsBy(themeCode, "highScore", pageable, member.getMemberCode());
 
         // then
-        assertThat(result).hasSize(2);
+        assertThat(result).extracting(ReviewDTO::getReviewCode).containsExactly(501, 502);
+        verify(reviewRepository, never()).findReviewsOrderByNewest(anyInt(), any(), any(), any(Pageable.class));
     }
 
     @Test
@@ -250,16 +299,73 @@ class ReviewServiceImplTests {
         Pageable pageable = PageRequest.of(0, 10);
         List<Review> reviews = new ArrayList<>();
         reviews.add(review);
-        when(reviewRepository.findReviewListByThemeCode(eq(pageable), eq(themeCode))).thenReturn(reviews);
-        when(modelMapper.map(review, ReviewDTO.class)).thenReturn(reviewDTO);
-        when(reviewTendencyGenreRepository.findMemberGenreByMemberCode(anyInt()))
-                .thenReturn(Collections.emptyList());
+        when(reviewRepository.findReviewsOrderByNewest(eq(themeCode), isNull(), isNull(), eq(pageable))).thenReturn(reviews);
 
         // when
         List<ReviewDTO> result = reviewService.findReviewsBy(themeCode, null, pageable);
 
         // then
         assertThat(result).hasSize(1);
+        assertThat(result.get(0).getIsLike()).isFalse();
+        verify(reviewLikeRepository, never()).findLikedReviewCodes(anyInt(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("findReviewPageByCursor: 한 건 더 조회되면 마지막 리뷰 위치로 다음 커서 생성")
+    void testFindReviewPageByCursor_returnsNextCursor() {
+        // given
+        int themeCode = theme.getThemeCode();
+        Review next = new Review();
+        next.setReviewCode(499);
+        next.setTheme(theme);
+        next.setMember(member);
+        next.setTotalScore(review.getTotalScore());
+        next.setCreatedAt(review.getCreatedAt().minusMinutes(1));
+        next.setActive(true);
+        when(reviewRepository.findReviewsOrderByHighScore(eq(themeCode), isNull(), isNull(), isNull(), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(review, next));
+
+        // when
+        ReviewCursorPageDTO result = reviewService.findReviewPageByCursor(themeCode, null, 1, "highScore");
+
+        // then
+        assertThat(result.getReviews()).extracting(ReviewDTO::getReviewCode).containsExactly(review.getReviewCode());
+        ReviewCursor nextCursor = ReviewCursor.decode(result.getNextCursor(), "highScore");
+        assertThat(nextCursor.getIntValue()).isEqualTo(review.getTotalScore());
+        assertThat(nextCursor.getCreatedAtValue()).isEqualTo(review.getCreatedAt());
+        assertThat(nextCursor.getReviewCode()).isEqualTo(review.getReviewCode());
+    }
+
+    @Test
+    @DisplayName("findReviewPageByCursor: 마지막 페이지이면 다음 커서가 null")
+    void testFindReviewPageByCursor_lastPage() {
+        // given
+        int themeCode = theme.getThemeCode();
+        String cursor = new ReviewCursor("newest", "", review.getCreatedAt().plusMinutes(1).toString(), 9999).encode();
+        when(reviewRepository.findReviewsOrderByNewest(
+                eq(themeCode), eq(review.getCreatedAt().plusMinutes(1)), eq(9999), eq(PageRequest.of(0, 11))))
+                .thenReturn(List.of(review));
+
+        // when
+        ReviewCursorPageDTO result = reviewService.findReviewPageByCursor(themeCode, cursor, 10, null, member.getMemberCode());
+
+        // then
+        assertThat(result.getReviews()).hasSize(1);
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("findReviewPageByCursor: 정렬 기준이 다른 커서는 예외 발생")
+    void testFindReviewPageByCursor_invalidCursor() {
+        // given
+        String cursor = new ReviewCursor("newest", "", review.getCreatedAt().toString(), 500).encode();
+
+        // when & then
+        assertThatThrownBy(() -> reviewService.findReviewPageByCursor(theme.getThemeCode(), cursor, 10, "like"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> reviewService.findReviewPageByCursor(theme.getThemeCode(), "not-a-cursor", 10, null))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(reviewRepository);
     }
 
     @Test
@@ -267,11 +373,6 @@ class ReviewServiceImplTests {
     void testToReviewDTOList_withMemberCode() {
         // given
         List<Review> reviewList = List.of(review);
-        when(modelMapper.map(review, ReviewDTO.class)).thenReturn(reviewDTO);
-        when(reviewLikeRepository.existReviewLikeByReviewCodeAndMemberCode(eq(member.getMemberCode()), eq(review.getReviewCode())))
-                .thenReturn(false);
-        when(reviewTendencyGenreRepository.findMemberGenreByMemberCode(eq(member.getMemberCode())))
-                .thenReturn(Collections.emptyList());
 
         // when
         List<ReviewDTO> result = reviewService.toReviewDTOList(reviewList, member.getMemberCode());
@@ -279,6 +380,9 @@ class ReviewServiceImplTests {
         // then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getReviewCode()).isEqualTo(review.getReviewCode());
+        assertThat(result.get(0).getTotalScore()).isEqualTo(90);
+        assertThat(result.get(0).getMemberNickname()).isEqualTo("TestUser");
+        assertThat(result.get(0).getThemeName()).isEqualTo("Escape Room");
     }
 
     @Test
@@ -286,9 +390,6 @@ class ReviewServiceImplTests {
     void testToReviewDTOList_withoutMemberCode() {
         // given
         List<Review> reviewList = List.of(review);
-        when(modelMapper.map(review, ReviewDTO.class)).thenReturn(reviewDTO);
-        when(reviewTendencyGenreRepository.findMemberGenreByMemberCode(anyInt()))
-                .thenReturn(Collections.emptyList());
 
         // when
         List<ReviewDTO> result = reviewService.toReviewDTOList(reviewList);
@@ -306,9 +407,7 @@ class ReviewServiceImplTests {
         int memberCode = member.getMemberCode();
         int avgScore = 85;
         List<String> topGenres = List.of("Action", "Thriller", "Adventure");
-        when(reviewRepository.findAvgScoreByMemberCode(memberCode)).thenReturn(avgScore);
-        Pageable pageable = PageRequest.of(0, 3);
-        when(reviewRepository.findTopGenresByMemberCode(pageable, memberCode)).thenReturn(topGenres);
+        when(reviewStatsService.findReviewReport(memberCode)).thenReturn(new ReviewReportDTO(avgScore, topGenres));
 
         // when
         ReviewReportDTO report = reviewService.findReviewReport(memberCode);
@@ -316,14 +415,16 @@ class ReviewServiceImplTests {
         // then
         assertThat(report).isNotNull();
         assertThat(report.getAvgScore()).isEqualTo(avgScore);
+        assertThat(report.getGenres()).containsExactly("Action", "Thriller", "Adventure");
+        verifyNoInteractions(reviewRepository);
     }
 
     @Test
-    @DisplayName("findReviewReport: 평균 점수가 없으면 null 반환")
+    @DisplayName("findReviewReport: 활성 리뷰가 없으면 null 반환")
     void testFindReviewReport_returnsNull_whenNoAvgScore() {
         // given
         int memberCode = member.getMemberCode();
-        when(reviewRepository.findAvgScoreByMemberCode(memberCode)).thenReturn(null);
+        when(reviewStatsService.findReviewReport(memberCode)).thenReturn(null);
 
         // when
         ReviewReportDTO report = reviewService.findReviewReport(memberCode);
@@ -332,6 +433,22 @@ class ReviewServiceImplTests {
         assertThat(report).isNull();
     }
 
+    @Test
+    @DisplayName("getBestReviewByStoreCode: 인덱스의 베스트 리뷰 한 건을 DTO 로 변환")
+    void testGetBestReviewByStoreCode() {
+        // given
+        when(storeBestReviewIndex.find(10)).thenReturn(Optional.of(review));
+        when(storeBestReviewIndex.find(11)).thenReturn(Optional.empty());
+
+        // when
+        ReviewDTO result = reviewService.getBestReviewByStoreCode(10);
+
+        // then
+        assertThat(result.getReviewCode()).isEqualTo(review.getReviewCode());
+        assertThat(reviewService.getBestReviewByStoreCode(11)).isNull();
+        verifyNoInteractions(reviewLikeRepository);
+    }
+
     @Test
     @DisplayName("findReviewByMemberCode: 멤버의 리뷰 반환")
     void testFindReviewByMemberCode_returnsReviews() {
@@ -341,11 +458,6 @@ class ReviewServiceImplTests {
         List<Review> reviews = new ArrayList<>();
         reviews.add(review);
         when(reviewRepository.findByMemberCode(pageable, memberCode)).thenReturn(reviews);
-        when(modelMapper.map(review, ReviewDTO.class)).thenReturn(reviewDTO);
-        when(reviewLikeRepository.existReviewLikeByReviewCodeAndMemberCode(eq(member.getMemberCode()), eq(review.getReviewCode())))
-                .thenReturn(false);
-        when(reviewTendencyGenreRepository.findMemberGenreByMemberCode(eq(member.getMemberCode())))
-                .thenReturn(Collections.emptyList());
 
         // when
         List<ReviewDTO> result = reviewService.findReviewByMemberCode(memberCode, pageable);
@@ -376,7 +488,7 @@ class ReviewServiceImplTests {
         int themeCode = theme.getThemeCode();
         StatisticsReviewDTO statisticsReviewDTO = new StatisticsReviewDTO();
         statisticsReviewDTO.setAvgTotalScore(88.0);
-        when(reviewRepository.findStatisticsByThemeCode(themeCode)).thenReturn(Optional.of(statisticsReviewDTO));
+        when(reviewStatsService.findStatistics(themeCode)).thenReturn(statisticsReviewDTO);
 
         // when
         StatisticsReviewDTO result = reviewService.findReviewStatistics(themeCode);
@@ -391,7 +503,7 @@ class ReviewServiceImplTests {
     void testFindReviewStatistics_returnsNull_whenNoStatistics() {
         // given
         int themeCode = theme.getThemeCode();
-        when(reviewRepository.findStatisticsByThemeCode(themeCode)).thenReturn(Optional.empty());
+        when(reviewStatsService.findStatistics(themeCode)).thenReturn(null);
 
         // when
         StatisticsReviewDTO result = reviewService.findReviewStatistics(themeCode);
@@ -400,12 +512,39 @@ class ReviewServiceImplTests {
         assertThat(result).isNull();
     }
 
+    @Test
+    @DisplayName("rebuildReviewStatistics: 관리자는 리뷰 통계를 재집계")
+    void testRebuildReviewStatistics_admin() {
+        // given
+        member.setIsAdmin(true);
+        when(reviewStatsService.rebuildReviewStats()).thenReturn(3);
+
+        // when
+        int result = reviewService.rebuildReviewStatistics(member);
+
+        // then
+        assertThat(result).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("rebuildReviewStatistics: 관리자가 아니면 예외 발생")
+    void testRebuildReviewStatistics_notAdminThrowsException() {
+        // given
+        member.setIsAdmin(false);
+
+        // when & then
+        assertThatThrownBy(() -> reviewService.rebuildReviewStatistics(member))
+                .isInstanceOf(InvalidUserException.class);
+        verify(reviewStatsService, never()).rebuildReviewStats();
+    }
+
     @Test
     @DisplayName("likeReview: 새 좋아요 생성")
     void testLikeReview_createNewLike() {
         // given
         int memberCode = member.getMemberCode();
-        when(reviewLikeRepository.findByMemberCodeAndReviewCode(memberCode, reviewCodeDTO.getReviewCode()))
+        when(reviewRepository.findLikeCountGenerationForShare(reviewCodeDTO.getReviewCode())).thenReturn(0);
+        when(reviewLikeRepository.findById(new ReviewLikeId(memberCode, reviewCodeDTO.getReviewCode())))
                 .thenReturn(Optional.empty());
 
         // when
@@ -418,6 +557,8 @@ class ReviewServiceImplTests {
         assertThat(savedLike.getMemberCode()).isEqualTo(memberCode);
         assertThat(savedLike.getReviewCode()).isEqualTo(reviewCodeDTO.getReviewCode());
         assertThat(savedLike.isActive()).isTrue();
+        verify(reviewLikeCounter, times(1)).increment(reviewCodeDTO.getReviewCode(), 0);
+        verify(reviewLeaderboard, times(1)).liked(reviewCodeDTO.getReviewCode(), savedLike.getCreatedAt());
     }
 
     @Test
@@ -425,9 +566,11 @@ class ReviewServiceImplTests {
     void testLikeReview_updateInactiveLike() {
         // given
         int memberCode = member.getMemberCode();
+        when(reviewRepository.findLikeCountGenerationForShare(reviewCodeDTO.getReviewCode())).thenReturn(0);
         ReviewLike existingLike = new ReviewLike();
         existingLike.setActive(false);
-        when(reviewLikeRepository.findByMemberCodeAndReviewCode(memberCode, reviewCodeDTO.getReviewCode()))
+        existingLike.setCreatedAt(LocalDateTime.now().minusWeeks(2));
+        when(reviewLikeRepository.findById(new ReviewLikeId(memberCode, reviewCodeDTO.getReviewCode())))
                 .thenReturn(Optional.of(existingLike));
 
         // when
@@ -436,6 +579,10 @@ class ReviewServiceImplTests {
         // then
         verify(reviewLikeRepository, times(1)).save(existingLike);
         assertThat(existingLike.isActive()).isTrue();
+        // 다시 좋아요한 시각으로 갱신되어 주간 집계에 포함
+        assertThat(existingLike.getCreatedAt()).isAfter(LocalDateTime.now().minusMinutes(1));
+        verify(reviewLikeCounter, times(1)).increment(reviewCodeDTO.getReviewCode(), 0);
+        verify(reviewLeaderboard, times(1)).liked(reviewCodeDTO.getReviewCode(), existingLike.getCreatedAt());
     }
 
     @Test
@@ -443,14 +590,17 @@ class ReviewServiceImplTests {
     void testLikeReview_alreadyActiveLikeThrowsException() {
         // given
         int memberCode = member.getMemberCode();
+        when(reviewRepository.findLikeCountGenerationForShare(reviewCodeDTO.getReviewCode())).thenReturn(0);
         ReviewLike existingLike = new ReviewLike();
         existingLike.setActive(true);
-        when(reviewLikeRepository.findByMemberCodeAndReviewCode(memberCode, reviewCodeDTO.getReviewCode()))
+        when(reviewLikeRepository.findById(new ReviewLikeId(memberCode, reviewCodeDTO.getReviewCode())))
                 .thenReturn(Optional.of(existingLike));
 
         // when & then
         assertThatThrownBy(() -> reviewService.likeReview(reviewCodeDTO, memberCode))
                 .isInstanceOf(ReviewAlreadyLiked.class);
+        verify(reviewLikeCounter, never()).increment(anyInt(), anyInt());
+        verify(reviewLeaderboard, never()).liked(anyInt(), any());
     }
 
     @Test
@@ -458,9 +608,11 @@ class ReviewServiceImplTests {
     void testDeleteLikeReview_success() {
         // given
         int memberCode = member.getMemberCode();
+        when(reviewRepository.findLikeCountGenerationForShare(reviewCodeDTO.getReviewCode())).thenReturn(0);
         ReviewLike existingLike = new ReviewLike();
         existingLike.setActive(true);
-        when(reviewLikeRepository.findByMemberCodeAndReviewCode(memberCode, reviewCodeDTO.getReviewCode()))
+        existingLike.setCreatedAt(LocalDateTime.of(2024, 10, 7, 12, 0));
+        when(reviewLikeRepository.findById(new ReviewLikeId(memberCode, reviewCodeDTO.getReviewCode())))
                 .thenReturn(Optional.of(existingLike));
 
         // when
@@ -469,6 +621,9 @@ class ReviewServiceImplTests {
         // then
         verify(reviewLikeRepository, times(1)).save(existingLike);
         assertThat(existingLike.isActive()).isFalse();
+        verify(reviewLikeCounter, times(1)).decrement(reviewCodeDTO.getReviewCode(), 0);
+        // 좋아요가 등록되었던 시각 기준으로 주간 리더보드에서 뺌
+        verify(reviewLeaderboard, times(1)).unliked(reviewCodeDTO.getReviewCode(), LocalDateTime.of(2024, 10, 7, 12, 0));
     }
 
     @Test
@@ -476,7 +631,8 @@ class ReviewServiceImplTests {
     void testDeleteLikeReview_likeNotFoundThrowsException_whenNotFound() {
         // given
         int memberCode = member.getMemberCode();
-        when(reviewLikeRepository.findByMemberCodeAndReviewCode(memberCode, reviewCodeDTO.getReviewCode()))
+        when(reviewRepository.findLikeCountGenerationForShare(reviewCodeDTO.getReviewCode())).thenReturn(0);
+        when(reviewLikeRepository.findById(new ReviewLikeId(memberCode, reviewCodeDTO.getReviewCode())))
                 .thenReturn(Optional.empty());
 
         // when & then
@@ -489,13 +645,42 @@ class ReviewServiceImplTests {
     void testDeleteLikeReview_likeNotFoundThrowsException_whenInactive() {
         // given
         int memberCode = member.getMemberCode();
+        when(reviewRepository.findLikeCountGenerationForShare(reviewCodeDTO.getReviewCode())).thenReturn(0);
         ReviewLike existingLike = new ReviewLike();
         existingLike.setActive(false);
-        when(reviewLikeRepository.findByMemberCodeAndReviewCode(memberCode, reviewCodeDTO.getReviewCode()))
+        when(reviewLikeRepository.findById(new ReviewLikeId(memberCode, reviewCodeDTO.getReviewCode())))
                 .thenReturn(Optional.of(existingLike));
 
         // when & then
         assertThatThrownBy(() -> reviewService.deleteLikeReview(reviewCodeDTO, memberCode))
                 .isInstanceOf(ReviewNotLikedException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("likeReview: 삭제된 리뷰면 좋아요를 남기지 않고 예외 발생")
+    void testLikeReview_inactiveReviewThrowsException() {
+        // given
+        int memberCode = member.getMemberCode();
+        when(reviewRepository.findLikeCountGenerationForShare(reviewCodeDTO.getReviewCode())).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> reviewService.likeReview(reviewCodeDTO, memberCode))
+                .isInstanceOf(ReviewNotFoundException.class);
+        verifyNoInteractions(reviewLikeRepository);
+        verify(reviewLikeCounter, never()).increment(anyInt(), anyInt());
+        verify(reviewLeaderboard, never()).liked(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("deleteLikeReview: 삭제된 리뷰면 예외 발생")
+    void testDeleteLikeReview_inactiveReviewThrowsException() {
+        // given
+        int memberCode = member.getMemberCode();
+        when(reviewRepository.findLikeCountGenerationForShare(reviewCodeDTO.getReviewCode())).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> reviewService.deleteLikeReview(reviewCodeDTO, memberCode))
+                .isInstanceOf(ReviewNotLikedException.class);
+        verify(reviewLikeCounter, never()).decrement(anyInt(), anyInt());
+    }
+}
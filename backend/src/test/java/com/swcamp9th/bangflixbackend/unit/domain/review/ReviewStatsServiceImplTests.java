@@ -0,0 +1,247 @@
+package com.swcamp9th.bangflixbackend.unit.domain.review;
+
+import com.swcamp9th.bangflixbackend.domain.review.dto.ReviewReportDTO;
+import com.swcamp9th.bangflixbackend.domain.review.dto.StatisticsReviewDTO;
+import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewMemberStats;
+import com.swcamp9th.bangflixbackend.domain.review.entity.ReviewStats;
+import com.swcamp9th.bangflixbackend.domain.review.enums.Activity;
+import com.swcamp9th.bangflixbackend.domain.review.enums.Composition;
+import com.swcamp9th.bangflixbackend.domain.review.enums.HorrorLevel;
+import com.swcamp9th.bangflixbackend.domain.review.enums.Interior;
+import com.swcamp9th.bangflixbackend.domain.review.enums.Level;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewGenreRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewMemberGenreStatsRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewMemberStatsRepository;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewStatsRepository;
+import com.swcamp9th.bangflixbackend.domain.review.service.ReviewStatsServiceImpl;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeStats;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeStatsService;
+import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewStatsServiceImplTests {
+
+    @Mock
+    private ReviewStatsRepository reviewStatsRepository;
+    @Mock
+    private ReviewMemberStatsRepository reviewMemberStatsRepository;
+    @Mock
+    private ReviewMemberGenreStatsRepository reviewMemberGenreStatsRepository;
+    @Mock
+    private ReviewGenreRepository reviewGenreRepository;
+    @Mock
+    private ThemeStatsService themeStatsService;
+
+    @InjectMocks
+    private ReviewStatsServiceImpl reviewStatsService;
+
+    @Test
+    @DisplayName("addReview: 테마 장르를 리뷰에 기록한 뒤 리뷰의 항목 값과 작성자 집계를 +1 upsert")
+    void testAddReview() {
+        // given
+        Review review = createReview();
+
+        // when
+        reviewStatsService.addReview(review);
+
+        // then
+        verify(reviewStatsRepository, times(1))
+                .addDelta(1, 1, 4, "TWO", "FIVE", "ONE", "THREE", null, "FOUR");
+        verify(reviewMemberStatsRepository, times(1)).addDelta(1000, 1, 4);
+        InOrder inOrder = inOrder(reviewGenreRepository, reviewMemberGenreStatsRepository);
+        inOrder.verify(reviewGenreRepository).insertFromTheme(50, 1);
+        inOrder.verify(reviewMemberGenreStatsRepository).addDelta(1000, 50, 1);
+    }
+
+    @Test
+    @DisplayName("removeReview: 리뷰의 항목 값과 작성자 집계를 -1 upsert (장르는 작성 시점 기록 기준)")
+    void testRemoveReview() {
+        // given
+        Review review = createReview();
+
+        // when
+        reviewStatsService.removeReview(review);
+
+        // then
+        verify(reviewStatsRepository, times(1))
+                .addDelta(1, -1, 4, "TWO", "FIVE", "ONE", "THREE", null, "FOUR");
+        verify(reviewMemberStatsRepository, times(1)).addDelta(1000, -1, 4);
+        verify(reviewMemberGenreStatsRepository, times(1)).addDelta(1000, 50, -1);
+        verify(reviewGenreRepository, never()).insertFromTheme(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("findStatistics: theme_stats 의 리뷰 수와 점수 합계, 히스토그램으로 평균과 백분율 계산")
+    void testFindStatistics() {
+        // given
+        when(themeStatsService.findThemeStats(1)).thenReturn(themeStats(4L, 14L));
+        ReviewStats stats = emptyStats();
+        stats.setScoreFive(1L);
+        stats.setScoreFour(1L);
+        stats.setScoreTwo(2L);
+        stats.setLevelOne(3L);
+        stats.setLevelFive(1L);
+        stats.setProbabilityThree(1L);
+        when(reviewStatsRepository.findById(1)).thenReturn(Optional.of(stats));
+
+        // when
+        StatisticsReviewDTO result = reviewStatsService.findStatistics(1);
+
+        // then
+        assertThat(result.getAvgTotalScore()).isEqualTo(3.5);
+        assertThat(result.getFiveScorePercent()).isEqualTo(25L);
+        assertThat(result.getTwoScorePercent()).isEqualTo(50L);
+        assertThat(result.getOneScorePercent()).isEqualTo(0L);
+        assertThat(result.getOneLevelPercent()).isEqualTo(75L);
+        assertThat(result.getFiveLevelPercent()).isEqualTo(25L);
+        assertThat(result.getThreeProbabilityPercent()).isEqualTo(25L);
+    }
+
+    @Test
+    @DisplayName("findStatistics: 활성 리뷰가 없으면 null 반환")
+    void testFindStatistics_returnsNull_whenNoReviews() {
+        // given
+        when(themeStatsService.findThemeStats(1)).thenReturn(themeStats(0L, 0L));
+        when(themeStatsService.findThemeStats(2)).thenReturn(null);
+
+        // when & then
+        assertThat(reviewStatsService.findStatistics(1)).isNull();
+        assertThat(reviewStatsService.findStatistics(2)).isNull();
+        verifyNoInteractions(reviewStatsRepository);
+    }
+
+    @Test
+    @DisplayName("findReviewReport: 회원 집계로 평균 점수(소수점 버림)와 상위 장르 반환")
+    void testFindReviewReport() {
+        // given
+        when(reviewMemberStatsRepository.findById(1000))
+                .thenReturn(Optional.of(new ReviewMemberStats(1000, 3L, 11L, LocalDateTime.now())));
+        when(reviewMemberGenreStatsRepository.findTopGenreNames(1000, PageRequest.of(0, 3)))
+                .thenReturn(List.of("공포", "추리"));
+
+        // when
+        ReviewReportDTO result = reviewStatsService.findReviewReport(1000);
+
+        // then
+        assertThat(result.getAvgScore()).isEqualTo(3);
+        assertThat(result.getGenres()).containsExactly("공포", "추리");
+    }
+
+    @Test
+    @DisplayName("findReviewReport: 활성 리뷰가 없으면 장르를 조회하지 않고 null 반환")
+    void testFindReviewReport_returnsNull_whenNoReviews() {
+        // given
+        when(reviewMemberStatsRepository.findById(1000))
+                .thenReturn(Optional.of(new ReviewMemberStats(1000, 0L, 0L, LocalDateTime.now())));
+        when(reviewMemberStatsRepository.findById(1001)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(reviewStatsService.findReviewReport(1000)).isNull();
+        assertThat(reviewStatsService.findReviewReport(1001)).isNull();
+        verifyNoInteractions(reviewMemberGenreStatsRepository);
+    }
+
+    @Test
+    @DisplayName("rebuildReviewStats: 비운 뒤 review 테이블 기준으로 다시 채움")
+    void testRebuildReviewStats() {
+        // given
+        when(reviewStatsRepository.insertAllFromReviews()).thenReturn(7);
+
+        // when
+        int result = reviewStatsService.rebuildReviewStats();
+
+        // then
+        assertThat(result).isEqualTo(7);
+        InOrder inOrder = inOrder(
+                reviewStatsRepository, reviewMemberStatsRepository, reviewGenreRepository, reviewMemberGenreStatsRepository);
+        inOrder.verify(reviewStatsRepository).deleteAllInBatch();
+        inOrder.verify(reviewStatsRepository).insertAllFromReviews();
+        inOrder.verify(reviewMemberStatsRepository).deleteAllInBatch();
+        inOrder.verify(reviewMemberStatsRepository).insertAllFromReviews();
+        inOrder.verify(reviewGenreRepository).backfillFromThemes();
+        inOrder.verify(reviewMemberGenreStatsRepository).deleteAllInBatch();
+        inOrder.verify(reviewMemberGenreStatsRepository).insertAllFromReviews();
+    }
+
+    private Review createReview() {
+        Theme theme = new Theme();
+        theme.setThemeCode(1);
+
+        Member member = new Member();
+        member.setMemberCode(1000);
+
+        Review review = new Review();
+        review.setReviewCode(50);
+        review.setTheme(theme);
+        review.setMember(member);
+        review.setTotalScore(4);
+        review.setLevel(Level.TWO);
+        review.setHorrorLevel(HorrorLevel.FIVE);
+        review.setActivity(Activity.ONE);
+        review.setInterior(Interior.THREE);
+        review.setComposition(Composition.FOUR);
+        return review;
+    }
+
+    private ThemeStats themeStats(long reviewCount, long scoreSum) {
+        return new ThemeStats(1, 0L, 0L, reviewCount, scoreSum, LocalDateTime.now());
+    }
+
+    private ReviewStats emptyStats() {
+        ReviewStats stats = new ReviewStats();
+        stats.setThemeCode(1);
+        stats.setScoreOne(0L);
+        stats.setScoreTwo(0L);
+        stats.setScoreThree(0L);
+        stats.setScoreFour(0L);
+        stats.setScoreFive(0L);
+        stats.setLevelOne(0L);
+        stats.setLevelTwo(0L);
+        stats.setLevelThree(0L);
+        stats.setLevelFour(0L);
+        stats.setLevelFive(0L);
+        stats.setHorrorLevelOne(0L);
+        stats.setHorrorLevelTwo(0L);
+        stats.setHorrorLevelThree(0L);
+        stats.setHorrorLevelFour(0L);
+        stats.setHorrorLevelFive(0L);
+        stats.setActivityOne(0L);
+        stats.setActivityTwo(0L);
+        stats.setActivityThree(0L);
+        stats.setActivityFour(0L);
+        stats.setActivityFive(0L);
+        stats.setInteriorOne(0L);
+        stats.setInteriorTwo(0L);
+        stats.setInteriorThree(0L);
+        stats.setInteriorFour(0L);
+        stats.setInteriorFive(0L);
+        stats.setProbabilityOne(0L);
+        stats.setProbabilityTwo(0L);
+        stats.setProbabilityThree(0L);
+        stats.setProbabilityFour(0L);
+        stats.setProbabilityFive(0L);
+        stats.setCompositionOne(0L);
+        stats.setCompositionTwo(0L);
+        stats.setCompositionThree(0L);
+        stats.setCompositionFour(0L);
+        stats.setCompositionFive(0L);
+        return stats;
+    }
+}
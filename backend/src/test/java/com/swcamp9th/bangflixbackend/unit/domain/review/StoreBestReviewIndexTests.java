@@ -0,0 +1,138 @@
+package com.swcamp9th.bangflixbackend.unit.domain.review;
+
+import com.swcamp9th.bangflixbackend.domain.review.entity.Review;
+import com.swcamp9th.bangflixbackend.domain.review.repository.ReviewRepository;
+import com.swcamp9th.bangflixbackend.domain.review.service.StoreBestReviewIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreBestReviewIndexTests {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 10, 1, 12, 0);
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @InjectMocks
+    private StoreBestReviewIndex storeBestReviewIndex;
+
+    @Test
+    @DisplayName("find: 처음에는 테마별 최다 좋아요 리뷰를 합쳐 계산하고, 이후에는 리뷰 한 건만 기본 키로 조회")
+    void testFind_usesIndexAfterFirstLoad() {
+        // given
+        Review best = createReview(500);
+        when(reviewRepository.findActiveThemeCodesByStoreCode(10)).thenReturn(List.of(1, 2, 3));
+        when(reviewRepository.findTopLikedReview(1, PageRequest.of(0, 1)))
+                .thenReturn(List.<Object[]>of(new Object[]{400, 7, CREATED_AT}));
+        when(reviewRepository.findTopLikedReview(2, PageRequest.of(0, 1)))
+                .thenReturn(List.<Object[]>of(new Object[]{500, 9, CREATED_AT.minusDays(1)}));
+        when(reviewRepository.findTopLikedReview(3, PageRequest.of(0, 1))).thenReturn(List.of());
+        when(reviewRepository.findActiveReview(500)).thenReturn(Optional.of(best));
+
+        // when
+        Optional<Review> first = storeBestReviewIndex.find(10);
+        Optional<Review> second = storeBestReviewIndex.find(10);
+
+        // then
+        assertThat(first).contains(best);
+        assertThat(second).contains(best);
+        verify(reviewRepository, times(1)).findActiveThemeCodesByStoreCode(10);
+        verify(reviewRepository, times(3)).findTopLikedReview(anyInt(), any());
+        verify(reviewRepository, times(2)).findActiveReview(500);
+    }
+
+    @Test
+    @DisplayName("find: 좋아요 수가 같으면 최근 작성한 리뷰가 베스트 리뷰")
+    void testFind_tieBrokenByCreatedAt() {
+        // given
+        Review best = createReview(400);
+        when(reviewRepository.findActiveThemeCodesByStoreCode(10)).thenReturn(List.of(1, 2));
+        when(reviewRepository.findTopLikedReview(1, PageRequest.of(0, 1)))
+                .thenReturn(List.<Object[]>of(new Object[]{400, 9, CREATED_AT}));
+        when(reviewRepository.findTopLikedReview(2, PageRequest.of(0, 1)))
+                .thenReturn(List.<Object[]>of(new Object[]{500, 9, CREATED_AT.minusDays(1)}));
+        when(reviewRepository.findActiveReview(400)).thenReturn(Optional.of(best));
+
+        // when & then
+        assertThat(storeBestReviewIndex.find(10)).contains(best);
+    }
+
+    @Test
+    @DisplayName("find: 좋아요 받은 리뷰가 없는 업체도 기억해 다시 계산하지 않음")
+    void testFind_remembersEmptyStore() {
+        // given
+        when(reviewRepository.findActiveThemeCodesByStoreCode(10)).thenReturn(List.of(1));
+        when(reviewRepository.findTopLikedReview(1, PageRequest.of(0, 1))).thenReturn(List.of());
+
+        // when & then
+        assertThat(storeBestReviewIndex.find(10)).isEmpty();
+        assertThat(storeBestReviewIndex.find(10)).isEmpty();
+        verify(reviewRepository, times(1)).findActiveThemeCodesByStoreCode(10);
+        verify(reviewRepository, never()).findActiveReview(anyInt());
+    }
+
+    @Test
+    @DisplayName("evictReview: 삭제된 리뷰를 가리키던 업체는 다시 계산")
+    void testEvictReview() {
+        // given
+        Review best = createReview(500);
+        Review next = createReview(501);
+        when(reviewRepository.findActiveThemeCodesByStoreCode(10)).thenReturn(List.of(1));
+        when(reviewRepository.findTopLikedReview(1, PageRequest.of(0, 1)))
+                .thenReturn(List.<Object[]>of(new Object[]{500, 9, CREATED_AT}))
+                .thenReturn(List.<Object[]>of(new Object[]{501, 3, CREATED_AT}));
+        when(reviewRepository.findActiveReview(500)).thenReturn(Optional.of(best));
+        when(reviewRepository.findActiveReview(501)).thenReturn(Optional.of(next));
+        storeBestReviewIndex.find(10);
+
+        // when
+        storeBestReviewIndex.evictReview(500);
+
+        // then
+        assertThat(storeBestReviewIndex.find(10)).contains(next);
+        verify(reviewRepository, times(2)).findActiveThemeCodesByStoreCode(10);
+    }
+
+    @Test
+    @DisplayName("find: 다른 곳에서 비활성화된 리뷰면 다시 계산")
+    void testFind_reloadsWhenReviewInactive() {
+        // given
+        Review best = createReview(500);
+        Review next = createReview(501);
+        when(reviewRepository.findActiveThemeCodesByStoreCode(10)).thenReturn(List.of(1));
+        when(reviewRepository.findTopLikedReview(1, PageRequest.of(0, 1)))
+                .thenReturn(List.<Object[]>of(new Object[]{500, 9, CREATED_AT}))
+                .thenReturn(List.<Object[]>of(new Object[]{501, 3, CREATED_AT}));
+        when(reviewRepository.findActiveReview(500))
+                .thenReturn(Optional.of(best))
+                .thenReturn(Optional.empty());
+        when(reviewRepository.findActiveReview(501)).thenReturn(Optional.of(next));
+        storeBestReviewIndex.find(10);
+
+        // when
+        Optional<Review> result = storeBestReviewIndex.find(10);
+
+        // then
+        assertThat(result).contains(next);
+    }
+
+    private Review createReview(int reviewCode) {
+        Review review = new Review();
+        review.setReviewCode(reviewCode);
+        review.setActive(true);
+        return review;
+    }
+}
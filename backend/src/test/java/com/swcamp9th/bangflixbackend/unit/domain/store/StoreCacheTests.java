@@ -0,0 +1,100 @@
+package com.swcamp9th.bangflixbackend.unit.domain.store;
+
+import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
+import com.swcamp9th.bangflixbackend.domain.store.entity.Store;
+import com.swcamp9th.bangflixbackend.domain.store.repository.StoreRepository;
+import com.swcamp9th.bangflixbackend.domain.store.service.StoreCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StoreCacheTests {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @InjectMocks
+    private StoreCache storeCache;
+
+    @BeforeEach
+    void setUp() {
+
+        when(storeRepository.findAll()).thenReturn(List.of(store(100, "키이스케이프 강남점")));
+        storeCache.reload();
+    }
+
+    @DisplayName("적재된 업체는 DB 조회 없이 반환")
+    @Test
+    void testGet_cached() {
+        // when
+        StoreDTO result = storeCache.get(100);
+
+        // then
+        assertThat(result.getName()).isEqualTo("키이스케이프 강남점");
+        verify(storeRepository, never()).findAllById(any());
+    }
+
+    @DisplayName("캐시에 없는 업체만 한 번에 조회하고 이후에는 캐시에서 반환")
+    @Test
+    void testGetAll_batchMisses() {
+        // given
+        when(storeRepository.findAllById(List.of(200, 300)))
+                .thenReturn(List.of(store(200, "제로월드 홍대점"), store(300, "비밀의 화원 신촌점")));
+
+        // when
+        Map<Integer, StoreDTO> result = storeCache.getAll(List.of(100, 200, 300, 200));
+        storeCache.getAll(List.of(200, 300));
+
+        // then
+        assertThat(result).containsOnlyKeys(100, 200, 300);
+        assertThat(result.get(300).getName()).isEqualTo("비밀의 화원 신촌점");
+        verify(storeRepository, times(1)).findAllById(any());
+    }
+
+    @DisplayName("존재하지 않는 업체는 결과에서 제외")
+    @Test
+    void testGetAll_notFound() {
+        // given
+        when(storeRepository.findAllById(List.of(999))).thenReturn(List.of());
+
+        // when
+        Map<Integer, StoreDTO> result = storeCache.getAll(List.of(100, 999));
+
+        // then
+        assertThat(result).containsOnlyKeys(100);
+        assertThat(storeCache.get(999)).isNull();
+    }
+
+    @DisplayName("제거된 업체는 다음 조회 시 다시 적재")
+    @Test
+    void testEvict() {
+        // given
+        when(storeRepository.findAllById(List.of(100))).thenReturn(List.of(store(100, "키이스케이프 역삼점")));
+
+        // when
+        storeCache.evict(100);
+        StoreDTO result = storeCache.get(100);
+
+        // then
+        assertThat(result.getName()).isEqualTo("키이스케이프 역삼점");
+    }
+
+    private Store store(int storeCode, String name) {
+        Store store = new Store();
+        store.setStoreCode(storeCode);
+        store.setName(name);
+        store.setActive(true);
+        return store;
+    }
+}
@@ -0,0 +1,55 @@
+package com.swcamp9th.bangflixbackend.unit.domain.store;
+
+import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
+import com.swcamp9th.bangflixbackend.domain.store.exception.StoreNotFoundException;
+import com.swcamp9th.bangflixbackend.domain.store.service.StoreCache;
+import com.swcamp9th.bangflixbackend.domain.store.service.StoreServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StoreServiceImplTests {
+
+    @Mock
+    private StoreCache storeCache;
+
+    @InjectMocks
+    private StoreServiceImpl storeService;
+
+    @DisplayName("업체 조회 - 캐시 객체가 아닌 복사본 반환")
+    @Test
+    void testFindStore() {
+        // given
+        StoreDTO cached = new StoreDTO();
+        cached.setStoreCode(100);
+        cached.setName("키이스케이프 강남점");
+        when(storeCache.get(100)).thenReturn(cached);
+
+        // when
+        StoreDTO result = storeService.findStore(100);
+        result.setName("변경된 이름");
+
+        // then
+        assertThat(result.getStoreCode()).isEqualTo(100);
+        assertThat(cached.getName()).isEqualTo("키이스케이프 강남점");
+    }
+
+    @DisplayName("업체 조회 실패 - 존재하지 않는 업체")
+    @Test
+    void testFindStore_notFound() {
+        // given
+        when(storeCache.get(999)).thenReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> storeService.findStore(999))
+                .isInstanceOf(StoreNotFoundException.class);
+    }
+}
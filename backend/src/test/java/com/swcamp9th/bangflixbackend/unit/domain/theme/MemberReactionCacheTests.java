@@ -0,0 +1,106 @@
+package com.swcamp9th.bangflixbackend.unit.domain.theme;
+
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ReactionType;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeReaction;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeReactionRepository;
+import com.swcamp9th.bangflixbackend.domain.theme.service.MemberReactionCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberReactionCacheTests {
+
+    @Mock
+    private ThemeReactionRepository themeReactionRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private MemberReactionCache memberReactionCache;
+
+    @BeforeEach
+    void setUp() {
+        memberReactionCache = new MemberReactionCache(
+                themeReactionRepository, redisTemplate, redisMessageListenerContainer);
+    }
+
+    @DisplayName("첫 조회 시 한 번만 적재")
+    @Test
+    void testGet_loadsOnce() {
+        // given
+        when(themeReactionRepository.findActiveReactionsByMemberCode(1))
+                .thenReturn(List.of(reaction(10, ReactionType.LIKE), reaction(20, ReactionType.SCRAPLIKE)));
+
+        // when
+        memberReactionCache.get(1);
+        MemberReactionCache.ReactionBits reactions = memberReactionCache.get(1);
+
+        // then
+        assertThat(reactions.isLike(10)).isTrue();
+        assertThat(reactions.isScrap(10)).isFalse();
+        assertThat(reactions.isLike(20)).isTrue();
+        assertThat(reactions.isScrap(20)).isTrue();
+        assertThat(reactions.isLike(30)).isFalse();
+        verify(themeReactionRepository, times(1)).findActiveReactionsByMemberCode(1);
+    }
+
+    @DisplayName("반응 변경은 캐시에 바로 반영하고 다른 인스턴스에 무효화를 알림")
+    @Test
+    void testUpdate() {
+        // given
+        when(themeReactionRepository.findActiveReactionsByMemberCode(1))
+                .thenReturn(List.of(reaction(10, ReactionType.SCRAPLIKE)));
+        memberReactionCache.get(1);
+
+        // when
+        memberReactionCache.update(1, 10, ReactionType.SCRAP);
+        memberReactionCache.update(1, 30, ReactionType.LIKE);
+
+        // then
+        MemberReactionCache.ReactionBits reactions = memberReactionCache.get(1);
+        assertThat(reactions.isLike(10)).isFalse();
+        assertThat(reactions.isScrap(10)).isTrue();
+        assertThat(reactions.isLike(30)).isTrue();
+        verify(themeReactionRepository, times(1)).findActiveReactionsByMemberCode(1);
+        verify(redisTemplate, times(2)).convertAndSend(eq("THEME_REACTION:INVALIDATE"), anyString());
+    }
+
+    @DisplayName("무효화 후 다시 적재")
+    @Test
+    void testEvict() {
+        // given
+        when(themeReactionRepository.findActiveReactionsByMemberCode(1)).thenReturn(List.of());
+        memberReactionCache.get(1);
+
+        // when
+        memberReactionCache.evict(1);
+        memberReactionCache.get(1);
+
+        // then
+        verify(themeReactionRepository, times(2)).findActiveReactionsByMemberCode(1);
+    }
+
+    private ThemeReaction reaction(int themeCode, ReactionType reactionType) {
+        ThemeReaction reaction = new ThemeReaction();
+        reaction.setThemeCode(themeCode);
+        reaction.setReaction(reactionType);
+        reaction.setActive(true);
+        return reaction;
+    }
+}
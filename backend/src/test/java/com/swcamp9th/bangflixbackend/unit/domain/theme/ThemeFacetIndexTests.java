@@ -0,0 +1,159 @@
+package com.swcamp9th.bangflixbackend.unit.domain.theme;
+
+import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
+import com.swcamp9th.bangflixbackend.domain.store.entity.Store;
+import com.swcamp9th.bangflixbackend.domain.store.service.StoreService;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.FacetCountDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeFacetFilterDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Genre;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeGenre;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.GenreRepository;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeRepository;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeFacetIndex;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeNameIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ThemeFacetIndexTests {
+
+    @Mock
+    private ThemeRepository themeRepository;
+    @Mock
+    private StoreService storeService;
+    @Mock
+    private GenreRepository genreRepository;
+    @Mock
+    private ThemeNameIndex themeNameIndex;
+
+    @InjectMocks
+    private ThemeFacetIndex themeFacetIndex;
+
+    @BeforeEach
+    void setUp() {
+        Store gangnam = store(100);
+        Store hongdae = store(200);
+
+        // 업체 이름은 업체 캐시에서 조회
+        when(storeService.findStores(List.of(100, 200))).thenReturn(Map.of(
+                100, storeDTO(100, "강남점"),
+                200, storeDTO(200, "홍대점")
+        ));
+        when(themeRepository.findAllActiveThemes()).thenReturn(List.of(
+                theme(1, 3, 22000, 60, "2~4명", gangnam),
+                theme(2, 4, 28000, 80, "3~5명", hongdae),
+                theme(3, 3, 32000, 90, "4명", hongdae)
+        ));
+        when(themeRepository.findAllThemeGenres()).thenReturn(List.of(
+                new ThemeGenre(10, 1, null, null),
+                new ThemeGenre(20, 2, null, null),
+                new ThemeGenre(10, 3, null, null),
+                new ThemeGenre(20, 3, null, null)
+        ));
+        when(genreRepository.findAll()).thenReturn(List.of(
+                genre(10, "공포"),
+                genre(20, "추리")
+        ));
+        themeFacetIndex.reload();
+    }
+
+    @DisplayName("facet 내부는 OR, facet 사이는 AND")
+    @Test
+    void testSearch_orWithinAndAcrossFacets() {
+        ThemeFacetFilterDTO filter = new ThemeFacetFilterDTO();
+        filter.setGenres(List.of("공포", "추리"));
+        filter.setLevels(List.of("3"));
+        filter.setHeadcounts(List.of("4"));
+
+        assertThat(themeFacetIndex.search(filter).getThemeCodes()).containsExactly(1, 3);
+    }
+
+    @DisplayName("facet 개수는 자기 facet 선택을 제외한 조건으로 계산")
+    @Test
+    void testSearch_disjunctiveCounts() {
+        ThemeFacetFilterDTO filter = new ThemeFacetFilterDTO();
+        filter.setLevels(List.of("3"));
+        filter.setStores(List.of("200"));
+
+        ThemeFacetIndex.FacetResult result = themeFacetIndex.search(filter);
+
+        assertThat(result.getThemeCodes()).containsExactly(3);
+        // 난이도 facet 은 업체 조건(홍대점)만 적용: 3 -> 1개, 4 -> 1개
+        assertThat(result.getFacets().get(ThemeFacetIndex.LEVEL))
+                .extracting(FacetCountDTO::getValue, FacetCountDTO::getCount)
+                .containsExactly(tuple("3", 1), tuple("4", 1));
+        // 업체 facet 은 난이도 조건(3)만 적용: 강남점 1개, 홍대점 1개
+        assertThat(result.getFacets().get(ThemeFacetIndex.STORE))
+                .extracting(FacetCountDTO::getLabel, FacetCountDTO::getCount)
+                .containsExactly(tuple("강남점", 1), tuple("홍대점", 1));
+    }
+
+    @DisplayName("가격/제한 시간 구간과 검색어 조건")
+    @Test
+    void testSearch_bucketsAndContent() {
+        when(themeNameIndex.search("홍대")).thenReturn(new int[]{2, 3});
+
+        ThemeFacetFilterDTO filter = new ThemeFacetFilterDTO();
+        filter.setPrices(List.of("25000-30000", "30000-"));
+        filter.setTimeLimits(List.of("90-"));
+        filter.setContent("홍대");
+
+        assertThat(themeFacetIndex.search(filter).getThemeCodes()).containsExactly(3);
+    }
+
+    @DisplayName("무효화 후 다음 조회에서 다시 로딩")
+    @Test
+    void testInvalidate() {
+        themeFacetIndex.invalidate();
+        themeFacetIndex.search(new ThemeFacetFilterDTO());
+
+        verify(themeRepository, times(2)).findAllActiveThemes();
+    }
+
+    private Store store(int storeCode) {
+        Store store = new Store();
+        store.setStoreCode(storeCode);
+        return store;
+    }
+
+    private Genre genre(int genreCode, String name) {
+        Genre genre = new Genre();
+        genre.setGenreCode(genreCode);
+        genre.setName(name);
+        return genre;
+    }
+
+    private Theme theme(int themeCode, int level, int price, int timeLimit, String headcount, Store store) {
+        Theme theme = new Theme();
+        theme.setThemeCode(themeCode);
+        theme.setLevel(level);
+        theme.setPrice(price);
+        theme.setTimeLimit(timeLimit);
+        theme.setHeadcount(headcount);
+        theme.setActive(true);
+        theme.setStore(store);
+        return theme;
+    }
+
+    private StoreDTO storeDTO(int storeCode, String name) {
+        StoreDTO store = new StoreDTO();
+        store.setStoreCode(storeCode);
+        store.setName(name);
+        return store;
+    }
+}
@@ -0,0 +1,83 @@
+package com.swcamp9th.bangflixbackend.unit.domain.theme;
+
+import com.swcamp9th.bangflixbackend.domain.store.entity.Store;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeFacetIndex;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeIndexListener;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeNameIndex;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ThemeIndexListenerTests {
+
+    @Mock
+    private ObjectProvider<ThemeNameIndex> themeNameIndexProvider;
+    @Mock
+    private ObjectProvider<ThemeFacetIndex> themeFacetIndexProvider;
+    @Mock
+    private ObjectProvider<ThemeStatsService> themeStatsServiceProvider;
+    @Mock
+    private ThemeNameIndex themeNameIndex;
+    @Mock
+    private ThemeFacetIndex themeFacetIndex;
+    @Mock
+    private ThemeStatsService themeStatsService;
+
+    private ThemeIndexListener themeIndexListener;
+
+    @BeforeEach
+    void setUp() {
+        themeIndexListener = new ThemeIndexListener(themeNameIndexProvider, themeFacetIndexProvider, themeStatsServiceProvider);
+        when(themeNameIndexProvider.getObject()).thenReturn(themeNameIndex);
+        when(themeFacetIndexProvider.getObject()).thenReturn(themeFacetIndex);
+    }
+
+    @Test
+    @DisplayName("onPersist: 새 테마는 카운트 정렬 조회에 포함되도록 0 카운터 행을 만들고 색인에 반영")
+    void testOnPersist_newTheme() {
+        // given
+        when(themeStatsServiceProvider.getObject()).thenReturn(themeStatsService);
+
+        // when
+        themeIndexListener.onPersist(theme());
+
+        // then
+        verify(themeStatsService, times(1)).createThemeStats(7);
+        verify(themeNameIndex, times(1)).upsert(7, true, "새 테마", 100, "강남점");
+        verify(themeFacetIndex, times(1)).invalidate();
+    }
+
+    @Test
+    @DisplayName("onSave: 테마 수정은 색인에만 반영하고 카운터 행은 건드리지 않음")
+    void testOnSave_updatedTheme() {
+        // when
+        themeIndexListener.onSave(theme());
+
+        // then
+        verify(themeStatsService, never()).createThemeStats(anyInt());
+        verify(themeNameIndex, times(1)).upsert(7, true, "새 테마", 100, "강남점");
+    }
+
+    private Theme theme() {
+        Store store = new Store();
+        store.setStoreCode(100);
+        store.setName("강남점");
+
+        Theme theme = new Theme();
+        theme.setThemeCode(7);
+        theme.setName("새 테마");
+        theme.setActive(true);
+        theme.setStore(store);
+        return theme;
+    }
+}
@@ -0,0 +1,120 @@
+package com.swcamp9th.bangflixbackend.unit.domain.theme;
+
+import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
+import com.swcamp9th.bangflixbackend.domain.store.entity.Store;
+import com.swcamp9th.bangflixbackend.domain.store.service.StoreService;
+import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeRepository;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeNameIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ThemeNameIndexTests {
+
+    @Mock
+    private ThemeRepository themeRepository;
+    @Mock
+    private StoreService storeService;
+
+    @InjectMocks
+    private ThemeNameIndex themeNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        Store gangnam = new Store();
+        gangnam.setStoreCode(100);
+
+        Store hongdae = new Store();
+        hongdae.setStoreCode(200);
+
+        // 업체 이름은 업체 캐시에서 조회
+        when(storeService.findStores(List.of(100, 200))).thenReturn(Map.of(
+                100, storeDTO(100, "키이스케이프 강남점"),
+                200, storeDTO(200, "제로월드 홍대점")
+        ));
+        when(themeRepository.findAllActiveThemes()).thenReturn(List.of(
+                theme(1, "그림자 없는 상자", gangnam),
+                theme(2, "Wish", hongdae),
+                theme(3, "사라진 상자의 비밀", hongdae)
+        ));
+        themeNameIndex.reload();
+    }
+
+    @DisplayName("테마 이름 부분 일치 검색")
+    @Test
+    void testSearch_themeName() {
+        assertThat(themeNameIndex.search("상자")).containsExactly(1, 3);
+        assertThat(themeNameIndex.search("상자의 비밀")).containsExactly(3);
+    }
+
+    @DisplayName("업체 이름 검색 및 대소문자/공백 무시")
+    @Test
+    void testSearch_storeNameAndNormalize() {
+        assertThat(themeNameIndex.search("홍대")).containsExactly(2, 3);
+        assertThat(themeNameIndex.search("WISH")).containsExactly(2);
+        assertThat(themeNameIndex.search("강남 점")).containsExactly(1);
+    }
+
+    @DisplayName("n-gram 은 모두 포함하지만 연속된 문자열이 아니면 제외")
+    @Test
+    void testSearch_gramsNotContiguous() {
+        // "그림자" 와 "상자" 의 n-gram 은 테마 1 에 모두 있지만 "그림자상자" 는 포함되지 않음
+        assertThat(themeNameIndex.search("그림자상자")).isEmpty();
+    }
+
+    @DisplayName("테마 변경/비활성화 증분 반영")
+    @Test
+    void testUpsert() {
+        themeNameIndex.upsert(2, true, "Wish 2", 200, "제로월드 홍대점");
+        themeNameIndex.upsert(4, true, "새로운 상자", 100, "키이스케이프 강남점");
+        themeNameIndex.upsert(1, false, "그림자 없는 상자", 100, "키이스케이프 강남점");
+
+        assertThat(themeNameIndex.search("wish2")).containsExactly(2);
+        assertThat(themeNameIndex.search("상자")).containsExactly(3, 4);
+    }
+
+    @DisplayName("업체 이름 변경 반영")
+    @Test
+    void testUpdateStoreName() {
+        themeNameIndex.updateStoreName(200, "제로월드 신촌점");
+
+        assertThat(themeNameIndex.search("홍대")).isEmpty();
+        assertThat(themeNameIndex.search("신촌")).containsExactly(2, 3);
+    }
+
+    @DisplayName("한 글자 검색어도 그 글자를 포함한 테마를 모두 반환")
+    @Test
+    void testSearch_singleCharacter() {
+        assertThat(themeNameIndex.search("상")).containsExactly(1, 3);
+        assertThat(themeNameIndex.search(" 홍 ")).containsExactly(2, 3);
+        assertThat(themeNameIndex.search(" ")).isEmpty();
+    }
+
+    private Theme theme(int themeCode, String name, Store store) {
+        Theme theme = new Theme();
+        theme.setThemeCode(themeCode);
+        theme.setName(name);
+        theme.setActive(true);
+        theme.setStore(store);
+        return theme;
+    }
+
+    private StoreDTO storeDTO(int storeCode, String name) {
+        StoreDTO store = new StoreDTO();
+        store.setStoreCode(storeCode);
+        store.setName(name);
+        return store;
+    }
+}
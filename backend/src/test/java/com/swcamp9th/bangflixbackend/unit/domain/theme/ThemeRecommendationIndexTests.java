@@ -0,0 +1,68 @@
+package com.swcamp9th.bangflixbackend.unit.domain.theme;
+
+import com.swcamp9th.bangflixbackend.domain.theme.dto.MemberThemeDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeRepository;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeRecommendationIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ThemeRecommendationIndexTests {
+
+    @Mock
+    private ThemeRepository themeRepository;
+
+    @InjectMocks
+    private ThemeRecommendationIndex themeRecommendationIndex;
+
+    @BeforeEach
+    void setUp() {
+        // 회원 1: 1, 2, 3 / 회원 2: 1, 2 / 회원 3: 2, 4 (리뷰) / 회원 4: 5
+        when(themeRepository.findMemberThemesFromReactions()).thenReturn(List.of(
+                new MemberThemeDTO(1, 1),
+                new MemberThemeDTO(1, 2),
+                new MemberThemeDTO(1, 3),
+                new MemberThemeDTO(2, 1),
+                new MemberThemeDTO(2, 2),
+                new MemberThemeDTO(3, 2),
+                new MemberThemeDTO(4, 5)
+        ));
+        when(themeRepository.findMemberThemesFromReviews(4)).thenReturn(List.of(
+                new MemberThemeDTO(1, 2),
+                new MemberThemeDTO(3, 4)
+        ));
+        themeRecommendationIndex.rebuild();
+    }
+
+    @DisplayName("함께 반응한 회원이 많은 테마 순으로 추천")
+    @Test
+    void testRecommend_singleTheme() {
+        // 1 과 함께 반응: 2 (2명), 3 (1명)
+        assertThat(themeRecommendationIndex.recommend(List.of(1), 5)).containsExactly(2, 3);
+    }
+
+    @DisplayName("여러 테마의 이웃을 유사도 합으로 병합하고 요청 테마는 제외")
+    @Test
+    void testRecommend_mergeNeighbors() {
+        assertThat(themeRecommendationIndex.recommend(List.of(1, 4), 5)).containsExactly(2, 3);
+        assertThat(themeRecommendationIndex.recommend(List.of(1, 4), 1)).containsExactly(2);
+    }
+
+    @DisplayName("함께 반응한 이력이 없거나 모르는 테마는 빈 결과")
+    @Test
+    void testRecommend_noNeighbors() {
+        assertThat(themeRecommendationIndex.recommend(List.of(5), 5)).isEmpty();
+        assertThat(themeRecommendationIndex.recommend(List.of(99), 5)).isEmpty();
+        assertThat(themeRecommendationIndex.recommend(null, 5)).isEmpty();
+    }
+}
@@ -1,23 +1,35 @@
 package com.swcamp9th.bangflixbackend.unit.domain.theme;
 
-
 import com.swcamp9th.bangflixbackend.domain.store.dto.StoreDTO;
 import com.swcamp9th.bangflixbackend.domain.store.entity.Store;
 import com.swcamp9th.bangflixbackend.domain.store.service.StoreService;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.FacetCountDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.FindThemeByReactionDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.GenreDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeCountDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeCursor;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeCursorPageDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeFacetFilterDTO;
+import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeFacetSearchDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.dto.ThemeReactionDTO;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.Genre;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.ReactionType;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.Theme;
 import com.swcamp9th.bangflixbackend.domain.theme.entity.ThemeReaction;
+import com.swcamp9th.bangflixbackend.shared.error.exception.InvalidCursorException;
 import com.swcamp9th.bangflixbackend.domain.theme.exception.ThemeNotFoundException;
 import com.swcamp9th.bangflixbackend.domain.theme.exception.UnexpectedReactionTypeException;
 import com.swcamp9th.bangflixbackend.domain.theme.repository.GenreRepository;
 import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeReactionRepository;
 import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeRepository;
+import com.swcamp9th.bangflixbackend.domain.theme.service.MemberReactionCache;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeFacetIndex;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeNameIndex;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeRecommendationIndex;
 import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeServiceImpl;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeStatsService;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeTrendingEngine;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,27 +39,25 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
-
 @ExtendWith(MockitoExtension.class)
 class ThemeServiceImplTests {
 
-    @Mock
-    private ModelMapper modelMapper;
     @Mock
     private StoreService storeService; // StoreServiceImpl → StoreService 인터페이스 사용
     @Mock
@@ -56,12 +66,23 @@ class ThemeServiceImplTests {
     private ThemeRepository themeRepository;
     @Mock
     private ThemeReactionRepository themeReactionRepository;
+    @Mock
+    private ThemeStatsService themeStatsService;
+    @Mock
+    private ThemeNameIndex themeNameIndex;
+    @Mock
+    private ThemeFacetIndex themeFacetIndex;
+    @Mock
+    private MemberReactionCache memberReactionCache;
+    @Mock
+    private ThemeTrendingEngine themeTrendingEngine;
+    @Mock
+    private ThemeRecommendationIndex themeRecommendationIndex;
 
     @InjectMocks
     private ThemeServiceImpl themeService;
 
     private Theme theme;
-    private ThemeDTO themeDTO;
     private Store store;
     private StoreDTO storeDTO;
     private ThemeReaction themeReaction;
@@ -74,26 +95,20 @@ class ThemeServiceImplTests {
         store.setStoreCode(100);
         store.setName("Test Store");
 
-        // 샘플 StoreDTO (ModelMapper 매핑 시 사용)
+        // 샘플 StoreDTO (업체 캐시 조회 결과)
         storeDTO = new StoreDTO();
         storeDTO.setStoreCode(100);
         storeDTO.setName("Test Store");
 
+        // 업체 정보는 업체 캐시(StoreService)에서 한 번에 조회
+        lenient().when(storeService.findStores(anyCollection())).thenReturn(Map.of(100, storeDTO));
+
         // 샘플 Theme
         theme = new Theme();
         theme.setThemeCode(1);
+        theme.setName("Test Theme");
         theme.setStore(store);
 
-        // 샘플 ThemeDTO (ModelMapper 매핑 시 사용)
-        themeDTO = new ThemeDTO();
-        themeDTO.setStoreCode(store.getStoreCode());
-        themeDTO.setStoreName(store.getName());
-        themeDTO.setLikeCount(0);
-        themeDTO.setScrapCount(0);
-        themeDTO.setReviewCount(0);
-        themeDTO.setIsLike(false);
-        themeDTO.setIsScrap(false);
-
         // 샘플 ThemeReaction 및 DTO
         themeReaction = new ThemeReaction();
         themeReaction.setTheme(theme);
@@ -109,16 +124,16 @@ class ThemeServiceImplTests {
     void testFindTheme_validThemeDTOByThemeCodeCode() {
         // given
         when(themeRepository.findById(1)).thenReturn(Optional.of(theme));
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(themeRepository.countLikesByThemeCode(1)).thenReturn(10);
-        when(themeRepository.countScrapsByThemeCode(1)).thenReturn(5);
-        when(themeRepository.countReviewsByThemeCode(1)).thenReturn(3);
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 10L, 5L, 3L)));
 
         // when
         ThemeDTO result = themeService.findThemeDTOByThemeCode(1);
 
         // then
         assertThat(result).isNotNull();
+        assertThat(result.getThemeCode()).isEqualTo(1);
+        assertThat(result.getName()).isEqualTo("Test Theme");
         assertThat(result.getStoreCode()).isEqualTo(100);
         assertThat(result.getStoreName()).isEqualTo("Test Store");
         assertThat(result.getLikeCount()).isEqualTo(10);
@@ -143,12 +158,10 @@ class ThemeServiceImplTests {
         // given
         int memberCode = 999;
         when(themeRepository.findById(1)).thenReturn(Optional.of(theme));
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(themeRepository.countLikesByThemeCode(1)).thenReturn(7);
-        when(themeRepository.countScrapsByThemeCode(1)).thenReturn(2);
-        when(themeRepository.countReviewsByThemeCode(1)).thenReturn(4);
-        when(themeReactionRepository.findReactionByThemeCodeAndMemberCode(1, memberCode))
-                .thenReturn(Optional.empty());
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 7L, 2L, 4L)));
+        when(memberReactionCache.get(memberCode))
+                .thenReturn(MemberReactionCache.ReactionBits.of(List.of()));
 
         // when
         ThemeDTO result = themeService.findThemeDTOByThemeCode(1, memberCode);
@@ -167,19 +180,18 @@ class ThemeServiceImplTests {
         // given
         int memberCode = 999;
         themeReaction.setReaction(ReactionType.SCRAPLIKE);
+        themeReaction.setThemeCode(1);
         when(themeRepository.findById(1)).thenReturn(Optional.of(theme));
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(themeRepository.countLikesByThemeCode(1)).thenReturn(7);
-        when(themeRepository.countScrapsByThemeCode(1)).thenReturn(2);
-        when(themeRepository.countReviewsByThemeCode(1)).thenReturn(4);
-        when(themeReactionRepository.findReactionByThemeCodeAndMemberCode(1, memberCode))
-                .thenReturn(Optional.of(themeReaction));
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 7L, 2L, 4L)));
+        when(memberReactionCache.get(memberCode))
+                .thenReturn(MemberReactionCache.ReactionBits.of(List.of(themeReaction)));
 
         // when
         ThemeDTO result = themeService.findThemeDTOByThemeCode(1, memberCode);
 
         // then
-        // SCRAPLIKE 인 경우 isLike, isScrap이 true여야 함 (ReactionMapper의 적용에 의존)
+        // SCRAPLIKE 인 경우 isLike, isScrap이 true여야 함 (회원 반응 캐시 기준)
         assertThat(result.getIsLike()).isTrue();
         assertThat(result.getIsScrap()).isTrue();
     }
@@ -191,11 +203,8 @@ class ThemeServiceImplTests {
         Genre genre = new Genre();
         genre.setName("Comedy");
         List<Genre> genres = List.of(genre);
-        GenreDTO genreDTO = new GenreDTO();
-        genreDTO.setName("Comedy");
 
         when(genreRepository.findAll(Sort.by(Sort.Direction.ASC, "name"))).thenReturn(genres);
-        when(modelMapper.map(genre, GenreDTO.class)).thenReturn(genreDTO);
 
         // when
         List<GenreDTO> result = themeService.findGenres();
@@ -220,31 +229,21 @@ class ThemeServiceImplTests {
         theme2.setThemeCode(2);
         theme2.setStore(store);
 
-        ThemeDTO themeDTO2 = new ThemeDTO();
-        themeDTO2.setStoreCode(store.getStoreCode());
-        themeDTO2.setStoreName(store.getName());
-        themeDTO2.setLikeCount(20);
-        themeDTO2.setScrapCount(3);
-        themeDTO2.setReviewCount(5);
-
-        List<Theme> themeList = List.of(theme, theme2);
-        when(themeRepository.findThemesBy(genres, search, pageable)).thenReturn(themeList);
-
-        // 각 Theme에 대한 매핑
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(modelMapper.map(theme2, ThemeDTO.class)).thenReturn(themeDTO2);
+        // DB 에서 좋아요 수 내림차순으로 정렬된 결과
+        List<Object[]> themeList = List.of(new Object[]{theme2, 20L}, new Object[]{theme, 7L});
+        when(themeNameIndex.search(search)).thenReturn(new int[]{1, 2});
+        when(themeRepository.findThemesOrderByLikes(genres, List.of(1, 2), null, null, null, pageable)).thenReturn(themeList);
 
         // count 값 stubbing
-        when(themeRepository.countLikesByThemeCode(theme.getThemeCode())).thenReturn(7);
-        when(themeRepository.countScrapsByThemeCode(theme.getThemeCode())).thenReturn(2);
-        when(themeRepository.countReviewsByThemeCode(theme.getThemeCode())).thenReturn(4);
-        when(themeRepository.countLikesByThemeCode(theme2.getThemeCode())).thenReturn(20);
-        when(themeRepository.countScrapsByThemeCode(theme2.getThemeCode())).thenReturn(3);
-        when(themeRepository.countReviewsByThemeCode(theme2.getThemeCode())).thenReturn(5);
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(2, 1)))
+                .thenReturn(List.of(
+                        new ThemeCountDTO(1, 7L, 2L, 4L),
+                        new ThemeCountDTO(2, 20L, 3L, 5L)
+                ));
 
         // reaction 조회 (없음)
-        when(themeReactionRepository.findReactionByThemeCodeAndMemberCode(anyInt(), eq(memberCode)))
-                .thenReturn(Optional.empty());
+        when(memberReactionCache.get(memberCode))
+                .thenReturn(MemberReactionCache.ReactionBits.of(List.of()));
 
         // when
         List<ThemeDTO> result = themeService.findThemeByGenresAndSearchOrderBySort(
@@ -264,12 +263,10 @@ class ThemeServiceImplTests {
         List<String> genres = List.of("Action");
         String search = null; // null search 분기
 
-        List<Theme> themeList = List.of(theme);
-        when(themeRepository.findThemesBy(genres, search, pageable)).thenReturn(themeList);
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(themeRepository.countLikesByThemeCode(theme.getThemeCode())).thenReturn(5);
-        when(themeRepository.countScrapsByThemeCode(theme.getThemeCode())).thenReturn(3);
-        when(themeRepository.countReviewsByThemeCode(theme.getThemeCode())).thenReturn(2);
+        List<Object[]> themeList = List.<Object[]>of(new Object[]{theme, 3L});
+        when(themeRepository.findThemesOrderByScraps(genres, null, null, null, null, pageable)).thenReturn(themeList);
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 5L, 3L, 2L)));
 
         // when
         List<ThemeDTO> result = themeService.findThemeByGenresAndSearchOrderBySort(
@@ -280,6 +277,92 @@ class ThemeServiceImplTests {
         assertThat(result.get(0).getScrapCount()).isEqualTo(3);
     }
 
+    @DisplayName("테마 조회 - 검색어와 일치하는 테마 없음")
+    @Test
+    void testFindThemeByGenresAndSearchOrderBySort_noSearchMatch() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(themeNameIndex.search("없는테마")).thenReturn(new int[0]);
+
+        // when
+        List<ThemeDTO> result = themeService.findThemeByGenresAndSearchOrderBySort(
+                pageable, "like", null, "없는테마");
+
+        // then : 색인 결과가 비어 있으면 DB 조회 없이 빈 목록
+        assertThat(result).isEmpty();
+        verifyNoInteractions(themeRepository);
+    }
+
+    @DisplayName("테마 조회 - 한 글자 검색어는 색인 후보 대신 DB LIKE 로 조회")
+    @Test
+    void testFindThemeByGenresAndSearchOrderBySort_singleCharacter() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(themeRepository.findThemesOrderByLikes(null, null, "상", null, null, pageable))
+                .thenReturn(List.<Object[]>of(new Object[]{theme, 7L}));
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 7L, 2L, 4L)));
+
+        // when
+        List<ThemeDTO> result = themeService.findThemeByGenresAndSearchOrderBySort(
+                pageable, "like", null, " 상 ");
+
+        // then
+        assertThat(result).hasSize(1);
+        verifyNoInteractions(themeNameIndex);
+    }
+
+    @DisplayName("테마 조회 - 커서 기반 첫 페이지 (다음 페이지 있음, 커서는 정렬에 사용된 값)")
+    @Test
+    void testFindThemePageByCursor_firstPage() {
+        // given : size + 1 건이 조회되면 다음 페이지가 존재
+        Theme theme2 = new Theme();
+        theme2.setThemeCode(2);
+        theme2.setStore(store);
+        // 정렬 시점의 좋아요 수(8)와 이후 집계한 좋아요 수(7)가 다른 경우
+        when(themeRepository.findThemesOrderByLikes(null, null, null, null, null, PageRequest.of(0, 2)))
+                .thenReturn(List.of(new Object[]{theme, 8L}, new Object[]{theme2, 5L}));
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 7L, 2L, 4L)));
+
+        // when
+        ThemeCursorPageDTO result = themeService.findThemePageByCursor(null, 1, "like", null, null);
+
+        // then
+        assertThat(result.getThemes()).hasSize(1);
+        assertThat(result.getNextCursor()).isNotNull();
+        ThemeCursor cursor = ThemeCursor.decode(result.getNextCursor(), "like");
+        assertThat(cursor.getCountValue()).isEqualTo(8L);
+        assertThat(cursor.getThemeCode()).isEqualTo(1);
+    }
+
+    @DisplayName("테마 조회 - 커서 기반 다음 페이지 (마지막 페이지)")
+    @Test
+    void testFindThemePageByCursor_lastPage() {
+        // given
+        String cursor = new ThemeCursor("like", "7", 1).encode();
+        when(themeRepository.findThemesOrderByLikes(null, null, null, 7L, 1, PageRequest.of(0, 11)))
+                .thenReturn(List.of());
+
+        // when
+        ThemeCursorPageDTO result = themeService.findThemePageByCursor(cursor, 10, "like", null, null);
+
+        // then
+        assertThat(result.getThemes()).isEmpty();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @DisplayName("테마 조회 - 정렬 기준이 다른 커서")
+    @Test
+    void testFindThemePageByCursor_sortMismatchThrowsException() {
+        // given
+        String cursor = new ThemeCursor("like", "7", 1).encode();
+
+        // when & then
+        assertThatThrownBy(() -> themeService.findThemePageByCursor(cursor, 10, "scrap", null, null))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
     @DisplayName("업체별 테마 조회 - 회원 코드 포함")
     @Test
     void testFindThemeDTOByThemeCodeByStoreOrderBySort_withMemberCode() {
@@ -294,27 +377,19 @@ class ThemeServiceImplTests {
         theme2.setThemeCode(2);
         theme2.setStore(store);
 
-        ThemeDTO themeDTO2 = new ThemeDTO();
-        themeDTO2.setStoreCode(store.getStoreCode());
-        themeDTO2.setStoreName(store.getName());
-        themeDTO2.setReviewCount(15);
-
         List<Theme> themeList = List.of(theme, theme2);
         when(themeRepository.findThemeListByStoreCode(storeCode, pageable)).thenReturn(themeList);
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(modelMapper.map(theme2, ThemeDTO.class)).thenReturn(themeDTO2);
 
         // count stubbing
-        when(themeRepository.countLikesByThemeCode(theme.getThemeCode())).thenReturn(5);
-        when(themeRepository.countScrapsByThemeCode(theme.getThemeCode())).thenReturn(2);
-        when(themeRepository.countReviewsByThemeCode(theme.getThemeCode())).thenReturn(3);
-        when(themeRepository.countLikesByThemeCode(theme2.getThemeCode())).thenReturn(10);
-        when(themeRepository.countScrapsByThemeCode(theme2.getThemeCode())).thenReturn(4);
-        when(themeRepository.countReviewsByThemeCode(theme2.getThemeCode())).thenReturn(15);
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1, 2)))
+                .thenReturn(List.of(
+                        new ThemeCountDTO(1, 5L, 2L, 3L),
+                        new ThemeCountDTO(2, 10L, 4L, 15L)
+                ));
 
         // reaction 조회 (없음)
-        when(themeReactionRepository.findReactionByThemeCodeAndMemberCode(anyInt(), eq(memberCode)))
-                .thenReturn(Optional.empty());
+        when(memberReactionCache.get(memberCode))
+                .thenReturn(MemberReactionCache.ReactionBits.of(List.of()));
 
         // when
         List<ThemeDTO> result = themeService.findThemeDTOListByStoreCode(
@@ -335,10 +410,8 @@ class ThemeServiceImplTests {
 
         List<Theme> themeList = List.of(theme);
         when(themeRepository.findThemeListByStoreCode(storeCode, pageable)).thenReturn(themeList);
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(themeRepository.countLikesByThemeCode(theme.getThemeCode())).thenReturn(5);
-        when(themeRepository.countScrapsByThemeCode(theme.getThemeCode())).thenReturn(2);
-        when(themeRepository.countReviewsByThemeCode(theme.getThemeCode())).thenReturn(3);
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 5L, 2L, 3L)));
 
         // when
         List<ThemeDTO> result = themeService.findThemeDTOListByStoreCode(
@@ -362,8 +435,11 @@ class ThemeServiceImplTests {
         // when
         themeService.createThemeReaction(dummyMember, themeReactionDTO);
 
-        // then : 새 ThemeReaction이 저장되어야 함
+        // then : 새 ThemeReaction이 저장되고 좋아요 카운터가 증가해야 함
         verify(themeReactionRepository, times(1)).save(any(ThemeReaction.class));
+        verify(themeStatsService, times(1)).applyReactionChange(1, null, ReactionType.LIKE);
+        verify(memberReactionCache, times(1)).update(999, 1, ReactionType.LIKE);
+        verify(themeTrendingEngine, times(1)).recordReaction(eq(1), any(LocalDateTime.class), eq(1));
     }
 
     @DisplayName("테마 반응 생성 - 반응 업데이트")
@@ -387,6 +463,8 @@ class ThemeServiceImplTests {
         verify(themeReactionRepository).save(captor.capture());
         ThemeReaction savedReaction = captor.getValue();
         assertThat(savedReaction.getReaction()).isEqualTo(ReactionType.SCRAPLIKE);
+        verify(themeStatsService, times(1)).applyReactionChange(1, ReactionType.SCRAP, ReactionType.SCRAPLIKE);
+        verify(memberReactionCache, times(1)).update(999, 1, ReactionType.SCRAPLIKE);
     }
 
     @DisplayName("테마 반응 생성 - 반응 업데이트 (좋아요 -> 좋아요 취소)")
@@ -404,6 +482,9 @@ class ThemeServiceImplTests {
 
         // then : delete 호출 확인
         verify(themeReactionRepository, times(1)).delete(themeReaction);
+        verify(themeStatsService, times(1)).applyReactionChange(1, ReactionType.LIKE, null);
+        verify(memberReactionCache, times(1)).update(memberCode, 1, null);
+        verify(themeTrendingEngine, times(1)).recordReaction(1, null, -1);
     }
 
     @DisplayName("테마 반응 취소 - 반응 업데이트 (스크랩 -> 좋아요)")
@@ -424,6 +505,8 @@ class ThemeServiceImplTests {
         verify(themeReactionRepository).save(captor.capture());
         ThemeReaction updated = captor.getValue();
         assertThat(updated.getReaction()).isEqualTo(ReactionType.SCRAP);
+        verify(themeStatsService, times(1)).applyReactionChange(1, ReactionType.SCRAPLIKE, ReactionType.SCRAP);
+        verify(memberReactionCache, times(1)).update(memberCode, 1, ReactionType.SCRAP);
     }
 
     @DisplayName("잘못된 요청 - 반응 업데이트")
@@ -444,6 +527,48 @@ class ThemeServiceImplTests {
                 .isInstanceOf(UnexpectedReactionTypeException.class);
     }
 
+    @DisplayName("facet 검색 - 색인 결과 테마 코드로 정렬 조회 및 facet 개수 반환")
+    @Test
+    void testFindThemeByFacets() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        ThemeFacetFilterDTO filter = new ThemeFacetFilterDTO();
+        filter.setLevels(List.of("3"));
+        Map<String, List<FacetCountDTO>> facets = Map.of(
+                ThemeFacetIndex.LEVEL, List.of(new FacetCountDTO("3", "3", 1)));
+        when(themeFacetIndex.search(filter))
+                .thenReturn(new ThemeFacetIndex.FacetResult(new int[]{1}, facets));
+        when(themeRepository.findThemesOrderByLikes(null, List.of(1), null, null, null, pageable))
+                .thenReturn(List.<Object[]>of(new Object[]{theme, 10L}));
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 10L, 5L, 3L)));
+
+        // when
+        ThemeFacetSearchDTO result = themeService.findThemeByFacets(pageable, "like", filter);
+
+        // then
+        assertThat(result.getThemes()).hasSize(1);
+        assertThat(result.getTotalCount()).isEqualTo(1);
+        assertThat(result.getFacets()).isEqualTo(facets);
+    }
+
+    @DisplayName("facet 검색 - 조건에 맞는 테마가 없으면 DB 조회 생략")
+    @Test
+    void testFindThemeByFacets_noMatch() {
+        // given
+        ThemeFacetFilterDTO filter = new ThemeFacetFilterDTO();
+        when(themeFacetIndex.search(filter))
+                .thenReturn(new ThemeFacetIndex.FacetResult(new int[0], Map.of()));
+
+        // when
+        ThemeFacetSearchDTO result = themeService.findThemeByFacets(PageRequest.of(0, 10), "like", filter);
+
+        // then
+        assertThat(result.getThemes()).isEmpty();
+        assertThat(result.getTotalCount()).isZero();
+        verifyNoInteractions(themeRepository);
+    }
+
     @DisplayName("사용자 반응으로 테마 조회 - 좋아요")
     @Test
     void testFindThemeDTOByThemeCodeByMemberReaction_like() {
@@ -453,23 +578,17 @@ class ThemeServiceImplTests {
         when(themeReactionRepository.findLikeReactionsByMemberCode(pageable, memberCode))
                 .thenReturn(List.of(themeReaction));
 
-        // store lookup
-        when(storeService.findStore(theme.getThemeCode())).thenReturn(storeDTO);
-
-        FindThemeByReactionDTO reactionDTO = new FindThemeByReactionDTO();
-        reactionDTO.setStoreCode(storeDTO.getStoreCode());
-        reactionDTO.setStoreName(storeDTO.getName());
-        reactionDTO.setIsLike(true);
-        reactionDTO.setIsScrap(true);
-        when(modelMapper.map(theme, FindThemeByReactionDTO.class)).thenReturn(reactionDTO);
-
         // when
         List<FindThemeByReactionDTO> result = themeService.findThemeByMemberReaction(
                 pageable, memberCode, "like");
 
-        // then
+        // then : 업체 정보는 업체 캐시에서 한 번에 조회
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getStoreCode()).isEqualTo(100);
+        assertThat(result.get(0).getStoreName()).isEqualTo("Test Store");
+        assertThat(result.get(0).getIsLike()).isTrue();
+        assertThat(result.get(0).getIsScrap()).isFalse();
+        verify(storeService).findStores(List.of(100));
     }
 
     @DisplayName("사용자 반응으로 테마 조회 실패 - 잘못된 요청")
@@ -489,17 +608,12 @@ class ThemeServiceImplTests {
     void testFindThemeDTOByThemeCodeByWeek_withMemberCode() {
         // given
         int memberCode = 999;
-        Pageable pageable = PageRequest.of(0, 5);
-        List<Theme> themeList = List.of(theme);
-        when(themeRepository.findByWeekOrderByLikes(any(LocalDateTime.class), eq(pageable)))
-                .thenReturn(themeList);
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(themeRepository.countLikesByThemeCode(theme.getThemeCode())).thenReturn(5);
-        when(themeRepository.countScrapsByThemeCode(theme.getThemeCode())).thenReturn(2);
-        when(themeRepository.countReviewsByThemeCode(theme.getThemeCode())).thenReturn(3);
-        when(themeReactionRepository.findReactionByThemeCodeAndMemberCode(
-                theme.getThemeCode(), memberCode))
-                .thenReturn(Optional.empty());
+        when(themeTrendingEngine.top(ThemeTrendingEngine.Window.WEEK, 5)).thenReturn(List.of(1));
+        when(themeRepository.findByThemeCodes(List.of(1))).thenReturn(List.of(theme));
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 5L, 2L, 3L)));
+        when(memberReactionCache.get(memberCode))
+                .thenReturn(MemberReactionCache.ReactionBits.of(List.of()));
 
         // when
         List<ThemeDTO> result = themeService.findThemeByWeek(memberCode);
@@ -512,14 +626,10 @@ class ThemeServiceImplTests {
     @Test
     void testFindThemeDTOByThemeCodeByWeek_withoutMemberCode() {
         // given
-        Pageable pageable = PageRequest.of(0, 5);
-        List<Theme> themeList = List.of(theme);
-        when(themeRepository.findByWeekOrderByLikes(any(LocalDateTime.class), eq(pageable)))
-                .thenReturn(themeList);
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(themeRepository.countLikesByThemeCode(theme.getThemeCode())).thenReturn(5);
-        when(themeRepository.countScrapsByThemeCode(theme.getThemeCode())).thenReturn(2);
-        when(themeRepository.countReviewsByThemeCode(theme.getThemeCode())).thenReturn(3);
+        when(themeTrendingEngine.top(ThemeTrendingEngine.Window.WEEK, 5)).thenReturn(List.of(1));
+        when(themeRepository.findByThemeCodes(List.of(1))).thenReturn(List.of(theme));
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 5L, 2L, 3L)));
 
         // when
         List<ThemeDTO> result = themeService.findThemeByWeek();
@@ -528,18 +638,39 @@ class ThemeServiceImplTests {
         assertThat(result).hasSize(1);
     }
 
+    @DisplayName("기간별 인기 테마 조회 - 집계 순위 유지 및 비활성 테마 제외")
+    @Test
+    void testFindTrendingThemes() {
+        // given : 순위는 2, 1, 3 이지만 3번 테마는 비활성이라 조회되지 않음
+        Theme secondTheme = new Theme();
+        secondTheme.setThemeCode(2);
+        secondTheme.setStore(store);
+        when(themeTrendingEngine.top(ThemeTrendingEngine.Window.DAY, 3)).thenReturn(List.of(2, 1, 3));
+        when(themeRepository.findByThemeCodes(List.of(2, 1, 3))).thenReturn(List.of(theme, secondTheme));
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(2, 1)))
+                .thenReturn(List.of(
+                        new ThemeCountDTO(1, 5L, 2L, 3L),
+                        new ThemeCountDTO(2, 9L, 1L, 0L)
+                ));
+
+        // when
+        List<ThemeDTO> result = themeService.findTrendingThemes("24h", 3);
+
+        // then
+        assertThat(result).extracting(ThemeDTO::getThemeCode).containsExactly(2, 1);
+    }
+
     @DisplayName("테마 추천 - 요청 테마 코드 없음")
     @Test
     void testRecommendTheme_withNullThemeCodes() {
         // given
         Pageable pageable = PageRequest.of(0, 5);
-        List<Theme> themeList = List.of(theme);
+        List<Object[]> themeList = List.<Object[]>of(new Object[]{theme, 5L});
         // themeCodes가 null이면 genres 인자는 null로 전달됨
-        when(themeRepository.findThemesBy(null, null, pageable)).thenReturn(themeList);
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(themeRepository.countLikesByThemeCode(theme.getThemeCode())).thenReturn(5);
-        when(themeRepository.countScrapsByThemeCode(theme.getThemeCode())).thenReturn(2);
-        when(themeRepository.countReviewsByThemeCode(theme.getThemeCode())).thenReturn(3);
+        when(themeRecommendationIndex.recommend(null, 5)).thenReturn(new int[0]);
+        when(themeRepository.findThemesOrderByLikes(null, null, null, null, null, pageable)).thenReturn(themeList);
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 5L, 2L, 3L)));
 
         // when
         List<ThemeDTO> result = themeService.recommendTheme(null);
@@ -548,12 +679,13 @@ class ThemeServiceImplTests {
         assertThat(result).isNotNull();
     }
 
-    @DisplayName("테마 추천 - 요청 테마 코드 있음")
+    @DisplayName("테마 추천 - 요청 테마 코드 있음, 함께 반응한 이력 없음 (장르 기준 대체)")
     @Test
     void testRecommendTheme_withThemeCodes() {
         // given
         List<Integer> themeCodes = List.of(1, 2, 3);
         Pageable pageable = PageRequest.of(0, 5);
+        when(themeRecommendationIndex.recommend(themeCodes, 5)).thenReturn(new int[0]);
 
         // getGenreNameListByThemeCodeList 내부 로직 stubbing
         when(themeRepository.findGenresByThemeCode(themeCodes))
@@ -562,13 +694,11 @@ class ThemeServiceImplTests {
                 .thenReturn(List.of("Comedy"));
 
         // recommendTheme 내부에서 findThemeByGenresAndSearchOrderBySort 호출: genres는 "Comedy", search는 null
-        List<Theme> themeList = List.of(theme);
-        when(themeRepository.findThemesBy(List.of("Comedy"), null, pageable))
+        List<Object[]> themeList = List.<Object[]>of(new Object[]{theme, 5L});
+        when(themeRepository.findThemesOrderByLikes(List.of("Comedy"), null, null, null, null, pageable))
                 .thenReturn(themeList);
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(themeRepository.countLikesByThemeCode(theme.getThemeCode())).thenReturn(5);
-        when(themeRepository.countScrapsByThemeCode(theme.getThemeCode())).thenReturn(2);
-        when(themeRepository.countReviewsByThemeCode(theme.getThemeCode())).thenReturn(3);
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 5L, 2L, 3L)));
 
         // when
         List<ThemeDTO> result = themeService.recommendTheme(themeCodes);
@@ -577,6 +707,30 @@ class ThemeServiceImplTests {
         assertThat(result).isNotEmpty();
     }
 
+    @DisplayName("테마 추천 - 추천 색인의 이웃 순서대로 반환")
+    @Test
+    void testRecommendTheme_fromRecommendationIndex() {
+        // given
+        List<Integer> themeCodes = List.of(3);
+        Theme secondTheme = new Theme();
+        secondTheme.setThemeCode(2);
+        secondTheme.setStore(store);
+        when(themeRecommendationIndex.recommend(themeCodes, 5)).thenReturn(new int[]{2, 1});
+        when(themeRepository.findByThemeCodes(List.of(2, 1))).thenReturn(List.of(theme, secondTheme));
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(2, 1)))
+                .thenReturn(List.of(
+                        new ThemeCountDTO(1, 5L, 2L, 3L),
+                        new ThemeCountDTO(2, 1L, 0L, 0L)
+                ));
+
+        // when
+        List<ThemeDTO> result = themeService.recommendTheme(themeCodes);
+
+        // then : 장르 기반 검색은 수행하지 않음
+        assertThat(result).extracting(ThemeDTO::getThemeCode).containsExactly(2, 1);
+        verify(themeRepository, never()).findGenresByThemeCode(any());
+    }
+
     @DisplayName("회원 코드로 스크랩한 테마 조회")
     @Test
     void testGetScrapedThemeByMemberCode() {
@@ -587,13 +741,10 @@ class ThemeServiceImplTests {
                 .thenReturn(List.of(themeReaction));
         when(themeRepository.findByThemeCodes(anyList()))
                 .thenReturn(List.of(theme));
-        when(modelMapper.map(theme, ThemeDTO.class)).thenReturn(themeDTO);
-        when(themeRepository.countLikesByThemeCode(theme.getThemeCode())).thenReturn(5);
-        when(themeRepository.countScrapsByThemeCode(theme.getThemeCode())).thenReturn(2);
-        when(themeRepository.countReviewsByThemeCode(theme.getThemeCode())).thenReturn(3);
-        when(themeReactionRepository.findReactionByThemeCodeAndMemberCode(
-                theme.getThemeCode(), memberCode))
-                .thenReturn(Optional.empty());
+        when(themeRepository.findThemeCountsByThemeCodes(List.of(1)))
+                .thenReturn(List.of(new ThemeCountDTO(1, 5L, 2L, 3L)));
+        when(memberReactionCache.get(memberCode))
+                .thenReturn(MemberReactionCache.ReactionBits.of(List.of()));
 
         // when
         List<ThemeDTO> result = themeService.getScrapedThemeByMemberCode(memberCode);
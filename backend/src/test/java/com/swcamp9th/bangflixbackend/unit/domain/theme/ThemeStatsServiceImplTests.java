@@ -0,0 +1,121 @@
+package com.swcamp9th.bangflixbackend.unit.domain.theme;
+
+import com.swcamp9th.bangflixbackend.domain.theme.entity.ReactionType;
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeStatsRepository;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeStatsServiceImpl;
+import com.swcamp9th.bangflixbackend.shared.lock.RedisLeaseLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ThemeStatsServiceImplTests {
+
+    @Mock
+    private ThemeStatsRepository themeStatsRepository;
+
+    @Mock
+    private RedisLeaseLock redisLeaseLock;
+    @Mock
+    private RedisLeaseLock.Lease lease;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ThemeStatsServiceImpl themeStatsService;
+
+    @BeforeEach
+    void setUp() {
+        themeStatsService = new ThemeStatsServiceImpl(themeStatsRepository, redisLeaseLock, transactionManager);
+    }
+
+    @DisplayName("반응 변경 - 신규 좋아요")
+    @Test
+    void testApplyReactionChange_newLike() {
+        themeStatsService.applyReactionChange(1, null, ReactionType.LIKE);
+
+        verify(themeStatsRepository).addDelta(1, 1L, 0L, 0L, 0L);
+    }
+
+    @DisplayName("반응 변경 - 스크랩 -> 스크랩+좋아요")
+    @Test
+    void testApplyReactionChange_scrapToScrapLike() {
+        themeStatsService.applyReactionChange(1, ReactionType.SCRAP, ReactionType.SCRAPLIKE);
+
+        verify(themeStatsRepository).addDelta(1, 1L, 0L, 0L, 0L);
+    }
+
+    @DisplayName("반응 변경 - 스크랩+좋아요 -> 좋아요 (스크랩 취소)")
+    @Test
+    void testApplyReactionChange_scrapLikeToLike() {
+        themeStatsService.applyReactionChange(1, ReactionType.SCRAPLIKE, ReactionType.LIKE);
+
+        verify(themeStatsRepository).addDelta(1, 0L, -1L, 0L, 0L);
+    }
+
+    @DisplayName("반응 변경 - 변화 없음")
+    @Test
+    void testApplyReactionChange_noChange() {
+        themeStatsService.applyReactionChange(1, ReactionType.LIKE, ReactionType.LIKE);
+
+        verify(themeStatsRepository, never()).addDelta(anyInt(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @DisplayName("리뷰 등록/삭제 - 리뷰 수와 점수 합계 증감")
+    @Test
+    void testAddAndRemoveReview() {
+        themeStatsService.addReview(1, 80);
+        themeStatsService.removeReview(1, 80);
+
+        verify(themeStatsRepository).addDelta(1, 0L, 0L, 1L, 80L);
+        verify(themeStatsRepository).addDelta(1, 0L, 0L, -1L, -80L);
+    }
+
+    @DisplayName("새 테마 - 0 카운터 행 생성")
+    @Test
+    void testCreateThemeStats() {
+        themeStatsService.createThemeStats(1);
+
+        verify(themeStatsRepository).insertIfAbsent(1);
+    }
+
+    @DisplayName("재집계 - 리스를 잡은 인스턴스에서만 실행")
+    @Test
+    void testRebuildThemeStats() {
+        // given
+        when(redisLeaseLock.tryAcquire("THEME_STATS_REBUILD", Duration.ofMinutes(10))).thenReturn(Optional.of(lease));
+        when(themeStatsRepository.rebuildAll()).thenReturn(3);
+
+        // when
+        int updated = themeStatsService.rebuildThemeStats();
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        verify(lease).release();
+    }
+
+    @DisplayName("재집계 - 다른 인스턴스가 리스를 잡고 있으면 건너뜀")
+    @Test
+    void testRebuildThemeStats_leaseHeldElsewhere() {
+        // given
+        when(redisLeaseLock.tryAcquire("THEME_STATS_REBUILD", Duration.ofMinutes(10))).thenReturn(Optional.empty());
+
+        // when
+        int updated = themeStatsService.rebuildThemeStats();
+
+        // then
+        assertThat(updated).isZero();
+        verify(themeStatsRepository, never()).rebuildAll();
+    }
+}
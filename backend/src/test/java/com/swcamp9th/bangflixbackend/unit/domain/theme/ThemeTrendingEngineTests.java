@@ -0,0 +1,202 @@
+package com.swcamp9th.bangflixbackend.unit.domain.theme;
+
+import com.swcamp9th.bangflixbackend.domain.theme.repository.ThemeReactionRepository;
+import com.swcamp9th.bangflixbackend.domain.theme.service.ThemeTrendingEngine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ThemeTrendingEngineTests {
+
+    private static final ZoneId ZONE = ZoneOffset.UTC;
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 20, 12, 30);
+
+    private static final String REACTION_CHANNEL = "THEME_TRENDING:REACTION";
+
+    @Mock
+    private ThemeReactionRepository themeReactionRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Captor
+    private ArgumentCaptor<MessageListener> listenerCaptor;
+    @Captor
+    private ArgumentCaptor<String> messageCaptor;
+
+    private MutableClock clock;
+    private ThemeTrendingEngine themeTrendingEngine;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW.atZone(ZONE).toInstant());
+        themeTrendingEngine = new ThemeTrendingEngine(
+                themeReactionRepository, redisTemplate, redisMessageListenerContainer, clock);
+    }
+
+    @DisplayName("윈도우별 반응 수 순위 (같으면 테마 코드 역순)")
+    @Test
+    void testTop_windows() {
+        // given
+        themeTrendingEngine.recordReaction(1, NOW.minusHours(1), 1);
+        themeTrendingEngine.recordReaction(2, NOW.minusDays(3), 1);
+        themeTrendingEngine.recordReaction(2, NOW.minusDays(3), 1);
+        themeTrendingEngine.recordReaction(3, NOW.minusDays(20), 1);
+        themeTrendingEngine.recordReaction(3, NOW.minusDays(20), 1);
+        themeTrendingEngine.recordReaction(3, NOW.minusDays(20), 1);
+        themeTrendingEngine.recordReaction(4, NOW, 1);
+
+        // then
+        assertThat(themeTrendingEngine.top(ThemeTrendingEngine.Window.DAY, 10)).containsExactly(4, 1);
+        assertThat(themeTrendingEngine.top(ThemeTrendingEngine.Window.WEEK, 10)).containsExactly(2, 4, 1);
+        assertThat(themeTrendingEngine.top(ThemeTrendingEngine.Window.MONTH, 2)).containsExactly(3, 2);
+    }
+
+    @DisplayName("반응 삭제 시 생성 시각의 버킷에서 차감")
+    @Test
+    void testRecordReaction_delete() {
+        // given
+        themeTrendingEngine.recordReaction(1, NOW.minusHours(2), 1);
+        themeTrendingEngine.recordReaction(2, NOW.minusHours(3), 1);
+
+        // when
+        themeTrendingEngine.recordReaction(1, NOW.minusHours(2), -1);
+
+        // then
+        assertThat(themeTrendingEngine.top(ThemeTrendingEngine.Window.DAY, 10)).containsExactly(2);
+    }
+
+    @DisplayName("시간이 지나면 윈도우를 벗어난 반응 제외")
+    @Test
+    void testTop_slidesWithTime() {
+        // given
+        themeTrendingEngine.recordReaction(1, NOW.minusHours(20), 1);
+        themeTrendingEngine.recordReaction(2, NOW, 1);
+
+        // when : 5시간 경과 -> 1번 테마의 반응은 24시간 밖
+        clock.advance(Duration.ofHours(5));
+
+        // then
+        assertThat(themeTrendingEngine.top(ThemeTrendingEngine.Window.DAY, 10)).containsExactly(2);
+        assertThat(themeTrendingEngine.top(ThemeTrendingEngine.Window.WEEK, 10)).containsExactly(2, 1);
+    }
+
+    @DisplayName("DB 시간별 집계로 재구성")
+    @Test
+    void testReload() {
+        // given
+        when(themeReactionRepository.countReactionsByThemeCodeAndHour(any(LocalDateTime.class)))
+                .thenReturn(List.of(
+                        new Object[]{1, "2024-11-20 11:00:00", 3L},
+                        new Object[]{2, "2024-11-15 09:00:00", 5L}
+                ));
+
+        // when
+        themeTrendingEngine.reload();
+
+        // then
+        assertThat(themeTrendingEngine.top(ThemeTrendingEngine.Window.DAY, 10)).containsExactly(1);
+        assertThat(themeTrendingEngine.top(ThemeTrendingEngine.Window.WEEK, 10)).containsExactly(2, 1);
+    }
+
+    @DisplayName("반응 변경을 다른 인스턴스에 보내고, 받은 인스턴스도 같은 버킷에 반영")
+    @Test
+    void testRecordReaction_publishedToOtherInstances() {
+        // given
+        ThemeTrendingEngine otherEngine = new ThemeTrendingEngine(
+                themeReactionRepository, redisTemplate, redisMessageListenerContainer, clock);
+        verify(redisMessageListenerContainer, times(2)).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+        MessageListener thisListener = listenerCaptor.getAllValues().get(0);
+        MessageListener otherListener = listenerCaptor.getAllValues().get(1);
+
+        // when
+        themeTrendingEngine.recordReaction(1, NOW.minusDays(3), 1);
+        verify(redisTemplate).convertAndSend(eq(REACTION_CHANNEL), messageCaptor.capture());
+        thisListener.onMessage(message(messageCaptor.getValue()), null);
+        otherListener.onMessage(message(messageCaptor.getValue()), null);
+
+        // then
+        // 자기 자신이 보낸 메시지는 두 번 반영하지 않음
+        assertThat(themeTrendingEngine.top(ThemeTrendingEngine.Window.WEEK, 10)).containsExactly(1);
+        assertThat(themeTrendingEngine.top(ThemeTrendingEngine.Window.DAY, 10)).isEmpty();
+        assertThat(otherEngine.top(ThemeTrendingEngine.Window.WEEK, 10)).containsExactly(1);
+        assertThat(otherEngine.top(ThemeTrendingEngine.Window.DAY, 10)).isEmpty();
+    }
+
+    @DisplayName("다른 인스턴스의 반응 삭제 메시지 반영")
+    @Test
+    void testRecordReaction_deleteFromOtherInstance() {
+        // given
+        verify(redisMessageListenerContainer).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+        themeTrendingEngine.recordReaction(1, NOW.minusHours(2), 1);
+        themeTrendingEngine.recordReaction(1, NOW.minusHours(2), 1);
+        themeTrendingEngine.recordReaction(2, NOW.minusHours(3), 1);
+        long hour = NOW.minusHours(2).toEpochSecond(ZoneOffset.UTC) / 3600;
+
+        // when
+        listenerCaptor.getValue().onMessage(message("other-instance:1:" + hour + ":-1"), null);
+        listenerCaptor.getValue().onMessage(message("other-instance:1:" + hour + ":-1"), null);
+
+        // then
+        assertThat(themeTrendingEngine.top(ThemeTrendingEngine.Window.DAY, 10)).containsExactly(2);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                REACTION_CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.swcamp9th.bangflixbackend.unit.domain.user;
+
+import com.swcamp9th.bangflixbackend.domain.user.repository.PointLedgerRepository;
+import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
+import com.swcamp9th.bangflixbackend.domain.user.service.PointLedgerApplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointLedgerApplierTests {
+
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Captor
+    private ArgumentCaptor<Collection<Integer>> memberCodesCaptor;
+
+    private PointLedgerApplier pointLedgerApplier;
+
+    @BeforeEach
+    void setUp() {
+        pointLedgerApplier = new PointLedgerApplier(pointLedgerRepository, userRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("apply: 회원별로 합친 뒤 같은 증감분끼리 한 번에 반영하고 원장 행을 반영됨으로 표시")
+    void testApply() {
+        // given
+        when(pointLedgerRepository.findPendingForUpdate(500)).thenReturn(List.of(
+                new Object[]{1L, 7, 5},
+                new Object[]{2L, 3, 50},
+                new Object[]{3L, 7, 50},
+                new Object[]{4L, 9, 5}
+        ));
+
+        // when
+        pointLedgerApplier.apply();
+
+        // then
+        verify(userRepository, times(1)).addPoint(eq(55), argThat(codes -> codes.size() == 1 && codes.contains(7)));
+        verify(userRepository, times(1)).addPoint(eq(50), argThat(codes -> codes.size() == 1 && codes.contains(3)));
+        verify(userRepository, times(1)).addPoint(eq(5), argThat(codes -> codes.size() == 1 && codes.contains(9)));
+        verify(pointLedgerRepository, times(1)).markApplied(List.of(1L, 2L, 3L, 4L));
+        // 한 묶음보다 적으면 더 읽지 않음
+        verify(pointLedgerRepository, times(1)).findPendingForUpdate(500);
+    }
+
+    @Test
+    @DisplayName("apply: 한 묶음이 가득 차면 남은 원장 행을 이어서 반영")
+    void testApply_multipleBatches() {
+        // given
+        List<Object[]> fullBatch = new ArrayList<>();
+        for (long i = 1; i <= 500; i++) {
+            fullBatch.add(new Object[]{i, 7, 1});
+        }
+        when(pointLedgerRepository.findPendingForUpdate(500))
+                .thenReturn(fullBatch)
+                .thenReturn(List.of());
+
+        // when
+        pointLedgerApplier.apply();
+
+        // then
+        verify(userRepository, times(1)).addPoint(eq(500), memberCodesCaptor.capture());
+        assertThat(memberCodesCaptor.getValue()).containsExactly(7);
+        verify(pointLedgerRepository, times(2)).findPendingForUpdate(500);
+        verify(pointLedgerRepository, times(1)).markApplied(anyCollection());
+    }
+
+    @Test
+    @DisplayName("apply: 반영에 실패하면 원장 행을 표시하지 않고 다음 주기로 미룸")
+    void testApply_failure() {
+        // given
+        when(pointLedgerRepository.findPendingForUpdate(500)).thenReturn(List.<Object[]>of(new Object[]{1L, 7, 5}));
+        when(userRepository.addPoint(eq(5), anyCollection())).thenThrow(new CannotAcquireLockException("deadlock"));
+
+        // when
+        pointLedgerApplier.apply();
+
+        // then
+        verify(pointLedgerRepository, never()).markApplied(anyCollection());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+}
@@ -1,10 +1,14 @@
 package com.swcamp9th.bangflixbackend.unit.domain.user;
 
+import com.swcamp9th.bangflixbackend.domain.ranking.service.MemberPointLeaderboard;
 import com.swcamp9th.bangflixbackend.domain.user.dto.UserInfoResponseDto;
 import com.swcamp9th.bangflixbackend.domain.user.entity.Member;
+import com.swcamp9th.bangflixbackend.domain.user.entity.PointReasonEnum;
 import com.swcamp9th.bangflixbackend.domain.user.exception.MemberNotFoundException;
+import com.swcamp9th.bangflixbackend.domain.user.repository.PointLedgerRepository;
 import com.swcamp9th.bangflixbackend.domain.user.repository.UserRepository;
 import com.swcamp9th.bangflixbackend.domain.user.service.UserServiceImpl;
+import com.swcamp9th.bangflixbackend.shared.upload.ImageDerivativeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -21,6 +25,15 @@ class UserServiceImplTests {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Mock
+    private MemberPointLeaderboard memberPointLeaderboard;
+
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+
     @InjectMocks
     private UserServiceImpl userInfoService;
 
@@ -40,6 +53,8 @@ class UserServiceImplTests {
         mockUser.setImage("test-image.jpg");
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+        when(imageDerivativeService.derivativeUrlOf("test-image.jpg", ImageDerivativeService.SMALL))
+                .thenReturn("test-image-96.jpg");
 
         // when
         UserInfoResponseDto result = userInfoService.findUserInfoById(userId);
@@ -50,6 +65,7 @@ class UserServiceImplTests {
         assertEquals("TestNickname", result.getNickname());
         assertFalse(result.isAdmin());
         assertEquals("test-image.jpg", result.getImage());
+        assertEquals("test-image-96.jpg", result.getThumbnail());
 
         verify(userRepository, times(1)).findById(userId);
     }
@@ -68,4 +84,35 @@ class UserServiceImplTests {
         assertEquals("존재하지 않는 회원입니다.", exception.getMessage());
         verify(userRepository, times(1)).findById(userId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void memberGainPoint_AppendsToLedger() {
+        // give
+        Member member = new Member();
+        member.setMemberCode(7);
+        member.setPoint(10);
+        when(pointLedgerRepository.insertIfAbsent(7, 5, "REVIEW_CREATED", "500")).thenReturn(1);
+
+        // when
+        userInfoService.memberGainPoint(member, 5, PointReasonEnum.REVIEW_CREATED, "500");
+
+        // then
+        assertEquals(10, member.getPoint());
+        verify(userRepository, never()).save(member);
+        verify(memberPointLeaderboard, times(1)).gained(7, 5);
+    }
+
+    @Test
+    void memberGainPoint_AlreadyGranted() {
+        // give
+        Member member = new Member();
+        member.setMemberCode(7);
+        when(pointLedgerRepository.insertIfAbsent(7, 5, "REVIEW_CREATED", "500")).thenReturn(0);
+
+        // when
+        userInfoService.memberGainPoint(member, 5, PointReasonEnum.REVIEW_CREATED, "500");
+
+        // then
+        verify(memberPointLeaderboard, never()).gained(anyInt(), anyInt());
+    }
+}
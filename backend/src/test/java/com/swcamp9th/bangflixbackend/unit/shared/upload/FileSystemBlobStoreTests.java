@@ -0,0 +1,95 @@
+package com.swcamp9th.bangflixbackend.unit.shared.upload;
+
+import com.swcamp9th.bangflixbackend.shared.upload.FileSystemBlobStore;
+import com.swcamp9th.bangflixbackend.shared.upload.StagedBlob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSystemBlobStoreTests {
+
+    // sha256("test")
+    private static final String TEST_HASH = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08";
+
+    @TempDir
+    Path root;
+
+    private FileSystemBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new FileSystemBlobStore(root.toString(), "/uploadFiles/blobs/");
+    }
+
+    @Test
+    @DisplayName("stage: 쓰는 동안 SHA-256 을 계산하고 commit 하면 해시 경로로 옮김")
+    void testStageAndCommit() throws IOException {
+        // when
+        StagedBlob staged = blobStore.stage(content("test"), "png");
+        blobStore.commit(staged);
+
+        // then
+        assertThat(staged.key()).isEqualTo(TEST_HASH + ".png");
+        assertThat(staged.size()).isEqualTo(4);
+        assertThat(Files.readString(root.resolve("9f").resolve(TEST_HASH + ".png"))).isEqualTo("test");
+        assertThat(blobStore.urlOf(staged.key())).isEqualTo("/uploadFiles/blobs/9f/" + TEST_HASH + ".png");
+    }
+
+    @Test
+    @DisplayName("commit: 같은 내용은 같은 키로 한 번만 저장")
+    void testCommit_deduplicates() throws IOException {
+        // when
+        StagedBlob first = blobStore.stage(content("test"), "png");
+        StagedBlob second = blobStore.stage(content("test"), "png");
+        blobStore.commit(first);
+        blobStore.commit(second);
+
+        // then
+        assertThat(first.key()).isEqualTo(second.key());
+        try (var files = Files.list(root.resolve("9f"))) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+        try (var staging = Files.list(root.resolve(".staging"))) {
+            assertThat(staging.count()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("discard: 임시 파일만 지우고 키 위치에는 저장하지 않음")
+    void testDiscard() throws IOException {
+        // when
+        StagedBlob staged = blobStore.stage(content("test"), "");
+        blobStore.discard(staged);
+
+        // then
+        assertThat(staged.key()).isEqualTo(TEST_HASH);
+        assertThat(root.resolve("9f")).doesNotExist();
+        try (var staging = Files.list(root.resolve(".staging"))) {
+            assertThat(staging.count()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("keyOf: 저장소 URL 에서만 키를 추출")
+    void testKeyOf() {
+        assertThat(blobStore.keyOf("/uploadFiles/blobs/9f/" + TEST_HASH + ".png")).isEqualTo(TEST_HASH + ".png");
+        assertThat(blobStore.keyOf("/uploadFiles/reviewFile/abc_image.png")).isNull();
+        assertThat(blobStore.keyOf("/uploadFiles/blobs/9f/../../secret")).isNull();
+        assertThat(blobStore.keyOf(null)).isNull();
+    }
+
+    private ReadableByteChannel content(String value) {
+        return Channels.newChannel(new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,157 @@
+package com.swcamp9th.bangflixbackend.unit.shared.upload;
+
+import com.swcamp9th.bangflixbackend.shared.error.exception.FileUploadBusyException;
+import com.swcamp9th.bangflixbackend.shared.error.exception.FileUploadException;
+import com.swcamp9th.bangflixbackend.shared.upload.BlobStore;
+import com.swcamp9th.bangflixbackend.shared.upload.FileUploadPipeline;
+import com.swcamp9th.bangflixbackend.shared.upload.ImageDerivativeService;
+import com.swcamp9th.bangflixbackend.shared.upload.StagedBlob;
+import com.swcamp9th.bangflixbackend.shared.upload.StoredBlob;
+import com.swcamp9th.bangflixbackend.shared.upload.entity.BlobRef;
+import com.swcamp9th.bangflixbackend.shared.upload.repository.BlobRefRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FileUploadPipelineTests {
+
+    private static final String KEY = "9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08.png";
+    private static final String URL = "/uploadFiles/blobs/9f/" + KEY;
+
+    @Mock
+    private BlobStore blobStore;
+    @Mock
+    private BlobRefRepository blobRefRepository;
+    @Mock
+    private ImageDerivativeService imageDerivativeService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final MockMultipartFile file =
+            new MockMultipartFile("file", "../Poster.PNG", "image/png", "test".getBytes());
+    private final StagedBlob staged = new StagedBlob(KEY, 4, "staging-id");
+
+    @Test
+    @DisplayName("store: 스테이징 후 참조 수 0 인 행을 남기고 키 위치로 옮김")
+    void testStore_promotesBeforeReturning() throws IOException {
+        // given
+        FileUploadPipeline pipeline = createPipeline(1);
+        when(blobStore.stage(any(ReadableByteChannel.class), eq("png"))).thenReturn(staged);
+
+        // when
+        StoredBlob stored = pipeline.store(file);
+
+        // then
+        assertThat(stored).isEqualTo(new StoredBlob(KEY, 4));
+        InOrder inOrder = inOrder(blobRefRepository, blobStore);
+        inOrder.verify(blobRefRepository).touch(KEY, 4);
+        inOrder.verify(blobStore).commit(staged);
+        verify(blobRefRepository, never()).retain(anyString(), anyLong());
+        verify(imageDerivativeService, times(1)).generateAsync(KEY);
+    }
+
+    @Test
+    @DisplayName("store: 키 위치로 옮기지 못하면 임시 파일을 버리고 예외 발생")
+    void testStore_commitFailure() throws IOException {
+        // given
+        FileUploadPipeline pipeline = createPipeline(1);
+        when(blobStore.stage(any(ReadableByteChannel.class), eq("png"))).thenReturn(staged);
+        doThrow(new IOException("disk full")).when(blobStore).commit(staged);
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.store(file))
+                .isInstanceOf(FileUploadException.class);
+        verify(blobStore, times(1)).discard(staged);
+        verify(imageDerivativeService, never()).generateAsync(anyString());
+    }
+
+    @Test
+    @DisplayName("store: 동시 저장 한도를 넘으면 예외 발생")
+    void testStore_busy() {
+        // given
+        FileUploadPipeline pipeline = createPipeline(0);
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.store(file))
+                .isInstanceOf(FileUploadBusyException.class);
+        verifyNoInteractions(blobStore, blobRefRepository);
+    }
+
+    @Test
+    @DisplayName("attach: 참조 수를 올리고 이미 조회 가능한 URL 을 반환")
+    void testAttach() {
+        // given
+        FileUploadPipeline pipeline = createPipeline(1);
+        when(blobStore.urlOf(KEY)).thenReturn(URL);
+
+        // when
+        String url = pipeline.attach(new StoredBlob(KEY, 4));
+
+        // then
+        assertThat(url).isEqualTo(URL);
+        verify(blobRefRepository, times(1)).retain(KEY, 4);
+        verifyNoMoreInteractions(blobStore);
+    }
+
+    @Test
+    @DisplayName("release: 저장소 URL 이면 참조 수를 줄이고, 이전 방식의 URL 은 무시")
+    void testRelease() {
+        // given
+        FileUploadPipeline pipeline = createPipeline(1);
+        when(blobStore.keyOf(URL)).thenReturn(KEY);
+        when(blobStore.keyOf("/uploadFiles/profileFile/abc_image.png")).thenReturn(null);
+
+        // when
+        pipeline.release(URL);
+        pipeline.release("/uploadFiles/profileFile/abc_image.png");
+
+        // then
+        verify(blobRefRepository, times(1)).release(KEY);
+        verifyNoMoreInteractions(blobRefRepository);
+    }
+
+    @Test
+    @DisplayName("sweepUnreferencedBlobs: 잠근 뒤에도 참조가 없는 내용만 삭제")
+    void testSweepUnreferencedBlobs() throws IOException {
+        // given
+        FileUploadPipeline pipeline = createPipeline(1);
+        BlobRef unreferenced = new BlobRef(KEY, 4L, 0, LocalDateTime.now(), LocalDateTime.now().minusDays(2));
+        when(blobRefRepository.findUnreferencedKeys(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(KEY, "reuploaded"));
+        when(blobRefRepository.findUnreferencedForUpdate(eq(KEY), any(LocalDateTime.class))).thenReturn(Optional.of(unreferenced));
+        when(blobRefRepository.findUnreferencedForUpdate(eq("reuploaded"), any(LocalDateTime.class))).thenReturn(Optional.empty());
+
+        // when
+        pipeline.sweepUnreferencedBlobs();
+
+        // then
+        verify(blobStore, times(1)).delete(KEY);
+        verify(blobStore, never()).delete("reuploaded");
+        verify(blobRefRepository, times(1)).delete(unreferenced);
+        verify(imageDerivativeService, times(1)).deleteDerivatives(KEY);
+        verify(imageDerivativeService, never()).deleteDerivatives("reuploaded");
+    }
+
+    private FileUploadPipeline createPipeline(int maxConcurrentWrites) {
+        return new FileUploadPipeline(blobStore, blobRefRepository, imageDerivativeService,
+                transactionManager, maxConcurrentWrites, 0);
+    }
+}
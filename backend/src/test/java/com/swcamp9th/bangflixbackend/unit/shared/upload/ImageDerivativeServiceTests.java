@@ -0,0 +1,141 @@
+package com.swcamp9th.bangflixbackend.unit.shared.upload;
+
+import com.swcamp9th.bangflixbackend.shared.upload.FileSystemBlobStore;
+import com.swcamp9th.bangflixbackend.shared.upload.ImageDerivativeService;
+import com.swcamp9th.bangflixbackend.shared.upload.StagedBlob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageDerivativeServiceTests {
+
+    @TempDir
+    Path root;
+
+    private FileSystemBlobStore blobStore;
+    private ImageDerivativeService imageDerivativeService;
+
+    @BeforeEach
+    void setUp() {
+        blobStore = new FileSystemBlobStore(root.resolve("blobs").toString(), "/uploadFiles/blobs/");
+        imageDerivativeService = new ImageDerivativeService(Runnable::run, blobStore,
+                root.resolve("derivatives").toString(), "/uploadFiles/derivatives/");
+    }
+
+    @Test
+    @DisplayName("derivativeUrlOf: BlobStore 이미지는 크기별 파생본 URL, 이전 방식 URL 은 원본 그대로")
+    void testDerivativeUrlOf() throws IOException {
+        // given
+        String key = store(image(400, 200), "png");
+
+        // when & then
+        assertThat(imageDerivativeService.derivativeUrlOf(blobStore.urlOf(key), ImageDerivativeService.SMALL))
+                .isEqualTo("/uploadFiles/derivatives/96/" + key.substring(0, 2) + "/" + key + ".png");
+        assertThat(imageDerivativeService.derivativeUrlOf("/uploadFiles/profileFile/abc_image.png", ImageDerivativeService.SMALL))
+                .isEqualTo("/uploadFiles/profileFile/abc_image.png");
+        assertThat(imageDerivativeService.derivativeUrlOf(null, ImageDerivativeService.SMALL)).isNull();
+    }
+
+    @Test
+    @DisplayName("resolve: 처음 요청되면 기다리지 않고 null 을 반환하고, 스레드 풀에서 긴 변 기준으로 줄인 파생본을 만듦")
+    void testResolve_generatesOnFirstRequest() throws IOException {
+        // given
+        String key = store(image(1000, 500), "jpg");
+        String fileName = key + ".jpg";
+
+        // when
+        Path first = imageDerivativeService.resolve(ImageDerivativeService.MEDIUM, key.substring(0, 2), fileName);
+        Path path = imageDerivativeService.resolve(ImageDerivativeService.MEDIUM, key.substring(0, 2), fileName);
+
+        // then
+        assertThat(first).isNull();
+        assertThat(path).exists();
+        BufferedImage derivative = ImageIO.read(path.toFile());
+        assertThat(derivative.getWidth()).isEqualTo(320);
+        assertThat(derivative.getHeight()).isEqualTo(160);
+    }
+
+    @Test
+    @DisplayName("resolve: 원본보다 큰 크기로는 확대하지 않음")
+    void testResolve_doesNotUpscale() throws IOException {
+        // given
+        String key = store(image(200, 100), "png");
+
+        // when
+        imageDerivativeService.resolve(ImageDerivativeService.LARGE, key.substring(0, 2), key + ".png");
+        Path path = imageDerivativeService.resolve(ImageDerivativeService.LARGE, key.substring(0, 2), key + ".png");
+
+        // then
+        BufferedImage derivative = ImageIO.read(path.toFile());
+        assertThat(derivative.getWidth()).isEqualTo(200);
+        assertThat(derivative.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("isDerivative / resolve: 지원하지 않는 크기, 해시와 다른 디렉터리, 잘못된 파일 이름이면 만들지 않음")
+    void testResolve_invalidRequest() throws IOException {
+        // given
+        String key = store(image(200, 100), "png");
+        String prefix = key.substring(0, 2);
+        String otherPrefix = prefix.equals("00") ? "01" : "00";
+
+        // when & then
+        assertThat(imageDerivativeService.isDerivative(ImageDerivativeService.SMALL, prefix, key + ".png")).isTrue();
+        assertThat(imageDerivativeService.isDerivative(200, prefix, key + ".png")).isFalse();
+        assertThat(imageDerivativeService.isDerivative(ImageDerivativeService.SMALL, otherPrefix, key + ".png")).isFalse();
+        assertThat(imageDerivativeService.isDerivative(ImageDerivativeService.SMALL, "..", key + ".png")).isFalse();
+        assertThat(imageDerivativeService.isDerivative(ImageDerivativeService.SMALL, prefix, key + ".jpg")).isFalse();
+        assertThat(imageDerivativeService.isDerivative(ImageDerivativeService.SMALL, prefix, "../" + key + ".png")).isFalse();
+
+        imageDerivativeService.resolve(ImageDerivativeService.SMALL, otherPrefix, key + ".png");
+        assertThat(root.resolve("derivatives").resolve(String.valueOf(ImageDerivativeService.SMALL))).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("generateAsync / deleteDerivatives: 모든 크기의 파생본을 만들고 지움")
+    void testGenerateAndDelete() throws IOException {
+        // given
+        String key = store(image(2000, 1500), "png");
+
+        // when
+        imageDerivativeService.generateAsync(key);
+
+        // then
+        for (int size : ImageDerivativeService.SIZES) {
+            assertThat(root.resolve("derivatives").resolve(String.valueOf(size))
+                    .resolve(key.substring(0, 2)).resolve(key + ".png")).exists();
+        }
+
+        imageDerivativeService.deleteDerivatives(key);
+        for (int size : ImageDerivativeService.SIZES) {
+            assertThat(root.resolve("derivatives").resolve(String.valueOf(size))
+                    .resolve(key.substring(0, 2)).resolve(key + ".png")).doesNotExist();
+        }
+    }
+
+    private String store(BufferedImage image, String extension) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, extension.equals("jpg") ? "jpeg" : extension, out);
+        StagedBlob staged = blobStore.stage(
+                Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), extension);
+        blobStore.commit(staged);
+        assertThat(Files.exists(root.resolve("blobs").resolve(staged.key().substring(0, 2)).resolve(staged.key()))).isTrue();
+        return staged.key();
+    }
+
+    private BufferedImage image(int width, int height) {
+        return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+}
@@ -0,0 +1,56 @@
+package com.swcamp9th.bangflixbackend.unit.shared.upload;
+
+import com.swcamp9th.bangflixbackend.shared.upload.UploadFileAccessMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UploadFileAccessMetricsTests {
+
+    private final UploadFileAccessMetrics metrics = new UploadFileAccessMetrics();
+
+    @Test
+    @DisplayName("afterCompletion: 응답 상태별로 요청 수를 집계")
+    void testAfterCompletion_countsByStatus() {
+        // when
+        complete(200);
+        complete(206);
+        complete(304);
+        complete(304);
+        complete(404);
+        complete(500);
+
+        // then
+        assertThat(metrics.snapshot())
+                .containsEntry("requests", 6L)
+                .containsEntry("ok", 1L)
+                .containsEntry("partialContent", 1L)
+                .containsEntry("notModified", 2L)
+                .containsEntry("notFound", 1L)
+                .containsEntry("errors", 1L);
+    }
+
+    @Test
+    @DisplayName("report: 로그를 남긴 뒤 지표를 초기화")
+    void testReport_resets() {
+        // given
+        complete(200);
+
+        // when
+        metrics.report();
+
+        // then
+        assertThat(metrics.snapshot()).allSatisfy((name, value) -> assertThat(value).isZero());
+    }
+
+    private void complete(int status) {
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        when(response.getStatus()).thenReturn(status);
+        metrics.afterCompletion(mock(HttpServletRequest.class), response, new Object(), null);
+    }
+}
@@ -109,6 +109,8 @@ CREATE TABLE review (
 	interior	ENUM('ONE', 'TWO', 'THREE', 'FOUR', 'FIVE')		NOT NULL	,
 	probability	ENUM('ONE', 'TWO', 'THREE', 'FOUR', 'FIVE')		,
 	content	VARCHAR(1024)	NOT NULL,
+	like_count	INT	NOT NULL	DEFAULT 0	COMMENT '활성 좋아요 수 (주기적으로 누적 반영)',
+	like_count_generation	INT	NOT NULL	DEFAULT 0	COMMENT '좋아요 수 재계산 세대 (재계산할 때마다 1 증가)',
 	member_code	INT	NOT NULL,
 	theme_code	INT	NOT NULL
 );
@@ -194,7 +196,11 @@ CREATE TABLE member_ranking (
 	ranking_code	INT	NOT NULL,
 	created_at	DATETIME	NOT NULL,
 	active	BOOLEAN	NOT NULL,
-	member_code	INT	NOT NULL
+	member_code	INT	NOT NULL,
+	period	VARCHAR(10)	NOT NULL	COMMENT 'week, month',
+	period_start	DATE	NOT NULL	COMMENT '기간 시작일 (주는 월요일, 월은 1일)',
+	ranking	INT	NOT NULL,
+	point	INT	NOT NULL	COMMENT '기간 동안 획득한 포인트'
 );
 
 CREATE TABLE review_ranking (
@@ -253,6 +259,111 @@ CREATE TABLE community_file (
 	community_post_code	INT	NOT NULL
 );
 
+CREATE TABLE theme_stats (
+	theme_code	INT	NOT NULL,
+	like_count	BIGINT	NOT NULL	DEFAULT 0,
+	scrap_count	BIGINT	NOT NULL	DEFAULT 0,
+	review_count	BIGINT	NOT NULL	DEFAULT 0,
+	score_sum	BIGINT	NOT NULL	DEFAULT 0	COMMENT '활성 리뷰 total_score 합계',
+	updated_at	DATETIME	NOT NULL
+);
+
+-- 리뷰 수와 점수 합계는 theme_stats 에 있으므로 항목별 히스토그램만 보관
+CREATE TABLE review_stats (
+	theme_code	INT	NOT NULL,
+	score_one	BIGINT	NOT NULL	DEFAULT 0,
+	score_two	BIGINT	NOT NULL	DEFAULT 0,
+	score_three	BIGINT	NOT NULL	DEFAULT 0,
+	score_four	BIGINT	NOT NULL	DEFAULT 0,
+	score_five	BIGINT	NOT NULL	DEFAULT 0,
+	level_one	BIGINT	NOT NULL	DEFAULT 0,
+	level_two	BIGINT	NOT NULL	DEFAULT 0,
+	level_three	BIGINT	NOT NULL	DEFAULT 0,
+	level_four	BIGINT	NOT NULL	DEFAULT 0,
+	level_five	BIGINT	NOT NULL	DEFAULT 0,
+	horror_level_one	BIGINT	NOT NULL	DEFAULT 0,
+	horror_level_two	BIGINT	NOT NULL	DEFAULT 0,
+	horror_level_three	BIGINT	NOT NULL	DEFAULT 0,
+	horror_level_four	BIGINT	NOT NULL	DEFAULT 0,
+	horror_level_five	BIGINT	NOT NULL	DEFAULT 0,
+	activity_one	BIGINT	NOT NULL	DEFAULT 0,
+	activity_two	BIGINT	NOT NULL	DEFAULT 0,
+	activity_three	BIGINT	NOT NULL	DEFAULT 0,
+	activity_four	BIGINT	NOT NULL	DEFAULT 0,
+	activity_five	BIGINT	NOT NULL	DEFAULT 0,
+	interior_one	BIGINT	NOT NULL	DEFAULT 0,
+	interior_two	BIGINT	NOT NULL	DEFAULT 0,
+	interior_three	BIGINT	NOT NULL	DEFAULT 0,
+	interior_four	BIGINT	NOT NULL	DEFAULT 0,
+	interior_five	BIGINT	NOT NULL	DEFAULT 0,
+	probability_one	BIGINT	NOT NULL	DEFAULT 0,
+	probability_two	BIGINT	NOT NULL	DEFAULT 0,
+	probability_three	BIGINT	NOT NULL	DEFAULT 0,
+	probability_four	BIGINT	NOT NULL	DEFAULT 0,
+	probability_five	BIGINT	NOT NULL	DEFAULT 0,
+	composition_one	BIGINT	NOT NULL	DEFAULT 0,
+	composition_two	BIGINT	NOT NULL	DEFAULT 0,
+	composition_three	BIGINT	NOT NULL	DEFAULT 0,
+	composition_four	BIGINT	NOT NULL	DEFAULT 0,
+	composition_five	BIGINT	NOT NULL	DEFAULT 0,
+	updated_at	DATETIME	NOT NULL
+);
+
+CREATE TABLE review_member_stats (
+	member_code	INT	NOT NULL,
+	review_count	BIGINT	NOT NULL	DEFAULT 0	COMMENT '활성 리뷰 수',
+	score_sum	BIGINT	NOT NULL	DEFAULT 0	COMMENT '활성 리뷰 total_score 합계',
+	updated_at	DATETIME	NOT NULL
+);
+
+CREATE TABLE review_member_genre_stats (
+	member_code	INT	NOT NULL,
+	genre_code	INT	NOT NULL,
+	review_count	BIGINT	NOT NULL	DEFAULT 0	COMMENT '해당 장르 테마의 활성 리뷰 수',
+	updated_at	DATETIME	NOT NULL
+);
+
+CREATE TABLE review_genre (
+	review_code	INT	NOT NULL,
+	genre_code	INT	NOT NULL	COMMENT '리뷰 작성 시점의 테마 장르'
+);
+
+CREATE TABLE ranking_job_run (
+	job_key	VARCHAR(64)	NOT NULL	COMMENT '작업 이름 + 주 (예: REVIEW_RANKING:2024-10-13)',
+	ranked_at	DATETIME	NOT NULL	COMMENT '선정 기준 시각',
+	review_codes	VARCHAR(1024)	NOT NULL	COMMENT '선정된 리뷰 코드 (쉼표로 구분)',
+	like_counts	VARCHAR(1024)	NOT NULL	COMMENT '선정 시점의 리뷰별 전체 좋아요 수 (review_codes 와 같은 순서)',
+	processed	INT	NOT NULL	DEFAULT 0	COMMENT '처리한 선정 대상 수',
+	created_at	DATETIME	NOT NULL,
+	completed_at	DATETIME	NULL
+);
+
+CREATE TABLE point_ledger (
+	ledger_code	BIGINT	NOT NULL,
+	member_code	INT	NOT NULL,
+	delta	INT	NOT NULL	COMMENT '지급(차감) 포인트',
+	reason	VARCHAR(30)	NOT NULL	COMMENT 'REVIEW_CREATED, WEEKLY_BEST_REVIEW',
+	source_id	VARCHAR(64)	NOT NULL	COMMENT '지급 근거 (리뷰 코드, 선정일:리뷰 코드)',
+	created_at	DATETIME	NOT NULL,
+	applied_at	DATETIME	NULL	COMMENT 'member.point 에 반영한 시각'
+);
+
+CREATE TABLE review_ranking_snapshot (
+	ranking_date	DATE	NOT NULL	COMMENT '베스트 리뷰 선정일',
+	ranked_at	DATETIME	NOT NULL	COMMENT '선정 기준 시각',
+	review_codes	VARCHAR(1024)	NOT NULL	COMMENT '선정된 리뷰 코드 (쉼표로 구분, 순위 순)',
+	like_counts	VARCHAR(1024)	NOT NULL	COMMENT '선정 시점의 리뷰별 전체 좋아요 수 (review_codes 와 같은 순서)',
+	created_at	DATETIME	NOT NULL
+);
+
+CREATE TABLE blob_ref (
+	blob_key	VARCHAR(80)	NOT NULL	COMMENT 'SHA-256 해시(16진수) + 확장자',
+	size	BIGINT	NOT NULL,
+	ref_count	INT	NOT NULL	DEFAULT 0	COMMENT '참조하는 활성 첨부파일/프로필 이미지 수',
+	created_at	DATETIME	NOT NULL,
+	updated_at	DATETIME	NOT NULL
+);
+
 ALTER TABLE community_post ADD CONSTRAINT PK_COMMUNITY_POST PRIMARY KEY (
 	community_post_code
 );
@@ -365,6 +476,9 @@ ALTER TABLE member_ranking ADD CONSTRAINT PK_MEMBER_RANKING PRIMARY KEY (
 
 ALTER TABLE member_ranking MODIFY ranking_code INT NOT NULL AUTO_INCREMENT;
 
+-- 기간별 순위 조회 및 중복 기록 방지
+CREATE UNIQUE INDEX UK_MEMBER_RANKING_PERIOD ON member_ranking (period, period_start, member_code);
+
 ALTER TABLE review_ranking ADD CONSTRAINT PK_REVIEW_RANKING PRIMARY KEY (
 	ranking_code
 );
@@ -409,6 +523,68 @@ ALTER TABLE community_file ADD CONSTRAINT PK_COMMUNITY_FILE PRIMARY KEY (
 
 ALTER TABLE community_file MODIFY community_file_code INT NOT NULL AUTO_INCREMENT;
 
+ALTER TABLE theme_stats ADD CONSTRAINT PK_THEME_STATS PRIMARY KEY (
+	theme_code
+);
+
+ALTER TABLE review_stats ADD CONSTRAINT PK_REVIEW_STATS PRIMARY KEY (
+	theme_code
+);
+
+ALTER TABLE review_member_stats ADD CONSTRAINT PK_REVIEW_MEMBER_STATS PRIMARY KEY (
+	member_code
+);
+
+ALTER TABLE review_member_genre_stats ADD CONSTRAINT PK_REVIEW_MEMBER_GENRE_STATS PRIMARY KEY (
+	member_code,
+	genre_code
+);
+
+ALTER TABLE review_genre ADD CONSTRAINT PK_REVIEW_GENRE PRIMARY KEY (
+	review_code,
+	genre_code
+);
+
+ALTER TABLE ranking_job_run ADD CONSTRAINT PK_RANKING_JOB_RUN PRIMARY KEY (
+	job_key
+);
+
+ALTER TABLE point_ledger ADD CONSTRAINT PK_POINT_LEDGER PRIMARY KEY (
+	ledger_code
+);
+
+ALTER TABLE point_ledger MODIFY ledger_code BIGINT NOT NULL AUTO_INCREMENT;
+
+-- 같은 근거로 두 번 지급하지 않음
+CREATE UNIQUE INDEX UK_POINT_LEDGER_SOURCE ON point_ledger (reason, source_id);
+
+-- 아직 반영하지 않은 원장 조회
+CREATE INDEX IDX_POINT_LEDGER_PENDING ON point_ledger (applied_at, ledger_code);
+
+-- 선정일 목록 / 선정일별 베스트 리뷰 조회
+ALTER TABLE review_ranking_snapshot ADD CONSTRAINT PK_REVIEW_RANKING_SNAPSHOT PRIMARY KEY (
+	ranking_date
+);
+
+ALTER TABLE blob_ref ADD CONSTRAINT PK_BLOB_REF PRIMARY KEY (
+	blob_key
+);
+
+-- 참조되지 않는 첨부파일 정리 용 인덱스
+CREATE INDEX IDX_BLOB_REF_UNREFERENCED ON blob_ref (ref_count, updated_at);
+
+-- 테마 검색 정렬(keyset) 용 인덱스
+CREATE INDEX IDX_THEME_CREATED_AT ON theme (created_at, theme_code);
+CREATE INDEX IDX_THEME_STATS_LIKE ON theme_stats (like_count, theme_code);
+CREATE INDEX IDX_THEME_STATS_SCRAP ON theme_stats (scrap_count, theme_code);
+CREATE INDEX IDX_THEME_STATS_REVIEW ON theme_stats (review_count, theme_code);
+CREATE INDEX IDX_THEME_REACTION_CREATED_AT ON theme_reaction (created_at, theme_code);
+
+-- 테마별 리뷰 정렬(keyset) 용 인덱스
+CREATE INDEX IDX_REVIEW_THEME_SCORE ON review (theme_code, active, total_score, created_at);
+CREATE INDEX IDX_REVIEW_THEME_CREATED_AT ON review (theme_code, active, created_at);
+CREATE INDEX IDX_REVIEW_THEME_LIKE ON review (theme_code, active, like_count, created_at);
+
 
 
 
@@ -511,6 +687,10 @@ FOREIGN KEY (member_code) REFERENCES member(member_code);
 ALTER TABLE community_like ADD CONSTRAINT FK_COMMUNITY_LIKE_POST
 FOREIGN KEY (community_post_code) REFERENCES community_post(community_post_code);
 
+-- Foreign Key Constraints for point_ledger table
+ALTER TABLE point_ledger ADD CONSTRAINT FK_POINT_LEDGER_MEMBER
+FOREIGN KEY (member_code) REFERENCES member(member_code);
+
 -- Foreign Key Constraints for member_ranking table
 ALTER TABLE member_ranking ADD CONSTRAINT FK_MEMBER_RANKING_MEMBER
 FOREIGN KEY (member_code) REFERENCES member(member_code);
@@ -558,3 +738,35 @@ FOREIGN KEY (notice_post_code) REFERENCES notice_post(notice_post_code);
 -- Foreign Key Constraints for community_file table
 ALTER TABLE community_file ADD CONSTRAINT FK_COMMUNITY_FILE_POST
 FOREIGN KEY (community_post_code) REFERENCES community_post(community_post_code);
+
+-- Foreign Key Constraints for theme_stats table
+ALTER TABLE theme_stats ADD CONSTRAINT FK_THEME_STATS_THEME
+FOREIGN KEY (theme_code) REFERENCES theme(theme_code);
+
+-- 카운트 정렬 쿼리는 theme_stats 에서 출발하므로 새 테마에도 0 카운터 행을 만든다
+CREATE TRIGGER TRG_THEME_STATS_INIT AFTER INSERT ON theme
+FOR EACH ROW
+INSERT IGNORE INTO theme_stats (theme_code, like_count, scrap_count, review_count, score_sum, updated_at)
+VALUES (NEW.theme_code, 0, 0, 0, 0, NOW());
+
+-- Foreign Key Constraints for review_stats table
+ALTER TABLE review_stats ADD CONSTRAINT FK_REVIEW_STATS_THEME
+FOREIGN KEY (theme_code) REFERENCES theme(theme_code);
+
+-- Foreign Key Constraints for review_member_stats table
+ALTER TABLE review_member_stats ADD CONSTRAINT FK_REVIEW_MEMBER_STATS_MEMBER
+FOREIGN KEY (member_code) REFERENCES member(member_code);
+
+-- Foreign Key Constraints for review_member_genre_stats table
+ALTER TABLE review_member_genre_stats ADD CONSTRAINT FK_REVIEW_MEMBER_GENRE_STATS_MEMBER
+FOREIGN KEY (member_code) REFERENCES member(member_code);
+
+ALTER TABLE review_member_genre_stats ADD CONSTRAINT FK_REVIEW_MEMBER_GENRE_STATS_GENRE
+FOREIGN KEY (genre_code) REFERENCES genre(genre_code);
+
+-- Foreign Key Constraints for review_genre table (composite primary key)
+ALTER TABLE review_genre ADD CONSTRAINT FK_REVIEW_GENRE_REVIEW
+FOREIGN KEY (review_code) REFERENCES review(review_code);
+
+ALTER TABLE review_genre ADD CONSTRAINT FK_REVIEW_GENRE_GENRE
+FOREIGN KEY (genre_code) REFERENCES genre(genre_code);